@@ -0,0 +1,77 @@
+package com.cloudconvert.benchmark;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.client.setttings.SettingsProvider;
+import com.cloudconvert.dto.request.Request;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.resource.sync.ImportFilesResource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exposes request building steps of resources, no requests are executed
+ */
+class BenchmarkImportFilesResource extends ImportFilesResource {
+
+    BenchmarkImportFilesResource(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
+    ) {
+        super(settingsProvider, objectMapperProvider, null, null);
+    }
+
+    @Override
+    public Map<String, Object> requestToMap(
+        final Request request
+    ) {
+        return super.requestToMap(request);
+    }
+
+    @Override
+    public URI getUri(
+        final List<String> pathSegments
+    ) throws URISyntaxException {
+        return super.getUri(pathSegments);
+    }
+
+    @Override
+    public HttpEntity getHttpEntity(
+        final Request request
+    ) throws JsonProcessingException {
+        return super.getHttpEntity(request);
+    }
+
+    @Override
+    public HttpUriRequest getHttpUriRequest(
+        final Class<? extends HttpRequestBase> httpRequestBaseClass, final URI uri, final HttpEntity httpEntity
+    ) {
+        return super.getHttpUriRequest(httpRequestBaseClass, uri, httpEntity);
+    }
+
+    @Override
+    public HttpEntity getMultipartHttpEntity(
+        final TaskResponse.Result.Form uploadImportResponseResultForm, final Path path
+    ) throws IOException {
+        return super.getMultipartHttpEntity(uploadImportResponseResultForm, path);
+    }
+
+    @Override
+    public HttpEntity getMultipartHttpEntity(
+        final TaskResponse.Result.Form uploadImportResponseResultForm, final String filename, final InputStream inputStream
+    ) throws IOException {
+        return super.getMultipartHttpEntity(uploadImportResponseResultForm, filename, inputStream);
+    }
+
+    @Override
+    public void close() {
+    }
+}
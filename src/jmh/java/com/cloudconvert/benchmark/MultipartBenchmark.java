@@ -0,0 +1,78 @@
+package com.cloudconvert.benchmark;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.client.setttings.StringSettingsProvider;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import org.apache.http.HttpEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multipart entity creation and writing, for a file on disk and for an input stream
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultipartBenchmark {
+
+    @Param({"65536", "4194304"})
+    private int size;
+
+    private BenchmarkImportFilesResource benchmarkImportFilesResource;
+
+    private TaskResponse.Result.Form form;
+    private byte[] content;
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        benchmarkImportFilesResource = new BenchmarkImportFilesResource(
+            new StringSettingsProvider("api-key", "webhook-signing-secret", false), new ObjectMapperProvider());
+
+        form = new TaskResponse.Result.Form().setUrl("https://upload.cloudconvert.com/storage")
+            .setParameters(ImmutableMap.of("expires", "1545444403", "max_file_count", "1", "max_file_size", "10000000000", "signature", "d0db9b5e4ff7283xxfe0b1e3ad6x"));
+
+        content = new byte[size];
+        new Random(42).nextBytes(content);
+
+        path = Files.createTempFile("multipart-benchmark", ".bin");
+        Files.write(path, content);
+    }
+
+    @Benchmark
+    public long filePath() throws Exception {
+        final HttpEntity httpEntity = benchmarkImportFilesResource.getMultipartHttpEntity(form, path);
+
+        httpEntity.writeTo(ByteStreams.nullOutputStream());
+        return httpEntity.getContentLength();
+    }
+
+    @Benchmark
+    public long inputStream() throws Exception {
+        final HttpEntity httpEntity = benchmarkImportFilesResource.getMultipartHttpEntity(form, "file.bin", new ByteArrayInputStream(content));
+
+        httpEntity.writeTo(ByteStreams.nullOutputStream());
+        return httpEntity.getContentLength();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(path);
+    }
+}
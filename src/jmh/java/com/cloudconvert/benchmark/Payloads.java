@@ -0,0 +1,39 @@
+package com.cloudconvert.benchmark;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Canned API responses, shaped like the ones returned by CloudConvert
+ */
+final class Payloads {
+
+    static final int PAGE_SIZE = 100;
+
+    static final String TASK = task(0);
+
+    static final String TASK_RESPONSE = "{\"data\":" + TASK + "}";
+
+    static final String JOB_RESPONSE = "{\"data\":{\"id\":\"job-id\",\"tag\":\"benchmark\",\"status\":\"finished\","
+        + "\"created_at\":\"2024-01-01T00:00:00+00:00\",\"started_at\":\"2024-01-01T00:00:01+00:00\",\"ended_at\":\"2024-01-01T00:00:09+00:00\","
+        + "\"tasks\":[" + IntStream.range(0, 3).mapToObj(Payloads::task).collect(Collectors.joining(",")) + "],"
+        + "\"links\":{\"self\":\"https://api.cloudconvert.com/v2/jobs/job-id\"}}}";
+
+    static final String TASK_RESPONSE_PAGEABLE = "{\"data\":[" + IntStream.range(0, PAGE_SIZE).mapToObj(Payloads::task).collect(Collectors.joining(",")) + "],"
+        + "\"links\":{\"first\":\"https://api.cloudconvert.com/v2/tasks?page=1\",\"last\":null,\"prev\":null,\"next\":\"https://api.cloudconvert.com/v2/tasks?page=2\"},"
+        + "\"meta\":{\"current_page\":1,\"from\":1,\"path\":\"https://api.cloudconvert.com/v2/tasks\",\"per_page\":" + PAGE_SIZE + ",\"to\":" + PAGE_SIZE + "}}";
+
+    static final String WEBHOOK_PAYLOAD = "{\"event\":\"job.finished\",\"job\":" + JOB_RESPONSE.substring("{\"data\":".length(), JOB_RESPONSE.length() - 1) + "}";
+
+    private Payloads() {
+    }
+
+    private static String task(final int index) {
+        return "{\"id\":\"task-id-" + index + "\",\"name\":\"export-my-file\",\"job_id\":\"job-id\",\"operation\":\"export/url\",\"status\":\"finished\","
+            + "\"message\":null,\"code\":null,\"credits\":1,\"created_at\":\"2024-01-01T00:00:00+00:00\",\"started_at\":\"2024-01-01T00:00:01+00:00\","
+            + "\"ended_at\":\"2024-01-01T00:00:09+00:00\",\"depends_on_task_ids\":[\"convert-task-id\"],\"retry_of_task_id\":null,\"retries\":[],"
+            + "\"engine\":\"cloudconvert\",\"engine_version\":\"1.0\",\"priority\":-10,\"storage\":null,"
+            + "\"result\":{\"files\":[{\"filename\":\"file.pdf\",\"url\":\"https://storage.cloudconvert.com/tasks/task-id/file.pdf\"}]},"
+            + "\"links\":{\"self\":\"https://api.cloudconvert.com/v2/tasks/task-id-" + index + "\"}}";
+    }
+}
@@ -0,0 +1,52 @@
+package com.cloudconvert.benchmark;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.client.setttings.StringSettingsProvider;
+import com.cloudconvert.dto.request.ConvertFilesTaskRequest;
+import com.cloudconvert.resource.AbstractConvertFilesResource;
+import com.google.common.collect.ImmutableList;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestBuildingBenchmark {
+
+    private BenchmarkImportFilesResource benchmarkImportFilesResource;
+
+    private ConvertFilesTaskRequest convertFilesTaskRequest;
+
+    @Setup
+    public void setup() {
+        benchmarkImportFilesResource = new BenchmarkImportFilesResource(
+            new StringSettingsProvider("api-key", "webhook-signing-secret", false), new ObjectMapperProvider());
+
+        convertFilesTaskRequest = new ConvertFilesTaskRequest().setInput("import-my-file").setInputFormat("docx").setOutputFormat("pdf").setEngine("office");
+        convertFilesTaskRequest.set("pages", "1-3");
+        convertFilesTaskRequest.set("pdf_a", true);
+    }
+
+    @Benchmark
+    public Map<String, Object> requestToMap() {
+        return benchmarkImportFilesResource.requestToMap(convertFilesTaskRequest);
+    }
+
+    @Benchmark
+    public HttpUriRequest getHttpUriRequest() throws Exception {
+        final URI uri = benchmarkImportFilesResource.getUri(ImmutableList.of(AbstractConvertFilesResource.PATH_SEGMENT_CONVERT));
+
+        return benchmarkImportFilesResource.getHttpUriRequest(HttpPost.class, uri, benchmarkImportFilesResource.getHttpEntity(convertFilesTaskRequest));
+    }
+}
@@ -0,0 +1,67 @@
+package com.cloudconvert.benchmark;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.response.JobResponse;
+import com.cloudconvert.dto.response.Pageable;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.resource.AbstractResource;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResultExtractionBenchmark {
+
+    private ResultExtractor resultExtractor;
+
+    private byte[] taskResponse;
+    private byte[] jobResponse;
+    private byte[] taskResponsePageable;
+
+    @Setup
+    public void setup() {
+        resultExtractor = new ResultExtractor(new ObjectMapperProvider());
+
+        taskResponse = Payloads.TASK_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        jobResponse = Payloads.JOB_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        taskResponsePageable = Payloads.TASK_RESPONSE_PAGEABLE.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Result<TaskResponse> extractTaskResponse() throws Exception {
+        return resultExtractor.extract(getHttpResponse(taskResponse), AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+    }
+
+    @Benchmark
+    public Result<JobResponse> extractJobResponse() throws Exception {
+        return resultExtractor.extract(getHttpResponse(jobResponse), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE);
+    }
+
+    @Benchmark
+    public Result<Pageable<TaskResponse>> extractTaskResponsePageable() throws Exception {
+        return resultExtractor.extract(getHttpResponse(taskResponsePageable), AbstractResource.TASK_RESPONSE_PAGEABLE_TYPE_REFERENCE);
+    }
+
+    private HttpResponse getHttpResponse(final byte[] content) {
+        final HttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        httpResponse.setEntity(new ByteArrayEntity(content, ContentType.APPLICATION_JSON));
+        return httpResponse;
+    }
+}
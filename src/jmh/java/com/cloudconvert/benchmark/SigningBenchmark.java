@@ -0,0 +1,84 @@
+package com.cloudconvert.benchmark;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.client.setttings.StringSettingsProvider;
+import com.cloudconvert.dto.request.ConvertFilesTaskRequest;
+import com.cloudconvert.dto.request.TaskRequest;
+import com.cloudconvert.dto.request.UrlExportRequest;
+import com.cloudconvert.dto.request.UrlImportRequest;
+import com.cloudconvert.resource.sync.SignedUrlResource;
+import com.cloudconvert.resource.sync.WebhookResource;
+import com.cloudconvert.signature.SignedUrlTemplate;
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SigningBenchmark {
+
+    private static final String WEBHOOK_SIGNING_SECRET = "webhook-signing-secret";
+
+    private WebhookResource webhookResource;
+    private SignedUrlResource signedUrlResource;
+
+    private byte[] payload;
+    private String signature;
+    private Map<String, TaskRequest> tasks;
+    private SignedUrlTemplate signedUrlTemplate;
+
+    @Setup
+    public void setup() throws Exception {
+        final StringSettingsProvider stringSettingsProvider = new StringSettingsProvider("api-key", WEBHOOK_SIGNING_SECRET, false);
+
+        webhookResource = new WebhookResource(stringSettingsProvider, new ObjectMapperProvider(), null);
+        signedUrlResource = new SignedUrlResource(stringSettingsProvider, new ObjectMapperProvider(), null);
+
+        final Mac mac = Mac.getInstance(WebhookResource.HMAC_SHA256);
+        mac.init(new SecretKeySpec(WEBHOOK_SIGNING_SECRET.getBytes(StandardCharsets.UTF_8), WebhookResource.HMAC_SHA256));
+        payload = Payloads.WEBHOOK_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        signature = Hex.encodeHexString(mac.doFinal(payload));
+
+        tasks = ImmutableMap.of(
+            "import-my-file", new UrlImportRequest().setUrl("https://example.com/file.docx"),
+            "convert-my-file", new ConvertFilesTaskRequest().setInput("import-my-file").setOutputFormat("pdf"),
+            "export-my-file", new UrlExportRequest().setInput("convert-my-file"));
+        signedUrlTemplate = signedUrlResource.template("https://s.cloudconvert.com/b3d85428-584e-4639-bc11-76b7dee9c109", "signing-secret", ImmutableMap.of(
+            "import-my-file", new UrlImportRequest().setUrl(SignedUrlTemplate.variable("url")),
+            "convert-my-file", new ConvertFilesTaskRequest().setInput("import-my-file").setOutputFormat("pdf"),
+            "export-my-file", new UrlExportRequest().setInput("convert-my-file")));
+    }
+
+    @Benchmark
+    public boolean verifyWebhook() throws Exception {
+        return webhookResource.verify(Payloads.WEBHOOK_PAYLOAD, signature);
+    }
+
+    @Benchmark
+    public boolean verifyWebhookBytes() throws Exception {
+        return webhookResource.verify(payload, signature);
+    }
+
+    @Benchmark
+    public String signUrl() throws Exception {
+        return signedUrlResource.sign("https://s.cloudconvert.com/b3d85428-584e-4639-bc11-76b7dee9c109", "signing-secret", tasks, "cache-key");
+    }
+
+    @Benchmark
+    public String signUrlTemplate() {
+        return signedUrlTemplate.sign(ImmutableMap.of("url", "https://example.com/file.docx"), "cache-key");
+    }
+}
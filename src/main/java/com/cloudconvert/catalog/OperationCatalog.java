@@ -0,0 +1,350 @@
+package com.cloudconvert.catalog;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.Operation;
+import com.cloudconvert.dto.response.OperationResponse;
+import com.cloudconvert.dto.response.Pageable;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.exception.CloudConvertException;
+import com.cloudconvert.resource.AbstractTasksResource;
+import com.cloudconvert.resource.params.Include;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory catalog of all operations, formats, engines and their options, so supported conversions can be checked and engines chosen
+ * without a round trip to {@link AbstractTasksResource#operations()}.
+ * <p>
+ * Operations are indexed by (operation, input format, output format), one entry per engine. The catalog is loaded on first use, either from a local
+ * snapshot file or from the API, and refreshed in the background once it is older than its time to live. A failed refresh keeps the
+ * current catalog and is retried later.
+ */
+@Slf4j
+public class OperationCatalog implements Closeable {
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(24);
+    public static final Duration RETRY_INTERVAL = Duration.ofMinutes(1);
+
+    public static final TypeReference<List<OperationResponse>> OPERATION_RESPONSES_TYPE_REFERENCE = new TypeReference<List<OperationResponse>>() {};
+
+    private final AbstractTasksResource<Result<TaskResponse>, Result<Pageable<TaskResponse>>, Result<Void>, Result<Pageable<OperationResponse>>> tasksResource;
+    private final ObjectMapperProvider objectMapperProvider;
+    private final Path snapshotPath;
+    private final Duration timeToLive;
+
+    private final Lock loadLock;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private volatile Index index;
+
+    public OperationCatalog(
+        @NotNull final AbstractTasksResource<Result<TaskResponse>, Result<Pageable<TaskResponse>>, Result<Void>, Result<Pageable<OperationResponse>>> tasksResource
+    ) {
+        this(tasksResource, new ObjectMapperProvider(), null, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param tasksResource        {@link AbstractTasksResource}
+     * @param objectMapperProvider {@link ObjectMapperProvider}
+     * @param snapshotPath         (optional) file the catalog is persisted to, so it is not fetched again on every start
+     * @param timeToLive           age after which the catalog is refreshed in the background
+     */
+    public OperationCatalog(
+        @NotNull final AbstractTasksResource<Result<TaskResponse>, Result<Pageable<TaskResponse>>, Result<Void>, Result<Pageable<OperationResponse>>> tasksResource,
+        @NotNull final ObjectMapperProvider objectMapperProvider, @Nullable final Path snapshotPath, @NotNull final Duration timeToLive
+    ) {
+        this.tasksResource = tasksResource;
+        this.objectMapperProvider = objectMapperProvider;
+        this.snapshotPath = snapshotPath;
+        this.timeToLive = timeToLive;
+
+        this.loadLock = new ReentrantLock();
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cloudconvert-operation-catalog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Operations converting between given formats, one per engine
+     *
+     * @param operation    {@link Operation}
+     * @param inputFormat  (optional) input format, e.g. docx
+     * @param outputFormat (optional) output format, e.g. pdf
+     * @return operations, empty if the conversion is not supported
+     * @throws IOException
+     * @throws URISyntaxException
+     * @throws CloudConvertException if the catalog could not be loaded
+     */
+    public List<OperationResponse> find(
+        @NotNull final Operation operation, @Nullable final String inputFormat, @Nullable final String outputFormat
+    ) throws IOException, URISyntaxException, CloudConvertException {
+        return getIndex().operationResponses.getOrDefault(new Key(operation, normalize(inputFormat), normalize(outputFormat)), ImmutableList.of());
+    }
+
+    /**
+     * Operation converting between given formats with a given engine
+     *
+     * @param operation    {@link Operation}
+     * @param inputFormat  (optional) input format, e.g. docx
+     * @param outputFormat (optional) output format, e.g. pdf
+     * @param engine       engine, e.g. office
+     * @return operation, empty if the engine does not support the conversion
+     * @throws IOException
+     * @throws URISyntaxException
+     * @throws CloudConvertException if the catalog could not be loaded
+     */
+    public Optional<OperationResponse> find(
+        @NotNull final Operation operation, @Nullable final String inputFormat, @Nullable final String outputFormat, @NotNull final String engine
+    ) throws IOException, URISyntaxException, CloudConvertException {
+        return find(operation, inputFormat, outputFormat).stream().filter(operationResponse -> engine.equals(operationResponse.getEngine())).findFirst();
+    }
+
+    /**
+     * Engine to use for given conversion, the first one which is neither deprecated nor experimental, as listed by the API
+     *
+     * @param operation    {@link Operation}
+     * @param inputFormat  (optional) input format, e.g. docx
+     * @param outputFormat (optional) output format, e.g. pdf
+     * @return engine, empty if the conversion is not supported
+     * @throws IOException
+     * @throws URISyntaxException
+     * @throws CloudConvertException if the catalog could not be loaded
+     */
+    public Optional<String> findEngine(
+        @NotNull final Operation operation, @Nullable final String inputFormat, @Nullable final String outputFormat
+    ) throws IOException, URISyntaxException, CloudConvertException {
+        final List<OperationResponse> operationResponses = find(operation, inputFormat, outputFormat);
+
+        final Optional<OperationResponse> stableOperationResponse = operationResponses.stream()
+            .filter(operationResponse -> !Boolean.TRUE.equals(operationResponse.getDeprecated()) && !Boolean.TRUE.equals(operationResponse.getExperimental()))
+            .findFirst();
+        final Optional<OperationResponse> operationResponse = stableOperationResponse.isPresent() ? stableOperationResponse : operationResponses.stream().findFirst();
+
+        return operationResponse.map(OperationResponse::getEngine);
+    }
+
+    /**
+     * @param operation    {@link Operation}
+     * @param inputFormat  (optional) input format, e.g. docx
+     * @param outputFormat (optional) output format, e.g. pdf
+     * @return true, if any engine supports given conversion
+     * @throws IOException
+     * @throws URISyntaxException
+     * @throws CloudConvertException if the catalog could not be loaded
+     */
+    public boolean isSupported(
+        @NotNull final Operation operation, @Nullable final String inputFormat, @Nullable final String outputFormat
+    ) throws IOException, URISyntaxException, CloudConvertException {
+        return !find(operation, inputFormat, outputFormat).isEmpty();
+    }
+
+    /**
+     * @param operation {@link Operation}
+     * @return true, if the catalog lists given operation at all, imports and exports are not listed
+     * @throws IOException
+     * @throws URISyntaxException
+     * @throws CloudConvertException if the catalog could not be loaded
+     */
+    public boolean contains(
+        @NotNull final Operation operation
+    ) throws IOException, URISyntaxException, CloudConvertException {
+        return getIndex().operations.contains(operation);
+    }
+
+    /**
+     * @return all operations of the catalog
+     * @throws IOException
+     * @throws URISyntaxException
+     * @throws CloudConvertException if the catalog could not be loaded
+     */
+    public List<OperationResponse> getOperationResponses() throws IOException, URISyntaxException, CloudConvertException {
+        return getIndex().all;
+    }
+
+    /**
+     * Fetch all operations with their options and engine versions from the API, replace the catalog and its snapshot
+     *
+     * @throws IOException
+     * @throws URISyntaxException
+     * @throws CloudConvertException
+     */
+    public void refresh() throws IOException, URISyntaxException, CloudConvertException {
+        final Pageable<OperationResponse> operationResponsePageable = tasksResource.operations(ImmutableMap.of(),
+            ImmutableList.of(Include.OPTIONS, Include.ENGINE_VERSIONS)).getBody();
+        final List<OperationResponse> operationResponses = operationResponsePageable == null || operationResponsePageable.getData() == null
+            ? ImmutableList.of() : operationResponsePageable.getData();
+
+        index = new Index(operationResponses, Instant.now());
+
+        if (snapshotPath != null) {
+            try {
+                writeSnapshot(operationResponses);
+            } catch (IOException e) {
+                log.warn("Could not write operation catalog snapshot {}", snapshotPath, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduledExecutorService.shutdownNow();
+    }
+
+    private Index getIndex() throws IOException, URISyntaxException, CloudConvertException {
+        final Index index = this.index;
+        if (index != null) {
+            return index;
+        }
+
+        loadLock.lock();
+        try {
+            if (this.index == null) {
+                load();
+            }
+            return this.index;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void load() throws IOException, URISyntaxException, CloudConvertException {
+        if (snapshotPath != null && Files.isRegularFile(snapshotPath)) {
+            try {
+                index = new Index(readSnapshot(), Files.getLastModifiedTime(snapshotPath).toInstant());
+            } catch (IOException e) {
+                log.warn("Could not read operation catalog snapshot {}, fetching operations", snapshotPath, e);
+            }
+        }
+
+        if (index == null) {
+            refresh();
+        }
+
+        // A stale snapshot is still served, while it is being refreshed in the background
+        scheduleRefresh(Duration.between(Instant.now(), index.loadedAt.plus(timeToLive)));
+    }
+
+    private void scheduleRefresh(
+        final Duration delay
+    ) {
+        try {
+            scheduledExecutorService.schedule(() -> {
+                try {
+                    refresh();
+                    scheduleRefresh(timeToLive);
+                } catch (Exception e) {
+                    log.warn("Could not refresh operation catalog, retrying in {}", RETRY_INTERVAL, e);
+                    scheduleRefresh(RETRY_INTERVAL);
+                }
+            }, Math.max(delay.toMillis(), 0), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // Catalog has been closed
+        }
+    }
+
+    private List<OperationResponse> readSnapshot() throws IOException {
+        try (final InputStream inputStream = Files.newInputStream(snapshotPath)) {
+            return objectMapperProvider.provideReader(OPERATION_RESPONSES_TYPE_REFERENCE).readValue(inputStream);
+        }
+    }
+
+    private void writeSnapshot(
+        final List<OperationResponse> operationResponses
+    ) throws IOException {
+        final Path directory = snapshotPath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        // Written next to the snapshot and moved over it, so a concurrent reader never sees a partial file
+        final Path temporaryPath = Files.createTempFile(directory, snapshotPath.getFileName().toString(), ".tmp");
+        try {
+            try (final OutputStream outputStream = Files.newOutputStream(temporaryPath)) {
+                objectMapperProvider.provideWriter(OPERATION_RESPONSES_TYPE_REFERENCE).writeValue(outputStream, operationResponses);
+            }
+
+            try {
+                Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    @Nullable
+    private static String normalize(
+        @Nullable final String format
+    ) {
+        return format == null ? null : format.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Immutable view of the catalog, replaced as a whole on refresh
+     */
+    private static class Index {
+
+        private final List<OperationResponse> all;
+        private final Set<Operation> operations;
+        private final Map<Key, List<OperationResponse>> operationResponses;
+        private final Instant loadedAt;
+
+        Index(final List<OperationResponse> all, final Instant loadedAt) {
+            final Map<Key, List<OperationResponse>> operationResponses = new HashMap<>();
+            all.forEach(operationResponse -> operationResponses.computeIfAbsent(new Key(operationResponse.getOperation(),
+                normalize(operationResponse.getInputFormat()), normalize(operationResponse.getOutputFormat())), key -> new ArrayList<>()).add(operationResponse));
+
+            final ImmutableMap.Builder<Key, List<OperationResponse>> builder = ImmutableMap.builder();
+            operationResponses.forEach((key, value) -> builder.put(key, ImmutableList.copyOf(value)));
+
+            this.all = ImmutableList.copyOf(all);
+            this.operations = all.stream().map(OperationResponse::getOperation).filter(Objects::nonNull).collect(Sets.toImmutableEnumSet());
+            this.operationResponses = builder.build();
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+
+        private final Operation operation;
+        private final String inputFormat;
+        private final String outputFormat;
+    }
+}
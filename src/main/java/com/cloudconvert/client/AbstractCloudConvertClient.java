@@ -26,14 +26,14 @@ public class AbstractCloudConvertClient<
     private final AbstractExportFilesResource<TRAR> abstractExportFilesResource;
     private final AbstractUsersResource<URAR> abstractUsersResource;
     private final AbstractWebhooksResource<WRAR, WRPAR, VAR> abstractWebhooksResource;
-    private final AbstractFilesResource<ISAR> abstractFilesResource;
+    private final AbstractFilesResource<ISAR, VAR> abstractFilesResource;
     private final AbstractSignedUrlResource abstractSignedUrlResource;
 
     public AbstractCloudConvertClient(
             final AbstractTasksResource<TRAR, TRPAR, VAR, ORPAR> abstractTasksResource, final AbstractJobsResource<JRAR, JRPAR, VAR> abstractJobsResource,
             final AbstractImportFilesResource<TRAR> abstractImportFilesResource, final AbstractExportFilesResource<TRAR> abstractExportFilesResource,
             final AbstractUsersResource<URAR> abstractUsersResource, final AbstractWebhooksResource<WRAR, WRPAR, VAR> abstractWebhooksResource,
-            final AbstractFilesResource<ISAR> abstractFilesResource, final AbstractSignedUrlResource abstractSignedUrlResource
+            final AbstractFilesResource<ISAR, VAR> abstractFilesResource, final AbstractSignedUrlResource abstractSignedUrlResource
             ) {
         this.abstractTasksResource = abstractTasksResource;
         this.abstractJobsResource = abstractJobsResource;
@@ -69,7 +69,7 @@ public class AbstractCloudConvertClient<
         return abstractWebhooksResource;
     }
 
-    public AbstractFilesResource<ISAR> files() {
+    public AbstractFilesResource<ISAR, VAR> files() {
         return abstractFilesResource;
     }
 
@@ -1,6 +1,7 @@
 package com.cloudconvert.client;
 
 import com.cloudconvert.client.http.AsyncCloseableHttpClientProvider;
+import com.cloudconvert.client.http.ConnectionPoolSettings;
 import com.cloudconvert.client.mapper.ObjectMapperProvider;
 import com.cloudconvert.client.setttings.PropertyFileSettingsProvider;
 import com.cloudconvert.client.setttings.SettingsProvider;
@@ -14,6 +15,7 @@ import com.cloudconvert.dto.result.AsyncResult;
 import com.cloudconvert.executor.AsyncRequestExecutor;
 import com.cloudconvert.extractor.ResultExtractor;
 import com.cloudconvert.resource.async.*;
+import com.cloudconvert.validation.TaskRequestValidator;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -36,11 +38,33 @@ public class AsyncCloudConvertClient extends AbstractCloudConvertClient<AsyncRes
     public AsyncCloudConvertClient(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
     ) throws IOException {
-        this(settingsProvider, objectMapperProvider, new AsyncRequestExecutor(new ResultExtractor(objectMapperProvider), new AsyncCloseableHttpClientProvider()));
+        this(settingsProvider, objectMapperProvider, ConnectionPoolSettings.defaults(settingsProvider).build());
+    }
+
+    public AsyncCloudConvertClient(
+        final SettingsProvider settingsProvider, final ConnectionPoolSettings connectionPoolSettings
+    ) throws IOException {
+        this(settingsProvider, new ObjectMapperProvider(), connectionPoolSettings);
+    }
+
+    public AsyncCloudConvertClient(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider, final ConnectionPoolSettings connectionPoolSettings
+    ) throws IOException {
+        this(settingsProvider, objectMapperProvider, new AsyncRequestExecutor(new ResultExtractor(objectMapperProvider), new AsyncCloseableHttpClientProvider(connectionPoolSettings)));
     }
 
     public AsyncCloudConvertClient(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider, final AsyncRequestExecutor asyncRequestExecutor
+    ) {
+        this(settingsProvider, objectMapperProvider, asyncRequestExecutor, TaskRequestValidator.NONE);
+    }
+
+    /**
+     * @param taskRequestValidator validates tasks before jobs and tasks are created, e.g. {@link com.cloudconvert.validation.OperationCatalogTaskRequestValidator}
+     */
+    public AsyncCloudConvertClient(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider,
+        final AsyncRequestExecutor asyncRequestExecutor, final TaskRequestValidator taskRequestValidator
     ) {
         this(settingsProvider, objectMapperProvider, asyncRequestExecutor,
             new AsyncTasksResource(settingsProvider, objectMapperProvider, asyncRequestExecutor,
@@ -53,9 +77,10 @@ public class AsyncCloudConvertClient extends AbstractCloudConvertClient<AsyncRes
                 new AsyncCreateThumbnailsResource(settingsProvider, objectMapperProvider, asyncRequestExecutor),
                 new AsyncGetMetadataResource(settingsProvider, objectMapperProvider, asyncRequestExecutor),
                 new AsyncWriteMetadataResource(settingsProvider, objectMapperProvider, asyncRequestExecutor),
-                new AsyncAddWatermarkResource(settingsProvider, objectMapperProvider, asyncRequestExecutor)
+                new AsyncAddWatermarkResource(settingsProvider, objectMapperProvider, asyncRequestExecutor),
+                taskRequestValidator
             ),
-            new AsyncJobsResource(settingsProvider, objectMapperProvider, asyncRequestExecutor)
+            new AsyncJobsResource(settingsProvider, objectMapperProvider, asyncRequestExecutor, taskRequestValidator)
         );
     }
 
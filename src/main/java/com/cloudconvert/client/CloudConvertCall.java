@@ -0,0 +1,12 @@
+package com.cloudconvert.client;
+
+/**
+ * Call made with a {@link CloudConvertClient}, e.g. creating a job and waiting for it, to be run by {@link CloudConvertClient#invokeAll}
+ *
+ * @param <T> result of the call
+ */
+@FunctionalInterface
+public interface CloudConvertCall<T> {
+
+    T call(CloudConvertClient cloudConvertClient) throws Exception;
+}
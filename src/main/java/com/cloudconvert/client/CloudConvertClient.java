@@ -1,6 +1,7 @@
 package com.cloudconvert.client;
 
 import com.cloudconvert.client.http.CloseableHttpClientProvider;
+import com.cloudconvert.client.http.ConnectionPoolSettings;
 import com.cloudconvert.client.mapper.ObjectMapperProvider;
 import com.cloudconvert.client.setttings.PropertyFileSettingsProvider;
 import com.cloudconvert.client.setttings.SettingsProvider;
@@ -14,9 +15,18 @@ import com.cloudconvert.dto.result.Result;
 import com.cloudconvert.executor.RequestExecutor;
 import com.cloudconvert.extractor.ResultExtractor;
 import com.cloudconvert.resource.sync.*;
+import com.cloudconvert.tracing.Span;
+import com.cloudconvert.tracing.TraceContext;
+import com.cloudconvert.validation.TaskRequestValidator;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 public class CloudConvertClient extends AbstractCloudConvertClient<Result<Void>,
     Result<InputStream>, Result<TaskResponse>, Result<Pageable<TaskResponse>>,
@@ -36,12 +46,34 @@ public class CloudConvertClient extends AbstractCloudConvertClient<Result<Void>,
     public CloudConvertClient(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
     ) throws IOException {
-        this(settingsProvider, objectMapperProvider, new RequestExecutor(new ResultExtractor(objectMapperProvider), new CloseableHttpClientProvider()));
+        this(settingsProvider, objectMapperProvider, ConnectionPoolSettings.defaults(settingsProvider).build());
+    }
+
+    public CloudConvertClient(
+        final SettingsProvider settingsProvider, final ConnectionPoolSettings connectionPoolSettings
+    ) throws IOException {
+        this(settingsProvider, new ObjectMapperProvider(), connectionPoolSettings);
+    }
+
+    public CloudConvertClient(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider, final ConnectionPoolSettings connectionPoolSettings
+    ) throws IOException {
+        this(settingsProvider, objectMapperProvider, new RequestExecutor(new ResultExtractor(objectMapperProvider), new CloseableHttpClientProvider(connectionPoolSettings)));
     }
 
     public CloudConvertClient(
         final SettingsProvider settingsProvider,
         final ObjectMapperProvider objectMapperProvider, final RequestExecutor requestExecutor
+    ) {
+        this(settingsProvider, objectMapperProvider, requestExecutor, TaskRequestValidator.NONE);
+    }
+
+    /**
+     * @param taskRequestValidator validates tasks before jobs and tasks are created, e.g. {@link com.cloudconvert.validation.OperationCatalogTaskRequestValidator}
+     */
+    public CloudConvertClient(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider,
+        final RequestExecutor requestExecutor, final TaskRequestValidator taskRequestValidator
     ) {
         this(settingsProvider, objectMapperProvider, requestExecutor,
             new TasksResource(settingsProvider, objectMapperProvider, requestExecutor,
@@ -54,9 +86,10 @@ public class CloudConvertClient extends AbstractCloudConvertClient<Result<Void>,
                 new CreateThumbnailsResource(settingsProvider, objectMapperProvider, requestExecutor),
                 new GetMetadataResource(settingsProvider, objectMapperProvider, requestExecutor),
                 new WriteMetadataResource(settingsProvider, objectMapperProvider, requestExecutor),
-                new AddWatermarkResource(settingsProvider, objectMapperProvider, requestExecutor)
+                new AddWatermarkResource(settingsProvider, objectMapperProvider, requestExecutor),
+                taskRequestValidator
             ),
-            new JobsResource(settingsProvider, objectMapperProvider, requestExecutor)
+            new JobsResource(settingsProvider, objectMapperProvider, requestExecutor, taskRequestValidator)
         );
     }
 
@@ -74,4 +107,32 @@ public class CloudConvertClient extends AbstractCloudConvertClient<Result<Void>,
             new SignedUrlResource(settingsProvider, objectMapperProvider, requestExecutor)
         );
     }
+
+    /**
+     * Run given calls concurrently on given executor service and wait until all of them complete.
+     * <p>
+     * Calls block their thread, so with a virtual thread per task executor (Java 21+) plain sequential code can be run for thousands of
+     * jobs at once. Use {@link ConnectionPoolSettings#concurrent(SettingsProvider, int)} to size the connection pool accordingly.
+     * <p>
+     * Span current on the calling thread, see {@link TraceContext}, is current while the calls run, so a job flow traced by the caller stays one trace.
+     *
+     * @param executorService executor service running the calls
+     * @param calls           calls
+     * @param <T>             result of the calls
+     * @return futures holding results of the calls, in the order of given calls
+     * @throws InterruptedException if interrupted while waiting, in which case unfinished calls are cancelled
+     */
+    public <T> List<Future<T>> invokeAll(
+        final ExecutorService executorService, final Collection<? extends CloudConvertCall<T>> calls
+    ) throws InterruptedException {
+        // Requests of the calls are traced as children of the span current on the calling thread
+        final Span span = TraceContext.current();
+        final List<Callable<T>> callables = calls.stream().<Callable<T>>map(call -> () -> {
+            try (TraceContext.Scope ignored = TraceContext.makeCurrent(span)) {
+                return call.call(this);
+            }
+        }).collect(Collectors.toList());
+
+        return executorService.invokeAll(callables);
+    }
 }
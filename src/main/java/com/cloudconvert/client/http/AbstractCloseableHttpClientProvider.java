@@ -1,28 +1,48 @@
 package com.cloudconvert.client.http;
 
+import com.cloudconvert.metrics.ConnectionPool;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
 
 public abstract class AbstractCloseableHttpClientProvider<C extends Closeable> {
 
-    public static final int DEFAULT_MAX_PER_ROUTE = 3;
-    public static final int MAX_TOTAL = 37;
+    public static final int DEFAULT_MAX_PER_ROUTE = ConnectionPoolSettings.DEFAULT_MAX_PER_ROUTE;
+    public static final int MAX_TOTAL = ConnectionPoolSettings.DEFAULT_MAX_TOTAL;
 
     @Getter
-    private final int defaultMaxPerRoute;
+    private final ConnectionPoolSettings connectionPoolSettings;
 
+    /**
+     * Connection pool of the client provided last, null if none has been provided yet
+     */
     @Getter
-    private final int maxTotal;
+    @Setter(AccessLevel.PROTECTED)
+    @Nullable
+    private volatile ConnectionPool connectionPool;
 
     public AbstractCloseableHttpClientProvider() {
-        this(DEFAULT_MAX_PER_ROUTE, MAX_TOTAL);
+        this(ConnectionPoolSettings.builder().build());
     }
 
     public AbstractCloseableHttpClientProvider(final int defaultMaxPerRoute, final int maxTotal) {
-        this.defaultMaxPerRoute = defaultMaxPerRoute;
-        this.maxTotal = maxTotal;
+        this(ConnectionPoolSettings.builder().defaultMaxPerRoute(defaultMaxPerRoute).maxTotal(maxTotal).build());
+    }
+
+    public AbstractCloseableHttpClientProvider(final ConnectionPoolSettings connectionPoolSettings) {
+        this.connectionPoolSettings = connectionPoolSettings;
+    }
+
+    public int getDefaultMaxPerRoute() {
+        return connectionPoolSettings.getDefaultMaxPerRoute();
+    }
+
+    public int getMaxTotal() {
+        return connectionPoolSettings.getMaxTotal();
     }
 
     public abstract C provide() throws IOException;
@@ -1,33 +1,82 @@
 package com.cloudconvert.client.http;
 
+import com.cloudconvert.metrics.ConnectionPool;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.ManagedNHttpClientConnectionFactory;
 import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
 import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.nio.reactor.ConnectingIOReactor;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 public class AsyncCloseableHttpClientProvider extends AbstractCloseableHttpClientProvider<CloseableHttpAsyncClient> {
 
     public AsyncCloseableHttpClientProvider() {
-        super(DEFAULT_MAX_PER_ROUTE, MAX_TOTAL);
+        super();
     }
 
     public AsyncCloseableHttpClientProvider(final int defaultMaxPerRoute, final int maxTotal) {
         super(defaultMaxPerRoute, maxTotal);
     }
 
+    public AsyncCloseableHttpClientProvider(final ConnectionPoolSettings connectionPoolSettings) {
+        super(connectionPoolSettings);
+    }
+
     @Override
     public CloseableHttpAsyncClient provide() throws IOException {
+        final ConnectionPoolSettings connectionPoolSettings = getConnectionPoolSettings();
+
         final ConnectingIOReactor connectingIOReactor = new DefaultConnectingIOReactor();
-        final PoolingNHttpClientConnectionManager poolingNHttpClientConnectionManager = new PoolingNHttpClientConnectionManager(connectingIOReactor);
-        poolingNHttpClientConnectionManager.setDefaultMaxPerRoute(getDefaultMaxPerRoute());
-        poolingNHttpClientConnectionManager.setMaxTotal(getMaxTotal());
+        final PoolingNHttpClientConnectionManager poolingNHttpClientConnectionManager = new PoolingNHttpClientConnectionManager(connectingIOReactor,
+            ManagedNHttpClientConnectionFactory.INSTANCE, RegistryBuilder.<SchemeIOSessionStrategy>create()
+            .register("http", NoopIOSessionStrategy.INSTANCE).register("https", SSLIOSessionStrategy.getDefaultStrategy()).build(),
+            DefaultSchemePortResolver.INSTANCE, SystemDefaultDnsResolver.INSTANCE, connectionPoolSettings.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        poolingNHttpClientConnectionManager.setDefaultMaxPerRoute(connectionPoolSettings.getDefaultMaxPerRoute());
+        poolingNHttpClientConnectionManager.setMaxTotal(connectionPoolSettings.getMaxTotal());
+        connectionPoolSettings.getMaxPerHttpRoutes().forEach(poolingNHttpClientConnectionManager::setMaxPerRoute);
+        setConnectionPool(new ConnectionPool(poolingNHttpClientConnectionManager));
 
-        final CloseableHttpAsyncClient closeableHttpAsyncClient = HttpAsyncClientBuilder.create().setConnectionManager(poolingNHttpClientConnectionManager).build();
+        final CloseableHttpAsyncClient closeableHttpAsyncClient = HttpAsyncClientBuilder.create().setConnectionManager(poolingNHttpClientConnectionManager)
+            .setDefaultRequestConfig(connectionPoolSettings.getRequestConfig())
+            .addInterceptorLast(new LongPollRequestInterceptor(connectionPoolSettings)).build();
         closeableHttpAsyncClient.start();
 
+        startIdleConnectionEvictor(closeableHttpAsyncClient, poolingNHttpClientConnectionManager, connectionPoolSettings);
+
         return closeableHttpAsyncClient;
     }
+
+    /**
+     * Async client builder has no idle connection eviction, run it on a daemon thread which stops together with the client
+     */
+    private void startIdleConnectionEvictor(
+        final CloseableHttpAsyncClient closeableHttpAsyncClient, final PoolingNHttpClientConnectionManager poolingNHttpClientConnectionManager,
+        final ConnectionPoolSettings connectionPoolSettings
+    ) {
+        final long maxIdleTimeMillis = connectionPoolSettings.getMaxIdleTime().toMillis();
+        final long sleepTimeMillis = Math.max(maxIdleTimeMillis, 1000L);
+
+        final Thread thread = new Thread(() -> {
+            try {
+                while (closeableHttpAsyncClient.isRunning()) {
+                    Thread.sleep(sleepTimeMillis);
+                    poolingNHttpClientConnectionManager.closeExpiredConnections();
+                    poolingNHttpClientConnectionManager.closeIdleConnections(maxIdleTimeMillis, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "cloudconvert-idle-connection-evictor");
+        thread.setDaemon(true);
+        thread.start();
+    }
 }
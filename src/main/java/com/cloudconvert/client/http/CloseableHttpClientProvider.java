@@ -1,25 +1,44 @@
 package com.cloudconvert.client.http;
 
+import com.cloudconvert.metrics.ConnectionPool;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
+import java.util.concurrent.TimeUnit;
+
 public class CloseableHttpClientProvider extends AbstractCloseableHttpClientProvider<CloseableHttpClient> {
 
     public CloseableHttpClientProvider() {
-        super(DEFAULT_MAX_PER_ROUTE, MAX_TOTAL);
+        super();
     }
 
     public CloseableHttpClientProvider(final int defaultMaxPerRoute, final int maxTotal) {
         super(defaultMaxPerRoute, maxTotal);
     }
 
+    public CloseableHttpClientProvider(final ConnectionPoolSettings connectionPoolSettings) {
+        super(connectionPoolSettings);
+    }
+
     @Override
     public CloseableHttpClient provide() {
-        final PoolingHttpClientConnectionManager poolingHttpClientConnectionManager = new PoolingHttpClientConnectionManager();
-        poolingHttpClientConnectionManager.setDefaultMaxPerRoute(getDefaultMaxPerRoute());
-        poolingHttpClientConnectionManager.setMaxTotal(getMaxTotal());
+        final ConnectionPoolSettings connectionPoolSettings = getConnectionPoolSettings();
+
+        final PoolingHttpClientConnectionManager poolingHttpClientConnectionManager = new PoolingHttpClientConnectionManager(
+            connectionPoolSettings.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        poolingHttpClientConnectionManager.setDefaultMaxPerRoute(connectionPoolSettings.getDefaultMaxPerRoute());
+        poolingHttpClientConnectionManager.setMaxTotal(connectionPoolSettings.getMaxTotal());
+        poolingHttpClientConnectionManager.setValidateAfterInactivity((int) connectionPoolSettings.getValidateAfterInactivity().toMillis());
+        connectionPoolSettings.getMaxPerHttpRoutes().forEach(poolingHttpClientConnectionManager::setMaxPerRoute);
+        setConnectionPool(new ConnectionPool(poolingHttpClientConnectionManager));
 
-        return HttpClientBuilder.create().setConnectionManager(poolingHttpClientConnectionManager).build();
+        return HttpClientBuilder.create().setConnectionManager(poolingHttpClientConnectionManager)
+            .setDefaultRequestConfig(connectionPoolSettings.getRequestConfig())
+            .addInterceptorLast(new LongPollRequestInterceptor(connectionPoolSettings))
+            // Failed requests are retried by the RetryPolicy of the executor only, within its budget
+            .disableAutomaticRetries()
+            .evictExpiredConnections().evictIdleConnections(connectionPoolSettings.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+            .build();
     }
 }
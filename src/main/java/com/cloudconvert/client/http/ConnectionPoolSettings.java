@@ -0,0 +1,196 @@
+package com.cloudconvert.client.http;
+
+import com.cloudconvert.client.setttings.SettingsProvider;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.UnsupportedSchemeException;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Connection pool and timeout settings, shared by {@link CloseableHttpClientProvider} and {@link AsyncCloseableHttpClientProvider}
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ConnectionPoolSettings {
+
+    public static final int DEFAULT_MAX_TOTAL = 200;
+    public static final int DEFAULT_MAX_PER_ROUTE = 20;
+    public static final int DEFAULT_MAX_PER_API_ROUTE = 50;
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_VALIDATE_AFTER_INACTIVITY = Duration.ofSeconds(2);
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    /**
+     * No socket timeout, as waiting for a job on the sync API holds the response until the job has completed
+     */
+    public static final Duration DEFAULT_SOCKET_TIMEOUT = Duration.ZERO;
+    public static final Duration DEFAULT_CONNECTION_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Max connections in the pool, across all routes
+     */
+    @Builder.Default
+    private final int maxTotal = DEFAULT_MAX_TOTAL;
+
+    /**
+     * Max connections per route, unless configured for the route in {@link #maxPerRoutes}
+     */
+    @Builder.Default
+    private final int defaultMaxPerRoute = DEFAULT_MAX_PER_ROUTE;
+
+    /**
+     * Max connections per base URL, e.g. https://api.cloudconvert.com/v2
+     */
+    @Singular("maxPerRoute")
+    private final Map<String, Integer> maxPerRoutes;
+
+    /**
+     * Connections older than this are not reused, so DNS changes are eventually picked up
+     */
+    @Builder.Default
+    private final Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+    /**
+     * Pooled connections idle for longer than this are closed in the background
+     */
+    @Builder.Default
+    private final Duration maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+
+    /**
+     * Pooled connections inactive for longer than this are checked for staleness before being leased (blocking client only,
+     * async client is notified about closed connections by its I/O reactor)
+     */
+    @Builder.Default
+    private final Duration validateAfterInactivity = DEFAULT_VALIDATE_AFTER_INACTIVITY;
+
+    @Builder.Default
+    private final Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+    /**
+     * Max time of inactivity while waiting for data, zero for none. Does not apply to {@link #longPollUrls}.
+     */
+    @Builder.Default
+    private final Duration socketTimeout = DEFAULT_SOCKET_TIMEOUT;
+
+    /**
+     * Base URLs of APIs holding responses open until a job or task has completed, e.g. https://sync.api.cloudconvert.com/v2, requests to them
+     * have no socket timeout
+     */
+    @Singular("longPollUrl")
+    private final Set<String> longPollUrls;
+
+    /**
+     * Max time to wait for a connection from the pool
+     */
+    @Builder.Default
+    private final Duration connectionRequestTimeout = DEFAULT_CONNECTION_REQUEST_TIMEOUT;
+
+    /**
+     * Default settings, with a higher per route limit for CloudConvert API base URLs of given {@link SettingsProvider}
+     *
+     * @param settingsProvider {@link SettingsProvider}
+     * @return {@link ConnectionPoolSettingsBuilder}
+     */
+    public static ConnectionPoolSettingsBuilder defaults(
+        @NotNull final SettingsProvider settingsProvider
+    ) {
+        return builder()
+            .maxPerRoute(settingsProvider.getApiUrl(), DEFAULT_MAX_PER_API_ROUTE)
+            .maxPerRoute(settingsProvider.getSyncApiUrl(), DEFAULT_MAX_PER_API_ROUTE)
+            .longPollUrl(settingsProvider.getSyncApiUrl());
+    }
+
+    /**
+     * Settings for a given number of concurrent callers, e.g. one virtual thread per job. Each caller may hold a connection for a long time,
+     * as waiting for a job keeps a request open on the sync API, so every route allows as many connections as there are callers.
+     *
+     * @param settingsProvider {@link SettingsProvider}
+     * @param maxConcurrency   max concurrent calls
+     * @return {@link ConnectionPoolSettingsBuilder}
+     */
+    public static ConnectionPoolSettingsBuilder concurrent(
+        @NotNull final SettingsProvider settingsProvider, final int maxConcurrency
+    ) {
+        return builder()
+            .maxTotal(maxConcurrency)
+            .defaultMaxPerRoute(maxConcurrency)
+            .maxPerRoute(settingsProvider.getApiUrl(), maxConcurrency)
+            .maxPerRoute(settingsProvider.getSyncApiUrl(), maxConcurrency)
+            .longPollUrl(settingsProvider.getSyncApiUrl());
+    }
+
+    public RequestConfig getRequestConfig() {
+        return RequestConfig.custom()
+            .setConnectTimeout((int) connectTimeout.toMillis())
+            .setSocketTimeout((int) socketTimeout.toMillis())
+            .setConnectionRequestTimeout((int) connectionRequestTimeout.toMillis())
+            .build();
+    }
+
+    /**
+     * @param uri request URI
+     * @return socket timeout of requests to given URI, zero for {@link #longPollUrls}
+     */
+    public Duration getSocketTimeout(
+        @NotNull final URI uri
+    ) {
+        return isLongPoll(uri.getScheme(), uri.getHost(), uri.getPort()) ? Duration.ZERO : socketTimeout;
+    }
+
+    /**
+     * @return whether requests to given host are sent to one of {@link #longPollUrls}
+     */
+    public boolean isLongPoll(
+        @NotNull final HttpHost httpHost
+    ) {
+        return isLongPoll(httpHost.getSchemeName(), httpHost.getHostName(), httpHost.getPort());
+    }
+
+    /**
+     * Resolve {@link #maxPerRoutes} base URLs to routes, as planned by the clients for direct connections
+     *
+     * @return max connections per {@link HttpRoute}
+     */
+    public Map<HttpRoute, Integer> getMaxPerHttpRoutes() {
+        final Map<HttpRoute, Integer> maxPerHttpRoutes = new HashMap<>();
+
+        maxPerRoutes.forEach((url, max) -> {
+            final URI uri = URI.create(url);
+            final HttpHost httpHost = new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme());
+
+            try {
+                final HttpHost target = new HttpHost(httpHost.getHostName(), DefaultSchemePortResolver.INSTANCE.resolve(httpHost), httpHost.getSchemeName());
+                maxPerHttpRoutes.put(new HttpRoute(target, null, "https".equalsIgnoreCase(target.getSchemeName())), max);
+            } catch (UnsupportedSchemeException e) {
+                throw new IllegalArgumentException("Could not resolve route for " + url, e);
+            }
+        });
+
+        return maxPerHttpRoutes;
+    }
+
+    private boolean isLongPoll(
+        final String scheme, final String host, final int port
+    ) {
+        return longPollUrls.stream().map(URI::create).anyMatch(uri -> uri.getScheme().equalsIgnoreCase(scheme) && uri.getHost().equalsIgnoreCase(host)
+            && getPort(uri.getScheme(), uri.getPort()) == getPort(scheme, port));
+    }
+
+    private static int getPort(
+        final String scheme, final int port
+    ) {
+        return port >= 0 ? port : "https".equalsIgnoreCase(scheme) ? 443 : 80;
+    }
+}
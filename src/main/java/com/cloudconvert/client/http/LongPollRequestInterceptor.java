@@ -0,0 +1,36 @@
+package com.cloudconvert.client.http;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Lifts the socket timeout of requests to {@link ConnectionPoolSettings#getLongPollUrls()}, e.g. waiting for a job on the sync API, which hold
+ * the response until the job has completed. Run by the Apache clients after the request config has been resolved and before the request is sent.
+ */
+public class LongPollRequestInterceptor implements HttpRequestInterceptor {
+
+    private final ConnectionPoolSettings connectionPoolSettings;
+
+    public LongPollRequestInterceptor(
+        @NotNull final ConnectionPoolSettings connectionPoolSettings
+    ) {
+        this.connectionPoolSettings = connectionPoolSettings;
+    }
+
+    @Override
+    public void process(
+        final HttpRequest httpRequest, final HttpContext httpContext
+    ) {
+        final HttpClientContext httpClientContext = HttpClientContext.adapt(httpContext);
+        final HttpHost targetHost = httpClientContext.getTargetHost();
+
+        if (targetHost != null && connectionPoolSettings.isLongPoll(targetHost)) {
+            httpClientContext.setRequestConfig(RequestConfig.copy(httpClientContext.getRequestConfig()).setSocketTimeout(0).build());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.cloudconvert.client.http.entity;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * Counts bytes of the wrapped entity as they are read or written, and hands the count over once the content has been read to its end
+ * or closed, or written. Each read of the content or write of the entity is counted on its own.
+ */
+public class CountingHttpEntity extends HttpEntityWrapper {
+
+    private final LongConsumer countConsumer;
+
+    public CountingHttpEntity(
+        @NotNull final HttpEntity httpEntity, @NotNull final LongConsumer countConsumer
+    ) {
+        super(httpEntity);
+
+        this.countConsumer = countConsumer;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return new CountingInputStream(super.getContent());
+    }
+
+    @Override
+    public void writeTo(
+        final OutputStream outputStream
+    ) throws IOException {
+        final CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+        super.writeTo(countingOutputStream);
+        countConsumer.accept(countingOutputStream.count);
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+
+        private long count;
+        private boolean counted;
+
+        private CountingInputStream(
+            final InputStream inputStream
+        ) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = super.read();
+            if (read == -1) {
+                onEnd();
+            } else {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(
+            final byte[] bytes, final int offset, final int length
+        ) throws IOException {
+            final int read = super.read(bytes, offset, length);
+            if (read == -1) {
+                onEnd();
+            } else {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(
+            final long length
+        ) throws IOException {
+            final long skipped = super.skip(length);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                onEnd();
+            }
+        }
+
+        private void onEnd() {
+            if (!counted) {
+                counted = true;
+                countConsumer.accept(count);
+            }
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(
+            final OutputStream outputStream
+        ) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(
+            final int b
+        ) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(
+            final byte[] bytes, final int offset, final int length
+        ) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.cloudconvert.client.http.entity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * JSON entity with a single file field, whose value is encoded from a {@link Path} or an {@link InputStream} while the body is sent,
+ * instead of being held in memory as a String.
+ * <p>
+ * Other fields are rendered by a {@link JsonGenerator} around an empty file value, then the file content is encoded chunk by chunk in between,
+ * either as base64 or as an escaped JSON string. Base64 bodies of a {@link Path} have a known content length, other bodies are sent chunked.
+ */
+public class FileJsonHttpEntity extends AbstractHttpEntity {
+
+    /**
+     * Multiple of 3, so every chunk but the last one is base64 encoded without padding
+     */
+    public static final int BUFFER_SIZE = 48 * 1024;
+
+    private static final byte[] EMPTY_STRING_VALUE_END = "\"\"}".getBytes(StandardCharsets.US_ASCII);
+
+    public enum Encoding {
+
+        /**
+         * File value is the base64 encoded content
+         */
+        BASE64,
+
+        /**
+         * File value is the UTF-8 text content
+         */
+        RAW
+    }
+
+    private final Encoding encoding;
+
+    @Nullable
+    private final Path path;
+
+    @Nullable
+    private final InputStream inputStream;
+
+    private final byte[] head;
+    private final byte[] tail;
+
+    public FileJsonHttpEntity(
+        @NotNull final ObjectMapper objectMapper, @NotNull final Map<String, Object> fields, @NotNull final String name,
+        @NotNull final Encoding encoding, @NotNull final Path path
+    ) throws IOException {
+        this(objectMapper, fields, name, encoding, path, null);
+    }
+
+    public FileJsonHttpEntity(
+        @NotNull final ObjectMapper objectMapper, @NotNull final Map<String, Object> fields, @NotNull final String name,
+        @NotNull final Encoding encoding, @NotNull final InputStream inputStream
+    ) throws IOException {
+        this(objectMapper, fields, name, encoding, null, inputStream);
+    }
+
+    private FileJsonHttpEntity(
+        final ObjectMapper objectMapper, final Map<String, Object> fields, final String name,
+        final Encoding encoding, @Nullable final Path path, @Nullable final InputStream inputStream
+    ) throws IOException {
+        // Render all fields with an empty file value as the last one, then split the document inside of the empty string
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(byteArrayOutputStream)) {
+            jsonGenerator.writeStartObject();
+            for (final Map.Entry<String, Object> field : fields.entrySet()) {
+                if (!name.equals(field.getKey()) && field.getValue() != null) {
+                    jsonGenerator.writeObjectField(field.getKey(), field.getValue());
+                }
+            }
+            jsonGenerator.writeStringField(name, "");
+            jsonGenerator.writeEndObject();
+        }
+        final byte[] envelope = byteArrayOutputStream.toByteArray();
+
+        if (envelope.length < EMPTY_STRING_VALUE_END.length
+            || !Arrays.equals(EMPTY_STRING_VALUE_END, Arrays.copyOfRange(envelope, envelope.length - EMPTY_STRING_VALUE_END.length, envelope.length))) {
+            throw new IOException("Unexpected JSON layout, could not locate file value");
+        }
+
+        this.head = Arrays.copyOfRange(envelope, 0, envelope.length - EMPTY_STRING_VALUE_END.length + 1);
+        this.tail = Arrays.copyOfRange(envelope, envelope.length - EMPTY_STRING_VALUE_END.length + 1, envelope.length);
+        this.encoding = encoding;
+        this.path = path;
+        this.inputStream = inputStream;
+
+        setContentType(ContentType.APPLICATION_JSON.toString());
+        setChunked(getContentLength() < 0);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return path != null;
+    }
+
+    @Override
+    public long getContentLength() {
+        if (encoding != Encoding.BASE64 || path == null) {
+            return -1;
+        }
+
+        try {
+            return head.length + 4 * ((Files.size(path) + 2) / 3) + tail.length;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        final InputStream fileInputStream = path != null ? Files.newInputStream(path) : inputStream;
+        final InputStream encodingInputStream = encoding == Encoding.BASE64
+            ? new Base64EncodingInputStream(fileInputStream) : new JsonStringEncodingInputStream(fileInputStream);
+
+        return new SequenceInputStream(Collections.enumeration(Arrays.asList(
+            new ByteArrayInputStream(head), encodingInputStream, new ByteArrayInputStream(tail))));
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        try (final InputStream content = getContent()) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = content.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * File content is read from its source while the body is sent, so it is not buffered e.g. for compression
+     */
+    @Override
+    public boolean isStreaming() {
+        return true;
+    }
+
+    /**
+     * Reads encoded chunks of a source stream
+     */
+    private abstract static class EncodingInputStream extends InputStream {
+
+        protected final InputStream source;
+
+        private ByteBuffer chunk = ByteBuffer.allocate(0);
+        private boolean eof;
+
+        EncodingInputStream(final InputStream source) {
+            this.source = source;
+        }
+
+        /**
+         * @return next encoded chunk, or null at the end of the source
+         */
+        @Nullable
+        protected abstract byte[] nextChunk() throws IOException;
+
+        @Override
+        public int read() throws IOException {
+            final byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+
+            while (!chunk.hasRemaining()) {
+                final byte[] next = eof ? null : nextChunk();
+                if (next == null) {
+                    eof = true;
+                    return -1;
+                }
+                chunk = ByteBuffer.wrap(next);
+            }
+
+            final int read = Math.min(length, chunk.remaining());
+            chunk.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+    }
+
+    private static class Base64EncodingInputStream extends EncodingInputStream {
+
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        Base64EncodingInputStream(final InputStream source) {
+            super(source);
+        }
+
+        @Override
+        protected byte[] nextChunk() throws IOException {
+            // Fill the whole buffer, so padding may only appear in the last chunk
+            int length = 0;
+            int read;
+            while (length < buffer.length && (read = source.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+            }
+
+            return length == 0 ? null : Base64.getEncoder().encode(Arrays.copyOf(buffer, length));
+        }
+    }
+
+    private static class JsonStringEncodingInputStream extends EncodingInputStream {
+
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int carried;
+
+        JsonStringEncodingInputStream(final InputStream source) {
+            super(source);
+
+            this.reader = new InputStreamReader(source, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        protected byte[] nextChunk() throws IOException {
+            final int read = reader.read(buffer, carried, buffer.length - carried);
+            final int length = carried + Math.max(read, 0);
+            if (length == 0) {
+                return null;
+            }
+
+            // A high surrogate at the end of the buffer is encoded together with its low surrogate from the next chunk
+            final int encoded = read != -1 && Character.isHighSurrogate(buffer[length - 1]) ? length - 1 : length;
+            final byte[] chunk = JsonStringEncoder.getInstance().quoteAsUTF8(new String(buffer, 0, encoded));
+
+            carried = length - encoded;
+            if (carried > 0) {
+                buffer[0] = buffer[encoded];
+            }
+            return chunk;
+        }
+    }
+}
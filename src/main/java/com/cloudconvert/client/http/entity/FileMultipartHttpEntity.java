@@ -0,0 +1,165 @@
+package com.cloudconvert.client.http.entity;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.FormBodyPartBuilder;
+import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.entity.mime.content.ByteArrayBody;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.FileContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Multipart form entity with a single file part, which is streamed from disk instead of being buffered in memory.
+ * <p>
+ * Content length is known upfront and the entity is repeatable. When used with the async client, the file is transferred
+ * using {@link FileContentEncoder#transfer(FileChannel, long, long)} (zero-copy) where the underlying session supports it.
+ */
+public class FileMultipartHttpEntity extends AbstractHttpEntity implements HttpAsyncContentProducer {
+
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final long fileLength;
+
+    private final byte[] head;
+    private final byte[] tail;
+
+    private ByteBuffer headByteBuffer;
+    private ByteBuffer tailByteBuffer;
+    private ByteBuffer fileByteBuffer;
+    private FileChannel fileChannel;
+    private long filePosition;
+
+    public FileMultipartHttpEntity(
+        @NotNull final Map<String, String> parameters, @NotNull final String name, @NotNull final String filename, @NotNull final Path path
+    ) throws IOException {
+        final String boundary = UUID.randomUUID().toString().replace("-", "");
+
+        // Let httpmime render text parts and the file part headers around an empty file body, then split it at the body position
+        final MultipartEntityBuilder multipartEntityBuilder = MultipartEntityBuilder.create().setContentType(ContentType.MULTIPART_FORM_DATA).setBoundary(boundary);
+        parameters.forEach(multipartEntityBuilder::addTextBody);
+        final HttpEntity envelopeHttpEntity = multipartEntityBuilder.addPart(
+            FormBodyPartBuilder.create(name, new ByteArrayBody(new byte[0], ContentType.DEFAULT_BINARY, filename)).build()).build();
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        envelopeHttpEntity.writeTo(byteArrayOutputStream);
+        final byte[] envelope = byteArrayOutputStream.toByteArray();
+
+        this.tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        if (envelope.length < tail.length || !Arrays.equals(tail, Arrays.copyOfRange(envelope, envelope.length - tail.length, envelope.length))) {
+            throw new IOException("Unexpected multipart layout, could not locate file part body");
+        }
+
+        this.head = Arrays.copyOfRange(envelope, 0, envelope.length - tail.length);
+        this.path = path;
+        this.fileLength = Files.size(path);
+
+        setContentType(envelopeHttpEntity.getContentType());
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return head.length + fileLength + tail.length;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return new SequenceInputStream(Collections.enumeration(Arrays.asList(
+            new ByteArrayInputStream(head), Files.newInputStream(path), new ByteArrayInputStream(tail))));
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        outputStream.write(head);
+        Files.copy(path, outputStream);
+        outputStream.write(tail);
+        outputStream.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public void produceContent(final ContentEncoder contentEncoder, final IOControl ioControl) throws IOException {
+        if (fileChannel == null) {
+            headByteBuffer = ByteBuffer.wrap(head);
+            tailByteBuffer = ByteBuffer.wrap(tail);
+            fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+            filePosition = 0;
+        }
+
+        if (headByteBuffer.hasRemaining()) {
+            contentEncoder.write(headByteBuffer);
+            if (headByteBuffer.hasRemaining()) {
+                return;
+            }
+        }
+
+        if (filePosition < fileLength) {
+            if (contentEncoder instanceof FileContentEncoder) {
+                filePosition += ((FileContentEncoder) contentEncoder).transfer(fileChannel, filePosition, fileLength - filePosition);
+            } else {
+                if (fileByteBuffer == null) {
+                    fileByteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+                }
+
+                // Bytes not accepted by the encoder are read again from the file on the next round
+                fileByteBuffer.clear();
+                if (fileChannel.read(fileByteBuffer, filePosition) == -1) {
+                    throw new IOException("File " + path + " has been truncated during upload");
+                }
+                fileByteBuffer.flip();
+                filePosition += contentEncoder.write(fileByteBuffer);
+            }
+            if (filePosition < fileLength) {
+                return;
+            }
+        }
+
+        contentEncoder.write(tailByteBuffer);
+        if (!tailByteBuffer.hasRemaining()) {
+            contentEncoder.complete();
+            close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        final FileChannel fileChannel = this.fileChannel;
+
+        this.fileChannel = null;
+        this.fileByteBuffer = null;
+
+        if (fileChannel != null) {
+            fileChannel.close();
+        }
+    }
+}
@@ -1,16 +1,88 @@
 package com.cloudconvert.client.mapper;
 
+import com.cloudconvert.resource.AbstractResource;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.google.common.collect.ImmutableList;
+import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Provides a shared, pre-configured {@link ObjectMapper} together with cached {@link ObjectReader} and {@link ObjectWriter}
+ * instances per {@link TypeReference}, so (de)serializers are resolved once and reused by every request.
+ * <p>
+ * Subclasses may override {@link #provide()} in order to use a custom mapper, in this case readers and writers are derived from it without caching.
+ */
 public class ObjectMapperProvider {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        .setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
+
+    private static final List<TypeReference<?>> PREBUILT_TYPE_REFERENCES = ImmutableList.of(
+        AbstractResource.MAP_STRING_TO_OBJECT_TYPE_REFERENCE, AbstractResource.ERROR_RESPONSE_TYPE_REFERENCE,
+        AbstractResource.TASK_RESPONSE_TYPE_REFERENCE, AbstractResource.JOB_RESPONSE_TYPE_REFERENCE,
+        AbstractResource.USER_RESPONSE_TYPE_REFERENCE, AbstractResource.WEBHOOKS_RESPONSE_TYPE_REFERENCE,
+        AbstractResource.WEBHOOK_EVENT_RESPONSE_TYPE_REFERENCE,
+        AbstractResource.OPERATION_RESPONSE_PAGEABLE_TYPE_REFERENCE, AbstractResource.TASK_RESPONSE_PAGEABLE_TYPE_REFERENCE,
+        AbstractResource.JOB_RESPONSE_PAGEABLE_TYPE_REFERENCE, AbstractResource.WEBHOOKS_RESPONSE_PAGEABLE_TYPE_REFERENCE
+    );
+
+    private static final ConcurrentMap<TypeReference<?>, ObjectReader> OBJECT_READERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<TypeReference<?>, ObjectWriter> OBJECT_WRITERS = new ConcurrentHashMap<>();
+
+    static {
+        PREBUILT_TYPE_REFERENCES.forEach(typeReference -> {
+            OBJECT_READERS.put(typeReference, OBJECT_MAPPER.readerFor(typeReference));
+            OBJECT_WRITERS.put(typeReference, OBJECT_MAPPER.writerFor(typeReference));
+        });
+    }
+
+    /**
+     * Shared object mapper. Should not be reconfigured after the client has been created.
+     *
+     * @return {@link ObjectMapper}
+     */
     public ObjectMapper provide() {
-        return new ObjectMapper()
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-            .setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Reader bound to the given type, built once and reused afterwards.
+     *
+     * @param typeReference {@link TypeReference}
+     * @return {@link ObjectReader}
+     */
+    public ObjectReader provideReader(@NotNull final TypeReference<?> typeReference) {
+        final ObjectMapper objectMapper = provide();
+
+        if (objectMapper != OBJECT_MAPPER) {
+            return objectMapper.readerFor(typeReference);
+        }
+        return OBJECT_READERS.computeIfAbsent(typeReference, OBJECT_MAPPER::readerFor);
+    }
+
+    /**
+     * Writer bound to the given type, built once and reused afterwards.
+     *
+     * @param typeReference {@link TypeReference}
+     * @return {@link ObjectWriter}
+     */
+    public ObjectWriter provideWriter(@NotNull final TypeReference<?> typeReference) {
+        final ObjectMapper objectMapper = provide();
+
+        if (objectMapper != OBJECT_MAPPER) {
+            return objectMapper.writerFor(typeReference);
+        }
+        return OBJECT_WRITERS.computeIfAbsent(typeReference, OBJECT_MAPPER::writerFor);
     }
 }
@@ -0,0 +1,29 @@
+package com.cloudconvert.dto.response;
+
+import com.cloudconvert.dto.Event;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * Payload of a webhook request sent by CloudConvert
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class WebhookEventResponse extends Response {
+
+    /**
+     * The event which triggered the webhook.
+     */
+    private Event event;
+
+    /**
+     * The job, including its tasks.
+     */
+    private JobResponse job;
+}
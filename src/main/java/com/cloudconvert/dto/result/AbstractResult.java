@@ -1,3 +1,13 @@
 package com.cloudconvert.dto.result;
 
-public abstract class AbstractResult<T> {}
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AbstractResult<T> {
+
+    /**
+     * View of this result as {@link CompletableFuture}, already completed for results of synchronous calls
+     *
+     * @return {@link CompletableFuture}
+     */
+    public abstract CompletableFuture<Result<T>> toCompletableFuture();
+}
@@ -2,11 +2,14 @@ package com.cloudconvert.dto.result;
 
 import com.cloudconvert.exception.CloudConvertClientException;
 import com.cloudconvert.exception.CloudConvertServerException;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 public abstract class AsyncResult<T> extends AbstractResult<T> {
 
@@ -15,4 +18,38 @@ public abstract class AsyncResult<T> extends AbstractResult<T> {
     public abstract Result<T> get(
         final long timeout, final TimeUnit timeUnit
     ) throws InterruptedException, ExecutionException, TimeoutException, IOException, CloudConvertClientException, CloudConvertServerException;
+
+    /**
+     * View of this result as {@link CompletableFuture}, which is completed once the result has been extracted.
+     * Extraction failures, such as {@link CloudConvertClientException}, complete it exceptionally.
+     *
+     * @return {@link CompletableFuture}
+     */
+    @Override
+    public abstract CompletableFuture<Result<T>> toCompletableFuture();
+
+    /**
+     * Transform the result once it is available, without blocking the calling thread
+     *
+     * @param function function applied to the result
+     * @return {@link AsyncResult}
+     */
+    public <U> AsyncResult<U> thenApply(
+        @NotNull final Function<? super Result<T>, ? extends Result<U>> function
+    ) {
+        return CompletableFutureAsyncResult.<U>builder().completableFuture(toCompletableFuture().thenApply(function)).build();
+    }
+
+    /**
+     * Chain another asynchronous call once the result is available, without blocking the calling thread
+     *
+     * @param function function returning next {@link AsyncResult}
+     * @return {@link AsyncResult}
+     */
+    public <U> AsyncResult<U> thenCompose(
+        @NotNull final Function<? super Result<T>, ? extends AsyncResult<U>> function
+    ) {
+        return CompletableFutureAsyncResult.<U>builder().completableFuture(
+            toCompletableFuture().thenCompose(result -> function.apply(result).toCompletableFuture())).build();
+    }
 }
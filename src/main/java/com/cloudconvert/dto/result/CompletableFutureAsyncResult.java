@@ -0,0 +1,66 @@
+package com.cloudconvert.dto.result;
+
+import com.cloudconvert.exception.CloudConvertClientException;
+import com.cloudconvert.exception.CloudConvertServerException;
+import lombok.Builder;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Builder
+public class CompletableFutureAsyncResult<T> extends AsyncResult<T> {
+
+    private CompletableFuture<Result<T>> completableFuture;
+
+    @Override
+    public Result<T> get() throws InterruptedException, ExecutionException, IOException, CloudConvertClientException, CloudConvertServerException {
+        try {
+            return completableFuture.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public Result<T> get(
+        final long timeout, final TimeUnit timeUnit
+    ) throws InterruptedException, ExecutionException, TimeoutException, IOException, CloudConvertClientException, CloudConvertServerException {
+        try {
+            return completableFuture.get(timeout, timeUnit);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Result<T>> toCompletableFuture() {
+        return completableFuture;
+    }
+
+    /**
+     * Rethrow exceptions declared by {@link #get()} as is, so they are not hidden behind {@link ExecutionException}
+     */
+    private ExecutionException unwrap(
+        final ExecutionException executionException
+    ) throws IOException, CloudConvertClientException, CloudConvertServerException {
+        Throwable cause = executionException.getCause();
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        }
+        if (cause instanceof CloudConvertClientException) {
+            throw (CloudConvertClientException) cause;
+        }
+        if (cause instanceof CloudConvertServerException) {
+            throw (CloudConvertServerException) cause;
+        }
+        return executionException;
+    }
+}
@@ -2,6 +2,7 @@ package com.cloudconvert.dto.result;
 
 import lombok.Builder;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @Builder
@@ -20,4 +21,9 @@ public class CompletedAsyncResult<T> extends AsyncResult<T> {
     ) {
         return result;
     }
+
+    @Override
+    public CompletableFuture<Result<T>> toCompletableFuture() {
+        return CompletableFuture.completedFuture(result);
+    }
 }
@@ -9,27 +9,51 @@ import org.apache.http.HttpResponse;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
-@Builder
+/**
+ * Result backed by a plain {@link Future}, extraction happens in the thread calling {@link #get()}.
+ * <p>
+ * Results returned by {@link com.cloudconvert.executor.AsyncRequestExecutor} are {@link CompletableFutureAsyncResult}, which do not block on chaining.
+ */
 public class FutureAsyncResult<T> extends AsyncResult<T> {
 
-    private ResultExtractor resultExtractor;
+    private final ResultExtractor resultExtractor;
 
-    private Future<HttpResponse> future;
+    private final Future<HttpResponse> future;
 
-    private TypeReference<T> typeReference;
+    private final TypeReference<T> typeReference;
 
     @Nullable
-    private Result<T> result;
+    private volatile Result<T> result;
 
+    private final Lock lock;
+
+    @Builder
+    public FutureAsyncResult(
+        final ResultExtractor resultExtractor, final Future<HttpResponse> future, final TypeReference<T> typeReference, @Nullable final Result<T> result
+    ) {
+        this.resultExtractor = resultExtractor;
+        this.future = future;
+        this.typeReference = typeReference;
+        this.result = result;
+
+        this.lock = new ReentrantLock();
+    }
+
+    @Override
     public Result<T> get() throws InterruptedException, ExecutionException, IOException, CloudConvertClientException, CloudConvertServerException {
         return extractResult(future.get());
     }
 
+    @Override
     public Result<T> get(
         final long timeout, final TimeUnit timeUnit
     ) throws InterruptedException, ExecutionException, TimeoutException, IOException, CloudConvertClientException, CloudConvertServerException {
@@ -37,15 +61,40 @@ public class FutureAsyncResult<T> extends AsyncResult<T> {
     }
 
     /**
-     * This method should be synchronized in order to prevent unexpected behavior if multiple threads tries to access an input stream
+     * Plain futures can not notify on completion, so a common pool thread waits for the result
+     */
+    @Override
+    public CompletableFuture<Result<T>> toCompletableFuture() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return get();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Extraction is guarded in order to prevent unexpected behavior if multiple threads tries to access an input stream. A lock is used
+     * instead of synchronized, as reading the response blocks on I/O, which would pin a virtual thread to its carrier thread.
      */
-    private synchronized Result<T> extractResult(
+    private Result<T> extractResult(
         final HttpResponse httpResponse
     ) throws IOException, CloudConvertClientException, CloudConvertServerException {
         // Cache result, in case user will try to call get() multiple times
-        if (result == null) {
-            result = resultExtractor.extract(httpResponse, typeReference);
+        final Result<T> extractedResult = result;
+        if (extractedResult != null) {
+            return extractedResult;
+        }
+
+        lock.lock();
+        try {
+            if (result == null) {
+                result = resultExtractor.extract(httpResponse, typeReference);
+            }
+            return result;
+        } finally {
+            lock.unlock();
         }
-        return result;
     }
 }
@@ -5,6 +5,7 @@ import lombok.Getter;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Builder
 public class Result<T> extends AbstractResult<T> {
@@ -18,4 +19,9 @@ public class Result<T> extends AbstractResult<T> {
     @Getter
     @Nullable
     private T body;
+
+    @Override
+    public CompletableFuture<Result<T>> toCompletableFuture() {
+        return CompletableFuture.completedFuture(this);
+    }
 }
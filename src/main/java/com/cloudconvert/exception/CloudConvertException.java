@@ -3,6 +3,7 @@ package com.cloudconvert.exception;
 import com.cloudconvert.client.mapper.ObjectMapperProvider;
 import com.cloudconvert.dto.response.ErrorResponse;
 import com.cloudconvert.dto.result.Status;
+import com.cloudconvert.resource.AbstractResource;
 import com.google.common.base.Charsets;
 import com.google.common.io.ByteSource;
 import lombok.Getter;
@@ -34,6 +35,6 @@ public class CloudConvertException extends Exception {
 
         this.status = status;
         this.headers = headers;
-        this.body = objectMapperProvider.provide().readValue(byteSource.asCharSource(Charsets.UTF_8).read(), ErrorResponse.class);
+        this.body = objectMapperProvider.provideReader(AbstractResource.ERROR_RESPONSE_TYPE_REFERENCE).readValue(byteSource.asCharSource(Charsets.UTF_8).read());
     }
 }
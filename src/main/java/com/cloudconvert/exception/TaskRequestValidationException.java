@@ -0,0 +1,23 @@
+package com.cloudconvert.exception;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Thrown before a request is sent, if a task request is known to be rejected by the API
+ */
+public class TaskRequestValidationException extends IllegalArgumentException {
+
+    @Getter
+    private final List<String> violations;
+
+    public TaskRequestValidationException(
+        final List<String> violations
+    ) {
+        super(String.join("; ", violations));
+
+        this.violations = ImmutableList.copyOf(violations);
+    }
+}
@@ -1,11 +1,23 @@
 package com.cloudconvert.executor;
 
 import com.cloudconvert.client.http.AbstractCloseableHttpClientProvider;
+import com.cloudconvert.executor.interceptor.RequestInterceptor;
+import com.cloudconvert.executor.ratelimit.RateLimiter;
+import com.cloudconvert.executor.retry.RetryPolicy;
 import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.metrics.ClientMetrics;
+import com.cloudconvert.metrics.RequestMetricsRecorder;
+import com.cloudconvert.tracing.Tracer;
+import com.cloudconvert.tracing.TracingRequestInterceptor;
+import com.google.common.collect.ImmutableList;
 import lombok.Getter;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 public abstract class AbstractRequestExecutor<P extends AbstractCloseableHttpClientProvider<C>, C extends Closeable> implements Closeable {
 
@@ -13,17 +25,82 @@ public abstract class AbstractRequestExecutor<P extends AbstractCloseableHttpCli
     private final ResultExtractor resultExtractor;
 
     @Getter
+    @Nullable
     private final C closeableHttpClient;
 
+    @Getter
+    private final RateLimiter rateLimiter;
+
+    @Getter
+    private final RetryPolicy retryPolicy;
+
+    @Getter
+    private final ClientMetrics clientMetrics;
+
+    /**
+     * Interceptors in order, see {@link RequestInterceptor}
+     */
+    @Getter
+    private final List<RequestInterceptor> requestInterceptors;
+
+    /**
+     * Tracer of the first {@link TracingRequestInterceptor}, {@link Tracer#NONE} if requests are not traced
+     */
+    @Getter
+    private final Tracer tracer;
+
     public AbstractRequestExecutor(
         final ResultExtractor resultExtractor, final P closeableHttpClientProvider
     ) throws IOException {
+        this(resultExtractor, closeableHttpClientProvider, ExecutorSettings.builder().build());
+    }
+
+    /**
+     * @param executorSettings {@link ExecutorSettings}, its {@link ClientMetrics} are bound to the connection pool of the provided client
+     */
+    public AbstractRequestExecutor(
+        final ResultExtractor resultExtractor, final P closeableHttpClientProvider, final ExecutorSettings executorSettings
+    ) throws IOException {
+        this(resultExtractor, closeableHttpClientProvider.provide(), executorSettings);
+
+        Optional.ofNullable(closeableHttpClientProvider.getConnectionPool()).ifPresent(executorSettings.getClientMetrics()::bindConnectionPool);
+    }
+
+    /**
+     * @param closeableHttpClient Apache client, null if requests are sent by a transport not backed by it
+     * @param executorSettings    {@link ExecutorSettings}
+     */
+    protected AbstractRequestExecutor(
+        final ResultExtractor resultExtractor, @Nullable final C closeableHttpClient, final ExecutorSettings executorSettings
+    ) {
         this.resultExtractor = resultExtractor;
-        this.closeableHttpClient = closeableHttpClientProvider.provide();
+        this.closeableHttpClient = closeableHttpClient;
+        this.rateLimiter = executorSettings.getRateLimiter();
+        this.retryPolicy = executorSettings.getRetryPolicy();
+        this.clientMetrics = executorSettings.getClientMetrics();
+        this.requestInterceptors = ImmutableList.copyOf(executorSettings.getRequestInterceptors());
+        this.tracer = this.requestInterceptors.stream().filter(TracingRequestInterceptor.class::isInstance)
+            .map(requestInterceptor -> ((TracingRequestInterceptor) requestInterceptor).getTracer()).findFirst().orElse(Tracer.NONE);
+    }
+
+    /**
+     * @return recorder of the request, null if requests are not instrumented, so nothing is allocated for them
+     */
+    @Nullable
+    protected RequestMetricsRecorder getRequestMetricsRecorder(
+        final HttpUriRequest httpUriRequest
+    ) {
+        return clientMetrics == ClientMetrics.NONE ? null : new RequestMetricsRecorder(clientMetrics, httpUriRequest);
     }
 
     @Override
     public void close() throws IOException {
-        closeableHttpClient.close();
+        try {
+            if (closeableHttpClient != null) {
+                closeableHttpClient.close();
+            }
+        } finally {
+            rateLimiter.close();
+        }
     }
 }
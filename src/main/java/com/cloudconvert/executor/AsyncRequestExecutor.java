@@ -2,21 +2,57 @@ package com.cloudconvert.executor;
 
 import com.cloudconvert.client.http.AsyncCloseableHttpClientProvider;
 import com.cloudconvert.dto.result.AsyncResult;
-import com.cloudconvert.dto.result.FutureAsyncResult;
+import com.cloudconvert.dto.result.CompletableFutureAsyncResult;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.executor.interceptor.RequestInterceptor;
+import com.cloudconvert.executor.ratelimit.EndpointClass;
+import com.cloudconvert.executor.retry.RetryPolicy;
+import com.cloudconvert.executor.transport.ApacheAsyncHttpTransport;
+import com.cloudconvert.executor.transport.AsyncHttpTransport;
 import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.metrics.RequestMetricsRecorder;
+import com.cloudconvert.tracing.Span;
+import com.cloudconvert.tracing.TraceContext;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.Lists;
+import lombok.Getter;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.util.EntityUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 public class AsyncRequestExecutor extends AbstractRequestExecutor<AsyncCloseableHttpClientProvider, CloseableHttpAsyncClient> {
 
+    @Nullable
+    private final FutureCallback<HttpResponse> httpResponseFutureCallback;
+
+    @Getter
+    private final AsyncHttpTransport asyncHttpTransport;
+
     public AsyncRequestExecutor(
         final ResultExtractor resultExtractor,
         final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider
@@ -29,12 +65,408 @@ public class AsyncRequestExecutor extends AbstractRequestExecutor<AsyncCloseable
         final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider,
         @Nullable final FutureCallback<HttpResponse> httpResponseFutureCallback
     ) throws IOException {
-        super(resultExtractor, asyncCloseableHttpClientProvider);
+        this(resultExtractor, asyncCloseableHttpClientProvider, httpResponseFutureCallback, ExecutorSettings.builder().build());
+    }
+
+    public AsyncRequestExecutor(
+        final ResultExtractor resultExtractor,
+        final AsyncCloseableHttpClientProvider asyncCloseableHttpClientProvider,
+        @Nullable final FutureCallback<HttpResponse> httpResponseFutureCallback,
+        final ExecutorSettings executorSettings
+    ) throws IOException {
+        super(resultExtractor, asyncCloseableHttpClientProvider, executorSettings);
+
+        this.httpResponseFutureCallback = httpResponseFutureCallback;
+        this.asyncHttpTransport = new ApacheAsyncHttpTransport(getCloseableHttpClient());
+    }
+
+    public AsyncRequestExecutor(
+        final ResultExtractor resultExtractor,
+        final AsyncHttpTransport asyncHttpTransport
+    ) {
+        this(resultExtractor, asyncHttpTransport, null, ExecutorSettings.builder().build());
+    }
+
+    public AsyncRequestExecutor(
+        final ResultExtractor resultExtractor,
+        final AsyncHttpTransport asyncHttpTransport,
+        @Nullable final FutureCallback<HttpResponse> httpResponseFutureCallback,
+        final ExecutorSettings executorSettings
+    ) {
+        super(resultExtractor, (CloseableHttpAsyncClient) null, executorSettings);
+
+        this.httpResponseFutureCallback = httpResponseFutureCallback;
+        this.asyncHttpTransport = asyncHttpTransport;
     }
 
     public <T> AsyncResult<T> execute(@NotNull final HttpUriRequest httpUriRequest, @NotNull final TypeReference<T> typeReference) throws IOException {
-        final Future<HttpResponse> httpResponseFuture = getCloseableHttpClient().execute(httpUriRequest, null);
+        final CompletableFuture<Result<T>> completableFuture = new CompletableFuture<>();
+        final FutureCallback<HttpResponse> futureCallback = new ResultExtractingFutureCallback<>(getResultExtractor(), typeReference, completableFuture, httpResponseFutureCallback);
+
+        return execute(httpUriRequest, rateLimitingFutureCallback -> execute(httpUriRequest, rateLimitingFutureCallback), true, futureCallback, completableFuture);
+    }
+
+    /**
+     * Execute request, response is passed to given consumer, by the Apache async client as it arrives and by other transports from the response
+     * stream on the thread completing the response
+     */
+    public <T> AsyncResult<T> execute(
+        @NotNull final HttpUriRequest httpUriRequest, @NotNull final HttpAsyncResponseConsumer<HttpResponse> httpAsyncResponseConsumer,
+        @NotNull final TypeReference<T> typeReference
+    ) throws IOException {
+        final CompletableFuture<Result<T>> completableFuture = new CompletableFuture<>();
+        final CloseableHttpAsyncClient closeableHttpAsyncClient = getCloseableHttpClient();
+        final FutureCallback<HttpResponse> futureCallback = new ResultExtractingFutureCallback<>(getResultExtractor(), typeReference, completableFuture, httpResponseFutureCallback);
+
+        final Function<FutureCallback<HttpResponse>, Future<HttpResponse>> execution = closeableHttpAsyncClient == null
+            ? rateLimitingFutureCallback -> execute(httpUriRequest, new ResponseConsumingFutureCallback(httpAsyncResponseConsumer, rateLimitingFutureCallback))
+            : rateLimitingFutureCallback -> closeableHttpAsyncClient.execute(HttpAsyncMethods.create(httpUriRequest), httpAsyncResponseConsumer,
+                rateLimitingFutureCallback);
+
+        // Response consumer can not be reused, so requests refused with 429 or failed are not sent again
+        return execute(httpUriRequest, execution, false, futureCallback, completableFuture);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            // Transport backed by the Apache client is closed with it
+            if (getCloseableHttpClient() == null) {
+                asyncHttpTransport.close();
+            }
+        } finally {
+            super.close();
+        }
+    }
+
+    private Future<HttpResponse> execute(
+        final HttpUriRequest httpUriRequest, final FutureCallback<HttpResponse> futureCallback
+    ) {
+        final CompletableFuture<HttpResponse> completableFuture = asyncHttpTransport.executeAsync(httpUriRequest);
+
+        completableFuture.whenComplete((httpResponse, throwable) -> {
+            if (throwable == null) {
+                futureCallback.completed(httpResponse);
+            } else if (completableFuture.isCancelled()) {
+                futureCallback.cancelled();
+            } else {
+                final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                futureCallback.failed(cause instanceof Exception ? (Exception) cause : new ExecutionException(cause));
+            }
+        });
+
+        return completableFuture;
+    }
+
+    private <T> AsyncResult<T> execute(
+        final HttpUriRequest httpUriRequest, final Function<FutureCallback<HttpResponse>, Future<HttpResponse>> execution, final boolean retryable,
+        final FutureCallback<HttpResponse> futureCallback, final CompletableFuture<Result<T>> completableFuture
+    ) {
+        final List<RequestInterceptor> requestInterceptors = getRequestInterceptors();
+        if (requestInterceptors.isEmpty()) {
+            send(httpUriRequest, execution, retryable, futureCallback, completableFuture);
+            return CompletableFutureAsyncResult.<T>builder().completableFuture(completableFuture).build();
+        }
+
+        // Interceptors may complete on other threads, the span of the caller stays current for all of them
+        final Span span = TraceContext.current();
+        CompletableFuture<Void> beforeExecutionFuture = CompletableFuture.completedFuture(null);
+        for (final RequestInterceptor requestInterceptor : requestInterceptors) {
+            beforeExecutionFuture = beforeExecutionFuture.thenCompose(ignored -> {
+                try (TraceContext.Scope ignoredScope = TraceContext.makeCurrent(span)) {
+                    return requestInterceptor.beforeExecutionAsync(httpUriRequest);
+                }
+            });
+        }
+
+        CompletableFuture<Result<T>> interceptedCompletableFuture = beforeExecutionFuture.thenCompose(ignored -> {
+            send(httpUriRequest, execution, retryable, futureCallback, completableFuture);
+            return completableFuture;
+        });
+        for (final RequestInterceptor requestInterceptor : Lists.reverse(requestInterceptors)) {
+            interceptedCompletableFuture = interceptedCompletableFuture.thenCompose(result -> requestInterceptor.afterExtractionAsync(httpUriRequest, result));
+        }
+
+        // Failures are passed on as they are, not wrapped by the stages above
+        final CompletableFuture<Result<T>> resultCompletableFuture = new CompletableFuture<>();
+        interceptedCompletableFuture.whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                resultCompletableFuture.complete(result);
+                return;
+            }
+
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            for (final RequestInterceptor requestInterceptor : Lists.reverse(requestInterceptors)) {
+                requestInterceptor.onFailure(httpUriRequest, cause);
+            }
+            resultCompletableFuture.completeExceptionally(cause);
+        });
+
+        // Cancelling the result cancels the request, or prevents it from being sent
+        resultCompletableFuture.whenComplete((result, throwable) -> {
+            if (resultCompletableFuture.isCancelled()) {
+                completableFuture.cancel(true);
+            }
+        });
+
+        return CompletableFutureAsyncResult.<T>builder().completableFuture(resultCompletableFuture).build();
+    }
+
+    private <T> void send(
+        final HttpUriRequest httpUriRequest, final Function<FutureCallback<HttpResponse>, Future<HttpResponse>> execution, final boolean retryable,
+        final FutureCallback<HttpResponse> futureCallback, final CompletableFuture<Result<T>> completableFuture
+    ) {
+        final RequestMetricsRecorder requestMetricsRecorder = getRequestMetricsRecorder(httpUriRequest);
+        final RateLimitingFutureCallback rateLimitingFutureCallback = new RateLimitingFutureCallback(httpUriRequest, execution, retryable, futureCallback,
+            completableFuture, requestMetricsRecorder);
+
+        // Cancelling the result aborts the underlying request, or prevents it from being sent
+        completableFuture.whenComplete((result, throwable) -> {
+            if (completableFuture.isCancelled()) {
+                Optional.ofNullable(rateLimitingFutureCallback.currentFuture.get()).ifPresent(future -> future.cancel(true));
+            }
+            if (requestMetricsRecorder != null) {
+                requestMetricsRecorder.onCompleted(throwable);
+            }
+        });
+
+        rateLimitingFutureCallback.schedule();
+    }
+
+    /**
+     * Feeds a response received by an {@link AsyncHttpTransport} other than the Apache async client into a response consumer, reading its
+     * content stream till the end
+     */
+    private static class ResponseConsumingFutureCallback implements FutureCallback<HttpResponse> {
+
+        private final HttpAsyncResponseConsumer<HttpResponse> httpAsyncResponseConsumer;
+        private final FutureCallback<HttpResponse> futureCallback;
+
+        private ResponseConsumingFutureCallback(
+            final HttpAsyncResponseConsumer<HttpResponse> httpAsyncResponseConsumer, final FutureCallback<HttpResponse> futureCallback
+        ) {
+            this.httpAsyncResponseConsumer = httpAsyncResponseConsumer;
+            this.futureCallback = futureCallback;
+        }
+
+        @Override
+        public void completed(final HttpResponse httpResponse) {
+            final HttpResponse consumedHttpResponse;
+            try {
+                consumedHttpResponse = consume(httpResponse);
+            } catch (IOException | HttpException | RuntimeException e) {
+                httpAsyncResponseConsumer.failed(e);
+                futureCallback.failed(e);
+                return;
+            }
+
+            futureCallback.completed(consumedHttpResponse);
+        }
+
+        @Override
+        public void failed(final Exception exception) {
+            httpAsyncResponseConsumer.failed(exception);
+            futureCallback.failed(exception);
+        }
+
+        @Override
+        public void cancelled() {
+            httpAsyncResponseConsumer.cancel();
+            futureCallback.cancelled();
+        }
+
+        private HttpResponse consume(
+            final HttpResponse httpResponse
+        ) throws IOException, HttpException {
+            httpAsyncResponseConsumer.responseReceived(httpResponse);
+
+            final HttpEntity httpEntity = httpResponse.getEntity();
+            if (httpEntity != null) {
+                try (ReadableByteChannel readableByteChannel = Channels.newChannel(httpEntity.getContent())) {
+                    final ReadableByteChannelContentDecoder readableByteChannelContentDecoder = new ReadableByteChannelContentDecoder(readableByteChannel);
+                    while (!readableByteChannelContentDecoder.isCompleted()) {
+                        httpAsyncResponseConsumer.consumeContent(readableByteChannelContentDecoder, readableByteChannelContentDecoder);
+                    }
+                }
+            }
+
+            httpAsyncResponseConsumer.responseCompleted(new BasicHttpContext());
+            if (httpAsyncResponseConsumer.getException() != null) {
+                throw new IOException(httpAsyncResponseConsumer.getException());
+            }
+
+            return httpAsyncResponseConsumer.getResult();
+        }
+    }
+
+    /**
+     * Blocking channel as {@link ContentDecoder}, reads always return data until the end of the stream, so input never has to be requested
+     */
+    private static class ReadableByteChannelContentDecoder implements ContentDecoder, IOControl {
+
+        private final ReadableByteChannel readableByteChannel;
+        private boolean completed;
+
+        private ReadableByteChannelContentDecoder(
+            final ReadableByteChannel readableByteChannel
+        ) {
+            this.readableByteChannel = readableByteChannel;
+        }
+
+        @Override
+        public int read(final ByteBuffer byteBuffer) throws IOException {
+            final int read = readableByteChannel.read(byteBuffer);
+            if (read < 0) {
+                completed = true;
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        @Override
+        public void requestInput() {
+        }
+
+        @Override
+        public void suspendInput() {
+        }
+
+        @Override
+        public void requestOutput() {
+        }
+
+        @Override
+        public void suspendOutput() {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    /**
+     * Sends the request once the rate limiter allows it, and sends it again if it has been refused with 429 or if the
+     * {@link RetryPolicy} retries the outcome
+     */
+    private class RateLimitingFutureCallback implements FutureCallback<HttpResponse> {
+
+        private final HttpUriRequest httpUriRequest;
+        private final EndpointClass endpointClass;
+        private final Function<FutureCallback<HttpResponse>, Future<HttpResponse>> execution;
+        private final boolean retryable;
+        private final FutureCallback<HttpResponse> futureCallback;
+        private final CompletableFuture<?> completableFuture;
+
+        @Nullable
+        private final RequestMetricsRecorder requestMetricsRecorder;
+
+        private final AtomicReference<Future<?>> currentFuture;
+        private volatile int attempt;
+        private volatile Duration delay;
+
+        private RateLimitingFutureCallback(
+            final HttpUriRequest httpUriRequest, final Function<FutureCallback<HttpResponse>, Future<HttpResponse>> execution, final boolean retryable,
+            final FutureCallback<HttpResponse> futureCallback, final CompletableFuture<?> completableFuture,
+            @Nullable final RequestMetricsRecorder requestMetricsRecorder
+        ) {
+            this.httpUriRequest = httpUriRequest;
+            this.endpointClass = getRateLimiter().classify(httpUriRequest);
+            this.execution = execution;
+            this.retryable = retryable;
+            this.futureCallback = futureCallback;
+            this.completableFuture = completableFuture;
+            this.requestMetricsRecorder = requestMetricsRecorder;
+
+            this.currentFuture = new AtomicReference<>();
+            this.delay = Duration.ZERO;
+        }
+
+        @Override
+        public void completed(final HttpResponse httpResponse) {
+            if (requestMetricsRecorder != null) {
+                requestMetricsRecorder.onResponse(httpResponse);
+            }
+
+            if (getRateLimiter().onResponse(endpointClass, httpResponse) && retryable && getRateLimiter().isRetryable(httpUriRequest, attempt)) {
+                EntityUtils.consumeQuietly(httpResponse.getEntity());
+                schedule();
+                return;
+            }
+
+            final Optional<Duration> retryDelay = retryable ? getRetryDelay(httpResponse, null) : Optional.empty();
+            if (retryDelay.isPresent()) {
+                EntityUtils.consumeQuietly(httpResponse.getEntity());
+                schedule(retryDelay.get());
+                return;
+            }
+
+            futureCallback.completed(httpResponse);
+        }
+
+        @Override
+        public void failed(final Exception exception) {
+            final Optional<Duration> retryDelay = retryable ? getRetryDelay(null, exception) : Optional.empty();
+            if (retryDelay.isPresent()) {
+                schedule(retryDelay.get());
+                return;
+            }
+
+            futureCallback.failed(exception);
+        }
+
+        @Override
+        public void cancelled() {
+            futureCallback.cancelled();
+        }
+
+        private Optional<Duration> getRetryDelay(
+            @Nullable final HttpResponse httpResponse, @Nullable final Exception exception
+        ) {
+            final Optional<Duration> retryDelay = getRetryPolicy().getRetryDelay(httpUriRequest, attempt, delay, httpResponse, exception);
+            retryDelay.ifPresent(value -> delay = value);
+            return retryDelay;
+        }
+
+        private void schedule() {
+            schedule(Duration.ZERO);
+        }
+
+        private void schedule(
+            final Duration delay
+        ) {
+            try {
+                // Request sent in the meantime (or inline) has replaced the previous future, it must not be replaced by the finished scheduled one
+                final Future<?> previousFuture = currentFuture.get();
+                final Future<?> scheduledFuture = getRateLimiter().schedule(endpointClass, this::send, delay);
+                currentFuture.compareAndSet(previousFuture, scheduledFuture);
+            } catch (RuntimeException e) {
+                futureCallback.failed(e);
+            }
+        }
+
+        private void send() {
+            if (completableFuture.isDone()) {
+                return;
+            }
+
+            try {
+                attempt++;
+                if (requestMetricsRecorder != null) {
+                    requestMetricsRecorder.onAttempt();
+                }
+                currentFuture.set(execution.apply(this));
+            } catch (RuntimeException e) {
+                futureCallback.failed(e);
+                return;
+            }
 
-        return FutureAsyncResult.<T>builder().resultExtractor(getResultExtractor()).future(httpResponseFuture).typeReference(typeReference).build();
+            if (completableFuture.isCancelled()) {
+                currentFuture.get().cancel(true);
+            }
+        }
     }
 }
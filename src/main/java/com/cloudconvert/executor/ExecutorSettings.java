@@ -0,0 +1,41 @@
+package com.cloudconvert.executor;
+
+import com.cloudconvert.executor.interceptor.RequestInterceptor;
+import com.cloudconvert.executor.ratelimit.RateLimiter;
+import com.cloudconvert.executor.retry.DefaultRetryPolicy;
+import com.cloudconvert.executor.retry.RetryPolicy;
+import com.cloudconvert.metrics.ClientMetrics;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.List;
+
+/**
+ * Settings of {@link RequestExecutor} and {@link AsyncRequestExecutor}, independent of the transport sending the requests
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ExecutorSettings {
+
+    /**
+     * Pacing of requests and handling of 429, closed together with the executor
+     */
+    @Builder.Default
+    private final RateLimiter rateLimiter = new RateLimiter();
+
+    @Builder.Default
+    private final RetryPolicy retryPolicy = DefaultRetryPolicy.builder().build();
+
+    /**
+     * {@link ClientMetrics}, bound to the connection pool of the client when the executor is created from a client provider
+     */
+    @Builder.Default
+    private final ClientMetrics clientMetrics = ClientMetrics.NONE;
+
+    /**
+     * {@link RequestInterceptor}s, in order
+     */
+    @Singular
+    private final List<RequestInterceptor> requestInterceptors;
+}
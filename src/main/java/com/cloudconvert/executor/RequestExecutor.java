@@ -4,26 +4,188 @@ import com.cloudconvert.client.http.CloseableHttpClientProvider;
 import com.cloudconvert.dto.result.Result;
 import com.cloudconvert.exception.CloudConvertClientException;
 import com.cloudconvert.exception.CloudConvertServerException;
+import com.cloudconvert.executor.interceptor.RequestInterceptor;
+import com.cloudconvert.executor.ratelimit.EndpointClass;
+import com.cloudconvert.executor.ratelimit.RateLimiter;
+import com.cloudconvert.executor.retry.RetryPolicy;
+import com.cloudconvert.executor.transport.ApacheHttpTransport;
+import com.cloudconvert.executor.transport.HttpTransport;
 import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.metrics.RequestMetricsRecorder;
 import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.Getter;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 public class RequestExecutor extends AbstractRequestExecutor<CloseableHttpClientProvider, CloseableHttpClient> {
 
+    @Getter
+    private final HttpTransport httpTransport;
+
     public RequestExecutor(
         final ResultExtractor resultExtractor,
         final CloseableHttpClientProvider closeableHttpClientProvider
     ) throws IOException {
-        super(resultExtractor, closeableHttpClientProvider);
+        this(resultExtractor, closeableHttpClientProvider, ExecutorSettings.builder().build());
+    }
+
+    public RequestExecutor(
+        final ResultExtractor resultExtractor,
+        final CloseableHttpClientProvider closeableHttpClientProvider,
+        final ExecutorSettings executorSettings
+    ) throws IOException {
+        super(resultExtractor, closeableHttpClientProvider, executorSettings);
+
+        this.httpTransport = new ApacheHttpTransport(getCloseableHttpClient());
+    }
+
+    public RequestExecutor(
+        final ResultExtractor resultExtractor,
+        final HttpTransport httpTransport
+    ) {
+        this(resultExtractor, httpTransport, ExecutorSettings.builder().build());
+    }
+
+    public RequestExecutor(
+        final ResultExtractor resultExtractor,
+        final HttpTransport httpTransport,
+        final ExecutorSettings executorSettings
+    ) {
+        super(resultExtractor, (CloseableHttpClient) null, executorSettings);
+
+        this.httpTransport = httpTransport;
     }
 
     public <T> Result<T> execute(
         @NotNull final HttpUriRequest httpUriRequest, @NotNull final TypeReference<T> typeReference
     ) throws IOException, CloudConvertClientException, CloudConvertServerException {
-        return getResultExtractor().extract(getCloseableHttpClient().execute(httpUriRequest), typeReference);
+        final List<RequestInterceptor> requestInterceptors = getRequestInterceptors();
+        if (requestInterceptors.isEmpty()) {
+            return executeInstrumented(httpUriRequest, typeReference);
+        }
+
+        try {
+            for (int index = 0; index < requestInterceptors.size(); index++) {
+                requestInterceptors.get(index).beforeExecution(httpUriRequest);
+            }
+
+            Result<T> result = executeInstrumented(httpUriRequest, typeReference);
+            for (int index = requestInterceptors.size() - 1; index >= 0; index--) {
+                result = requestInterceptors.get(index).afterExtraction(httpUriRequest, result);
+            }
+            return result;
+        } catch (IOException | CloudConvertClientException | CloudConvertServerException | RuntimeException e) {
+            for (int index = requestInterceptors.size() - 1; index >= 0; index--) {
+                requestInterceptors.get(index).onFailure(httpUriRequest, e);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            // Transport backed by the Apache client is closed with it
+            if (getCloseableHttpClient() == null) {
+                httpTransport.close();
+            }
+        } finally {
+            super.close();
+        }
+    }
+
+    private <T> Result<T> executeInstrumented(
+        final HttpUriRequest httpUriRequest, final TypeReference<T> typeReference
+    ) throws IOException, CloudConvertClientException, CloudConvertServerException {
+        final RequestMetricsRecorder requestMetricsRecorder = getRequestMetricsRecorder(httpUriRequest);
+        if (requestMetricsRecorder == null) {
+            return execute(httpUriRequest, typeReference, null);
+        }
+
+        try {
+            final Result<T> result = execute(httpUriRequest, typeReference, requestMetricsRecorder);
+            requestMetricsRecorder.onCompleted(null);
+            return result;
+        } catch (IOException | CloudConvertClientException | CloudConvertServerException | RuntimeException e) {
+            requestMetricsRecorder.onCompleted(e);
+            throw e;
+        }
+    }
+
+    private <T> Result<T> execute(
+        final HttpUriRequest httpUriRequest, final TypeReference<T> typeReference, @Nullable final RequestMetricsRecorder requestMetricsRecorder
+    ) throws IOException, CloudConvertClientException, CloudConvertServerException {
+        final RateLimiter rateLimiter = getRateLimiter();
+        final RetryPolicy retryPolicy = getRetryPolicy();
+        final EndpointClass endpointClass = rateLimiter.classify(httpUriRequest);
+
+        Duration delay = Duration.ZERO;
+        for (int attempt = 1; ; attempt++) {
+            final CloseableHttpResponse closeableHttpResponse;
+            try {
+                rateLimiter.acquire(endpointClass);
+                if (requestMetricsRecorder != null) {
+                    requestMetricsRecorder.onAttempt();
+                }
+                closeableHttpResponse = httpTransport.execute(httpUriRequest);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for rate limit");
+            } catch (IOException e) {
+                final Optional<Duration> retryDelay = retryPolicy.getRetryDelay(httpUriRequest, attempt, delay, null, e);
+                if (!retryDelay.isPresent()) {
+                    throw e;
+                }
+
+                delay = retryDelay.get();
+                sleep(delay);
+                continue;
+            }
+
+            if (requestMetricsRecorder != null) {
+                requestMetricsRecorder.onResponse(closeableHttpResponse);
+            }
+
+            // Request refused with 429 is queued again behind the pause requested by the API, instead of failing
+            if (rateLimiter.onResponse(endpointClass, closeableHttpResponse) && rateLimiter.isRetryable(httpUriRequest, attempt)) {
+                EntityUtils.consumeQuietly(closeableHttpResponse.getEntity());
+                closeableHttpResponse.close();
+                continue;
+            }
+
+            final Optional<Duration> retryDelay = retryPolicy.getRetryDelay(httpUriRequest, attempt, delay, closeableHttpResponse, null);
+            if (retryDelay.isPresent()) {
+                EntityUtils.consumeQuietly(closeableHttpResponse.getEntity());
+                closeableHttpResponse.close();
+
+                delay = retryDelay.get();
+                sleep(delay);
+                continue;
+            }
+
+            return getResultExtractor().extract(closeableHttpResponse, typeReference);
+        }
+    }
+
+    private void sleep(
+        final Duration delay
+    ) throws InterruptedIOException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for retry");
+        }
     }
 }
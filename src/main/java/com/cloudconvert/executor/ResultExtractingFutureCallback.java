@@ -0,0 +1,77 @@
+package com.cloudconvert.executor;
+
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpResponse;
+import org.apache.http.concurrent.FutureCallback;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Extracts the result as soon as the response has been received and completes the {@link CompletableFuture} with it,
+ * so nobody has to wait on a thread for the response to arrive.
+ */
+@Slf4j
+public class ResultExtractingFutureCallback<T> implements FutureCallback<HttpResponse> {
+
+    private final ResultExtractor resultExtractor;
+    private final TypeReference<T> typeReference;
+    private final CompletableFuture<Result<T>> completableFuture;
+
+    @Nullable
+    private final FutureCallback<HttpResponse> httpResponseFutureCallback;
+
+    public ResultExtractingFutureCallback(
+        final ResultExtractor resultExtractor, final TypeReference<T> typeReference,
+        final CompletableFuture<Result<T>> completableFuture, @Nullable final FutureCallback<HttpResponse> httpResponseFutureCallback
+    ) {
+        this.resultExtractor = resultExtractor;
+        this.typeReference = typeReference;
+        this.completableFuture = completableFuture;
+        this.httpResponseFutureCallback = httpResponseFutureCallback;
+    }
+
+    @Override
+    public void completed(final HttpResponse httpResponse) {
+        notifyHttpResponseFutureCallback(callback -> callback.completed(httpResponse));
+
+        try {
+            completableFuture.complete(resultExtractor.extract(httpResponse, typeReference));
+        } catch (Exception e) {
+            completableFuture.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void failed(final Exception exception) {
+        notifyHttpResponseFutureCallback(callback -> callback.failed(exception));
+
+        completableFuture.completeExceptionally(exception);
+    }
+
+    @Override
+    public void cancelled() {
+        notifyHttpResponseFutureCallback(FutureCallback::cancelled);
+
+        completableFuture.cancel(false);
+    }
+
+    private void notifyHttpResponseFutureCallback(
+        final Consumer<FutureCallback<HttpResponse>> notification
+    ) {
+        if (httpResponseFutureCallback == null) {
+            return;
+        }
+
+        // A failing callback must not keep the future from being completed, callers would wait on it forever
+        try {
+            notification.accept(httpResponseFutureCallback);
+        } catch (RuntimeException e) {
+            log.warn("Response callback failed", e);
+        }
+    }
+}
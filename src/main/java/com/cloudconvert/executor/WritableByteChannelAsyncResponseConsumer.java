@@ -0,0 +1,106 @@
+package com.cloudconvert.executor;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.methods.AsyncByteConsumer;
+import org.apache.http.protocol.HttpContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a successful response body chunk by chunk into a {@link WritableByteChannel}, so it is never held in memory as a whole.
+ * <p>
+ * Bodies of unsuccessful responses are small error documents, they are kept in memory and set as response entity,
+ * so they can be processed by {@link com.cloudconvert.extractor.ResultExtractor} as usual.
+ */
+public class WritableByteChannelAsyncResponseConsumer extends AsyncByteConsumer<HttpResponse> {
+
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    @Nullable
+    private final Path path;
+
+    @Nullable
+    private WritableByteChannel writableByteChannel;
+
+    private HttpResponse httpResponse;
+
+    @Nullable
+    private ByteArrayOutputStream errorOutputStream;
+
+    /**
+     * Write body into given channel, channel is not closed afterwards
+     *
+     * @param writableByteChannel {@link WritableByteChannel}
+     */
+    public WritableByteChannelAsyncResponseConsumer(@NotNull final WritableByteChannel writableByteChannel) {
+        super(BUFFER_SIZE);
+
+        this.path = null;
+        this.writableByteChannel = writableByteChannel;
+    }
+
+    /**
+     * Write body into given file, file is created (or truncated) only once a successful response has been received
+     *
+     * @param path {@link Path}
+     */
+    public WritableByteChannelAsyncResponseConsumer(@NotNull final Path path) {
+        super(BUFFER_SIZE);
+
+        this.path = path;
+        this.writableByteChannel = null;
+    }
+
+    @Override
+    protected void onResponseReceived(final HttpResponse httpResponse) throws IOException {
+        this.httpResponse = httpResponse;
+
+        final int statusCode = httpResponse.getStatusLine().getStatusCode();
+        if (statusCode < 200 || statusCode > 299) {
+            errorOutputStream = new ByteArrayOutputStream();
+        } else if (path != null) {
+            writableByteChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+    }
+
+    @Override
+    protected void onByteReceived(final ByteBuffer byteBuffer, final IOControl ioControl) throws IOException {
+        if (errorOutputStream != null) {
+            while (byteBuffer.hasRemaining()) {
+                errorOutputStream.write(byteBuffer.get());
+            }
+        } else if (writableByteChannel != null) {
+            while (byteBuffer.hasRemaining()) {
+                writableByteChannel.write(byteBuffer);
+            }
+        }
+    }
+
+    @Override
+    protected HttpResponse buildResult(final HttpContext httpContext) {
+        httpResponse.setEntity(errorOutputStream == null ? null : new ByteArrayEntity(errorOutputStream.toByteArray()));
+
+        return httpResponse;
+    }
+
+    @Override
+    protected void releaseResources() {
+        // Channel is owned by this consumer only if it was opened from path
+        if (path != null && writableByteChannel != null) {
+            try {
+                writableByteChannel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
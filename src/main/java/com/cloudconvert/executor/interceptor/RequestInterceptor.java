@@ -0,0 +1,93 @@
+package com.cloudconvert.executor.interceptor;
+
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.exception.CloudConvertClientException;
+import com.cloudconvert.exception.CloudConvertServerException;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Hooks into every request of an executor, e.g. to add headers, log requests or inject faults, without subclassing executors or resources.
+ * <p>
+ * Interceptors of an executor form an ordered chain: {@link #beforeExecution(HttpUriRequest)} is called in order, before the request is
+ * rate limited and sent, while {@link #afterExtraction(HttpUriRequest, Result)} and {@link #onFailure(HttpUriRequest, Throwable)} are called
+ * in reverse order, so the first interceptor sees the request first and the result last. Retries of a request are not intercepted again.
+ * <p>
+ * {@link com.cloudconvert.executor.AsyncRequestExecutor} calls the async variants, which call the blocking ones by default. Override them
+ * where a hook has to wait for something, e.g. a token being refreshed, so no thread is blocked meanwhile.
+ */
+public interface RequestInterceptor {
+
+    /**
+     * @param httpUriRequest request, may be modified, e.g. by setting headers
+     * @throws IOException to fail the request without sending it
+     */
+    default void beforeExecution(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) throws IOException {
+    }
+
+    /**
+     * @param httpUriRequest request
+     * @param result         result extracted from a successful response
+     * @param <T>            type of the body
+     * @return result passed on to the previous interceptor or the caller, the given one by default
+     * @throws IOException                 to fail the request
+     * @throws CloudConvertClientException to fail the request
+     * @throws CloudConvertServerException to fail the request
+     */
+    default <T> Result<T> afterExtraction(
+        @NotNull final HttpUriRequest httpUriRequest, @NotNull final Result<T> result
+    ) throws IOException, CloudConvertClientException, CloudConvertServerException {
+        return result;
+    }
+
+    /**
+     * Called when the request failed, by an interceptor, while it was sent or with an unsuccessful response
+     *
+     * @param httpUriRequest request
+     * @param throwable      failure, it is passed on to the caller as it is
+     */
+    default void onFailure(
+        @NotNull final HttpUriRequest httpUriRequest, @NotNull final Throwable throwable
+    ) {
+    }
+
+    /**
+     * @param httpUriRequest request
+     * @return future completed once the request may be sent, completed exceptionally to fail it
+     */
+    default CompletableFuture<Void> beforeExecutionAsync(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) {
+        final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+        try {
+            beforeExecution(httpUriRequest);
+            completableFuture.complete(null);
+        } catch (IOException | RuntimeException e) {
+            completableFuture.completeExceptionally(e);
+        }
+        return completableFuture;
+    }
+
+    /**
+     * @param httpUriRequest request
+     * @param result         result extracted from a successful response
+     * @param <T>            type of the body
+     * @return future completed with the result passed on, completed exceptionally to fail the request
+     */
+    default <T> CompletableFuture<Result<T>> afterExtractionAsync(
+        @NotNull final HttpUriRequest httpUriRequest, @NotNull final Result<T> result
+    ) {
+        final CompletableFuture<Result<T>> completableFuture = new CompletableFuture<>();
+        try {
+            completableFuture.complete(afterExtraction(httpUriRequest, result));
+        } catch (IOException | CloudConvertClientException | CloudConvertServerException | RuntimeException e) {
+            completableFuture.completeExceptionally(e);
+        }
+        return completableFuture;
+    }
+}
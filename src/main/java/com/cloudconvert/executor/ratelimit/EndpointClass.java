@@ -0,0 +1,22 @@
+package com.cloudconvert.executor.ratelimit;
+
+/**
+ * Class of endpoints sharing a rate limit, see {@link RateLimiter#classify(org.apache.http.HttpRequest)}
+ */
+public enum EndpointClass {
+
+    /**
+     * API requests creating jobs and tasks (POST).
+     */
+    CREATE,
+
+    /**
+     * Other API requests, showing, listing, waiting for and deleting resources.
+     */
+    READ,
+
+    /**
+     * Requests outside the API, uploads to and downloads from storage.
+     */
+    STORAGE
+}
@@ -0,0 +1,87 @@
+package com.cloudconvert.executor.ratelimit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings of {@link RateLimiter}. Rates are unlimited by default, requests are then only held back while the API asks to wait, after 429 or an
+ * exhausted X-RateLimit-Remaining. Configured rates are upper bounds, they are lowered when the API answers 429 and recover gradually afterwards.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RateLimitSettings {
+
+    public static final double UNLIMITED = Double.POSITIVE_INFINITY;
+
+    public static final double DEFAULT_CREATE_RATE = UNLIMITED;
+    public static final double DEFAULT_READ_RATE = UNLIMITED;
+    public static final double DEFAULT_STORAGE_RATE = UNLIMITED;
+    public static final double DEFAULT_MIN_RATE = 0.5;
+    public static final int DEFAULT_BURST = 20;
+    public static final int DEFAULT_MAX_RETRIES = 5;
+    public static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+    public static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofMinutes(1);
+
+    /**
+     * Max requests per second creating jobs and tasks, {@link #UNLIMITED} for no pacing
+     */
+    @Builder.Default
+    private final double createRate = DEFAULT_CREATE_RATE;
+
+    /**
+     * Max other API requests per second, {@link #UNLIMITED} for no pacing
+     */
+    @Builder.Default
+    private final double readRate = DEFAULT_READ_RATE;
+
+    /**
+     * Max storage requests per second, {@link #UNLIMITED} for no pacing
+     */
+    @Builder.Default
+    private final double storageRate = DEFAULT_STORAGE_RATE;
+
+    /**
+     * Rate is never lowered below this, requests per second
+     */
+    @Builder.Default
+    private final double minRate = DEFAULT_MIN_RATE;
+
+    /**
+     * Requests which may be sent at once, before a configured rate applies
+     */
+    @Builder.Default
+    private final int burst = DEFAULT_BURST;
+
+    /**
+     * How many times a request answered by 429 is sent again, requests with non repeatable entities are never sent again
+     */
+    @Builder.Default
+    private final int maxRetries = DEFAULT_MAX_RETRIES;
+
+    /**
+     * Delay after 429 without Retry-After header
+     */
+    @Builder.Default
+    private final Duration defaultRetryAfter = DEFAULT_RETRY_AFTER;
+
+    /**
+     * Upper bound of delays requested by the API
+     */
+    @Builder.Default
+    private final Duration maxRetryAfter = DEFAULT_MAX_RETRY_AFTER;
+
+    public double getRate(
+        final EndpointClass endpointClass
+    ) {
+        switch (endpointClass) {
+            case CREATE:
+                return createRate;
+            case READ:
+                return readRate;
+            default:
+                return storageRate;
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.cloudconvert.executor.ratelimit;
+
+import com.cloudconvert.resource.AbstractResource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.DateUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-wide pacing of requests per {@link EndpointClass}, shared by all resources of a client.
+ * <p>
+ * Each endpoint class has a token bucket (implemented as generic cell rate algorithm), requests over the rate are delayed
+ * rather than sent. When the API answers 429, the bucket is paused for the Retry-After period and its rate is halved,
+ * successful responses raise the rate back step by step. An exhausted X-RateLimit-Remaining pauses the bucket until
+ * X-RateLimit-Reset, before the API starts refusing requests.
+ * <p>
+ * Rates are unlimited unless configured by {@link RateLimitSettings}, requests are then only delayed while a bucket is paused.
+ */
+@Slf4j
+public class RateLimiter implements Closeable {
+
+    public static final int SC_TOO_MANY_REQUESTS = 429;
+
+    public static final String HEADER_RETRY_AFTER = "Retry-After";
+    public static final String HEADER_RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+    public static final String HEADER_RATE_LIMIT_RESET = "X-RateLimit-Reset";
+
+    /**
+     * Share of max rate regained per successful response
+     */
+    public static final double RATE_RECOVERY = 0.05;
+
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    @Getter
+    private final RateLimitSettings rateLimitSettings;
+
+    private final LongSupplier nanoTimeSupplier;
+    private final Map<EndpointClass, TokenBucket> tokenBuckets;
+
+    private final Lock lock;
+    private volatile ScheduledExecutorService scheduledExecutorService;
+
+    public RateLimiter() {
+        this(RateLimitSettings.builder().build());
+    }
+
+    public RateLimiter(
+        @NotNull final RateLimitSettings rateLimitSettings
+    ) {
+        this(rateLimitSettings, System::nanoTime);
+    }
+
+    public RateLimiter(
+        @NotNull final RateLimitSettings rateLimitSettings, @NotNull final LongSupplier nanoTimeSupplier
+    ) {
+        this.rateLimitSettings = rateLimitSettings;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+
+        this.tokenBuckets = new EnumMap<>(EndpointClass.class);
+        this.lock = new ReentrantLock();
+        for (final EndpointClass endpointClass : EndpointClass.values()) {
+            tokenBuckets.put(endpointClass, new TokenBucket(rateLimitSettings.getRate(endpointClass),
+                Math.min(rateLimitSettings.getMinRate(), rateLimitSettings.getRate(endpointClass)), Math.max(1, rateLimitSettings.getBurst())));
+        }
+    }
+
+    /**
+     * @param httpRequest request
+     * @return {@link EndpointClass} the request counts against
+     */
+    public EndpointClass classify(
+        @NotNull final HttpRequest httpRequest
+    ) {
+        final String path = httpRequest instanceof HttpUriRequest ? ((HttpUriRequest) httpRequest).getURI().getPath()
+            : URI.create(httpRequest.getRequestLine().getUri()).getPath();
+
+        if (path == null || !path.startsWith("/" + AbstractResource.V2 + "/")) {
+            return EndpointClass.STORAGE;
+        }
+
+        return HttpPost.METHOD_NAME.equals(httpRequest.getRequestLine().getMethod()) ? EndpointClass.CREATE : EndpointClass.READ;
+    }
+
+    /**
+     * Reserve a slot for a request, slots are handed out in order of reservation
+     *
+     * @param endpointClass {@link EndpointClass}
+     * @return nanoseconds to wait before sending the request
+     */
+    public long reserve(
+        @NotNull final EndpointClass endpointClass
+    ) {
+        return tokenBuckets.get(endpointClass).reserve(nanoTimeSupplier.getAsLong());
+    }
+
+    /**
+     * Block until a request may be sent
+     *
+     * @param endpointClass {@link EndpointClass}
+     * @throws InterruptedException
+     */
+    public void acquire(
+        @NotNull final EndpointClass endpointClass
+    ) throws InterruptedException {
+        final long waitNanos = reserve(endpointClass);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Run a task once a request may be sent, without blocking the calling thread
+     *
+     * @param endpointClass {@link EndpointClass}
+     * @param runnable      task sending the request
+     * @return {@link Future} of the delayed task, cancelling it prevents sending the request
+     */
+    public Future<?> schedule(
+        @NotNull final EndpointClass endpointClass, @NotNull final Runnable runnable
+    ) {
+        final long waitNanos = reserve(endpointClass);
+        if (waitNanos <= 0) {
+            runnable.run();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return getScheduledExecutorService().schedule(runnable, waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Run given runnable after given delay, once the rate limit for given endpoint class allows it
+     *
+     * @param endpointClass {@link EndpointClass}
+     * @param runnable      runnable
+     * @param delay         delay, e.g. a retry backoff
+     * @return {@link Future} of the delay, which may be cancelled
+     */
+    public Future<?> schedule(
+        @NotNull final EndpointClass endpointClass, @NotNull final Runnable runnable, @NotNull final Duration delay
+    ) {
+        if (delay.isZero() || delay.isNegative()) {
+            return schedule(endpointClass, runnable);
+        }
+
+        return getScheduledExecutorService().schedule(() -> schedule(endpointClass, runnable), delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Adapt the rate to a response
+     *
+     * @param endpointClass {@link EndpointClass}
+     * @param httpResponse  response
+     * @return true, if the request has been refused with 429 and may be sent again later
+     */
+    public boolean onResponse(
+        @NotNull final EndpointClass endpointClass, @NotNull final HttpResponse httpResponse
+    ) {
+        final TokenBucket tokenBucket = tokenBuckets.get(endpointClass);
+        final long now = nanoTimeSupplier.getAsLong();
+
+        if (httpResponse.getStatusLine().getStatusCode() == SC_TOO_MANY_REQUESTS) {
+            final long retryAfterNanos = getDelayNanos(httpResponse, HEADER_RETRY_AFTER).orElse(rateLimitSettings.getDefaultRetryAfter().toNanos());
+            tokenBucket.onRateLimited(now, retryAfterNanos);
+
+            log.debug("Rate limited on {} requests, pausing for {} ms, rate lowered to {}/s", endpointClass, TimeUnit.NANOSECONDS.toMillis(retryAfterNanos), tokenBucket.rate);
+            return true;
+        }
+
+        if (getLong(httpResponse, HEADER_RATE_LIMIT_REMAINING).filter(remaining -> remaining <= 0).isPresent()) {
+            getDelayNanos(httpResponse, HEADER_RATE_LIMIT_RESET).ifPresent(resetNanos -> tokenBucket.pause(now, resetNanos));
+        }
+
+        tokenBucket.onSuccess();
+        return false;
+    }
+
+    /**
+     * @param httpRequest request refused with 429
+     * @param attempt     number of the attempt which has been refused, starting with 1
+     * @return true, if the request may be sent again
+     */
+    public boolean isRetryable(
+        @NotNull final HttpRequest httpRequest, final int attempt
+    ) {
+        if (attempt > rateLimitSettings.getMaxRetries()) {
+            return false;
+        }
+
+        final HttpEntity httpEntity = httpRequest instanceof HttpEntityEnclosingRequest ? ((HttpEntityEnclosingRequest) httpRequest).getEntity() : null;
+        return httpEntity == null || httpEntity.isRepeatable();
+    }
+
+    /**
+     * @param endpointClass {@link EndpointClass}
+     * @return current rate, requests per second
+     */
+    public double getRate(
+        @NotNull final EndpointClass endpointClass
+    ) {
+        return tokenBuckets.get(endpointClass).rate;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Optional.ofNullable(scheduledExecutorService).ifPresent(ScheduledExecutorService::shutdownNow);
+    }
+
+    private ScheduledExecutorService getScheduledExecutorService() {
+        ScheduledExecutorService scheduledExecutorService = this.scheduledExecutorService;
+        if (scheduledExecutorService == null) {
+            // Lock rather than synchronized, so virtual threads sending requests are not pinned to their carrier thread
+            lock.lock();
+            try {
+                scheduledExecutorService = this.scheduledExecutorService;
+                if (scheduledExecutorService == null) {
+                    scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        final Thread thread = new Thread(runnable, "cloudconvert-rate-limiter");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    this.scheduledExecutorService = scheduledExecutorService;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return scheduledExecutorService;
+    }
+
+    private Optional<Long> getDelayNanos(
+        final HttpResponse httpResponse, final String headerName
+    ) {
+        final Header header = httpResponse.getFirstHeader(headerName);
+        if (header == null || header.getValue() == null) {
+            return Optional.empty();
+        }
+
+        final String value = header.getValue().trim();
+        long delayMillis;
+        try {
+            final long seconds = Long.parseLong(value);
+
+            // Reset may be given as epoch seconds rather than seconds from now
+            delayMillis = seconds >= EPOCH_SECONDS_THRESHOLD ? seconds * 1000 - System.currentTimeMillis() : seconds * 1000;
+        } catch (NumberFormatException e) {
+            final Date date = DateUtils.parseDate(value);
+            if (date == null) {
+                return Optional.empty();
+            }
+            delayMillis = date.getTime() - System.currentTimeMillis();
+        }
+
+        return Optional.of(TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(delayMillis, rateLimitSettings.getMaxRetryAfter().toMillis()))));
+    }
+
+    private Optional<Long> getLong(
+        final HttpResponse httpResponse, final String headerName
+    ) {
+        final Header header = httpResponse.getFirstHeader(headerName);
+        try {
+            return header == null ? Optional.empty() : Optional.of(Long.parseLong(header.getValue().trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Token bucket implemented as generic cell rate algorithm: instead of counting tokens, it keeps the theoretical arrival time
+     * of the next request, so a reservation is a single compare-and-set
+     */
+    private static class TokenBucket {
+
+        private final double maxRate;
+        private final double minRate;
+        private final int burst;
+
+        private final AtomicLong theoreticalArrivalNanos;
+
+        private volatile double rate;
+        private volatile long pausedUntilNanos;
+
+        private TokenBucket(
+            final double maxRate, final double minRate, final int burst
+        ) {
+            this.maxRate = maxRate;
+            this.minRate = minRate;
+            this.burst = burst;
+
+            this.theoreticalArrivalNanos = new AtomicLong(Long.MIN_VALUE);
+            this.rate = maxRate;
+            this.pausedUntilNanos = Long.MIN_VALUE;
+        }
+
+        private long reserve(
+            final long now
+        ) {
+            if (Double.isInfinite(rate)) {
+                return pausedUntilNanos == Long.MIN_VALUE ? 0 : Math.max(0, pausedUntilNanos - now);
+            }
+
+            final long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+            final long toleranceNanos = intervalNanos * (burst - 1);
+
+            while (true) {
+                final long theoreticalArrival = theoreticalArrivalNanos.get();
+
+                // After a pause, requests are spaced by the interval again, without a burst
+                long start = Math.max(theoreticalArrival, now);
+                if (pausedUntilNanos != Long.MIN_VALUE && pausedUntilNanos - now > 0) {
+                    start = Math.max(start, pausedUntilNanos + toleranceNanos);
+                }
+
+                if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, start + intervalNanos)) {
+                    return Math.max(0, start - toleranceNanos - now);
+                }
+            }
+        }
+
+        private void onRateLimited(
+            final long now, final long retryAfterNanos
+        ) {
+            rate = Math.max(minRate, rate / 2);
+            pause(now, retryAfterNanos);
+        }
+
+        private void pause(
+            final long now, final long delayNanos
+        ) {
+            final long pausedUntil = now + delayNanos;
+            if (pausedUntilNanos == Long.MIN_VALUE || pausedUntil - pausedUntilNanos > 0) {
+                pausedUntilNanos = pausedUntil;
+            }
+        }
+
+        private void onSuccess() {
+            if (rate < maxRate) {
+                rate = Math.min(maxRate, rate + maxRate * RATE_RECOVERY);
+            }
+        }
+    }
+}
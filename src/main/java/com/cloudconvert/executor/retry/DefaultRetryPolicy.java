@@ -0,0 +1,167 @@
+package com.cloudconvert.executor.retry;
+
+import com.cloudconvert.resource.AbstractResource;
+import com.google.common.collect.ImmutableSet;
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpOptions;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retries idempotent requests on transient server errors and connection failures, with decorrelated jitter backoff and a shared {@link RetryBudget}.
+ * <p>
+ * GET, HEAD, OPTIONS, PUT and DELETE requests (show, list, wait, delete) are idempotent. POST requests (creating jobs and tasks, uploads)
+ * are only retried when they carry {@link AbstractResource#HEADER_IDEMPOTENCY_KEY}, which is set for jobs created with an idempotency key.
+ * Requests with non repeatable entities are never retried.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class DefaultRetryPolicy implements RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(200);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(10);
+    public static final double DEFAULT_BUDGET_MAX_TOKENS = 10;
+    public static final double DEFAULT_BUDGET_TOKENS_PER_SUCCESS = 0.1;
+
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES = ImmutableSet.of(500, 502, 503, 504);
+    public static final Set<String> IDEMPOTENT_METHODS = ImmutableSet.of(HttpGet.METHOD_NAME, HttpHead.METHOD_NAME, HttpOptions.METHOD_NAME,
+        HttpPut.METHOD_NAME, HttpDelete.METHOD_NAME);
+
+    /**
+     * Max attempts per request, including the first one, 1 disables retries
+     */
+    @Builder.Default
+    private final int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    /**
+     * Min delay before a retry
+     */
+    @Builder.Default
+    private final Duration baseDelay = DEFAULT_BASE_DELAY;
+
+    /**
+     * Max delay before a retry
+     */
+    @Builder.Default
+    private final Duration maxDelay = DEFAULT_MAX_DELAY;
+
+    @Builder.Default
+    private final Set<Integer> retryableStatusCodes = DEFAULT_RETRYABLE_STATUS_CODES;
+
+    /**
+     * Budget shared by all requests of the client
+     */
+    @Builder.Default
+    private final RetryBudget retryBudget = new RetryBudget(DEFAULT_BUDGET_MAX_TOKENS, DEFAULT_BUDGET_TOKENS_PER_SUCCESS);
+
+    /**
+     * Attempts sent, including retries
+     */
+    @Builder.Default
+    private final AtomicLong attempts = new AtomicLong();
+
+    /**
+     * Retries scheduled
+     */
+    @Builder.Default
+    private final AtomicLong retries = new AtomicLong();
+
+    /**
+     * Retries refused because the budget has been exhausted
+     */
+    @Builder.Default
+    private final AtomicLong budgetExhaustions = new AtomicLong();
+
+    public static DefaultRetryPolicy none() {
+        return DefaultRetryPolicy.builder().maxAttempts(1).build();
+    }
+
+    @Override
+    public Optional<Duration> getRetryDelay(
+        @NotNull final HttpUriRequest httpUriRequest, final int attempt, @NotNull final Duration previousDelay,
+        @Nullable final HttpResponse httpResponse, @Nullable final Exception exception
+    ) {
+        attempts.incrementAndGet();
+
+        final boolean transientFailure = httpResponse == null ? isTransient(exception) : retryableStatusCodes.contains(httpResponse.getStatusLine().getStatusCode());
+        if (!transientFailure) {
+            if (httpResponse != null && httpResponse.getStatusLine().getStatusCode() < 500) {
+                retryBudget.onSuccess();
+            }
+            return Optional.empty();
+        }
+
+        if (attempt >= maxAttempts || !isIdempotent(httpUriRequest)) {
+            return Optional.empty();
+        }
+
+        if (!retryBudget.tryAcquire()) {
+            budgetExhaustions.incrementAndGet();
+            return Optional.empty();
+        }
+
+        retries.incrementAndGet();
+        return Optional.of(getDelay(previousDelay));
+    }
+
+    /**
+     * @param httpUriRequest request
+     * @return true, if sending the request more times has the same effect as sending it once
+     */
+    public boolean isIdempotent(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) {
+        final HttpEntity httpEntity = httpUriRequest instanceof HttpEntityEnclosingRequest ? ((HttpEntityEnclosingRequest) httpUriRequest).getEntity() : null;
+        if (httpEntity != null && !httpEntity.isRepeatable()) {
+            return false;
+        }
+
+        return IDEMPOTENT_METHODS.contains(httpUriRequest.getMethod())
+            || HttpPost.METHOD_NAME.equals(httpUriRequest.getMethod()) && httpUriRequest.containsHeader(AbstractResource.HEADER_IDEMPOTENCY_KEY);
+    }
+
+    /**
+     * Decorrelated jitter: random delay between base delay and three times the previous delay, capped by max delay
+     */
+    private Duration getDelay(
+        final Duration previousDelay
+    ) {
+        final long baseDelayMillis = baseDelay.toMillis();
+        final long upperBoundMillis = Math.max(baseDelayMillis, previousDelay.toMillis() * 3);
+        final long delayMillis = upperBoundMillis <= baseDelayMillis ? baseDelayMillis : ThreadLocalRandom.current().nextLong(baseDelayMillis, upperBoundMillis + 1);
+
+        return Duration.ofMillis(Math.min(maxDelay.toMillis(), delayMillis));
+    }
+
+    private boolean isTransient(
+        @Nullable final Exception exception
+    ) {
+        // Interrupted threads, unknown hosts and TLS failures do not go away by trying again, timeouts and connection resets may
+        if (exception == null || exception.getClass() == InterruptedIOException.class || exception instanceof UnknownHostException || exception instanceof SSLException) {
+            return false;
+        }
+
+        return exception instanceof IOException;
+    }
+}
@@ -0,0 +1,57 @@
+package com.cloudconvert.executor.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits retries to a share of successful requests, so retries can not multiply load on an API which is already failing.
+ * <p>
+ * The budget holds up to max tokens, each retry takes one token and each successful request returns a fraction of a token.
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long maxMilliTokens;
+    private final long milliTokensPerSuccess;
+
+    private final AtomicLong milliTokens;
+
+    /**
+     * @param maxTokens        max retries in a row, while no request succeeds
+     * @param tokensPerSuccess share of a retry earned by a successful request, e.g. 0.1 allows one retry per 10 successful requests
+     */
+    public RetryBudget(
+        final double maxTokens, final double tokensPerSuccess
+    ) {
+        this.maxMilliTokens = (long) (maxTokens * SCALE);
+        this.milliTokensPerSuccess = (long) (tokensPerSuccess * SCALE);
+
+        this.milliTokens = new AtomicLong(maxMilliTokens);
+    }
+
+    /**
+     * @return true, if a retry has been taken from the budget
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            final long current = milliTokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (milliTokens.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess() {
+        milliTokens.accumulateAndGet(milliTokensPerSuccess, (current, delta) -> Math.min(maxMilliTokens, current + delta));
+    }
+
+    /**
+     * @return tokens left
+     */
+    public double getTokens() {
+        return (double) milliTokens.get() / SCALE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.cloudconvert.executor.retry;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Decides whether and when a request is sent again, after a response or a failure of an attempt.
+ * <p>
+ * Called by request executors for every attempt, including successful ones, so implementations can keep track of a retry budget.
+ * Responses refused with 429 are handled by {@link com.cloudconvert.executor.ratelimit.RateLimiter} before.
+ */
+public interface RetryPolicy {
+
+    /**
+     * @param httpUriRequest request
+     * @param attempt        number of the attempt, starting with 1
+     * @param previousDelay  delay before the attempt, zero for the first attempt
+     * @param httpResponse   response of the attempt, null if it failed
+     * @param exception      failure of the attempt, null if there is a response
+     * @return delay before sending the request again, empty if the response or failure is final
+     */
+    Optional<Duration> getRetryDelay(
+        @NotNull HttpUriRequest httpUriRequest, int attempt, @NotNull Duration previousDelay, @Nullable HttpResponse httpResponse, @Nullable Exception exception
+    );
+}
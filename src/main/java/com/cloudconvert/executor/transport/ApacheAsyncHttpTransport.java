@@ -0,0 +1,62 @@
+package com.cloudconvert.executor.transport;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * {@link AsyncHttpTransport} backed by Apache {@link CloseableHttpAsyncClient}, used by default
+ */
+public class ApacheAsyncHttpTransport implements AsyncHttpTransport {
+
+    private final CloseableHttpAsyncClient closeableHttpAsyncClient;
+
+    public ApacheAsyncHttpTransport(
+        @NotNull final CloseableHttpAsyncClient closeableHttpAsyncClient
+    ) {
+        this.closeableHttpAsyncClient = closeableHttpAsyncClient;
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) {
+        final CompletableFuture<HttpResponse> completableFuture = new CompletableFuture<>();
+
+        final Future<HttpResponse> future = closeableHttpAsyncClient.execute(httpUriRequest, new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(final HttpResponse httpResponse) {
+                completableFuture.complete(httpResponse);
+            }
+
+            @Override
+            public void failed(final Exception exception) {
+                completableFuture.completeExceptionally(exception);
+            }
+
+            @Override
+            public void cancelled() {
+                completableFuture.cancel(false);
+            }
+        });
+
+        completableFuture.whenComplete((httpResponse, throwable) -> {
+            if (completableFuture.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+
+        return completableFuture;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeableHttpAsyncClient.close();
+    }
+}
@@ -0,0 +1,34 @@
+package com.cloudconvert.executor.transport;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * {@link HttpTransport} backed by Apache {@link CloseableHttpClient}, used by default
+ */
+public class ApacheHttpTransport implements HttpTransport {
+
+    private final CloseableHttpClient closeableHttpClient;
+
+    public ApacheHttpTransport(
+        @NotNull final CloseableHttpClient closeableHttpClient
+    ) {
+        this.closeableHttpClient = closeableHttpClient;
+    }
+
+    @Override
+    public CloseableHttpResponse execute(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) throws IOException {
+        return closeableHttpClient.execute(httpUriRequest);
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeableHttpClient.close();
+    }
+}
@@ -0,0 +1,22 @@
+package com.cloudconvert.executor.transport;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends requests for {@link com.cloudconvert.executor.AsyncRequestExecutor} without blocking, see {@link HttpTransport}
+ */
+public interface AsyncHttpTransport extends Closeable {
+
+    /**
+     * @param httpUriRequest request
+     * @return future completed with the response once its headers are received, cancelling it aborts the request
+     */
+    CompletableFuture<HttpResponse> executeAsync(
+        @NotNull HttpUriRequest httpUriRequest
+    );
+}
@@ -0,0 +1,50 @@
+package com.cloudconvert.executor.transport;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncHttpTransport} compressing request bodies with {@link RequestCompressor} before passing them to another transport
+ */
+public class CompressingAsyncHttpTransport implements AsyncHttpTransport {
+
+    private final AsyncHttpTransport asyncHttpTransport;
+    private final RequestCompressor requestCompressor;
+
+    public CompressingAsyncHttpTransport(
+        @NotNull final AsyncHttpTransport asyncHttpTransport
+    ) {
+        this(asyncHttpTransport, new RequestCompressor());
+    }
+
+    public CompressingAsyncHttpTransport(
+        @NotNull final AsyncHttpTransport asyncHttpTransport, @NotNull final RequestCompressor requestCompressor
+    ) {
+        this.asyncHttpTransport = asyncHttpTransport;
+        this.requestCompressor = requestCompressor;
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) {
+        try {
+            requestCompressor.compress(httpUriRequest);
+        } catch (IOException e) {
+            final CompletableFuture<HttpResponse> completableFuture = new CompletableFuture<>();
+            completableFuture.completeExceptionally(e);
+            return completableFuture;
+        }
+
+        return asyncHttpTransport.executeAsync(httpUriRequest);
+    }
+
+    @Override
+    public void close() throws IOException {
+        asyncHttpTransport.close();
+    }
+}
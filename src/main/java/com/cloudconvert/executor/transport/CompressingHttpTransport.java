@@ -0,0 +1,43 @@
+package com.cloudconvert.executor.transport;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * {@link HttpTransport} compressing request bodies with {@link RequestCompressor} before passing them to another transport
+ */
+public class CompressingHttpTransport implements HttpTransport {
+
+    private final HttpTransport httpTransport;
+    private final RequestCompressor requestCompressor;
+
+    public CompressingHttpTransport(
+        @NotNull final HttpTransport httpTransport
+    ) {
+        this(httpTransport, new RequestCompressor());
+    }
+
+    public CompressingHttpTransport(
+        @NotNull final HttpTransport httpTransport, @NotNull final RequestCompressor requestCompressor
+    ) {
+        this.httpTransport = httpTransport;
+        this.requestCompressor = requestCompressor;
+    }
+
+    @Override
+    public CloseableHttpResponse execute(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) throws IOException {
+        requestCompressor.compress(httpUriRequest);
+
+        return httpTransport.execute(httpUriRequest);
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpTransport.close();
+    }
+}
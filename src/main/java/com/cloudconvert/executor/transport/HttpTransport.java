@@ -0,0 +1,26 @@
+package com.cloudconvert.executor.transport;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Sends requests for {@link com.cloudconvert.executor.RequestExecutor}, blocking until the response headers are received.
+ * <p>
+ * Requests and responses are Apache HttpCore messages, as built by resources and read by {@link com.cloudconvert.extractor.ResultExtractor},
+ * so transports only translate them to the HTTP client they are backed by.
+ */
+public interface HttpTransport extends Closeable {
+
+    /**
+     * @param httpUriRequest request
+     * @return response, its entity has to be consumed or the response closed
+     * @throws IOException if the request could not be sent, or no response has been received
+     */
+    CloseableHttpResponse execute(
+        @NotNull HttpUriRequest httpUriRequest
+    ) throws IOException;
+}
@@ -0,0 +1,76 @@
+package com.cloudconvert.executor.transport;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses JSON request bodies above a size threshold with gzip, applied by {@link CompressingHttpTransport} and {@link CompressingAsyncHttpTransport}.
+ * <p>
+ * Uploads are not compressed, file formats are mostly compressed already and storage expects them as they are. Streamed bodies, e.g. base64
+ * imports of a file, are not compressed either, as they would have to be buffered in memory.
+ */
+public class RequestCompressor {
+
+    public static final int DEFAULT_THRESHOLD = 8 * 1024;
+
+    public static final String GZIP = "gzip";
+
+    private final int threshold;
+
+    public RequestCompressor() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param threshold min body length in bytes to compress
+     */
+    public RequestCompressor(
+        final int threshold
+    ) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Replace the body of given request with a compressed one, if it is worth it. Compressed bodies are left as they are, so requests which
+     * are sent again are compressed once.
+     *
+     * @param httpUriRequest request
+     * @throws IOException if the body could not be read
+     */
+    public void compress(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) throws IOException {
+        if (!(httpUriRequest instanceof HttpEntityEnclosingRequest)) {
+            return;
+        }
+
+        final HttpEntityEnclosingRequest httpEntityEnclosingRequest = (HttpEntityEnclosingRequest) httpUriRequest;
+        final HttpEntity httpEntity = httpEntityEnclosingRequest.getEntity();
+        if (httpEntity == null || httpEntity.getContentEncoding() != null || !httpEntity.isRepeatable() || httpEntity.isStreaming() || httpEntity.getContentLength() < threshold
+            || httpEntity.getContentType() == null || !ContentType.APPLICATION_JSON.getMimeType().equals(ContentType.parse(httpEntity.getContentType().getValue()).getMimeType())) {
+            return;
+        }
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream((int) httpEntity.getContentLength() / 4);
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            httpEntity.writeTo(gzipOutputStream);
+        }
+
+        if (byteArrayOutputStream.size() >= httpEntity.getContentLength()) {
+            return;
+        }
+
+        final ByteArrayEntity compressedHttpEntity = new ByteArrayEntity(byteArrayOutputStream.toByteArray());
+        compressedHttpEntity.setContentType(httpEntity.getContentType());
+        compressedHttpEntity.setContentEncoding(GZIP);
+        httpEntityEnclosingRequest.setEntity(compressedHttpEntity);
+    }
+}
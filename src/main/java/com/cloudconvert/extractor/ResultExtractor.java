@@ -13,22 +13,31 @@ import com.cloudconvert.processor.response.successful.NoContentResponseProcessor
 import com.cloudconvert.resource.AbstractResource;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.apache.http.Header;
+import org.apache.http.HeaderElement;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.StatusLine;
+import org.apache.http.client.entity.DeflateDecompressingEntity;
+import org.apache.http.client.entity.GzipDecompressingEntity;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.impl.io.EmptyInputStream;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class ResultExtractor {
 
+    private static final Set<String> ENCODED_BODY_HEADERS = ImmutableSet.of("content-encoding", "content-length", "content-md5");
+
     private final ResponseProcessor defaultResponseProcessor;
     private final Map<TypeReference<?>, ResponseProcessor> responseProcessors;
 
@@ -60,12 +69,25 @@ public class ResultExtractor {
         final StatusLine statusLine = httpResponse.getStatusLine();
 
         final Status status = Status.builder().code(statusLine.getStatusCode()).reason(statusLine.getReasonPhrase()).build();
-        final Map<String, String> headers = Arrays.stream(httpResponse.getAllHeaders()).collect(Collectors.toMap(Header::getName, Header::getValue, (v1, v2) -> v1 + ", " + v2));
-        final HttpEntity httpEntity = Optional.ofNullable(httpResponse.getEntity()).orElse(new InputStreamEntity(EmptyInputStream.INSTANCE));
+        final HttpEntity encodedHttpEntity = Optional.ofNullable(httpResponse.getEntity()).orElse(new InputStreamEntity(EmptyInputStream.INSTANCE));
+        final HttpEntity httpEntity = getDecodedHttpEntity(httpResponse, encodedHttpEntity);
+
+        // Headers describing the encoded body do not apply to the decoded one
+        final Map<String, String> headers = Arrays.stream(httpResponse.getAllHeaders())
+            .filter(header -> httpEntity == encodedHttpEntity || !ENCODED_BODY_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT)))
+            .collect(Collectors.toMap(Header::getName, Header::getValue, (v1, v2) -> v1 + ", " + v2));
+
+        final InputStream inputStream = httpEntity.getContent();
+        boolean streaming = false;
 
-        try (final InputStream inputStream = httpEntity.getContent()) {
+        try {
             if (status.isSuccessful()) {
-                return responseProcessors.getOrDefault(typeReference, defaultResponseProcessor).process(status, headers, inputStream, typeReference);
+                final ResponseProcessor responseProcessor = responseProcessors.getOrDefault(typeReference, defaultResponseProcessor);
+                final Result<T> result = responseProcessor.process(status, headers, inputStream, typeReference);
+
+                // Streaming result body owns the input stream from now on, it is closed by the caller
+                streaming = responseProcessor.isStreaming();
+                return result;
             }
             if (status.isClientError()) {
                 throw new CloudConvertClientException(status, headers, inputStream);
@@ -75,6 +97,36 @@ public class ResultExtractor {
             }
 
             return defaultResponseProcessor.process(status, headers, inputStream, typeReference);
+        } finally {
+            if (!streaming) {
+                inputStream.close();
+            }
+        }
+    }
+
+    /**
+     * Decode gzip and deflate encoded bodies, as requested by {@link AbstractResource#HEADER_ACCEPT_ENCODING}. Bodies are decoded while
+     * they are read, so JSON is still parsed from the stream.
+     * <p>
+     * Apache sync client decodes bodies itself and removes the content encoding, so they are not decoded twice.
+     */
+    private HttpEntity getDecodedHttpEntity(
+        final HttpResponse httpResponse, final HttpEntity httpEntity
+    ) {
+        final Header contentEncoding = Optional.ofNullable(httpEntity.getContentEncoding()).orElse(httpResponse.getFirstHeader(HttpHeaders.CONTENT_ENCODING));
+        if (contentEncoding == null) {
+            return httpEntity;
+        }
+
+        for (final HeaderElement headerElement : contentEncoding.getElements()) {
+            final String codec = headerElement.getName().toLowerCase(Locale.ROOT);
+            if ("gzip".equals(codec) || "x-gzip".equals(codec)) {
+                return new GzipDecompressingEntity(httpEntity);
+            }
+            if ("deflate".equals(codec)) {
+                return new DeflateDecompressingEntity(httpEntity);
+            }
         }
+        return httpEntity;
     }
 }
@@ -0,0 +1,58 @@
+package com.cloudconvert.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener for instrumentation of request executors, adapters forward the events to a metrics library, e.g. {@code MicrometerClientMetrics}.
+ * <p>
+ * Methods are called on the threads sending requests and reading responses, implementations have to be thread-safe and should not block.
+ */
+public interface ClientMetrics {
+
+    /**
+     * Records nothing, requests are not instrumented at all
+     */
+    ClientMetrics NONE = new ClientMetrics() {};
+
+    /**
+     * Called once, when an executor is created with a pooling Apache client
+     *
+     * @param connectionPool {@link ConnectionPool} of the client, to be polled for leased, pending and available connections
+     */
+    default void bindConnectionPool(
+        @NotNull final ConnectionPool connectionPool
+    ) {
+    }
+
+    /**
+     * Called once per request, after its result has been extracted or it has finally failed, including all its retries
+     *
+     * @param requestMetrics {@link RequestMetrics}
+     */
+    default void onRequest(
+        @NotNull final RequestMetrics requestMetrics
+    ) {
+    }
+
+    /**
+     * Called for every attempt once its request body has been written
+     *
+     * @param name  endpoint name, see {@link EndpointNames}
+     * @param bytes number of bytes of the body
+     */
+    default void onBytesSent(
+        @NotNull final String name, final long bytes
+    ) {
+    }
+
+    /**
+     * Called once the response body has been read to its end or closed, which is after {@link #onRequest(RequestMetrics)} for downloads
+     *
+     * @param name  endpoint name, see {@link EndpointNames}
+     * @param bytes number of bytes of the body as received, before it has been decompressed
+     */
+    default void onBytesReceived(
+        @NotNull final String name, final long bytes
+    ) {
+    }
+}
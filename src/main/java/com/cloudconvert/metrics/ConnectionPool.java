@@ -0,0 +1,56 @@
+package com.cloudconvert.metrics;
+
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Read-only view of the connection pool of the sync or async Apache client, each {@link PoolStats} holds leased, pending, available and max connections
+ */
+public class ConnectionPool {
+
+    private final ConnPoolControl<HttpRoute> connPoolControl;
+    private final Supplier<Set<HttpRoute>> routesSupplier;
+
+    public ConnectionPool(
+        @NotNull final PoolingHttpClientConnectionManager poolingHttpClientConnectionManager
+    ) {
+        this(poolingHttpClientConnectionManager, poolingHttpClientConnectionManager::getRoutes);
+    }
+
+    public ConnectionPool(
+        @NotNull final PoolingNHttpClientConnectionManager poolingNHttpClientConnectionManager
+    ) {
+        this(poolingNHttpClientConnectionManager, poolingNHttpClientConnectionManager::getRoutes);
+    }
+
+    private ConnectionPool(
+        final ConnPoolControl<HttpRoute> connPoolControl, final Supplier<Set<HttpRoute>> routesSupplier
+    ) {
+        this.connPoolControl = connPoolControl;
+        this.routesSupplier = routesSupplier;
+    }
+
+    /**
+     * @return routes the pool holds or has held connections for, routes are added as requests are sent
+     */
+    public Set<HttpRoute> getRoutes() {
+        return routesSupplier.get();
+    }
+
+    public PoolStats getTotalStats() {
+        return connPoolControl.getTotalStats();
+    }
+
+    public PoolStats getStats(
+        @NotNull final HttpRoute httpRoute
+    ) {
+        return connPoolControl.getStats(httpRoute);
+    }
+}
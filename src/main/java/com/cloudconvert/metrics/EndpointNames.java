@@ -0,0 +1,78 @@
+package com.cloudconvert.metrics;
+
+import com.cloudconvert.resource.AbstractJobsResource;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.resource.AbstractTasksResource;
+import com.cloudconvert.resource.AbstractUsersResource;
+import com.cloudconvert.resource.AbstractWebhooksResource;
+import com.google.common.collect.ImmutableSet;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Names endpoints after the resource and operation of a request, so metrics are tagged with a small, fixed set of values instead of URLs:
+ * <ul>
+ *     <li>{@code jobs.create}, {@code jobs.show}, {@code jobs.wait}, {@code jobs.list}, {@code jobs.delete}, same for tasks and webhooks</li>
+ *     <li>{@code tasks.cancel}, {@code tasks.retry}, {@code users.me}</li>
+ *     <li>other paths by their segments, e.g. {@code operations}, {@code convert}, {@code import.upload}, {@code export.url}</li>
+ *     <li>{@code files.upload} and {@code files.download} for requests outside the API, to and from storage</li>
+ * </ul>
+ */
+public final class EndpointNames {
+
+    public static final String FILES_UPLOAD = "files.upload";
+    public static final String FILES_DOWNLOAD = "files.download";
+
+    /**
+     * Resources addressed by id, other paths such as task operations are named after their segments
+     */
+    private static final Set<String> RESOURCES = ImmutableSet.of(AbstractJobsResource.PATH_SEGMENT_JOBS, AbstractTasksResource.PATH_SEGMENT_TASKS,
+        AbstractWebhooksResource.PATH_SEGMENT_WEBHOOKS, AbstractUsersResource.PATH_SEGMENT_USERS);
+
+    private static final String SYNC_HOST_PREFIX = "sync.";
+
+    private EndpointNames() {
+    }
+
+    public static String of(
+        @NotNull final HttpRequest httpRequest
+    ) {
+        final URI uri = httpRequest instanceof HttpUriRequest ? ((HttpUriRequest) httpRequest).getURI() : URI.create(httpRequest.getRequestLine().getUri());
+        final String method = httpRequest.getRequestLine().getMethod();
+        final String path = uri.getPath();
+
+        if (path == null || !path.startsWith("/" + AbstractResource.V2 + "/")) {
+            return HttpGet.METHOD_NAME.equals(method) ? FILES_DOWNLOAD : FILES_UPLOAD;
+        }
+
+        final String[] pathSegments = path.substring(AbstractResource.V2.length() + 2).split("/");
+        if (!RESOURCES.contains(pathSegments[0])) {
+            return String.join(".", pathSegments);
+        }
+
+        switch (pathSegments.length) {
+            case 1:
+                return pathSegments[0] + (HttpPost.METHOD_NAME.equals(method) ? ".create" : ".list");
+            case 2:
+                if (AbstractUsersResource.PATH_SEGMENT_ME.equals(pathSegments[1])) {
+                    return pathSegments[0] + "." + pathSegments[1];
+                }
+                if (HttpDelete.METHOD_NAME.equals(method)) {
+                    return pathSegments[0] + ".delete";
+                }
+                // Waiting is showing the resource on the sync API
+                return pathSegments[0] + (uri.getHost() != null && uri.getHost().startsWith(SYNC_HOST_PREFIX) ? ".wait" : ".show");
+            default:
+                // Sub-resources of an id, e.g. tasks/{id}/cancel or users/me/webhooks
+                return pathSegments[0] + "." + String.join(".", Arrays.asList(pathSegments).subList(2, pathSegments.length));
+        }
+    }
+}
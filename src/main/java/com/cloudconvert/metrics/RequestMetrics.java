@@ -0,0 +1,69 @@
+package com.cloudconvert.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Measurements of a single request, reported to {@link ClientMetrics#onRequest(RequestMetrics)}
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RequestMetrics {
+
+    public static final String STATUS_CLASS_NONE = "none";
+
+    /**
+     * Endpoint name, e.g. {@code jobs.create}, see {@link EndpointNames}
+     */
+    @NotNull
+    private final String name;
+
+    /**
+     * HTTP method
+     */
+    @NotNull
+    private final String method;
+
+    /**
+     * Status code of the last response, 0 if no response has been received
+     */
+    private final int statusCode;
+
+    /**
+     * Number of times the request has been sent, including requests refused with 429
+     */
+    private final int attempts;
+
+    /**
+     * Time from the call of the executor until the result has been extracted or the request has failed, including rate limiting and retries
+     */
+    @NotNull
+    private final Duration latency;
+
+    /**
+     * Time from sending the last attempt until its response headers have been received, null if no response has been received
+     */
+    @Nullable
+    private final Duration timeToFirstByte;
+
+    /**
+     * Failure of the request, null if it succeeded
+     */
+    @Nullable
+    private final Throwable exception;
+
+    public int getRetries() {
+        return Math.max(attempts - 1, 0);
+    }
+
+    /**
+     * @return status class, e.g. {@code 2xx} or {@code 4xx}, {@link #STATUS_CLASS_NONE} if no response has been received
+     */
+    public String getStatusClass() {
+        return statusCode <= 0 ? STATUS_CLASS_NONE : statusCode / 100 + "xx";
+    }
+}
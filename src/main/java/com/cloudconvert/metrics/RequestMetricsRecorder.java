@@ -0,0 +1,107 @@
+package com.cloudconvert.metrics;
+
+import com.cloudconvert.client.http.entity.CountingHttpEntity;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Collects {@link RequestMetrics} of a request across its attempts and reports them to {@link ClientMetrics}, used by request executors.
+ * <p>
+ * Attempts of a request are sent one after another, so the recorder is called by a single thread at a time.
+ */
+public class RequestMetricsRecorder {
+
+    private final ClientMetrics clientMetrics;
+    private final String name;
+    private final String method;
+    private final long startNanos;
+
+    /**
+     * Request body producing its content for the async client itself (zero-copy file upload), which is not counted as it is written
+     */
+    @Nullable
+    private final HttpEntity uncountedHttpEntity;
+
+    private volatile int attempts;
+    private volatile long attemptNanos;
+    private volatile int statusCode;
+
+    @Nullable
+    private volatile Duration timeToFirstByte;
+
+    public RequestMetricsRecorder(
+        @NotNull final ClientMetrics clientMetrics, @NotNull final HttpUriRequest httpUriRequest
+    ) {
+        this.clientMetrics = clientMetrics;
+        this.name = EndpointNames.of(httpUriRequest);
+        this.method = httpUriRequest.getMethod();
+        this.startNanos = System.nanoTime();
+
+        final HttpEntity httpEntity = httpUriRequest instanceof HttpEntityEnclosingRequest ? ((HttpEntityEnclosingRequest) httpUriRequest).getEntity() : null;
+        if (httpEntity == null || httpEntity instanceof CountingHttpEntity) {
+            this.uncountedHttpEntity = null;
+        } else if (httpEntity instanceof HttpAsyncContentProducer) {
+            this.uncountedHttpEntity = httpEntity;
+        } else {
+            this.uncountedHttpEntity = null;
+            ((HttpEntityEnclosingRequest) httpUriRequest).setEntity(new CountingHttpEntity(httpEntity, bytes -> clientMetrics.onBytesSent(name, bytes)));
+        }
+    }
+
+    /**
+     * Called right before an attempt is sent
+     */
+    public void onAttempt() {
+        attempts++;
+        attemptNanos = System.nanoTime();
+        statusCode = 0;
+        timeToFirstByte = null;
+    }
+
+    /**
+     * Called once the response headers of an attempt have been received, its body is counted as it is read
+     *
+     * @param httpResponse response of the attempt
+     */
+    public void onResponse(
+        @NotNull final HttpResponse httpResponse
+    ) {
+        timeToFirstByte = Duration.ofNanos(System.nanoTime() - attemptNanos);
+        statusCode = httpResponse.getStatusLine().getStatusCode();
+
+        if (uncountedHttpEntity != null && uncountedHttpEntity.getContentLength() >= 0) {
+            clientMetrics.onBytesSent(name, uncountedHttpEntity.getContentLength());
+        }
+
+        final HttpEntity httpEntity = httpResponse.getEntity();
+        if (httpEntity != null) {
+            httpResponse.setEntity(new CountingHttpEntity(httpEntity, bytes -> clientMetrics.onBytesReceived(name, bytes)));
+        } else {
+            // Body has been consumed on the way in, e.g. written to a file by a response consumer
+            Optional.ofNullable(httpResponse.getFirstHeader(HttpHeaders.CONTENT_LENGTH)).map(Header::getValue).filter(value -> value.matches("\\d+"))
+                .ifPresent(value -> clientMetrics.onBytesReceived(name, Long.parseLong(value)));
+        }
+    }
+
+    /**
+     * Called once the result has been extracted or the request has finally failed
+     *
+     * @param throwable failure of the request, null if it succeeded
+     */
+    public void onCompleted(
+        @Nullable final Throwable throwable
+    ) {
+        clientMetrics.onRequest(RequestMetrics.builder().name(name).method(method).statusCode(statusCode).attempts(attempts)
+            .latency(Duration.ofNanos(System.nanoTime() - startNanos)).timeToFirstByte(timeToFirstByte).exception(throwable).build());
+    }
+}
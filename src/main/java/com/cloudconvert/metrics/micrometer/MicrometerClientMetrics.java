@@ -0,0 +1,129 @@
+package com.cloudconvert.metrics.micrometer;
+
+import com.cloudconvert.metrics.ClientMetrics;
+import com.cloudconvert.metrics.ConnectionPool;
+import com.cloudconvert.metrics.RequestMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.PoolStats;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link ClientMetrics} recording to a Micrometer {@link MeterRegistry}:
+ * <ul>
+ *     <li>{@code cloudconvert.client.requests} timer (histogram) of request latencies, tagged by {@code name}, {@code method} and {@code status}</li>
+ *     <li>{@code cloudconvert.client.time.to.first.byte} timer (histogram), tagged by {@code name}</li>
+ *     <li>{@code cloudconvert.client.retries} summary of retries per request, tagged by {@code name}</li>
+ *     <li>{@code cloudconvert.client.bytes.sent} and {@code cloudconvert.client.bytes.received} summaries, tagged by {@code name}</li>
+ *     <li>{@code cloudconvert.client.connections.leased}, {@code .pending}, {@code .available} and {@code .max} gauges, tagged by {@code route},
+ *     {@code total} for the whole pool</li>
+ * </ul>
+ * Micrometer is an optional dependency of the client, it has to be on the classpath of the application.
+ */
+public class MicrometerClientMetrics implements ClientMetrics {
+
+    public static final String PREFIX = "cloudconvert.client";
+    public static final String TAG_NAME = "name";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_STATUS = "status";
+    public static final String TAG_ROUTE = "route";
+    public static final String ROUTE_TOTAL = "total";
+
+    private final MeterRegistry meterRegistry;
+    private final Tags tags;
+
+    private final Set<HttpRoute> boundHttpRoutes;
+
+    private volatile ConnectionPool connectionPool;
+
+    public MicrometerClientMetrics(
+        @NotNull final MeterRegistry meterRegistry
+    ) {
+        this(meterRegistry, Tags.empty());
+    }
+
+    /**
+     * @param tags common tags of all meters, e.g. to tell several clients apart
+     */
+    public MicrometerClientMetrics(
+        @NotNull final MeterRegistry meterRegistry, @NotNull final Iterable<Tag> tags
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.tags = Tags.of(tags);
+        this.boundHttpRoutes = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public void bindConnectionPool(
+        @NotNull final ConnectionPool connectionPool
+    ) {
+        this.connectionPool = connectionPool;
+
+        registerConnectionGauges(ROUTE_TOTAL, connectionPool, ConnectionPool::getTotalStats);
+    }
+
+    @Override
+    public void onRequest(
+        @NotNull final RequestMetrics requestMetrics
+    ) {
+        final Tags nameTags = tags.and(TAG_NAME, requestMetrics.getName());
+
+        Timer.builder(PREFIX + ".requests").tags(nameTags).tag(TAG_METHOD, requestMetrics.getMethod()).tag(TAG_STATUS, requestMetrics.getStatusClass())
+            .publishPercentileHistogram().register(meterRegistry).record(requestMetrics.getLatency());
+
+        if (requestMetrics.getTimeToFirstByte() != null) {
+            Timer.builder(PREFIX + ".time.to.first.byte").tags(nameTags).publishPercentileHistogram().register(meterRegistry)
+                .record(requestMetrics.getTimeToFirstByte());
+        }
+
+        DistributionSummary.builder(PREFIX + ".retries").tags(nameTags).register(meterRegistry).record(requestMetrics.getRetries());
+
+        // Routes are added to the pool as requests are sent, gauges of new ones are registered after their first request
+        final ConnectionPool connectionPool = this.connectionPool;
+        if (connectionPool != null) {
+            connectionPool.getRoutes().stream().filter(boundHttpRoutes::add).forEach(httpRoute ->
+                registerConnectionGauges(httpRoute.getTargetHost().toURI(), connectionPool, pool -> pool.getStats(httpRoute)));
+        }
+    }
+
+    @Override
+    public void onBytesSent(
+        @NotNull final String name, final long bytes
+    ) {
+        DistributionSummary.builder(PREFIX + ".bytes.sent").baseUnit("bytes").tags(tags).tag(TAG_NAME, name).register(meterRegistry).record(bytes);
+    }
+
+    @Override
+    public void onBytesReceived(
+        @NotNull final String name, final long bytes
+    ) {
+        DistributionSummary.builder(PREFIX + ".bytes.received").baseUnit("bytes").tags(tags).tag(TAG_NAME, name).register(meterRegistry).record(bytes);
+    }
+
+    private void registerConnectionGauges(
+        final String route, final ConnectionPool connectionPool, final Function<ConnectionPool, PoolStats> poolStats
+    ) {
+        registerConnectionGauge("leased", route, connectionPool, pool -> poolStats.apply(pool).getLeased());
+        registerConnectionGauge("pending", route, connectionPool, pool -> poolStats.apply(pool).getPending());
+        registerConnectionGauge("available", route, connectionPool, pool -> poolStats.apply(pool).getAvailable());
+        registerConnectionGauge("max", route, connectionPool, pool -> poolStats.apply(pool).getMax());
+    }
+
+    private void registerConnectionGauge(
+        final String state, final String route, final ConnectionPool connectionPool, final ToIntFunction<ConnectionPool> value
+    ) {
+        // Gauges reference their object weakly by default, the pool is not referenced by anything else here
+        Gauge.builder(PREFIX + ".connections." + state, connectionPool, value::applyAsInt).tags(tags).tag(TAG_ROUTE, route)
+            .strongReference(true).register(meterRegistry);
+    }
+}
@@ -0,0 +1,146 @@
+package com.cloudconvert.mime;
+
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.mime.MediaType;
+import org.apache.tika.mime.MimeType;
+import org.apache.tika.mime.MimeTypeException;
+import org.apache.tika.mime.MimeTypes;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Detects MIME types by filename extension or by a bounded prefix of content.
+ * <p>
+ * The MIME registry is loaded on first detection and shared by all clients. Content detection only reads a copy of the first
+ * bytes of a mark supporting stream and resets it afterwards, so the stream can be uploaded as a whole afterwards.
+ */
+public class MimeTypeDetector {
+
+    public static final int DEFAULT_PREFIX_LENGTH = 8 * 1024;
+
+    private static final MimeTypeDetector DEFAULT_MIME_TYPE_DETECTOR = new MimeTypeDetector(DEFAULT_PREFIX_LENGTH);
+
+    private final int prefixLength;
+    private final ConcurrentMap<String, Optional<MimeType>> extensionMimeTypes;
+
+    public MimeTypeDetector(
+        final int prefixLength
+    ) {
+        this.prefixLength = prefixLength;
+        this.extensionMimeTypes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return shared detector, reading up to {@link #DEFAULT_PREFIX_LENGTH} bytes of content
+     */
+    public static MimeTypeDetector getDefault() {
+        return DEFAULT_MIME_TYPE_DETECTOR;
+    }
+
+    /**
+     * @return max number of bytes read from content
+     */
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+
+    /**
+     * Detect MIME type by filename extension only, results are cached per extension
+     *
+     * @param filename filename
+     * @return {@link MimeType}, empty if filename has no known extension
+     */
+    public Optional<MimeType> detect(
+        @Nullable final String filename
+    ) {
+        final int extensionIndex = filename == null ? -1 : filename.lastIndexOf('.');
+        if (extensionIndex == -1 || extensionIndex == filename.length() - 1) {
+            return Optional.empty();
+        }
+
+        return extensionMimeTypes.computeIfAbsent(filename.substring(extensionIndex).toLowerCase(Locale.ROOT), extension -> {
+            final Metadata metadata = new Metadata();
+            metadata.set(Metadata.RESOURCE_NAME_KEY, "file" + extension);
+            try {
+                return Optional.of(forMediaType(getMimeTypes().detect(null, metadata))).filter(mimeType -> !MimeTypes.OCTET_STREAM.equals(mimeType.getName()));
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    /**
+     * Detect MIME type by content. At most {@link #getPrefixLength()} bytes are read, the stream is reset afterwards.
+     *
+     * @param inputStream stream supporting mark and reset, e.g. {@link java.io.BufferedInputStream}
+     * @return {@link MimeType}, application/octet-stream if no better match is found
+     * @throws IOException
+     */
+    public MimeType detect(
+        @NotNull final InputStream inputStream
+    ) throws IOException {
+        if (!inputStream.markSupported()) {
+            throw new IllegalArgumentException("Input stream does not support mark, wrap it into BufferedInputStream");
+        }
+
+        final byte[] prefix = new byte[prefixLength];
+        int length = 0;
+
+        inputStream.mark(prefixLength);
+        try {
+            for (int read = 0; read != -1 && length < prefixLength; read = inputStream.read(prefix, length, prefixLength - length)) {
+                length += read;
+            }
+        } finally {
+            inputStream.reset();
+        }
+
+        return forMediaType(getMimeTypes().detect(new ByteArrayInputStream(prefix, 0, length), new Metadata()));
+    }
+
+    /**
+     * Detect MIME type by filename extension and, if the extension is not known, by content
+     *
+     * @param filename    filename
+     * @param inputStream stream supporting mark and reset
+     * @return {@link MimeType}
+     * @throws IOException
+     */
+    public MimeType detect(
+        @Nullable final String filename, @NotNull final InputStream inputStream
+    ) throws IOException {
+        final Optional<MimeType> mimeType = detect(filename);
+
+        return mimeType.isPresent() ? mimeType.get() : detect(inputStream);
+    }
+
+    private MimeType forMediaType(
+        final MediaType mediaType
+    ) throws IOException {
+        try {
+            return getMimeTypes().forName(mediaType.toString());
+        } catch (MimeTypeException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static MimeTypes getMimeTypes() {
+        return MimeTypesHolder.MIME_TYPES;
+    }
+
+    /**
+     * Loads the MIME registry on first access
+     */
+    private static class MimeTypesHolder {
+
+        private static final MimeTypes MIME_TYPES = MimeTypes.getDefaultMimeTypes();
+    }
+}
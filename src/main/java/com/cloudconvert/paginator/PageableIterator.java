@@ -0,0 +1,147 @@
+package com.cloudconvert.paginator;
+
+import com.cloudconvert.dto.response.Pageable;
+import com.cloudconvert.exception.CloudConvertClientException;
+import com.cloudconvert.exception.CloudConvertServerException;
+import com.cloudconvert.resource.params.Pagination;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over items of all pages, pages are fetched on demand, so only one page (two with prefetch) is held in memory at once.
+ * <p>
+ * With a prefetch {@link Executor}, next page is fetched in the background while the current one is being consumed.
+ * Failures of page requests are thrown from {@link #hasNext()} as {@link CompletionException}, with the original exception as cause.
+ */
+public class PageableIterator<T> implements Iterator<T>, Closeable {
+
+    public static final int DEFAULT_PER_PAGE = 100;
+
+    private final PageFetcher<T> pageFetcher;
+    private final int perPage;
+
+    @Nullable
+    private final Executor prefetchExecutor;
+
+    private Iterator<T> iterator;
+    private int page;
+    private boolean exhausted;
+
+    @Nullable
+    private CompletableFuture<Pageable<T>> nextPageableCompletableFuture;
+
+    public PageableIterator(
+        @NotNull final PageFetcher<T> pageFetcher, final int perPage, @Nullable final Executor prefetchExecutor
+    ) {
+        this.pageFetcher = pageFetcher;
+        this.perPage = perPage;
+        this.prefetchExecutor = prefetchExecutor;
+
+        this.iterator = Collections.emptyIterator();
+        this.page = 1;
+        this.exhausted = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!iterator.hasNext()) {
+            if (exhausted) {
+                return false;
+            }
+
+            final Pageable<T> pageable = Optional.ofNullable(nextPageableCompletableFuture).orElseGet(() -> fetch(page)).join();
+            final List<T> data = pageable == null || pageable.getData() == null ? Collections.emptyList() : pageable.getData();
+            nextPageableCompletableFuture = null;
+            iterator = data.iterator();
+
+            if (hasNextPage(pageable, data)) {
+                page++;
+
+                if (prefetchExecutor != null) {
+                    final int prefetchedPage = page;
+                    nextPageableCompletableFuture = CompletableFuture.supplyAsync(() -> fetch(prefetchedPage), prefetchExecutor).thenCompose(Function.identity());
+                }
+            } else {
+                exhausted = true;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return iterator.next();
+    }
+
+    /**
+     * @return lazy {@link Stream} of items of all pages, closing the stream cancels pending prefetch
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        exhausted = true;
+        iterator = Collections.emptyIterator();
+
+        if (nextPageableCompletableFuture != null) {
+            nextPageableCompletableFuture.cancel(false);
+            nextPageableCompletableFuture = null;
+        }
+    }
+
+    private CompletableFuture<Pageable<T>> fetch(
+        final int page
+    ) {
+        try {
+            return pageFetcher.fetch(new Pagination(perPage, page));
+        } catch (Exception e) {
+            final CompletableFuture<Pageable<T>> pageableCompletableFuture = new CompletableFuture<>();
+            pageableCompletableFuture.completeExceptionally(e);
+            return pageableCompletableFuture;
+        }
+    }
+
+    private boolean hasNextPage(
+        @Nullable final Pageable<T> pageable, final List<T> data
+    ) {
+        if (data.isEmpty()) {
+            return false;
+        }
+        if (pageable.getLinks() != null) {
+            return pageable.getLinks().getNext() != null;
+        }
+        return data.size() >= perPage;
+    }
+
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+
+        CompletableFuture<Pageable<T>> fetch(
+            Pagination pagination
+        ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+    }
+}
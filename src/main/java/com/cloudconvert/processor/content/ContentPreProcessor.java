@@ -1,9 +1,17 @@
 package com.cloudconvert.processor.content;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import java.io.IOException;
-import java.io.InputStream;
 
 public interface ContentPreProcessor {
 
-    String preProcess(final InputStream inputStream) throws IOException;
+    /**
+     * Move parser to the value, which should be bound to the result body
+     *
+     * @param jsonParser {@link JsonParser} positioned before the first token of the content
+     * @return {@link JsonParser} positioned at the first token of the value
+     * @throws IOException
+     */
+    JsonParser preProcess(final JsonParser jsonParser) throws IOException;
 }
@@ -1,23 +1,35 @@
 package com.cloudconvert.processor.content;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import java.io.IOException;
-import java.io.InputStream;
 
+/**
+ * Navigates to the value of "data" field of the response envelope, other fields (e.g. links, meta) are skipped without being bound
+ */
 public class DataExtractingContentPreProcessor implements ContentPreProcessor {
 
     private static final String DATA = "data";
 
-    private final DefaultContentPreProcessor defaultContentPreProcessor;
+    @Override
+    public JsonParser preProcess(final JsonParser jsonParser) throws IOException {
+        if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(jsonParser, "Expected response envelope object");
+        }
 
-    public DataExtractingContentPreProcessor() {
-        this.defaultContentPreProcessor = new DefaultContentPreProcessor();
-    }
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = jsonParser.currentName();
+            jsonParser.nextToken();
 
-    @Override
-    public String preProcess(final InputStream inputStream) throws IOException {
-        final String rawString = defaultContentPreProcessor.preProcess(inputStream);
+            if (DATA.equals(fieldName)) {
+                return jsonParser;
+            }
+
+            jsonParser.skipChildren();
+        }
 
-        // Get rid of "data" part
-        return rawString.substring(8, rawString.length() - 1);
+        throw new JsonParseException(jsonParser, "Could not find \"" + DATA + "\" field in response envelope");
     }
 }
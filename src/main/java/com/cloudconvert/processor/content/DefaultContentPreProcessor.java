@@ -1,22 +1,15 @@
 package com.cloudconvert.processor.content;
 
-import com.google.common.base.Charsets;
-import com.google.common.io.ByteSource;
+import com.fasterxml.jackson.core.JsonParser;
 
 import java.io.IOException;
-import java.io.InputStream;
 
 public class DefaultContentPreProcessor implements ContentPreProcessor {
 
     @Override
-    public String preProcess(final InputStream inputStream) throws IOException {
-        final ByteSource byteSource = new ByteSource() {
-            @Override
-            public InputStream openStream() {
-                return inputStream;
-            }
-        };
+    public JsonParser preProcess(final JsonParser jsonParser) throws IOException {
+        jsonParser.nextToken();
 
-        return byteSource.asCharSource(Charsets.UTF_8).read();
+        return jsonParser;
     }
 }
@@ -13,4 +13,13 @@ public interface ResponseProcessor {
     <T> Result<T> process(
         final Status status, final Map<String, String> headers, final InputStream inputStream, final TypeReference<T> typeReference
     ) throws IOException;
+
+    /**
+     * Streaming processors hand the input stream over to the result body, so it must not be closed once processing is done
+     *
+     * @return true, if input stream is owned by the result body
+     */
+    default boolean isStreaming() {
+        return false;
+    }
 }
@@ -8,7 +8,9 @@ import com.cloudconvert.processor.content.DataExtractingContentPreProcessor;
 import com.cloudconvert.processor.content.DefaultContentPreProcessor;
 import com.cloudconvert.processor.response.ResponseProcessor;
 import com.cloudconvert.resource.AbstractResource;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.google.common.collect.ImmutableMap;
 
 import java.io.IOException;
@@ -39,8 +41,13 @@ public class ContentResponseProcessor implements ResponseProcessor {
     public <T> Result<T> process(
         final Status status, final Map<String, String> headers, final InputStream inputStream, final TypeReference<T> typeReference
     ) throws IOException {
-        final String string = contentPreProcessors.getOrDefault(typeReference, defaultContentPreProcessor).preProcess(inputStream);
+        final ObjectReader objectReader = objectMapperProvider.provideReader(typeReference);
 
-        return Result.<T>builder().status(status).headers(headers).body(objectMapperProvider.provide().readValue(string, typeReference)).build();
+        // Bind straight from the stream, content is never materialized as a string
+        try (final JsonParser jsonParser = objectReader.getFactory().createParser(inputStream)) {
+            final JsonParser valueJsonParser = contentPreProcessors.getOrDefault(typeReference, defaultContentPreProcessor).preProcess(jsonParser);
+
+            return Result.<T>builder().status(status).headers(headers).body(objectReader.readValue(valueJsonParser)).build();
+        }
     }
 }
@@ -14,8 +14,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
-public abstract class AbstractFilesResource<ISAR extends AbstractResult<InputStream>> extends AbstractResource {
+public abstract class AbstractFilesResource<ISAR extends AbstractResult<InputStream>, VAR extends AbstractResult<Void>> extends AbstractResource {
 
     public AbstractFilesResource(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
@@ -25,6 +27,8 @@ public abstract class AbstractFilesResource<ISAR extends AbstractResult<InputStr
 
     /**
      * Download file
+     * <p>
+     * Body is a stream over the response content, close it (or read it till the end) in order to release the underlying connection
      *
      * @param path path to file
      * @return IS
@@ -35,6 +39,32 @@ public abstract class AbstractFilesResource<ISAR extends AbstractResult<InputStr
         @NotNull final String path
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
 
+    /**
+     * Download file into local file, file content is never held in memory as a whole
+     *
+     * @param path   path to file
+     * @param target {@link Path} of local file, which is created or truncated
+     * @return VAR
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public abstract VAR download(
+        @NotNull final String path, @NotNull final Path target
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+
+    /**
+     * Download file into channel, file content is never held in memory as a whole
+     *
+     * @param path                path to file
+     * @param writableByteChannel {@link WritableByteChannel} file will be written to, it is not closed afterwards
+     * @return VAR
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public abstract VAR download(
+        @NotNull final String path, @NotNull final WritableByteChannel writableByteChannel
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+
     protected HttpUriRequest getDownloadHttpUriRequest(
         @NotNull final String path
     ) throws URISyntaxException {
@@ -1,5 +1,7 @@
 package com.cloudconvert.resource;
 
+import com.cloudconvert.client.http.entity.FileJsonHttpEntity;
+import com.cloudconvert.client.http.entity.FileMultipartHttpEntity;
 import com.cloudconvert.client.mapper.ObjectMapperProvider;
 import com.cloudconvert.client.setttings.SettingsProvider;
 import com.cloudconvert.dto.request.AzureBlobImportRequest;
@@ -9,13 +11,16 @@ import com.cloudconvert.dto.request.OpenStackImportRequest;
 import com.cloudconvert.dto.request.RawImportRequest;
 import com.cloudconvert.dto.request.S3ImportRequest;
 import com.cloudconvert.dto.request.SftpImportRequest;
+import com.cloudconvert.dto.request.TaskRequest;
 import com.cloudconvert.dto.request.UploadImportRequest;
 import com.cloudconvert.dto.request.UrlImportRequest;
 import com.cloudconvert.dto.response.TaskResponse;
 import com.cloudconvert.dto.result.AbstractResult;
 import com.cloudconvert.exception.CloudConvertClientException;
 import com.cloudconvert.exception.CloudConvertServerException;
+import com.cloudconvert.mime.MimeTypeDetector;
 import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
@@ -23,21 +28,21 @@ import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.mime.FormBodyPartBuilder;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.entity.mime.content.ByteArrayBody;
+import org.apache.http.entity.mime.content.ContentBody;
 import org.apache.http.entity.mime.content.InputStreamBody;
-import org.apache.tika.Tika;
 import org.apache.tika.mime.MimeType;
-import org.apache.tika.mime.MimeTypeException;
-import org.apache.tika.mime.MimeTypes;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 public abstract class AbstractImportFilesResource<TRAR extends AbstractResult<TaskResponse>> extends AbstractResource {
 
@@ -52,14 +57,22 @@ public abstract class AbstractImportFilesResource<TRAR extends AbstractResult<Ta
     public static final String PATH_SEGMENT_BASE64 = "base64";
     public static final String PATH_SEGMENT_RAW = "raw";
 
-    private final Tika tika;
+    /**
+     * Span of an upload made of several requests: creating the task, sending the file, following the redirect and showing the task
+     */
+    public static final String SPAN_UPLOAD = "cloudconvert.import.upload";
+
+    public static final String FIELD_FILE = "file";
+    public static final String FIELD_FILENAME = "filename";
+
+    private final MimeTypeDetector mimeTypeDetector;
 
     public AbstractImportFilesResource(
             final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
     ) {
         super(settingsProvider, objectMapperProvider);
 
-        this.tika = new Tika();
+        this.mimeTypeDetector = MimeTypeDetector.getDefault();
     }
 
     /**
@@ -374,6 +387,54 @@ public abstract class AbstractImportFilesResource<TRAR extends AbstractResult<Ta
         return getHttpUriRequest(HttpPost.class, uri, httpEntity);
     }
 
+    /***
+     * Create a task to import a base64 file, the file is base64 encoded while it is sent, instead of being loaded in memory.
+     * {@link Base64ImportRequest#getFile()} is ignored, filename defaults to the file name of given path.
+     *
+     * @param base64ImportRequest {@link Base64ImportRequest}
+     * @param path                {@link Path} file which will be imported
+     * @return TRAR
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public abstract TRAR base64(
+            @NotNull final Base64ImportRequest base64ImportRequest, @NotNull final Path path
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+
+    /***
+     * Create a task to import a base64 file, the stream is base64 encoded while it is sent, instead of being loaded in memory.
+     * {@link Base64ImportRequest#getFile()} is ignored, filename is required.
+     *
+     * @param base64ImportRequest {@link Base64ImportRequest}
+     * @param inputStream         {@link InputStream} content which will be imported, closed once it is sent
+     * @return TRAR
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public abstract TRAR base64(
+            @NotNull final Base64ImportRequest base64ImportRequest, @NotNull final InputStream inputStream
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+
+    protected HttpUriRequest getBase64HttpUriRequest(
+            @NotNull final Base64ImportRequest base64ImportRequest, @NotNull final Path path
+    ) throws IOException, URISyntaxException {
+        final URI uri = getUri(ImmutableList.of(PATH_SEGMENT_IMPORT, PATH_SEGMENT_BASE64));
+        final HttpEntity httpEntity = new FileJsonHttpEntity(getObjectMapperProvider().provide(), getFileJsonFields(base64ImportRequest, path),
+            FIELD_FILE, FileJsonHttpEntity.Encoding.BASE64, path);
+
+        return getHttpUriRequest(HttpPost.class, uri, httpEntity);
+    }
+
+    protected HttpUriRequest getBase64HttpUriRequest(
+            @NotNull final Base64ImportRequest base64ImportRequest, @NotNull final InputStream inputStream
+    ) throws IOException, URISyntaxException {
+        final URI uri = getUri(ImmutableList.of(PATH_SEGMENT_IMPORT, PATH_SEGMENT_BASE64));
+        final HttpEntity httpEntity = new FileJsonHttpEntity(getObjectMapperProvider().provide(), requestToMap(base64ImportRequest),
+            FIELD_FILE, FileJsonHttpEntity.Encoding.BASE64, inputStream);
+
+        return getHttpUriRequest(HttpPost.class, uri, httpEntity);
+    }
+
     /***
      * Create a task to import raw file
      *
@@ -395,30 +456,115 @@ public abstract class AbstractImportFilesResource<TRAR extends AbstractResult<Ta
         return getHttpUriRequest(HttpPost.class, uri, httpEntity);
     }
 
+    /***
+     * Create a task to import raw file, the UTF-8 text file is escaped while it is sent, instead of being loaded in memory.
+     * {@link RawImportRequest#getFile()} is ignored, filename defaults to the file name of given path.
+     *
+     * @param rawImportRequest {@link RawImportRequest}
+     * @param path             {@link Path} file which will be imported
+     * @return TRAR
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public abstract TRAR raw(
+            @NotNull final RawImportRequest rawImportRequest, @NotNull final Path path
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+
+    /***
+     * Create a task to import raw file, the UTF-8 text stream is escaped while it is sent, instead of being loaded in memory.
+     * {@link RawImportRequest#getFile()} is ignored, filename is required.
+     *
+     * @param rawImportRequest {@link RawImportRequest}
+     * @param inputStream      {@link InputStream} content which will be imported, closed once it is sent
+     * @return TRAR
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public abstract TRAR raw(
+            @NotNull final RawImportRequest rawImportRequest, @NotNull final InputStream inputStream
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+
+    protected HttpUriRequest getRawHttpUriRequest(
+            @NotNull final RawImportRequest rawImportRequest, @NotNull final Path path
+    ) throws IOException, URISyntaxException {
+        final URI uri = getUri(ImmutableList.of(PATH_SEGMENT_IMPORT, PATH_SEGMENT_RAW));
+        final HttpEntity httpEntity = new FileJsonHttpEntity(getObjectMapperProvider().provide(), getFileJsonFields(rawImportRequest, path),
+            FIELD_FILE, FileJsonHttpEntity.Encoding.RAW, path);
+
+        return getHttpUriRequest(HttpPost.class, uri, httpEntity);
+    }
+
+    protected HttpUriRequest getRawHttpUriRequest(
+            @NotNull final RawImportRequest rawImportRequest, @NotNull final InputStream inputStream
+    ) throws IOException, URISyntaxException {
+        final URI uri = getUri(ImmutableList.of(PATH_SEGMENT_IMPORT, PATH_SEGMENT_RAW));
+        final HttpEntity httpEntity = new FileJsonHttpEntity(getObjectMapperProvider().provide(), requestToMap(rawImportRequest),
+            FIELD_FILE, FileJsonHttpEntity.Encoding.RAW, inputStream);
+
+        return getHttpUriRequest(HttpPost.class, uri, httpEntity);
+    }
+
+    private Map<String, Object> getFileJsonFields(
+            final TaskRequest taskRequest, final Path path
+    ) {
+        final Map<String, Object> fields = requestToMap(taskRequest);
+        fields.putIfAbsent(FIELD_FILENAME, path.getFileName().toString());
+        return fields;
+    }
+
     protected HttpEntity getMultipartHttpEntity(
             final TaskResponse.Result.Form uploadImportResponseResultForm, final File file
     ) throws IOException {
-        // We still need to convert File to InputStream here, because if we don't, then async client will fail with ContentTooLongException if we do not
-        return getMultipartHttpEntity(uploadImportResponseResultForm, file.getName(), new FileInputStream(file));
+        return getMultipartHttpEntity(uploadImportResponseResultForm, file.toPath());
+    }
+
+    protected HttpEntity getMultipartHttpEntity(
+            final TaskResponse.Result.Form uploadImportResponseResultForm, final Path path
+    ) throws IOException {
+        // File is streamed from disk with a known content length, it also acts as a content producer, so async client does not need to buffer it
+        return new FileMultipartHttpEntity(uploadImportResponseResultForm.getParameters(), "file", path.getFileName().toString(), path);
     }
 
     protected HttpEntity getMultipartHttpEntity(
             final TaskResponse.Result.Form uploadImportResponseResultForm, final InputStream inputStream
     ) throws IOException {
-        try {
-            final MimeType mimeType = MimeTypes.getDefaultMimeTypes().forName(tika.detect(inputStream));
-            return getMultipartHttpEntity(uploadImportResponseResultForm, "file" + mimeType.getExtension(), inputStream);
-        } catch (MimeTypeException e) {
-            throw new IOException(e);
-        }
+        // Detection reads a bounded prefix and resets the stream, so no byte of the upload is lost
+        final InputStream markableInputStream = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream, mimeTypeDetector.getPrefixLength());
+        final MimeType mimeType = mimeTypeDetector.detect(markableInputStream);
+
+        return getMultipartHttpEntity(uploadImportResponseResultForm, "file" + mimeType.getExtension(), markableInputStream);
     }
 
     protected HttpEntity getMultipartHttpEntity(
             final TaskResponse.Result.Form uploadImportResponseResultForm, @NotNull final String filename, final InputStream inputStream
+    ) throws IOException {
+        return getMultipartHttpEntity(uploadImportResponseResultForm,
+                new InputStreamBody(inputStream instanceof BufferedInputStream ? inputStream : new BufferedInputStream(inputStream), filename));
+    }
+
+    protected HttpEntity getMultipartHttpEntity(
+            final TaskResponse.Result.Form uploadImportResponseResultForm, @NotNull final ContentBody contentBody
     ) throws IOException {
         final MultipartEntityBuilder multipartEntityBuilder = MultipartEntityBuilder.create().setContentType(ContentType.MULTIPART_FORM_DATA);
         uploadImportResponseResultForm.getParameters().forEach(multipartEntityBuilder::addTextBody);
-        return new BufferedHttpEntity(multipartEntityBuilder.addPart(
-                FormBodyPartBuilder.create("file", new InputStreamBody(new BufferedInputStream(inputStream), filename)).build()).build());
+        return new BufferedHttpEntity(multipartEntityBuilder.addPart(FormBodyPartBuilder.create("file", contentBody).build()).build());
+    }
+
+    /**
+     * Read a stream to upload into memory, named after its detected type, so the multipart entity can later be built without blocking on it
+     */
+    protected ContentBody getBufferedContentBody(
+            final InputStream inputStream
+    ) throws IOException {
+        final InputStream markableInputStream = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream, mimeTypeDetector.getPrefixLength());
+        final MimeType mimeType = mimeTypeDetector.detect(markableInputStream);
+
+        return getBufferedContentBody("file" + mimeType.getExtension(), markableInputStream);
+    }
+
+    protected ContentBody getBufferedContentBody(
+            @NotNull final String filename, final InputStream inputStream
+    ) throws IOException {
+        return new ByteArrayBody(ByteStreams.toByteArray(inputStream), ContentType.DEFAULT_BINARY, filename);
     }
 }
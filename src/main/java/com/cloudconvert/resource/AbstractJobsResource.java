@@ -6,14 +6,17 @@ import com.cloudconvert.dto.request.TaskRequest;
 import com.cloudconvert.dto.response.JobResponse;
 import com.cloudconvert.dto.response.Pageable;
 import com.cloudconvert.dto.result.AbstractResult;
+import com.cloudconvert.dto.result.Result;
 import com.cloudconvert.exception.CloudConvertClientException;
 import com.cloudconvert.exception.CloudConvertServerException;
+import com.cloudconvert.paginator.PageableIterator;
 import com.cloudconvert.resource.params.Filter;
 import com.cloudconvert.resource.params.Include;
 import com.cloudconvert.resource.params.Pagination;
 import com.cloudconvert.resource.params.converter.FiltersToNameValuePairsConverter;
 import com.cloudconvert.resource.params.converter.IncludesToNameValuePairsConverter;
 import com.cloudconvert.resource.params.converter.PaginationToNameValuePairsConverter;
+import com.cloudconvert.validation.TaskRequestValidator;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import org.apache.http.HttpEntity;
@@ -31,6 +34,8 @@ import java.net.URISyntaxException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 public abstract class AbstractJobsResource<JRAR extends AbstractResult<JobResponse>,
     JRPAR extends AbstractResult<Pageable<JobResponse>>, VAR extends AbstractResult<Void>> extends AbstractResource {
@@ -41,12 +46,21 @@ public abstract class AbstractJobsResource<JRAR extends AbstractResult<JobRespon
     private final IncludesToNameValuePairsConverter includesToNameValuePairsConverter;
     private final FiltersToNameValuePairsConverter filtersToNameValuePairsConverter;
     private final PaginationToNameValuePairsConverter paginationToNameValuePairsConverter;
+    private final TaskRequestValidator taskRequestValidator;
 
     public AbstractJobsResource(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
+    ) {
+        this(settingsProvider, objectMapperProvider, TaskRequestValidator.NONE);
+    }
+
+    public AbstractJobsResource(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider, final TaskRequestValidator taskRequestValidator
     ) {
         super(settingsProvider, objectMapperProvider);
 
+        this.taskRequestValidator = taskRequestValidator;
+
         this.includesToNameValuePairsConverter = new IncludesToNameValuePairsConverter();
         this.filtersToNameValuePairsConverter = new FiltersToNameValuePairsConverter();
         this.paginationToNameValuePairsConverter = new PaginationToNameValuePairsConverter();
@@ -88,18 +102,49 @@ public abstract class AbstractJobsResource<JRAR extends AbstractResult<JobRespon
         @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
 
+    /**
+     * Create a job with one ore more tasks, which may be retried after a transient failure. Requires the task.write scope.
+     *
+     * @param tasks          tasks of the job, see {@link #create(Map, String)}
+     * @param tag            An arbitrary string to identify the job, see {@link #create(Map, String)}
+     * @param idempotencyKey Key unique to this job, e.g. a UUID, sent as the {@code Idempotency-Key} header. Never reuse it for another job.
+     * @return {@link JRAR}
+     * @throws IOException
+     * @throws URISyntaxException
+     */
+    public abstract JRAR create(
+        @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag, @NotNull final String idempotencyKey
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+
     protected HttpUriRequest getCreateHttpUriRequest(
         @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag
+    ) throws IOException, URISyntaxException {
+        return getCreateHttpUriRequest(tasks, tag, null);
+    }
+
+    /**
+     * @param idempotencyKey key sent as the {@code Idempotency-Key} header, null to send none, so the request is not retried
+     */
+    protected HttpUriRequest getCreateHttpUriRequest(
+        @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag, @Nullable final String idempotencyKey
     ) throws IOException, URISyntaxException {
         final Map<String, Object> tasksAsMap = new HashMap<>();
         for (Map.Entry<String, TaskRequest> entry : tasks.entrySet()) {
-            tasksAsMap.put(entry.getKey(), requestToMap(entry.getValue()));
+            final Map<String, Object> taskAsMap = requestToMap(entry.getValue());
+            taskRequestValidator.validate(entry.getKey(), entry.getValue(), taskAsMap);
+            tasksAsMap.put(entry.getKey(), taskAsMap);
         }
 
         final URI uri = getUri(ImmutableList.of(PATH_SEGMENT_JOBS));
         final HttpEntity httpEntity = getHttpEntity(ImmutableMap.of("tasks", tasksAsMap, "tag", tag));
+        final HttpUriRequest httpUriRequest = getHttpUriRequest(HttpPost.class, uri, httpEntity);
 
-        return getHttpUriRequest(HttpPost.class, uri, httpEntity);
+        // Key supplied by the caller identifies this job only, so creating it may be retried after a transient failure
+        if (idempotencyKey != null && !idempotencyKey.isEmpty()) {
+            httpUriRequest.setHeader(HEADER_IDEMPOTENCY_KEY, idempotencyKey);
+        }
+
+        return httpUriRequest;
     }
 
     /**
@@ -216,6 +261,49 @@ public abstract class AbstractJobsResource<JRAR extends AbstractResult<JobRespon
         return getHttpUriRequest(HttpGet.class, uri);
     }
 
+    /**
+     * List all jobs of all pages, pages are fetched on demand. Requires the task.read scope.
+     *
+     * @return lazy {@link Stream} of {@link JobResponse}
+     */
+    public Stream<JobResponse> listAll() {
+        return listAll(ImmutableMap.of(), ImmutableList.of(), PageableIterator.DEFAULT_PER_PAGE, null);
+    }
+
+    /**
+     * List all jobs of all pages, pages are fetched on demand. Requires the task.read scope.
+     *
+     * @param filters          (optional) Filters:
+     *                         - status - The result will be filtered to include only jobs with a specific status (processing, finished or error).
+     *                         - tag - The result will be filtered to include only jobs with a tag.
+     * @param includes         (optional) Include tasks in the result.
+     * @param perPage          Number of jobs per page.
+     * @param prefetchExecutor (optional) Executor which fetches next page in the background, while the current one is being consumed.
+     * @return lazy {@link Stream} of {@link JobResponse}, closing the stream cancels pending prefetch
+     */
+    public Stream<JobResponse> listAll(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, final int perPage, @Nullable final Executor prefetchExecutor
+    ) {
+        return iterateAll(filters, includes, perPage, prefetchExecutor).stream();
+    }
+
+    /**
+     * Iterate over all jobs of all pages, pages are fetched on demand. Requires the task.read scope.
+     *
+     * @param filters          (optional) Filters:
+     *                         - status - The result will be filtered to include only jobs with a specific status (processing, finished or error).
+     *                         - tag - The result will be filtered to include only jobs with a tag.
+     * @param includes         (optional) Include tasks in the result.
+     * @param perPage          Number of jobs per page.
+     * @param prefetchExecutor (optional) Executor which fetches next page in the background, while the current one is being consumed.
+     * @return {@link PageableIterator}
+     */
+    public PageableIterator<JobResponse> iterateAll(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, final int perPage, @Nullable final Executor prefetchExecutor
+    ) {
+        return new PageableIterator<>(pagination -> list(filters, includes, pagination).toCompletableFuture().thenApply(Result::getBody), perPage, prefetchExecutor);
+    }
+
     /**
      * Delete a job, including all tasks and data. Requires the task.write scope.
      * Jobs are deleted automatically 24 hours after they have ended.
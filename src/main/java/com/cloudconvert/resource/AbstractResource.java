@@ -3,11 +3,13 @@ package com.cloudconvert.resource;
 import com.cloudconvert.client.mapper.ObjectMapperProvider;
 import com.cloudconvert.client.setttings.SettingsProvider;
 import com.cloudconvert.dto.request.Request;
+import com.cloudconvert.dto.response.ErrorResponse;
 import com.cloudconvert.dto.response.JobResponse;
 import com.cloudconvert.dto.response.OperationResponse;
 import com.cloudconvert.dto.response.Pageable;
 import com.cloudconvert.dto.response.TaskResponse;
 import com.cloudconvert.dto.response.UserResponse;
+import com.cloudconvert.dto.response.WebhookEventResponse;
 import com.cloudconvert.dto.response.WebhookResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -44,19 +46,24 @@ public abstract class AbstractResource implements Closeable {
 
     public static final String HEADER_AUTHORIZATION = "Authorization";
     public static final String HEADER_USER_AGENT = "User-Agent";
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
 
     public static final String V2 = "v2";
     public static final String BEARER = "Bearer";
     public static final String VALUE_USER_AGENT = "cloudconvert-java/v2 (https://github.com/cloudconvert/cloudconvert-java)";
+    public static final String VALUE_ACCEPT_ENCODING = "gzip, deflate";
 
     public static final TypeReference<Void> VOID_TYPE_REFERENCE = new TypeReference<Void>() {};
     public static final TypeReference<InputStream> INPUT_STREAM_TYPE_REFERENCE = new TypeReference<InputStream>() {};
     public static final TypeReference<Map<String, Object>> MAP_STRING_TO_OBJECT_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
+    public static final TypeReference<ErrorResponse> ERROR_RESPONSE_TYPE_REFERENCE = new TypeReference<ErrorResponse>() {};
 
     public static final TypeReference<TaskResponse> TASK_RESPONSE_TYPE_REFERENCE = new TypeReference<TaskResponse>() {};
     public static final TypeReference<JobResponse> JOB_RESPONSE_TYPE_REFERENCE = new TypeReference<JobResponse>() {};
     public static final TypeReference<UserResponse> USER_RESPONSE_TYPE_REFERENCE = new TypeReference<UserResponse>() {};
     public static final TypeReference<WebhookResponse> WEBHOOKS_RESPONSE_TYPE_REFERENCE = new TypeReference<WebhookResponse>() {};
+    public static final TypeReference<WebhookEventResponse> WEBHOOK_EVENT_RESPONSE_TYPE_REFERENCE = new TypeReference<WebhookEventResponse>() {};
 
     public static final TypeReference<Pageable<OperationResponse>> OPERATION_RESPONSE_PAGEABLE_TYPE_REFERENCE = new TypeReference<Pageable<OperationResponse>>() {};
     public static final TypeReference<Pageable<TaskResponse>> TASK_RESPONSE_PAGEABLE_TYPE_REFERENCE = new TypeReference<Pageable<TaskResponse>>() {};
@@ -65,6 +72,8 @@ public abstract class AbstractResource implements Closeable {
 
     @Getter
     private final SettingsProvider settingsProvider;
+
+    @Getter
     private final ObjectMapperProvider objectMapperProvider;
 
     private final Map<Class<? extends HttpRequestBase>, Supplier<RequestBuilder>> requestBuilderProviders;
@@ -128,11 +137,11 @@ public abstract class AbstractResource implements Closeable {
     protected HttpEntity getHttpEntity(
         final Map<String, Object> map
     ) throws JsonProcessingException {
-        return new ByteArrayEntity(objectMapperProvider.provide().writeValueAsBytes(map), ContentType.APPLICATION_JSON);
+        return new ByteArrayEntity(objectMapperProvider.provideWriter(MAP_STRING_TO_OBJECT_TYPE_REFERENCE).writeValueAsBytes(map), ContentType.APPLICATION_JSON);
     }
 
     protected String getJson(final Map<String, Object> map) throws JsonProcessingException {
-        return objectMapperProvider.provide().writeValueAsString(map);
+        return objectMapperProvider.provideWriter(MAP_STRING_TO_OBJECT_TYPE_REFERENCE).writeValueAsString(map);
     }
 
     protected HttpUriRequest getHttpUriRequest(
@@ -145,6 +154,7 @@ public abstract class AbstractResource implements Closeable {
         final Class<? extends HttpRequestBase> httpRequestBaseClass, final URI uri, @Nullable final HttpEntity httpEntity
     ) {
         return requestBuilderProviders.get(httpRequestBaseClass).get().setUri(uri).setEntity(httpEntity)
-            .setHeader(HEADER_USER_AGENT, VALUE_USER_AGENT).setHeader(HEADER_AUTHORIZATION, BEARER + " " + settingsProvider.getApiKey()).build();
+            .setHeader(HEADER_USER_AGENT, VALUE_USER_AGENT).setHeader(HEADER_AUTHORIZATION, BEARER + " " + settingsProvider.getApiKey())
+            .setHeader(HEADER_ACCEPT_ENCODING, VALUE_ACCEPT_ENCODING).build();
     }
 }
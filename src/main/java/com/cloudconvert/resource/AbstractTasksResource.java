@@ -7,8 +7,10 @@ import com.cloudconvert.dto.response.OperationResponse;
 import com.cloudconvert.dto.response.Pageable;
 import com.cloudconvert.dto.response.TaskResponse;
 import com.cloudconvert.dto.result.AbstractResult;
+import com.cloudconvert.dto.result.Result;
 import com.cloudconvert.exception.CloudConvertClientException;
 import com.cloudconvert.exception.CloudConvertServerException;
+import com.cloudconvert.paginator.PageableIterator;
 import com.cloudconvert.resource.params.Filter;
 import com.cloudconvert.resource.params.Include;
 import com.cloudconvert.resource.params.Pagination;
@@ -16,7 +18,9 @@ import com.cloudconvert.resource.params.converter.AlternativeToNameValuePairsCon
 import com.cloudconvert.resource.params.converter.FiltersToNameValuePairsConverter;
 import com.cloudconvert.resource.params.converter.IncludesToNameValuePairsConverter;
 import com.cloudconvert.resource.params.converter.PaginationToNameValuePairsConverter;
+import com.cloudconvert.validation.TaskRequestValidator;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import lombok.Getter;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.HttpDelete;
@@ -31,6 +35,8 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 public abstract class AbstractTasksResource<TRAR extends AbstractResult<TaskResponse>,
     TRPAR extends AbstractResult<Pageable<TaskResponse>>, VAR extends AbstractResult<Void>,
@@ -76,6 +82,7 @@ public abstract class AbstractTasksResource<TRAR extends AbstractResult<TaskResp
     private final FiltersToNameValuePairsConverter filtersToNameValuePairsConverter;
     private final AlternativeToNameValuePairsConverter alternativeToNameValuePairsConverter;
     private final PaginationToNameValuePairsConverter paginationToNameValuePairsConverter;
+    private final TaskRequestValidator taskRequestValidator;
 
     public AbstractTasksResource(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider,
@@ -84,6 +91,20 @@ public abstract class AbstractTasksResource<TRAR extends AbstractResult<TaskResp
         final AbstractCreateArchivesResource<TRAR> abstractCreateArchivesResource, final AbstractExecuteCommandsResource<TRAR> abstractExecuteCommandsResource,
         final AbstractCreateThumbnailsResource<TRAR> abstractCreateThumbnailsResource, final AbstractGetMetadataResource<TRAR> abstractGetMetadataResourceResource,
         final AbstractWriteMetadataResource<TRAR> abstractWriteMetadataResourceResource, final AbstractAddWatermarkResource<TRAR> abstractAddWatermarkResource
+    ) {
+        this(settingsProvider, objectMapperProvider, abstractConvertFilesResource, abstractOptimizeFilesResource, abstractCaptureWebsitesResource,
+            abstractMergeFilesResource, abstractCreateArchivesResource, abstractExecuteCommandsResource, abstractCreateThumbnailsResource,
+            abstractGetMetadataResourceResource, abstractWriteMetadataResourceResource, abstractAddWatermarkResource, TaskRequestValidator.NONE);
+    }
+
+    public AbstractTasksResource(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider,
+        final AbstractConvertFilesResource<TRAR, ORPAR> abstractConvertFilesResource, final AbstractOptimizeFilesResource<TRAR> abstractOptimizeFilesResource,
+        final AbstractCaptureWebsitesResource<TRAR> abstractCaptureWebsitesResource, final AbstractMergeFilesResource<TRAR> abstractMergeFilesResource,
+        final AbstractCreateArchivesResource<TRAR> abstractCreateArchivesResource, final AbstractExecuteCommandsResource<TRAR> abstractExecuteCommandsResource,
+        final AbstractCreateThumbnailsResource<TRAR> abstractCreateThumbnailsResource, final AbstractGetMetadataResource<TRAR> abstractGetMetadataResourceResource,
+        final AbstractWriteMetadataResource<TRAR> abstractWriteMetadataResourceResource, final AbstractAddWatermarkResource<TRAR> abstractAddWatermarkResource,
+        final TaskRequestValidator taskRequestValidator
     ) {
         super(settingsProvider, objectMapperProvider);
 
@@ -97,6 +118,7 @@ public abstract class AbstractTasksResource<TRAR extends AbstractResult<TaskResp
         this.abstractGetMetadataResource = abstractGetMetadataResourceResource;
         this.abstractWriteMetadataResource = abstractWriteMetadataResourceResource;
         this.abstractAddWatermarkResource = abstractAddWatermarkResource;
+        this.taskRequestValidator = taskRequestValidator;
 
         this.includesToNameValuePairsConverter = new IncludesToNameValuePairsConverter();
         this.filtersToNameValuePairsConverter = new FiltersToNameValuePairsConverter();
@@ -235,6 +257,51 @@ public abstract class AbstractTasksResource<TRAR extends AbstractResult<TaskResp
         return getHttpUriRequest(HttpGet.class, uri);
     }
 
+    /**
+     * List all tasks of all pages, pages are fetched on demand. Requires the task.read scope.
+     *
+     * @return lazy {@link Stream} of {@link TaskResponse}
+     */
+    public Stream<TaskResponse> listAll() {
+        return listAll(ImmutableMap.of(), ImmutableList.of(), PageableIterator.DEFAULT_PER_PAGE, null);
+    }
+
+    /**
+     * List all tasks of all pages, pages are fetched on demand. Requires the task.read scope.
+     *
+     * @param filters          (optional) Filters:
+     *                         - job_id - The result will be filtered to include only tasks for a specific Job ID.
+     *                         - status - The result will be filtered to include only tasks with a specific status (waiting, processing, finished or error).
+     *                         - operation - Filter result to only include tasks of with a matching operation (for example convert or import/s3).
+     * @param includes         (optional) Include retries and/or depends_on_tasks in the result.
+     * @param perPage          Number of tasks per page.
+     * @param prefetchExecutor (optional) Executor which fetches next page in the background, while the current one is being consumed.
+     * @return lazy {@link Stream} of {@link TaskResponse}, closing the stream cancels pending prefetch
+     */
+    public Stream<TaskResponse> listAll(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, final int perPage, @Nullable final Executor prefetchExecutor
+    ) {
+        return iterateAll(filters, includes, perPage, prefetchExecutor).stream();
+    }
+
+    /**
+     * Iterate over all tasks of all pages, pages are fetched on demand. Requires the task.read scope.
+     *
+     * @param filters          (optional) Filters:
+     *                         - job_id - The result will be filtered to include only tasks for a specific Job ID.
+     *                         - status - The result will be filtered to include only tasks with a specific status (waiting, processing, finished or error).
+     *                         - operation - Filter result to only include tasks of with a matching operation (for example convert or import/s3).
+     * @param includes         (optional) Include retries and/or depends_on_tasks in the result.
+     * @param perPage          Number of tasks per page.
+     * @param prefetchExecutor (optional) Executor which fetches next page in the background, while the current one is being consumed.
+     * @return {@link PageableIterator}
+     */
+    public PageableIterator<TaskResponse> iterateAll(
+        @NotNull final Map<Filter, String> filters, @NotNull final List<Include> includes, final int perPage, @Nullable final Executor prefetchExecutor
+    ) {
+        return new PageableIterator<>(pagination -> list(filters, includes, pagination).toCompletableFuture().thenApply(Result::getBody), perPage, prefetchExecutor);
+    }
+
     /**
      * Cancel a task that is in status waiting or processing. Requires the task.write scope.
      *
@@ -296,6 +363,22 @@ public abstract class AbstractTasksResource<TRAR extends AbstractResult<TaskResp
         return getHttpUriRequest(HttpDelete.class, uri);
     }
 
+    /**
+     * Validate a task request, before it is created on its own
+     *
+     * @param taskRequest {@link TaskRequest}
+     * @param <T>         task request type
+     * @return given task request
+     */
+    protected <T extends TaskRequest> T validate(
+        @NotNull final T taskRequest
+    ) {
+        if (taskRequestValidator != TaskRequestValidator.NONE) {
+            taskRequestValidator.validate(taskRequest.getOperation().getLabel(), taskRequest, requestToMap(taskRequest));
+        }
+        return taskRequest;
+    }
+
     /**
      * List all possible operations, formats, engines and possible options.
      *
@@ -6,14 +6,17 @@ import com.cloudconvert.dto.request.WebhookRequest;
 import com.cloudconvert.dto.response.Pageable;
 import com.cloudconvert.dto.response.WebhookResponse;
 import com.cloudconvert.dto.result.AbstractResult;
+import com.cloudconvert.dto.result.Result;
 import com.cloudconvert.exception.CloudConvertClientException;
 import com.cloudconvert.exception.CloudConvertServerException;
+import com.cloudconvert.paginator.PageableIterator;
 import com.cloudconvert.resource.params.Filter;
 import com.cloudconvert.resource.params.Pagination;
 import com.cloudconvert.resource.params.converter.FiltersToNameValuePairsConverter;
 import com.cloudconvert.resource.params.converter.PaginationToNameValuePairsConverter;
+import com.cloudconvert.signature.HmacSha256Signer;
 import com.google.common.collect.ImmutableList;
-import org.apache.commons.codec.binary.Hex;
+import com.google.common.collect.ImmutableMap;
 import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.HttpDelete;
@@ -23,15 +26,18 @@ import org.apache.http.client.methods.HttpUriRequest;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 public abstract class AbstractWebhooksResource<WRAR extends AbstractResult<WebhookResponse>,
     WRPAR extends AbstractResult<Pageable<WebhookResponse>>, VAR extends AbstractResult<Void>> extends AbstractResource {
@@ -43,6 +49,8 @@ public abstract class AbstractWebhooksResource<WRAR extends AbstractResult<Webho
     private final FiltersToNameValuePairsConverter filtersToNameValuePairsConverter;
     private final PaginationToNameValuePairsConverter paginationToNameValuePairsConverter;
 
+    private volatile HmacSha256Signer webhookSigner;
+
     public AbstractWebhooksResource(
         final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider
     ) {
@@ -123,6 +131,45 @@ public abstract class AbstractWebhooksResource<WRAR extends AbstractResult<Webho
         return getHttpUriRequest(HttpGet.class, uri);
     }
 
+    /**
+     * List all webhooks of all pages, pages are fetched on demand. Requires the webhook.read scope.
+     *
+     * @return lazy {@link Stream} of {@link WebhookResponse}
+     */
+    public Stream<WebhookResponse> listAll() {
+        return listAll(ImmutableMap.of(), PageableIterator.DEFAULT_PER_PAGE, null);
+    }
+
+    /**
+     * List all webhooks of all pages, pages are fetched on demand. Requires the webhook.read scope.
+     *
+     * @param filters          (optional) Filters:
+     *                         - url - The result will be filtered to include only webhooks with a specific URL.
+     * @param perPage          Number of webhooks per page.
+     * @param prefetchExecutor (optional) Executor which fetches next page in the background, while the current one is being consumed.
+     * @return lazy {@link Stream} of {@link WebhookResponse}, closing the stream cancels pending prefetch
+     */
+    public Stream<WebhookResponse> listAll(
+        @NotNull final Map<Filter, String> filters, final int perPage, @Nullable final Executor prefetchExecutor
+    ) {
+        return iterateAll(filters, perPage, prefetchExecutor).stream();
+    }
+
+    /**
+     * Iterate over all webhooks of all pages, pages are fetched on demand. Requires the webhook.read scope.
+     *
+     * @param filters          (optional) Filters:
+     *                         - url - The result will be filtered to include only webhooks with a specific URL.
+     * @param perPage          Number of webhooks per page.
+     * @param prefetchExecutor (optional) Executor which fetches next page in the background, while the current one is being consumed.
+     * @return {@link PageableIterator}
+     */
+    public PageableIterator<WebhookResponse> iterateAll(
+        @NotNull final Map<Filter, String> filters, final int perPage, @Nullable final Executor prefetchExecutor
+    ) {
+        return new PageableIterator<>(pagination -> list(filters, pagination).toCompletableFuture().thenApply(Result::getBody), perPage, prefetchExecutor);
+    }
+
     /**
      * Delete a webhook. Requires the webhook.write scope.
      *
@@ -152,10 +199,62 @@ public abstract class AbstractWebhooksResource<WRAR extends AbstractResult<Webho
     public boolean verify(
         @NotNull final String payload, @NotNull final String signature
     ) throws InvalidKeyException, NoSuchAlgorithmException {
-        final Mac mac = Mac.getInstance(HMAC_SHA256);
-        final SecretKeySpec secretKeySpec = new SecretKeySpec(getSettingsProvider().getWebhookSigningSecret().getBytes(), HMAC_SHA256);
-        mac.init(secretKeySpec);
+        return verify(payload.getBytes(StandardCharsets.UTF_8), signature);
+    }
+
+    /**
+     * Verify webhook signature of raw request body, without decoding it first
+     *
+     * @param payload   payload
+     * @param signature signature
+     * @return
+     */
+    public boolean verify(
+        @NotNull final byte[] payload, @NotNull final String signature
+    ) throws InvalidKeyException, NoSuchAlgorithmException {
+        return getWebhookSigner().verify(payload, signature);
+    }
+
+    /**
+     * Verify webhook signature of raw request body, without decoding it first
+     *
+     * @param payload   payload, consumed from its position to its limit
+     * @param signature signature
+     * @return
+     */
+    public boolean verify(
+        @NotNull final ByteBuffer payload, @NotNull final String signature
+    ) throws InvalidKeyException, NoSuchAlgorithmException {
+        return getWebhookSigner().verify(payload, signature);
+    }
+
+    /**
+     * Verify webhook signature of raw request body, while it is being read
+     *
+     * @param payload   payload, read till the end but not closed
+     * @param signature signature
+     * @return
+     */
+    public boolean verify(
+        @NotNull final InputStream payload, @NotNull final String signature
+    ) throws InvalidKeyException, NoSuchAlgorithmException, IOException {
+        return getWebhookSigner().verify(payload, signature);
+    }
 
-        return signature.equals(Hex.encodeHexString(mac.doFinal(payload.getBytes())));
+    /**
+     * Signer keyed with webhook signing secret, created on first use and shared afterwards
+     */
+    protected HmacSha256Signer getWebhookSigner() throws InvalidKeyException, NoSuchAlgorithmException {
+        HmacSha256Signer webhookSigner = this.webhookSigner;
+        if (webhookSigner == null) {
+            synchronized (this) {
+                webhookSigner = this.webhookSigner;
+                if (webhookSigner == null) {
+                    webhookSigner = new HmacSha256Signer(getSettingsProvider().getWebhookSigningSecret());
+                    this.webhookSigner = webhookSigner;
+                }
+            }
+        }
+        return webhookSigner;
     }
 }
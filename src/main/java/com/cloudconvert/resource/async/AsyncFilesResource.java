@@ -4,6 +4,7 @@ import com.cloudconvert.client.mapper.ObjectMapperProvider;
 import com.cloudconvert.client.setttings.SettingsProvider;
 import com.cloudconvert.dto.result.AsyncResult;
 import com.cloudconvert.executor.AsyncRequestExecutor;
+import com.cloudconvert.executor.WritableByteChannelAsyncResponseConsumer;
 import com.cloudconvert.resource.AbstractFilesResource;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -11,9 +12,11 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
 @Slf4j
-public class AsyncFilesResource extends AbstractFilesResource<AsyncResult<InputStream>> {
+public class AsyncFilesResource extends AbstractFilesResource<AsyncResult<InputStream>, AsyncResult<Void>> {
 
     private final AsyncRequestExecutor asyncRequestExecutor;
 
@@ -33,6 +36,20 @@ public class AsyncFilesResource extends AbstractFilesResource<AsyncResult<InputS
         return asyncRequestExecutor.execute(getDownloadHttpUriRequest(path), INPUT_STREAM_TYPE_REFERENCE);
     }
 
+    @Override
+    public AsyncResult<Void> download(
+        @NotNull final String path, @NotNull final Path target
+    ) throws IOException, URISyntaxException {
+        return asyncRequestExecutor.execute(getDownloadHttpUriRequest(path), new WritableByteChannelAsyncResponseConsumer(target), VOID_TYPE_REFERENCE);
+    }
+
+    @Override
+    public AsyncResult<Void> download(
+        @NotNull final String path, @NotNull final WritableByteChannel writableByteChannel
+    ) throws IOException, URISyntaxException {
+        return asyncRequestExecutor.execute(getDownloadHttpUriRequest(path), new WritableByteChannelAsyncResponseConsumer(writableByteChannel), VOID_TYPE_REFERENCE);
+    }
+
     @Override
     public void close() throws IOException {
         asyncRequestExecutor.close();
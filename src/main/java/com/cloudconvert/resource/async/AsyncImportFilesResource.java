@@ -13,12 +13,17 @@ import com.cloudconvert.dto.request.UploadImportRequest;
 import com.cloudconvert.dto.request.UrlImportRequest;
 import com.cloudconvert.dto.response.TaskResponse;
 import com.cloudconvert.dto.result.AsyncResult;
+import com.cloudconvert.dto.result.CompletableFutureAsyncResult;
 import com.cloudconvert.dto.result.CompletedAsyncResult;
 import com.cloudconvert.dto.result.Result;
 import com.cloudconvert.exception.CloudConvertClientException;
 import com.cloudconvert.exception.CloudConvertServerException;
 import com.cloudconvert.executor.AsyncRequestExecutor;
 import com.cloudconvert.resource.AbstractImportFilesResource;
+import com.cloudconvert.tracing.Span;
+import com.cloudconvert.tracing.TraceContext;
+import com.cloudconvert.tracing.Tracer;
+import com.cloudconvert.tracing.TracingRequestInterceptor;
 import com.google.common.collect.ImmutableList;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpEntity;
@@ -26,14 +31,18 @@ import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.mime.content.ContentBody;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.concurrent.ExecutionException;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 public class AsyncImportFilesResource extends AbstractImportFilesResource<AsyncResult<TaskResponse>> {
@@ -74,149 +83,189 @@ public class AsyncImportFilesResource extends AbstractImportFilesResource<AsyncR
     public AsyncResult<TaskResponse> upload(
         @NotNull final UploadImportRequest uploadImportRequest, @NotNull final File file
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return upload(upload(uploadImportRequest), file);
+        return trace(() -> upload(upload(uploadImportRequest), file));
     }
 
     @Override
     public AsyncResult<TaskResponse> upload(
         @NotNull final AsyncResult<TaskResponse> taskResponseAsyncResult, @NotNull final File file
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        try {
-            final Result<TaskResponse> taskResponseResult = taskResponseAsyncResult.get();
-
-            if (HttpStatus.SC_CREATED == taskResponseResult.getStatus().getCode()) {
-                final TaskResponse taskResponse = taskResponseResult.getBody();
-
-                return upload(taskResponse.getId(), taskResponse.getResult().getForm(), file);
-            } else {
-                return CompletedAsyncResult.<TaskResponse>builder().result(taskResponseResult).build();
-            }
-        } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
-        }
+        return uploadWhenCreated(taskResponseAsyncResult, taskResponse -> upload(taskResponse.getId(), taskResponse.getResult().getForm(), file));
     }
 
     @Override
     public AsyncResult<TaskResponse> upload(
         @NotNull final String taskId, @NotNull final TaskResponse.Result.Form taskResponseResultForm, @NotNull final File file
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        try {
-            final URI multipartUri = new URI(taskResponseResultForm.getUrl());
-            final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, file);
-            final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
-            multipartHttpUriRequest.removeHeaders(HEADER_AUTHORIZATION);
-            return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
-        } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
-        }
+        final URI multipartUri = new URI(taskResponseResultForm.getUrl());
+        final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, file);
+        final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
+        multipartHttpUriRequest.removeHeaders(HEADER_AUTHORIZATION);
+        return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
     }
 
     @Override
     public AsyncResult<TaskResponse> upload(
         @NotNull final UploadImportRequest uploadImportRequest, @NotNull final InputStream inputStream
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return upload(upload(uploadImportRequest), inputStream);
+        return trace(() -> upload(upload(uploadImportRequest), inputStream));
     }
 
     @Override
     public AsyncResult<TaskResponse> upload(
         @NotNull UploadImportRequest uploadImportRequest, @NotNull InputStream inputStream, @NotNull String filename
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return upload(upload(uploadImportRequest), inputStream, filename);
+        return trace(() -> upload(upload(uploadImportRequest), inputStream, filename));
     }
 
     @Override
     public AsyncResult<TaskResponse> upload(
         @NotNull final AsyncResult<TaskResponse> taskResponseAsyncResult, @NotNull final InputStream inputStream
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        try {
-            final Result<TaskResponse> taskResponseResult = taskResponseAsyncResult.get();
-
-            if (HttpStatus.SC_CREATED == taskResponseResult.getStatus().getCode()) {
-                final TaskResponse taskResponse = taskResponseResult.getBody();
-
-                return upload(taskResponse.getId(), taskResponse.getResult().getForm(), inputStream);
-            } else {
-                return CompletedAsyncResult.<TaskResponse>builder().result(taskResponseResult).build();
-            }
-        } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
-        }
+        final ContentBody contentBody = getBufferedContentBody(inputStream);
+        return uploadWhenCreated(taskResponseAsyncResult, taskResponse -> upload(taskResponse.getId(), taskResponse.getResult().getForm(), contentBody));
     }
 
     @Override
     public AsyncResult<TaskResponse> upload(
         @NotNull AsyncResult<TaskResponse> taskResponseAsyncResult, @NotNull InputStream inputStream, @NotNull String filename
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        try {
-            final Result<TaskResponse> taskResponseResult = taskResponseAsyncResult.get();
-
-            if (HttpStatus.SC_CREATED == taskResponseResult.getStatus().getCode()) {
-                final TaskResponse taskResponse = taskResponseResult.getBody();
-
-                return upload(taskResponse.getId(), taskResponse.getResult().getForm(), inputStream, filename);
-            } else {
-                return CompletedAsyncResult.<TaskResponse>builder().result(taskResponseResult).build();
-            }
-        } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
-        }
+        final ContentBody contentBody = getBufferedContentBody(filename, inputStream);
+        return uploadWhenCreated(taskResponseAsyncResult, taskResponse -> upload(taskResponse.getId(), taskResponse.getResult().getForm(), contentBody));
     }
 
     @Override
     public AsyncResult<TaskResponse> upload(
         @NotNull final String taskId, @NotNull final TaskResponse.Result.Form taskResponseResultForm, @NotNull final InputStream inputStream
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        try {
-            final URI multipartUri = new URI(taskResponseResultForm.getUrl());
-            final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, inputStream);
-            final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
-            multipartHttpUriRequest.removeHeaders(HEADER_AUTHORIZATION);
-            return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
-        } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
-        }
+        final URI multipartUri = new URI(taskResponseResultForm.getUrl());
+        final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, inputStream);
+        final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
+        multipartHttpUriRequest.removeHeaders(HEADER_AUTHORIZATION);
+        return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
     }
 
     @Override
     public AsyncResult<TaskResponse> upload(
         @NotNull String taskId, TaskResponse.Result.@NotNull Form taskResponseResultForm, @NotNull InputStream inputStream, @NotNull String filename
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        try {
-            final URI multipartUri = new URI(taskResponseResultForm.getUrl());
-            final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, filename, inputStream);
-            final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
-            multipartHttpUriRequest.removeHeaders(HEADER_AUTHORIZATION);
-            return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
-        } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
-        }
+        final URI multipartUri = new URI(taskResponseResultForm.getUrl());
+        final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, filename, inputStream);
+        final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
+        multipartHttpUriRequest.removeHeaders(HEADER_AUTHORIZATION);
+        return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
+    }
+
+    /**
+     * Upload content read before the upload task has been created, building its entity does not block the thread completing the creation
+     */
+    private AsyncResult<TaskResponse> upload(
+        final String taskId, final TaskResponse.Result.Form taskResponseResultForm, final ContentBody contentBody
+    ) throws IOException, URISyntaxException {
+        final URI multipartUri = new URI(taskResponseResultForm.getUrl());
+        final HttpEntity multipartHttpEntity = getMultipartHttpEntity(taskResponseResultForm, contentBody);
+        final HttpUriRequest multipartHttpUriRequest = getHttpUriRequest(HttpPost.class, multipartUri, multipartHttpEntity);
+        multipartHttpUriRequest.removeHeaders(HEADER_AUTHORIZATION);
+        return uploadPostProcess(taskId, asyncRequestExecutor.execute(multipartHttpUriRequest, VOID_TYPE_REFERENCE));
+    }
+
+    /**
+     * Start the upload once the upload task has been created, without blocking the calling thread
+     */
+    private AsyncResult<TaskResponse> uploadWhenCreated(
+        final AsyncResult<TaskResponse> taskResponseAsyncResult, final Upload upload
+    ) {
+        final Span span = TraceContext.current();
+        return taskResponseAsyncResult.thenCompose(taskResponseResult -> {
+            if (HttpStatus.SC_CREATED == taskResponseResult.getStatus().getCode()) {
+                return propagate(span, () -> upload.upload(taskResponseResult.getBody()));
+            } else {
+                return CompletedAsyncResult.<TaskResponse>builder().result(taskResponseResult).build();
+            }
+        });
     }
 
     private AsyncResult<TaskResponse> uploadPostProcess(
         final String taskId, final AsyncResult<Void> multipartVoidAsyncResult
-    ) throws IOException, URISyntaxException, InterruptedException, ExecutionException, CloudConvertClientException, CloudConvertServerException {
-        final Result<Void> multipartVoidResult = multipartVoidAsyncResult.get();
+    ) {
+        final Span span = TraceContext.current();
+        return multipartVoidAsyncResult.thenCompose(multipartVoidResult -> {
+            if (HttpStatus.SC_CREATED == multipartVoidResult.getStatus().getCode()) {
+                return propagate(span, () -> asyncTasksResource.show(taskId));
+            } else if (HttpStatus.SC_SEE_OTHER == multipartVoidResult.getStatus().getCode()) {
+                final AsyncResult<Void> redirectVoidAsyncResult = propagate(span, () -> {
+                    final URI redirectUri = new URI(multipartVoidResult.getHeaders().get("Location"));
+                    final HttpUriRequest redirectHttpUriRequest = getHttpUriRequest(HttpGet.class, redirectUri);
+
+                    return asyncRequestExecutor.execute(redirectHttpUriRequest, VOID_TYPE_REFERENCE);
+                });
+
+                return redirectVoidAsyncResult.thenCompose(redirectVoidResult -> {
+                    if (HttpStatus.SC_CREATED == redirectVoidResult.getStatus().getCode()) {
+                        return propagate(span, () -> asyncTasksResource.show(taskId));
+                    } else {
+                        return getCompletedAsyncResult(redirectVoidResult);
+                    }
+                });
+            } else {
+                return getCompletedAsyncResult(multipartVoidResult);
+            }
+        });
+    }
 
-        if (HttpStatus.SC_CREATED == multipartVoidResult.getStatus().getCode()) {
-            return asyncTasksResource.show(taskId);
-        } else if (HttpStatus.SC_SEE_OTHER == multipartVoidResult.getStatus().getCode()) {
-            final URI redirectUri = new URI(multipartVoidResult.getHeaders().get("Location"));
-            final HttpUriRequest redirectHttpUriRequest = getHttpUriRequest(HttpGet.class, redirectUri);
+    private AsyncResult<TaskResponse> getCompletedAsyncResult(
+        final Result<Void> voidResult
+    ) {
+        return CompletedAsyncResult.<TaskResponse>builder()
+            .result(Result.<TaskResponse>builder().status(voidResult.getStatus()).headers(voidResult.getHeaders()).build()).build();
+    }
 
-            final AsyncResult<Void> redirectVoidAsyncResult = asyncRequestExecutor.execute(redirectHttpUriRequest, VOID_TYPE_REFERENCE);
-            final Result<Void> redirectVoidResult = redirectVoidAsyncResult.get();
+    /**
+     * Chained steps run inside {@link java.util.concurrent.CompletableFuture} callbacks, checked exceptions are passed on
+     * wrapped in {@link CompletionException} and unwrapped again by {@link AsyncResult#get()}. The span current when the step was chained
+     * is made current again, so requests of the step stay in the trace of the upload.
+     */
+    private static <T> AsyncResult<T> propagate(
+        @Nullable final Span span, final Callable<AsyncResult<T>> callable
+    ) {
+        try (TraceContext.Scope ignored = TraceContext.makeCurrent(span)) {
+            return callable.call();
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
 
-            if (HttpStatus.SC_CREATED == redirectVoidResult.getStatus().getCode()) {
-                return asyncTasksResource.show(taskId);
-            } else {
-                return CompletedAsyncResult.<TaskResponse>builder()
-                    .result(Result.<TaskResponse>builder().status(redirectVoidResult.getStatus()).headers(redirectVoidResult.getHeaders()).build()).build();
-            }
-        } else {
-            return CompletedAsyncResult.<TaskResponse>builder()
-                .result(Result.<TaskResponse>builder().status(multipartVoidResult.getStatus()).headers(multipartVoidResult.getHeaders()).build()).build();
+    /**
+     * Run given upload within a span, which ends once the upload completes, its requests are traced as children of it
+     */
+    private AsyncResult<TaskResponse> trace(
+        final TracedUpload tracedUpload
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
+        final Tracer tracer = asyncRequestExecutor.getTracer();
+        if (tracer == Tracer.NONE) {
+            return tracedUpload.upload();
+        }
+
+        final Span span = tracer.startSpan(SPAN_UPLOAD, TraceContext.current());
+        final AsyncResult<TaskResponse> taskResponseAsyncResult;
+        try (TraceContext.Scope ignored = TraceContext.makeCurrent(span)) {
+            taskResponseAsyncResult = tracedUpload.upload();
+        } catch (IOException | URISyntaxException | CloudConvertClientException | CloudConvertServerException | RuntimeException e) {
+            span.recordException(e);
+            span.end();
+            throw e;
         }
+
+        // Span ends before the upload is seen as completed
+        return CompletableFutureAsyncResult.<TaskResponse>builder().completableFuture(
+            taskResponseAsyncResult.toCompletableFuture().whenComplete((taskResponseResult, throwable) -> {
+                if (throwable != null) {
+                    span.recordException(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+                } else if (taskResponseResult != null && taskResponseResult.getStatus() != null) {
+                    span.setAttribute(TracingRequestInterceptor.ATTRIBUTE_HTTP_RESPONSE_STATUS_CODE, taskResponseResult.getStatus().getCode());
+                }
+                span.end();
+            })).build();
     }
 
     @Override
@@ -259,14 +308,56 @@ public class AsyncImportFilesResource extends AbstractImportFilesResource<AsyncR
         return asyncRequestExecutor.execute(getBase64HttpUriRequest(base64ImportRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
 
+    @Override
+    public AsyncResult<TaskResponse> base64(
+        @NotNull final Base64ImportRequest base64ImportRequest, @NotNull final Path path
+    ) throws IOException, URISyntaxException {
+        return asyncRequestExecutor.execute(getBase64HttpUriRequest(base64ImportRequest, path), TASK_RESPONSE_TYPE_REFERENCE);
+    }
+
+    @Override
+    public AsyncResult<TaskResponse> base64(
+        @NotNull final Base64ImportRequest base64ImportRequest, @NotNull final InputStream inputStream
+    ) throws IOException, URISyntaxException {
+        return asyncRequestExecutor.execute(getBase64HttpUriRequest(base64ImportRequest, inputStream), TASK_RESPONSE_TYPE_REFERENCE);
+    }
+
     @Override
     public AsyncResult<TaskResponse> raw(@NotNull final RawImportRequest rawImportRequest) throws IOException, URISyntaxException {
         return asyncRequestExecutor.execute(getRawHttpUriRequest(rawImportRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
 
+    @Override
+    public AsyncResult<TaskResponse> raw(
+        @NotNull final RawImportRequest rawImportRequest, @NotNull final Path path
+    ) throws IOException, URISyntaxException {
+        return asyncRequestExecutor.execute(getRawHttpUriRequest(rawImportRequest, path), TASK_RESPONSE_TYPE_REFERENCE);
+    }
+
+    @Override
+    public AsyncResult<TaskResponse> raw(
+        @NotNull final RawImportRequest rawImportRequest, @NotNull final InputStream inputStream
+    ) throws IOException, URISyntaxException {
+        return asyncRequestExecutor.execute(getRawHttpUriRequest(rawImportRequest, inputStream), TASK_RESPONSE_TYPE_REFERENCE);
+    }
+
     @Override
     public void close() throws IOException {
         asyncRequestExecutor.close();
         asyncTasksResource.close();
     }
+
+    @FunctionalInterface
+    private interface Upload {
+
+        AsyncResult<TaskResponse> upload(
+            TaskResponse taskResponse
+        ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+    }
+
+    @FunctionalInterface
+    private interface TracedUpload {
+
+        AsyncResult<TaskResponse> upload() throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+    }
 }
@@ -11,6 +11,7 @@ import com.cloudconvert.resource.AbstractJobsResource;
 import com.cloudconvert.resource.params.Filter;
 import com.cloudconvert.resource.params.Include;
 import com.cloudconvert.resource.params.Pagination;
+import com.cloudconvert.validation.TaskRequestValidator;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +34,14 @@ public class AsyncJobsResource extends AbstractJobsResource<
         final SettingsProvider settingsProvider,
         final ObjectMapperProvider objectMapperProvider, final AsyncRequestExecutor asyncRequestExecutor
     ) {
-        super(settingsProvider, objectMapperProvider);
+        this(settingsProvider, objectMapperProvider, asyncRequestExecutor, TaskRequestValidator.NONE);
+    }
+
+    public AsyncJobsResource(
+        final SettingsProvider settingsProvider,
+        final ObjectMapperProvider objectMapperProvider, final AsyncRequestExecutor asyncRequestExecutor, final TaskRequestValidator taskRequestValidator
+    ) {
+        super(settingsProvider, objectMapperProvider, taskRequestValidator);
 
         this.asyncRequestExecutor = asyncRequestExecutor;
     }
@@ -52,6 +60,13 @@ public class AsyncJobsResource extends AbstractJobsResource<
         return asyncRequestExecutor.execute(getCreateHttpUriRequest(tasks, tag), JOB_RESPONSE_TYPE_REFERENCE);
     }
 
+    @Override
+    public AsyncResult<JobResponse> create(
+        @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag, @NotNull final String idempotencyKey
+    ) throws IOException, URISyntaxException {
+        return asyncRequestExecutor.execute(getCreateHttpUriRequest(tasks, tag, idempotencyKey), JOB_RESPONSE_TYPE_REFERENCE);
+    }
+
     @Override
     public AsyncResult<JobResponse> show(
         @NotNull final String jobId
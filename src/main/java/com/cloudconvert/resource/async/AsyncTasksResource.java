@@ -14,6 +14,7 @@ import com.cloudconvert.resource.AbstractTasksResource;
 import com.cloudconvert.resource.params.Filter;
 import com.cloudconvert.resource.params.Include;
 import com.cloudconvert.resource.params.Pagination;
+import com.cloudconvert.validation.TaskRequestValidator;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import lombok.extern.slf4j.Slf4j;
@@ -38,9 +39,23 @@ public class AsyncTasksResource extends AbstractTasksResource<AsyncResult<TaskRe
         final AsyncCreateArchivesResource asyncCreateArchivesResource, final AsyncExecuteCommandsResource asyncExecuteCommandsResource,
         final AsyncCreateThumbnailsResource asyncCreateThumbnailsResource, final AsyncGetMetadataResource asyncGetMetadataResource,
         final AsyncWriteMetadataResource asyncWriteMetadataResource, final AsyncAddWatermarkResource asyncAddWatermarkResource
+    ) {
+        this(settingsProvider, objectMapperProvider, asyncRequestExecutor,
+            asyncConvertFilesResource, asyncOptimizeFilesResource, asyncCaptureWebsitesResource, asyncMergeFilesResource,
+            asyncCreateArchivesResource, asyncExecuteCommandsResource, asyncCreateThumbnailsResource, asyncGetMetadataResource, asyncWriteMetadataResource, asyncAddWatermarkResource, TaskRequestValidator.NONE);
+    }
+
+    public AsyncTasksResource(
+        final SettingsProvider settingsProvider, final ObjectMapperProvider objectMapperProvider, final AsyncRequestExecutor asyncRequestExecutor,
+        final AsyncConvertFilesResource asyncConvertFilesResource, final AsyncOptimizeFilesResource asyncOptimizeFilesResource,
+        final AsyncCaptureWebsitesResource asyncCaptureWebsitesResource, final AsyncMergeFilesResource asyncMergeFilesResource,
+        final AsyncCreateArchivesResource asyncCreateArchivesResource, final AsyncExecuteCommandsResource asyncExecuteCommandsResource,
+        final AsyncCreateThumbnailsResource asyncCreateThumbnailsResource, final AsyncGetMetadataResource asyncGetMetadataResource,
+        final AsyncWriteMetadataResource asyncWriteMetadataResource, final AsyncAddWatermarkResource asyncAddWatermarkResource,
+        final TaskRequestValidator taskRequestValidator
     ) {
         super(settingsProvider, objectMapperProvider, asyncConvertFilesResource, asyncOptimizeFilesResource, asyncCaptureWebsitesResource,
-            asyncMergeFilesResource, asyncCreateArchivesResource, asyncExecuteCommandsResource, asyncCreateThumbnailsResource, asyncGetMetadataResource, asyncWriteMetadataResource, asyncAddWatermarkResource);
+            asyncMergeFilesResource, asyncCreateArchivesResource, asyncExecuteCommandsResource, asyncCreateThumbnailsResource, asyncGetMetadataResource, asyncWriteMetadataResource, asyncAddWatermarkResource, taskRequestValidator);
 
         this.asyncRequestExecutor = asyncRequestExecutor;
     }
@@ -131,7 +146,7 @@ public class AsyncTasksResource extends AbstractTasksResource<AsyncResult<TaskRe
     public AsyncResult<TaskResponse> convert(
         @NotNull final ConvertFilesTaskRequest convertFilesTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractConvertFilesResource().convert(convertFilesTaskRequest);
+        return getAbstractConvertFilesResource().convert(validate(convertFilesTaskRequest));
     }
 
     @Override
@@ -164,63 +179,63 @@ public class AsyncTasksResource extends AbstractTasksResource<AsyncResult<TaskRe
     public AsyncResult<TaskResponse> optimize(
         @NotNull final OptimizeFilesTaskRequest optimizeFilesTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractOptimizeFilesResource().optimize(optimizeFilesTaskRequest);
+        return getAbstractOptimizeFilesResource().optimize(validate(optimizeFilesTaskRequest));
     }
 
     @Override
     public AsyncResult<TaskResponse> capture(
         @NotNull final CaptureWebsitesTaskRequest captureWebsitesTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractCaptureWebsitesResource().capture(captureWebsitesTaskRequest);
+        return getAbstractCaptureWebsitesResource().capture(validate(captureWebsitesTaskRequest));
     }
 
     @Override
     public AsyncResult<TaskResponse> merge(
         @NotNull final MergeFilesTaskRequest mergeFilesTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractMergeFilesResource().merge(mergeFilesTaskRequest);
+        return getAbstractMergeFilesResource().merge(validate(mergeFilesTaskRequest));
     }
 
     @Override
     public AsyncResult<TaskResponse> archive(
         @NotNull final CreateArchivesTaskRequest createArchivesTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractCreateArchivesResource().archive(createArchivesTaskRequest);
+        return getAbstractCreateArchivesResource().archive(validate(createArchivesTaskRequest));
     }
 
     @Override
     public AsyncResult<TaskResponse> command(
         @NotNull final ExecuteCommandsTaskRequest executeCommandsTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractExecuteCommandsResource().command(executeCommandsTaskRequest);
+        return getAbstractExecuteCommandsResource().command(validate(executeCommandsTaskRequest));
     }
 
     @Override
     public AsyncResult<TaskResponse> thumbnail(
         @NotNull final CreateThumbnailsTaskRequest createThumbnailsTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractCreateThumbnailsResource().thumbnail(createThumbnailsTaskRequest);
+        return getAbstractCreateThumbnailsResource().thumbnail(validate(createThumbnailsTaskRequest));
     }
 
     @Override
     public AsyncResult<TaskResponse> metadata(
         @NotNull final GetMetadataTaskRequest getMetadataTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractGetMetadataResource().metadata(getMetadataTaskRequest);
+        return getAbstractGetMetadataResource().metadata(validate(getMetadataTaskRequest));
     }
 
     @Override
     public AsyncResult<TaskResponse> writeMetadata(
         @NotNull final WriteMetadataTaskRequest writeMetadataTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractWriteMetadataResource().writeMetadata(writeMetadataTaskRequest);
+        return getAbstractWriteMetadataResource().writeMetadata(validate(writeMetadataTaskRequest));
     }
 
     @Override
     public AsyncResult<TaskResponse> watermark(
             @NotNull final AddWatermarkTaskRequest addWatermarkTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractAddWatermarkResource().watermark(addWatermarkTaskRequest);
+        return getAbstractAddWatermarkResource().watermark(validate(addWatermarkTaskRequest));
     }
 
     @Override
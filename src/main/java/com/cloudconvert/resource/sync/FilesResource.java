@@ -13,9 +13,18 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 @Slf4j
-public class FilesResource extends AbstractFilesResource<Result<InputStream>> {
+public class FilesResource extends AbstractFilesResource<Result<InputStream>, Result<Void>> {
+
+    public static final int BUFFER_SIZE = 64 * 1024;
 
     private final RequestExecutor requestExecutor;
 
@@ -35,6 +44,42 @@ public class FilesResource extends AbstractFilesResource<Result<InputStream>> {
         return requestExecutor.execute(getDownloadHttpUriRequest(path), INPUT_STREAM_TYPE_REFERENCE);
     }
 
+    @Override
+    public Result<Void> download(
+        @NotNull final String path, @NotNull final Path target
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
+        final Result<InputStream> inputStreamResult = download(path);
+
+        try (final ReadableByteChannel readableByteChannel = Channels.newChannel(inputStreamResult.getBody());
+             final FileChannel fileChannel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Reads until the end of stream, using a small fixed size transfer buffer
+            fileChannel.transferFrom(readableByteChannel, 0, Long.MAX_VALUE);
+        }
+
+        return Result.<Void>builder().status(inputStreamResult.getStatus()).headers(inputStreamResult.getHeaders()).build();
+    }
+
+    @Override
+    public Result<Void> download(
+        @NotNull final String path, @NotNull final WritableByteChannel writableByteChannel
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
+        final Result<InputStream> inputStreamResult = download(path);
+
+        try (final ReadableByteChannel readableByteChannel = Channels.newChannel(inputStreamResult.getBody())) {
+            final ByteBuffer byteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+            while (readableByteChannel.read(byteBuffer) != -1) {
+                byteBuffer.flip();
+                while (byteBuffer.hasRemaining()) {
+                    writableByteChannel.write(byteBuffer);
+                }
+                byteBuffer.clear();
+            }
+        }
+
+        return Result.<Void>builder().status(inputStreamResult.getStatus()).headers(inputStreamResult.getHeaders()).build();
+    }
+
     @Override
     public void close() throws IOException {
         requestExecutor.close();
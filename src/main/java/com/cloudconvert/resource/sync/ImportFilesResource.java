@@ -17,6 +17,10 @@ import com.cloudconvert.exception.CloudConvertClientException;
 import com.cloudconvert.exception.CloudConvertServerException;
 import com.cloudconvert.executor.RequestExecutor;
 import com.cloudconvert.resource.AbstractImportFilesResource;
+import com.cloudconvert.tracing.Span;
+import com.cloudconvert.tracing.TraceContext;
+import com.cloudconvert.tracing.Tracer;
+import com.cloudconvert.tracing.TracingRequestInterceptor;
 import com.google.common.collect.ImmutableList;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpEntity;
@@ -31,6 +35,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 
 @Slf4j
 public class ImportFilesResource extends AbstractImportFilesResource<Result<TaskResponse>> {
@@ -71,7 +76,7 @@ public class ImportFilesResource extends AbstractImportFilesResource<Result<Task
     public Result<TaskResponse> upload(
         @NotNull final UploadImportRequest uploadImportRequest, @NotNull final File file
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return upload(upload(uploadImportRequest), file);
+        return trace(() -> upload(upload(uploadImportRequest), file));
     }
 
     @Override
@@ -102,14 +107,14 @@ public class ImportFilesResource extends AbstractImportFilesResource<Result<Task
     public Result<TaskResponse> upload(
         @NotNull UploadImportRequest uploadImportRequest, @NotNull InputStream inputStream
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return upload(upload(uploadImportRequest), inputStream);
+        return trace(() -> upload(upload(uploadImportRequest), inputStream));
     }
 
     @Override
     public Result<TaskResponse> upload(
         @NotNull final UploadImportRequest uploadImportRequest, @NotNull final InputStream inputStream, @NotNull final String filename
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return upload(upload(uploadImportRequest), inputStream, filename);
+        return trace(() -> upload(upload(uploadImportRequest), inputStream, filename));
     }
 
     @Override
@@ -181,6 +186,32 @@ public class ImportFilesResource extends AbstractImportFilesResource<Result<Task
         }
     }
 
+    /**
+     * Run given upload within a span, its requests are traced as children of it
+     */
+    private Result<TaskResponse> trace(
+        final Upload upload
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
+        final Tracer tracer = requestExecutor.getTracer();
+        if (tracer == Tracer.NONE) {
+            return upload.upload();
+        }
+
+        final Span span = tracer.startSpan(SPAN_UPLOAD, TraceContext.current());
+        try (TraceContext.Scope ignored = TraceContext.makeCurrent(span)) {
+            final Result<TaskResponse> taskResponseResult = upload.upload();
+            if (taskResponseResult.getStatus() != null) {
+                span.setAttribute(TracingRequestInterceptor.ATTRIBUTE_HTTP_RESPONSE_STATUS_CODE, taskResponseResult.getStatus().getCode());
+            }
+            return taskResponseResult;
+        } catch (IOException | URISyntaxException | CloudConvertClientException | CloudConvertServerException | RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
     @Override
     public Result<TaskResponse> s3(
         @NotNull final S3ImportRequest s3ImportRequest
@@ -223,6 +254,20 @@ public class ImportFilesResource extends AbstractImportFilesResource<Result<Task
         return requestExecutor.execute(getBase64HttpUriRequest(base64ImportRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
 
+    @Override
+    public Result<TaskResponse> base64(
+        @NotNull final Base64ImportRequest base64ImportRequest, @NotNull final Path path
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
+        return requestExecutor.execute(getBase64HttpUriRequest(base64ImportRequest, path), TASK_RESPONSE_TYPE_REFERENCE);
+    }
+
+    @Override
+    public Result<TaskResponse> base64(
+        @NotNull final Base64ImportRequest base64ImportRequest, @NotNull final InputStream inputStream
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
+        return requestExecutor.execute(getBase64HttpUriRequest(base64ImportRequest, inputStream), TASK_RESPONSE_TYPE_REFERENCE);
+    }
+
     @Override
     public Result<TaskResponse> raw(
         @NotNull RawImportRequest rawImportRequest
@@ -230,9 +275,29 @@ public class ImportFilesResource extends AbstractImportFilesResource<Result<Task
         return requestExecutor.execute(getRawHttpUriRequest(rawImportRequest), TASK_RESPONSE_TYPE_REFERENCE);
     }
 
+    @Override
+    public Result<TaskResponse> raw(
+        @NotNull final RawImportRequest rawImportRequest, @NotNull final Path path
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
+        return requestExecutor.execute(getRawHttpUriRequest(rawImportRequest, path), TASK_RESPONSE_TYPE_REFERENCE);
+    }
+
+    @Override
+    public Result<TaskResponse> raw(
+        @NotNull final RawImportRequest rawImportRequest, @NotNull final InputStream inputStream
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
+        return requestExecutor.execute(getRawHttpUriRequest(rawImportRequest, inputStream), TASK_RESPONSE_TYPE_REFERENCE);
+    }
+
     @Override
     public void close() throws IOException {
         requestExecutor.close();
         tasksResource.close();
     }
+
+    @FunctionalInterface
+    private interface Upload {
+
+        Result<TaskResponse> upload() throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException;
+    }
 }
@@ -13,6 +13,7 @@ import com.cloudconvert.resource.AbstractJobsResource;
 import com.cloudconvert.resource.params.Filter;
 import com.cloudconvert.resource.params.Include;
 import com.cloudconvert.resource.params.Pagination;
+import com.cloudconvert.validation.TaskRequestValidator;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import lombok.extern.slf4j.Slf4j;
@@ -34,7 +35,14 @@ public class JobsResource extends AbstractJobsResource<
         final SettingsProvider settingsProvider,
         final ObjectMapperProvider objectMapperProvider, final RequestExecutor requestExecutor
     ) {
-        super(settingsProvider, objectMapperProvider);
+        this(settingsProvider, objectMapperProvider, requestExecutor, TaskRequestValidator.NONE);
+    }
+
+    public JobsResource(
+        final SettingsProvider settingsProvider,
+        final ObjectMapperProvider objectMapperProvider, final RequestExecutor requestExecutor, final TaskRequestValidator taskRequestValidator
+    ) {
+        super(settingsProvider, objectMapperProvider, taskRequestValidator);
 
         this.requestExecutor = requestExecutor;
     }
@@ -53,6 +61,13 @@ public class JobsResource extends AbstractJobsResource<
         return requestExecutor.execute(getCreateHttpUriRequest(tasks, tag), JOB_RESPONSE_TYPE_REFERENCE);
     }
 
+    @Override
+    public Result<JobResponse> create(
+        @NotNull final Map<String, TaskRequest> tasks, @NotNull final String tag, @NotNull final String idempotencyKey
+    ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
+        return requestExecutor.execute(getCreateHttpUriRequest(tasks, tag, idempotencyKey), JOB_RESPONSE_TYPE_REFERENCE);
+    }
+
     @Override
     public Result<JobResponse> show(
         @NotNull final String jobId
@@ -14,6 +14,7 @@ import com.cloudconvert.resource.AbstractTasksResource;
 import com.cloudconvert.resource.params.Filter;
 import com.cloudconvert.resource.params.Include;
 import com.cloudconvert.resource.params.Pagination;
+import com.cloudconvert.validation.TaskRequestValidator;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import lombok.extern.slf4j.Slf4j;
@@ -39,9 +40,24 @@ public class TasksResource extends AbstractTasksResource<Result<TaskResponse>,
         final CreateArchivesResource createArchivesResource, final ExecuteCommandsResource executeCommandsResource,
         final CreateThumbnailsResource createThumbnailsResource, final GetMetadataResource getMetadataResource,
         final WriteMetadataResource writeMetadataResource, final AddWatermarkResource addWatermarkResource
+    ) {
+        this(settingsProvider, objectMapperProvider, requestExecutor,
+            convertFilesResource, optimizeFilesResource, captureWebsitesResource, mergeFilesResource,
+            createArchivesResource, executeCommandsResource, createThumbnailsResource, getMetadataResource, writeMetadataResource, addWatermarkResource, TaskRequestValidator.NONE);
+    }
+
+    public TasksResource(
+        final SettingsProvider settingsProvider,
+        final ObjectMapperProvider objectMapperProvider, final RequestExecutor requestExecutor,
+        final ConvertFilesResource convertFilesResource, final OptimizeFilesResource optimizeFilesResource,
+        final CaptureWebsitesResource captureWebsitesResource, final MergeFilesResource mergeFilesResource,
+        final CreateArchivesResource createArchivesResource, final ExecuteCommandsResource executeCommandsResource,
+        final CreateThumbnailsResource createThumbnailsResource, final GetMetadataResource getMetadataResource,
+        final WriteMetadataResource writeMetadataResource, final AddWatermarkResource addWatermarkResource,
+        final TaskRequestValidator taskRequestValidator
     ) {
         super(settingsProvider, objectMapperProvider, convertFilesResource, optimizeFilesResource, captureWebsitesResource,
-            mergeFilesResource, createArchivesResource, executeCommandsResource, createThumbnailsResource, getMetadataResource, writeMetadataResource, addWatermarkResource);
+            mergeFilesResource, createArchivesResource, executeCommandsResource, createThumbnailsResource, getMetadataResource, writeMetadataResource, addWatermarkResource, taskRequestValidator);
 
         this.requestExecutor = requestExecutor;
     }
@@ -132,7 +148,7 @@ public class TasksResource extends AbstractTasksResource<Result<TaskResponse>,
     public Result<TaskResponse> convert(
         @NotNull final ConvertFilesTaskRequest convertFilesTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractConvertFilesResource().convert(convertFilesTaskRequest);
+        return getAbstractConvertFilesResource().convert(validate(convertFilesTaskRequest));
     }
 
     @Override
@@ -165,59 +181,59 @@ public class TasksResource extends AbstractTasksResource<Result<TaskResponse>,
     public Result<TaskResponse> optimize(
         @NotNull final OptimizeFilesTaskRequest optimizeFilesTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractOptimizeFilesResource().optimize(optimizeFilesTaskRequest);
+        return getAbstractOptimizeFilesResource().optimize(validate(optimizeFilesTaskRequest));
     }
 
     @Override
     public Result<TaskResponse> capture(
         @NotNull final CaptureWebsitesTaskRequest captureWebsitesTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractCaptureWebsitesResource().capture(captureWebsitesTaskRequest);
+        return getAbstractCaptureWebsitesResource().capture(validate(captureWebsitesTaskRequest));
     }
 
     @Override
     public Result<TaskResponse> merge(
         @NotNull final MergeFilesTaskRequest mergeFilesTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractMergeFilesResource().merge(mergeFilesTaskRequest);
+        return getAbstractMergeFilesResource().merge(validate(mergeFilesTaskRequest));
     }
 
     @Override
     public Result<TaskResponse> archive(
         @NotNull final CreateArchivesTaskRequest createArchivesTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractCreateArchivesResource().archive(createArchivesTaskRequest);
+        return getAbstractCreateArchivesResource().archive(validate(createArchivesTaskRequest));
     }
 
     @Override
     public Result<TaskResponse> command(
         @NotNull final ExecuteCommandsTaskRequest executeCommandsTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractExecuteCommandsResource().command(executeCommandsTaskRequest);
+        return getAbstractExecuteCommandsResource().command(validate(executeCommandsTaskRequest));
     }
 
     @Override
     public Result<TaskResponse> thumbnail(@NotNull CreateThumbnailsTaskRequest createThumbnailsTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractCreateThumbnailsResource().thumbnail(createThumbnailsTaskRequest);
+        return getAbstractCreateThumbnailsResource().thumbnail(validate(createThumbnailsTaskRequest));
     }
 
     @Override
     public Result<TaskResponse> metadata(@NotNull GetMetadataTaskRequest getMetadataTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractGetMetadataResource().metadata(getMetadataTaskRequest);
+        return getAbstractGetMetadataResource().metadata(validate(getMetadataTaskRequest));
     }
 
     @Override
     public Result<TaskResponse> writeMetadata(@NotNull WriteMetadataTaskRequest writeMetadataTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractWriteMetadataResource().writeMetadata(writeMetadataTaskRequest);
+        return getAbstractWriteMetadataResource().writeMetadata(validate(writeMetadataTaskRequest));
     }
 
     @Override
     public Result<TaskResponse> watermark(@NotNull AddWatermarkTaskRequest addWatermarkTaskRequest
     ) throws IOException, URISyntaxException, CloudConvertClientException, CloudConvertServerException {
-        return getAbstractAddWatermarkResource().watermark(addWatermarkTaskRequest);
+        return getAbstractAddWatermarkResource().watermark(validate(addWatermarkTaskRequest));
     }
 
     @Override
@@ -0,0 +1,160 @@
+package com.cloudconvert.signature;
+
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.jetbrains.annotations.NotNull;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * HMAC-SHA256 signer keyed once, safe for concurrent use.
+ * <p>
+ * Initialized {@link Mac} instances are kept in a pool and reused, so neither {@link Mac#getInstance(String)} nor key
+ * initialization runs per payload. Signatures are compared as raw digests in constant time.
+ */
+public class HmacSha256Signer {
+
+    public static final String HMAC_SHA256 = "HmacSHA256";
+    public static final int BUFFER_SIZE = 8 * 1024;
+
+    private final SecretKeySpec secretKeySpec;
+    private final Queue<Mac> macs;
+
+    public HmacSha256Signer(
+        @NotNull final String secret
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public HmacSha256Signer(
+        @NotNull final byte[] secret
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        this.secretKeySpec = new SecretKeySpec(secret, HMAC_SHA256);
+        this.macs = new ConcurrentLinkedQueue<>();
+
+        // Fail fast on an unusable key, keep the instance for the first caller
+        macs.offer(newMac());
+    }
+
+    public byte[] sign(
+        @NotNull final byte[] payload
+    ) {
+        final Mac mac = borrow();
+        try {
+            return mac.doFinal(payload);
+        } finally {
+            macs.offer(mac);
+        }
+    }
+
+    public byte[] sign(
+        @NotNull final ByteBuffer payload
+    ) {
+        final Mac mac = borrow();
+        try {
+            mac.update(payload);
+            return mac.doFinal();
+        } finally {
+            macs.offer(mac);
+        }
+    }
+
+    public byte[] sign(
+        @NotNull final InputStream payload
+    ) throws IOException {
+        final Mac mac = borrow();
+        try {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            for (int read = payload.read(buffer); read != -1; read = payload.read(buffer)) {
+                mac.update(buffer, 0, read);
+            }
+            return mac.doFinal();
+        } finally {
+            // Reset, in case the stream failed half way
+            mac.reset();
+            macs.offer(mac);
+        }
+    }
+
+    public String signHex(
+        @NotNull final byte[] payload
+    ) {
+        return Hex.encodeHexString(sign(payload));
+    }
+
+    /**
+     * @param payload   payload
+     * @param signature hex encoded signature
+     * @return true, if signature of the payload matches
+     */
+    public boolean verify(
+        @NotNull final byte[] payload, @NotNull final String signature
+    ) {
+        return decodeHex(signature).map(expected -> MessageDigest.isEqual(expected, sign(payload))).orElse(false);
+    }
+
+    /**
+     * @param payload   payload, consumed from its position to its limit
+     * @param signature hex encoded signature
+     * @return true, if signature of the payload matches
+     */
+    public boolean verify(
+        @NotNull final ByteBuffer payload, @NotNull final String signature
+    ) {
+        return decodeHex(signature).map(expected -> MessageDigest.isEqual(expected, sign(payload))).orElse(false);
+    }
+
+    /**
+     * @param payload   payload, read till the end but not closed
+     * @param signature hex encoded signature
+     * @return true, if signature of the payload matches
+     */
+    public boolean verify(
+        @NotNull final InputStream payload, @NotNull final String signature
+    ) throws IOException {
+        final byte[] actual = sign(payload);
+
+        return decodeHex(signature).map(expected -> MessageDigest.isEqual(expected, actual)).orElse(false);
+    }
+
+    private Mac borrow() {
+        final Mac mac = macs.poll();
+        if (mac != null) {
+            return mac;
+        }
+
+        try {
+            return newMac();
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            // Same algorithm and key have been accepted in constructor already
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Mac newMac() throws NoSuchAlgorithmException, InvalidKeyException {
+        final Mac mac = Mac.getInstance(HMAC_SHA256);
+        mac.init(secretKeySpec);
+        return mac;
+    }
+
+    private Optional<byte[]> decodeHex(
+        final String signature
+    ) {
+        try {
+            return Optional.of(Hex.decodeHex(signature.trim().toCharArray()));
+        } catch (DecoderException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.cloudconvert.signature;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Signed URL of a job, prepared once and signed many times with different variable values.
+ * <p>
+ * String values of tasks may be replaced by {@link #variable(String)} placeholders. The job JSON is serialized once, the key is
+ * initialized once and the HMAC state over the constant beginning of the URL is precomputed, so signing a variant only serializes
+ * variable values, encodes the rest of the job and hashes the rest of the URL.
+ * <p>
+ * Produced URLs are identical to {@link com.cloudconvert.resource.AbstractSignedUrlResource#sign(String, String, Map, String)}
+ * with the values put in place of the placeholders. Instances are safe for concurrent use.
+ */
+public class SignedUrlTemplate {
+
+    public static final int PARALLEL_THRESHOLD = 64;
+
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\"\\{\\{([A-Za-z0-9_.-]+)}}\"");
+    private static final int HEX_SIGNATURE_LENGTH = 64;
+
+    private final String urlPrefix;
+    private final byte[] urlPrefixBytes;
+    private final byte[] jobHeadRemainder;
+    private final List<String> variableNames;
+    private final List<byte[]> jobSegments;
+    private final int jobLength;
+
+    private final SecretKeySpec secretKeySpec;
+    private final Mac prototypeMac;
+
+    /**
+     * @param base          signed URL base
+     * @param signingSecret signing secret
+     * @param jobJson       job JSON, possibly containing {@link #variable(String)} placeholders
+     */
+    public SignedUrlTemplate(
+        @NotNull final String base, @NotNull final String signingSecret, @NotNull final String jobJson
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        this(base, signingSecret, jobJson, true);
+    }
+
+    /**
+     * @param base           signed URL base
+     * @param signingSecret  signing secret
+     * @param jobJson        job JSON
+     * @param withVariables  whether to look for {@link #variable(String)} placeholders, otherwise job JSON is taken as is
+     */
+    public SignedUrlTemplate(
+        @NotNull final String base, @NotNull final String signingSecret, @NotNull final String jobJson, final boolean withVariables
+    ) throws NoSuchAlgorithmException, InvalidKeyException {
+        // Split job JSON at placeholders: segment 0, variable 0, segment 1, ..., variable n - 1, segment n
+        final ImmutableList.Builder<String> variableNamesBuilder = ImmutableList.builder();
+        final ImmutableList.Builder<byte[]> jobSegmentsBuilder = ImmutableList.builder();
+        int position = 0;
+        if (withVariables) {
+            final Matcher matcher = VARIABLE_PATTERN.matcher(jobJson);
+            while (matcher.find()) {
+                jobSegmentsBuilder.add(jobJson.substring(position, matcher.start()).getBytes(StandardCharsets.UTF_8));
+                variableNamesBuilder.add(matcher.group(1));
+                position = matcher.end();
+            }
+        }
+        jobSegmentsBuilder.add(jobJson.substring(position).getBytes(StandardCharsets.UTF_8));
+
+        final List<byte[]> allJobSegments = jobSegmentsBuilder.build();
+        final byte[] jobHead = allJobSegments.get(0);
+
+        // Base64 maps each 3 bytes to 4 characters, so the head of the job is encoded once up to the last full group
+        final int jobHeadEncodedLength = jobHead.length - jobHead.length % 3;
+        final byte[] jobHeadEncoded = new byte[jobHeadEncodedLength];
+        System.arraycopy(jobHead, 0, jobHeadEncoded, 0, jobHeadEncodedLength);
+
+        this.urlPrefix = base + "?job=" + Base64.encodeBase64URLSafeString(jobHeadEncoded);
+        this.urlPrefixBytes = urlPrefix.getBytes(StandardCharsets.UTF_8);
+        this.jobHeadRemainder = new byte[jobHead.length - jobHeadEncodedLength];
+        System.arraycopy(jobHead, jobHeadEncodedLength, jobHeadRemainder, 0, jobHeadRemainder.length);
+        this.variableNames = variableNamesBuilder.build();
+        this.jobSegments = allJobSegments.subList(1, allJobSegments.size());
+        this.jobLength = allJobSegments.stream().mapToInt(jobSegment -> jobSegment.length).sum();
+
+        this.secretKeySpec = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), HmacSha256Signer.HMAC_SHA256);
+        this.prototypeMac = newMac();
+    }
+
+    /**
+     * Placeholder to be used instead of a string value of a task, e.g. {@code new UrlImportRequest().setUrl(SignedUrlTemplate.variable("url"))}
+     *
+     * @param name variable name, consisting of letters, digits, '_', '.' and '-'
+     * @return placeholder
+     */
+    public static String variable(
+        @NotNull final String name
+    ) {
+        return "{{" + name + "}}";
+    }
+
+    /**
+     * @return names of variables in order of appearance, a variable used more times appears more times
+     */
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+    /**
+     * Sign template without variables, or with a single variable
+     *
+     * @param values   value of the single variable, if any
+     * @return signed URL
+     */
+    public String sign(
+        @NotNull final String... values
+    ) {
+        if (values.length > 1 || variableNames.stream().distinct().count() != values.length) {
+            throw new IllegalArgumentException("Template has variables " + variableNames + ", use sign(Map, String)");
+        }
+
+        return sign(values.length == 0 ? ImmutableMap.of() : ImmutableMap.of(variableNames.get(0), values[0]), null);
+    }
+
+    /**
+     * @param variables values of variables
+     * @param cacheKey  cache key, optional
+     * @return signed URL
+     */
+    public String sign(
+        @NotNull final Map<String, String> variables, @Nullable final String cacheKey
+    ) {
+        final ByteArrayOutputStream jobByteArrayOutputStream = new ByteArrayOutputStream(jobLength + 256);
+        jobByteArrayOutputStream.write(jobHeadRemainder, 0, jobHeadRemainder.length);
+        for (int i = 0; i < variableNames.size(); i++) {
+            final String value = variables.get(variableNames.get(i));
+            if (value == null) {
+                throw new IllegalArgumentException("Value of variable " + variableNames.get(i) + " is missing");
+            }
+
+            final byte[] quotedValue = JsonStringEncoder.getInstance().quoteAsUTF8(value);
+            jobByteArrayOutputStream.write('"');
+            jobByteArrayOutputStream.write(quotedValue, 0, quotedValue.length);
+            jobByteArrayOutputStream.write('"');
+            jobByteArrayOutputStream.write(jobSegments.get(i), 0, jobSegments.get(i).length);
+        }
+
+        final String urlSuffix = cacheKey == null ? Base64.encodeBase64URLSafeString(jobByteArrayOutputStream.toByteArray())
+            : Base64.encodeBase64URLSafeString(jobByteArrayOutputStream.toByteArray()) + "&cache_key=" + cacheKey;
+
+        final Mac mac = copyPrototypeMac();
+        mac.update(urlSuffix.getBytes(StandardCharsets.UTF_8));
+
+        return new StringBuilder(urlPrefix.length() + urlSuffix.length() + 3 + HEX_SIGNATURE_LENGTH)
+            .append(urlPrefix).append(urlSuffix).append("&s=").append(Hex.encodeHex(mac.doFinal())).toString();
+    }
+
+    /**
+     * Sign many variants, large batches are signed in parallel
+     *
+     * @param variables        values of variables, per variant
+     * @param cacheKeyFunction cache key per variant, optional
+     * @return signed URLs, in order of variants
+     */
+    public List<String> signAll(
+        @NotNull final List<? extends Map<String, String>> variables, @Nullable final Function<Map<String, String>, String> cacheKeyFunction
+    ) {
+        final Stream<? extends Map<String, String>> variablesStream = variables.size() >= PARALLEL_THRESHOLD ? variables.parallelStream() : variables.stream();
+
+        return variablesStream.map(variant -> sign(variant, cacheKeyFunction == null ? null : cacheKeyFunction.apply(variant))).collect(Collectors.toList());
+    }
+
+    /**
+     * Sign many variants of template with a single variable, large batches are signed in parallel
+     *
+     * @param values values of the single variable, per variant
+     * @return signed URLs, in order of values
+     */
+    public List<String> signAllValues(
+        @NotNull final List<String> values
+    ) {
+        final Stream<String> valuesStream = values.size() >= PARALLEL_THRESHOLD ? values.parallelStream() : values.stream();
+
+        return valuesStream.map(this::sign).collect(Collectors.toList());
+    }
+
+    private Mac copyPrototypeMac() {
+        try {
+            return (Mac) prototypeMac.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                return newMac();
+            } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
+                // Same algorithm and key have been accepted in constructor already
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    private Mac newMac() throws NoSuchAlgorithmException, InvalidKeyException {
+        final Mac mac = Mac.getInstance(HmacSha256Signer.HMAC_SHA256);
+        mac.init(secretKeySpec);
+        mac.update(urlPrefixBytes);
+        return mac;
+    }
+}
@@ -0,0 +1,109 @@
+package com.cloudconvert.tracing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Dependency-free {@link Tracer}, hands each span to a {@link SpanExporter} once it has ended.
+ * <p>
+ * Ids follow W3C Trace Context, children inherit the trace id of their parent.
+ */
+public class SimpleTracer implements Tracer {
+
+    private final SpanExporter spanExporter;
+
+    public SimpleTracer(
+        @NotNull final SpanExporter spanExporter
+    ) {
+        this.spanExporter = spanExporter;
+    }
+
+    @Override
+    public Span startSpan(
+        @NotNull final String name, @Nullable final Span parent
+    ) {
+        final SpanContext parentSpanContext = parent == null ? SpanContext.INVALID : parent.getSpanContext();
+        final String traceId = parentSpanContext.isValid() ? parentSpanContext.getTraceId() : randomHex(2);
+        final String parentSpanId = parentSpanContext.isValid() ? parentSpanContext.getSpanId() : null;
+
+        return new SimpleSpan(name, new SpanContext(traceId, randomHex(1)), parentSpanId);
+    }
+
+    private static String randomHex(
+        final int longs
+    ) {
+        final StringBuilder hex = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            long value;
+            do {
+                value = ThreadLocalRandom.current().nextLong();
+            } while (value == 0);
+            hex.append(String.format("%016x", value));
+        }
+        return hex.toString();
+    }
+
+    private class SimpleSpan implements Span {
+
+        private final String name;
+        private final SpanContext spanContext;
+        private final String parentSpanId;
+        private final Instant startTime = Instant.now();
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        private volatile Throwable exception;
+
+        private SimpleSpan(
+            final String name, final SpanContext spanContext, final String parentSpanId
+        ) {
+            this.name = name;
+            this.spanContext = spanContext;
+            this.parentSpanId = parentSpanId;
+        }
+
+        @Override
+        public SpanContext getSpanContext() {
+            return spanContext;
+        }
+
+        @Override
+        public void setAttribute(@NotNull final String key, @NotNull final String value) {
+            synchronized (attributes) {
+                attributes.put(key, value);
+            }
+        }
+
+        @Override
+        public void setAttribute(@NotNull final String key, final long value) {
+            synchronized (attributes) {
+                attributes.put(key, value);
+            }
+        }
+
+        @Override
+        public void recordException(@NotNull final Throwable throwable) {
+            exception = throwable;
+        }
+
+        @Override
+        public void end() {
+            if (!ended.compareAndSet(false, true)) {
+                return;
+            }
+
+            final Map<String, Object> attributesSnapshot;
+            synchronized (attributes) {
+                attributesSnapshot = new LinkedHashMap<>(attributes);
+            }
+            spanExporter.export(SpanData.builder().name(name).spanContext(spanContext).parentSpanId(parentSpanId).startTime(startTime)
+                .endTime(Instant.now()).attributes(attributesSnapshot).exception(exception).build());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.cloudconvert.tracing;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Operation being traced, started by a {@link Tracer} and ended exactly once
+ */
+public interface Span {
+
+    /**
+     * Span which records nothing
+     */
+    Span NONE = new Span() {
+
+        @Override
+        public SpanContext getSpanContext() {
+            return SpanContext.INVALID;
+        }
+
+        @Override
+        public void setAttribute(@NotNull final String key, @NotNull final String value) {
+        }
+
+        @Override
+        public void setAttribute(@NotNull final String key, final long value) {
+        }
+
+        @Override
+        public void recordException(@NotNull final Throwable throwable) {
+        }
+
+        @Override
+        public void end() {
+        }
+    };
+
+    SpanContext getSpanContext();
+
+    void setAttribute(
+        @NotNull String key, @NotNull String value
+    );
+
+    void setAttribute(
+        @NotNull String key, long value
+    );
+
+    /**
+     * Marks the span as failed
+     *
+     * @param throwable failure
+     */
+    void recordException(
+        @NotNull Throwable throwable
+    );
+
+    void end();
+}
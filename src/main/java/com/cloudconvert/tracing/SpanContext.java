@@ -0,0 +1,54 @@
+package com.cloudconvert.tracing;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Identifies a span within its trace, ids are lowercase hex strings as used by W3C Trace Context and OpenTelemetry
+ */
+@Getter
+@EqualsAndHashCode
+public class SpanContext {
+
+    public static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
+    public static final String INVALID_SPAN_ID = "0000000000000000";
+
+    /**
+     * Context of spans which are not recorded
+     */
+    public static final SpanContext INVALID = new SpanContext(INVALID_TRACE_ID, INVALID_SPAN_ID);
+
+    /**
+     * 32 hex characters
+     */
+    private final String traceId;
+
+    /**
+     * 16 hex characters
+     */
+    private final String spanId;
+
+    public SpanContext(
+        @NotNull final String traceId, @NotNull final String spanId
+    ) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+    }
+
+    public boolean isValid() {
+        return !INVALID_TRACE_ID.equals(traceId) && !INVALID_SPAN_ID.equals(spanId);
+    }
+
+    /**
+     * @return value of the W3C {@code traceparent} header of a sampled span
+     */
+    public String getTraceparent() {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    @Override
+    public String toString() {
+        return traceId + "/" + spanId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.cloudconvert.tracing;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Span ended by a {@link SimpleTracer}
+ */
+@Getter
+@Builder(toBuilder = true)
+public class SpanData {
+
+    private final String name;
+
+    private final SpanContext spanContext;
+
+    /**
+     * Null for the root span of a trace
+     */
+    @Nullable
+    private final String parentSpanId;
+
+    private final Instant startTime;
+
+    private final Instant endTime;
+
+    private final Map<String, Object> attributes;
+
+    @Nullable
+    private final Throwable exception;
+}
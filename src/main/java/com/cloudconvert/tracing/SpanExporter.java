@@ -0,0 +1,19 @@
+package com.cloudconvert.tracing;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives spans ended by a {@link SimpleTracer}, e.g. to log them or to hand them to a collector
+ */
+@FunctionalInterface
+public interface SpanExporter {
+
+    /**
+     * Called on the thread ending the span, must not block
+     *
+     * @param spanData {@link SpanData}
+     */
+    void export(
+        @NotNull SpanData spanData
+    );
+}
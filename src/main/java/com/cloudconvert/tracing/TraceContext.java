@@ -0,0 +1,50 @@
+package com.cloudconvert.tracing;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Span of the current thread, HTTP spans are started as its children.
+ * <p>
+ * The client makes the span current again in callbacks of async flows, e.g. the steps of an async upload, so their requests stay in one trace.
+ */
+public final class TraceContext {
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private TraceContext() {
+    }
+
+    /**
+     * @return span of the current thread, null if there is none
+     */
+    @Nullable
+    public static Span current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @param span span to make current, null to clear it
+     * @return scope restoring the previous span once closed, on the same thread
+     */
+    public static Scope makeCurrent(
+        @Nullable final Span span
+    ) {
+        final Span previousSpan = CURRENT.get();
+        CURRENT.set(span);
+
+        return () -> {
+            if (previousSpan == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previousSpan);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
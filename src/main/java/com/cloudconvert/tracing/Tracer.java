@@ -0,0 +1,24 @@
+package com.cloudconvert.tracing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Starts spans, implemented by {@link SimpleTracer} or by adapters to tracing libraries, e.g. {@code OpenTelemetryTracer}
+ */
+public interface Tracer {
+
+    /**
+     * Starts no spans at all
+     */
+    Tracer NONE = (name, parent) -> Span.NONE;
+
+    /**
+     * @param name   name of the span, e.g. {@code import.upload} or {@code POST jobs.create}
+     * @param parent parent span, usually {@link TraceContext#current()}, null to start a new trace or to let the adapter decide
+     * @return started span
+     */
+    Span startSpan(
+        @NotNull String name, @Nullable Span parent
+    );
+}
@@ -0,0 +1,86 @@
+package com.cloudconvert.tracing;
+
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.exception.CloudConvertException;
+import com.cloudconvert.executor.interceptor.RequestInterceptor;
+import com.cloudconvert.metrics.EndpointNames;
+import lombok.Getter;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Traces every request of an executor: starts a span per request as a child of {@link TraceContext#current()}, propagates it to the API with
+ * the W3C {@code traceparent} header and ends it with the response. Retries of a request belong to its span.
+ * <p>
+ * Register it first, so its span covers the other interceptors. Executors expose its {@link Tracer}, resources use it for the spans of flows
+ * made of several requests, e.g. uploads.
+ */
+public class TracingRequestInterceptor implements RequestInterceptor {
+
+    public static final String HEADER_TRACEPARENT = "traceparent";
+
+    public static final String ATTRIBUTE_HTTP_REQUEST_METHOD = "http.request.method";
+    public static final String ATTRIBUTE_HTTP_RESPONSE_STATUS_CODE = "http.response.status_code";
+    public static final String ATTRIBUTE_SERVER_ADDRESS = "server.address";
+    public static final String ATTRIBUTE_ENDPOINT = "cloudconvert.endpoint";
+
+    @Getter
+    private final Tracer tracer;
+
+    private final Map<HttpUriRequest, Span> spans = new ConcurrentHashMap<>();
+
+    public TracingRequestInterceptor(
+        @NotNull final Tracer tracer
+    ) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void beforeExecution(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) {
+        final String endpoint = EndpointNames.of(httpUriRequest);
+        final Span span = tracer.startSpan(httpUriRequest.getMethod() + " " + endpoint, TraceContext.current());
+        span.setAttribute(ATTRIBUTE_HTTP_REQUEST_METHOD, httpUriRequest.getMethod());
+        span.setAttribute(ATTRIBUTE_ENDPOINT, endpoint);
+        if (httpUriRequest.getURI().getHost() != null) {
+            span.setAttribute(ATTRIBUTE_SERVER_ADDRESS, httpUriRequest.getURI().getHost());
+        }
+
+        if (span.getSpanContext().isValid()) {
+            httpUriRequest.setHeader(HEADER_TRACEPARENT, span.getSpanContext().getTraceparent());
+        }
+        spans.put(httpUriRequest, span);
+    }
+
+    @Override
+    public <T> Result<T> afterExtraction(
+        @NotNull final HttpUriRequest httpUriRequest, @NotNull final Result<T> result
+    ) {
+        final Span span = spans.remove(httpUriRequest);
+        if (span != null) {
+            if (result.getStatus() != null) {
+                span.setAttribute(ATTRIBUTE_HTTP_RESPONSE_STATUS_CODE, result.getStatus().getCode());
+            }
+            span.end();
+        }
+        return result;
+    }
+
+    @Override
+    public void onFailure(
+        @NotNull final HttpUriRequest httpUriRequest, @NotNull final Throwable throwable
+    ) {
+        final Span span = spans.remove(httpUriRequest);
+        if (span != null) {
+            if (throwable instanceof CloudConvertException && ((CloudConvertException) throwable).getStatus() != null) {
+                span.setAttribute(ATTRIBUTE_HTTP_RESPONSE_STATUS_CODE, ((CloudConvertException) throwable).getStatus().getCode());
+            }
+            span.recordException(throwable);
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.cloudconvert.tracing.opentelemetry;
+
+import com.cloudconvert.tracing.Span;
+import com.cloudconvert.tracing.SpanContext;
+import com.cloudconvert.tracing.Tracer;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link Tracer} starting OpenTelemetry spans. Spans without a parent of this tracer are children of the span current in the OpenTelemetry
+ * {@link Context}, so client spans join the trace of the application.
+ * <p>
+ * The OpenTelemetry API is an optional dependency of the client, it has to be on the classpath of the application.
+ */
+public class OpenTelemetryTracer implements Tracer {
+
+    public static final String INSTRUMENTATION_SCOPE = "com.cloudconvert";
+
+    private final io.opentelemetry.api.trace.Tracer tracer;
+
+    public OpenTelemetryTracer(
+        @NotNull final OpenTelemetry openTelemetry
+    ) {
+        this(openTelemetry.getTracer(INSTRUMENTATION_SCOPE));
+    }
+
+    public OpenTelemetryTracer(
+        @NotNull final io.opentelemetry.api.trace.Tracer tracer
+    ) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Span startSpan(
+        @NotNull final String name, @Nullable final Span parent
+    ) {
+        final SpanBuilder spanBuilder = tracer.spanBuilder(name);
+        if (parent instanceof OpenTelemetrySpan) {
+            spanBuilder.setParent(Context.current().with(((OpenTelemetrySpan) parent).span));
+        } else {
+            spanBuilder.setParent(Context.current());
+        }
+
+        return new OpenTelemetrySpan(spanBuilder.startSpan());
+    }
+
+    private static class OpenTelemetrySpan implements Span {
+
+        private final io.opentelemetry.api.trace.Span span;
+        private final SpanContext spanContext;
+
+        private OpenTelemetrySpan(
+            final io.opentelemetry.api.trace.Span span
+        ) {
+            this.span = span;
+            this.spanContext = new SpanContext(span.getSpanContext().getTraceId(), span.getSpanContext().getSpanId());
+        }
+
+        @Override
+        public SpanContext getSpanContext() {
+            return spanContext;
+        }
+
+        @Override
+        public void setAttribute(@NotNull final String key, @NotNull final String value) {
+            span.setAttribute(key, value);
+        }
+
+        @Override
+        public void setAttribute(@NotNull final String key, final long value) {
+            span.setAttribute(key, value);
+        }
+
+        @Override
+        public void recordException(@NotNull final Throwable throwable) {
+            span.recordException(throwable);
+            span.setStatus(StatusCode.ERROR);
+        }
+
+        @Override
+        public void end() {
+            span.end();
+        }
+    }
+}
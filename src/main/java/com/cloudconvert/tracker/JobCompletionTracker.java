@@ -0,0 +1,260 @@
+package com.cloudconvert.tracker;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.Event;
+import com.cloudconvert.dto.Status;
+import com.cloudconvert.dto.response.JobResponse;
+import com.cloudconvert.dto.response.Pageable;
+import com.cloudconvert.dto.response.WebhookEventResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.exception.CloudConvertClientException;
+import com.cloudconvert.resource.AbstractJobsResource;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.resource.params.Filter;
+import com.cloudconvert.resource.params.Pagination;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for completion of many jobs at once, without holding a connection open per job as {@link AbstractJobsResource#wait(String)} does.
+ * <p>
+ * Jobs are completed from webhook events passed to {@link #onWebhookEvent(String)} or {@link #onWebhookEvent(WebhookEventResponse)}.
+ * As a fallback, all tracked jobs are polled together by listing processing and waiting jobs, the poll interval grows while no job completes.
+ * When webhooks are enabled, polling only runs at the max interval, as a safety net for lost events.
+ */
+@Slf4j
+public class JobCompletionTracker implements Closeable {
+
+    public static final Duration DEFAULT_MIN_POLL_INTERVAL = Duration.ofSeconds(1);
+    public static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(30);
+    public static final double POLL_INTERVAL_MULTIPLIER = 1.5;
+    public static final int PER_PAGE = 100;
+
+    /**
+     * Jobs listed with these statuses have not ended, e.g. jobs waiting for an upload
+     */
+    private static final List<Status> PENDING_STATUSES = ImmutableList.of(Status.PROCESSING, Status.WAITING);
+
+    private final AbstractJobsResource<Result<JobResponse>, Result<Pageable<JobResponse>>, Result<Void>> jobsResource;
+    private final ObjectMapperProvider objectMapperProvider;
+    private final long minPollIntervalMillis;
+    private final long maxPollIntervalMillis;
+    private final boolean webhooksEnabled;
+
+    private final Map<String, CompletableFuture<JobResponse>> jobResponseCompletableFutures;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private volatile long pollIntervalMillis;
+    private ScheduledFuture<?> scheduledPoll;
+
+    public JobCompletionTracker(
+        @NotNull final AbstractJobsResource<Result<JobResponse>, Result<Pageable<JobResponse>>, Result<Void>> jobsResource
+    ) {
+        this(jobsResource, new ObjectMapperProvider(), DEFAULT_MIN_POLL_INTERVAL, DEFAULT_MAX_POLL_INTERVAL, false);
+    }
+
+    public JobCompletionTracker(
+        @NotNull final AbstractJobsResource<Result<JobResponse>, Result<Pageable<JobResponse>>, Result<Void>> jobsResource, @NotNull final ObjectMapperProvider objectMapperProvider,
+        @NotNull final Duration minPollInterval, @NotNull final Duration maxPollInterval, final boolean webhooksEnabled
+    ) {
+        this.jobsResource = jobsResource;
+        this.objectMapperProvider = objectMapperProvider;
+        this.minPollIntervalMillis = minPollInterval.toMillis();
+        this.maxPollIntervalMillis = Math.max(maxPollInterval.toMillis(), minPollIntervalMillis);
+        this.webhooksEnabled = webhooksEnabled;
+
+        this.jobResponseCompletableFutures = new ConcurrentHashMap<>();
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cloudconvert-job-completion-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.pollIntervalMillis = getInitialPollIntervalMillis();
+        schedulePoll();
+    }
+
+    /**
+     * Track a job until it is finished or failed
+     *
+     * @param jobId job id
+     * @return {@link CompletableFuture} completed with the ended job, or exceptionally if the job could not be fetched
+     */
+    public CompletableFuture<JobResponse> track(
+        @NotNull final String jobId
+    ) {
+        final CompletableFuture<JobResponse> jobResponseCompletableFuture = jobResponseCompletableFutures.computeIfAbsent(jobId, id -> new CompletableFuture<>());
+
+        // Newly created jobs are likely to end soon, poll them eagerly again
+        resetPollInterval();
+
+        return jobResponseCompletableFuture;
+    }
+
+    /**
+     * Track a job until it is finished or failed, job which has already ended is completed immediately
+     *
+     * @param jobResponse {@link JobResponse}
+     * @return {@link CompletableFuture}
+     */
+    public CompletableFuture<JobResponse> track(
+        @NotNull final JobResponse jobResponse
+    ) {
+        final CompletableFuture<JobResponse> jobResponseCompletableFuture = track(jobResponse.getId());
+
+        if (isEnded(jobResponse)) {
+            complete(jobResponse);
+        }
+
+        return jobResponseCompletableFuture;
+    }
+
+    /**
+     * Complete tracked job from a raw webhook request body. Verify the signature before, see
+     * {@link com.cloudconvert.resource.AbstractWebhooksResource#verify(String, String)}.
+     *
+     * @param payload webhook request body
+     * @throws IOException
+     */
+    public void onWebhookEvent(
+        @NotNull final String payload
+    ) throws IOException {
+        onWebhookEvent(objectMapperProvider.provideReader(AbstractResource.WEBHOOK_EVENT_RESPONSE_TYPE_REFERENCE).<WebhookEventResponse>readValue(payload));
+    }
+
+    /**
+     * Complete tracked job from a webhook event
+     *
+     * @param webhookEventResponse {@link WebhookEventResponse}
+     */
+    public void onWebhookEvent(
+        @NotNull final WebhookEventResponse webhookEventResponse
+    ) {
+        if ((Event.JOB_FINISHED == webhookEventResponse.getEvent() || Event.JOB_FAILED == webhookEventResponse.getEvent()) && webhookEventResponse.getJob() != null) {
+            complete(webhookEventResponse.getJob());
+        }
+    }
+
+    /**
+     * @return number of tracked jobs, which have not ended yet
+     */
+    public int size() {
+        return jobResponseCompletableFutures.size();
+    }
+
+    /**
+     * Poll all tracked jobs once: list processing and waiting jobs, jobs not listed anymore have ended and are fetched one by one
+     */
+    public void poll() {
+        if (jobResponseCompletableFutures.isEmpty()) {
+            resetPollInterval();
+            return;
+        }
+
+        boolean completed = false;
+
+        try {
+            final Set<String> endedJobIds = new HashSet<>(jobResponseCompletableFutures.keySet());
+            for (final Status status : PENDING_STATUSES) {
+                for (int page = 1; !endedJobIds.isEmpty(); page++) {
+                    final Pageable<JobResponse> jobResponsePageable = jobsResource.list(ImmutableMap.of(Filter.STATUS, status.getLabel()),
+                        ImmutableList.of(), new Pagination(PER_PAGE, page)).getBody();
+                    if (jobResponsePageable == null || jobResponsePageable.getData() == null) {
+                        break;
+                    }
+
+                    jobResponsePageable.getData().forEach(jobResponse -> endedJobIds.remove(jobResponse.getId()));
+
+                    if (jobResponsePageable.getData().size() < PER_PAGE || jobResponsePageable.getLinks() == null || jobResponsePageable.getLinks().getNext() == null) {
+                        break;
+                    }
+                }
+            }
+
+            for (final String endedJobId : endedJobIds) {
+                try {
+                    final Result<JobResponse> jobResponseResult = jobsResource.show(endedJobId);
+                    final JobResponse jobResponse = jobResponseResult.getBody();
+
+                    if (jobResponse != null && isEnded(jobResponse)) {
+                        completed |= complete(jobResponse);
+                    }
+                } catch (CloudConvertClientException e) {
+                    // Job does not exist (anymore), it will never end
+                    Optional.ofNullable(jobResponseCompletableFutures.remove(endedJobId)).ifPresent(future -> future.completeExceptionally(e));
+                    completed = true;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Could not poll {} tracked jobs", jobResponseCompletableFutures.size(), e);
+        }
+
+        pollIntervalMillis = completed ? getInitialPollIntervalMillis() : Math.min((long) (pollIntervalMillis * POLL_INTERVAL_MULTIPLIER), maxPollIntervalMillis);
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduledExecutorService.shutdownNow();
+
+        jobResponseCompletableFutures.values().forEach(jobResponseCompletableFuture -> jobResponseCompletableFuture.cancel(false));
+        jobResponseCompletableFutures.clear();
+    }
+
+    private boolean complete(
+        final JobResponse jobResponse
+    ) {
+        return Optional.ofNullable(jobResponseCompletableFutures.remove(jobResponse.getId()))
+            .map(jobResponseCompletableFuture -> jobResponseCompletableFuture.complete(jobResponse)).orElse(false);
+    }
+
+    private boolean isEnded(
+        final JobResponse jobResponse
+    ) {
+        return Status.FINISHED == jobResponse.getStatus() || Status.ERROR == jobResponse.getStatus();
+    }
+
+    private long getInitialPollIntervalMillis() {
+        return webhooksEnabled ? maxPollIntervalMillis : minPollIntervalMillis;
+    }
+
+    private synchronized void resetPollInterval() {
+        pollIntervalMillis = getInitialPollIntervalMillis();
+
+        // Poll scheduled with a grown interval would keep new jobs waiting, bring it forward unless it is running already
+        if (scheduledPoll != null && scheduledPoll.getDelay(TimeUnit.MILLISECONDS) > pollIntervalMillis && scheduledPoll.cancel(false)) {
+            schedulePoll();
+        }
+    }
+
+    private synchronized void schedulePoll() {
+        try {
+            scheduledPoll = scheduledExecutorService.schedule(() -> {
+                try {
+                    poll();
+                } finally {
+                    schedulePoll();
+                }
+            }, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // Tracker has been closed
+        }
+    }
+}
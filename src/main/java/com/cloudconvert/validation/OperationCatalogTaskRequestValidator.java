@@ -0,0 +1,161 @@
+package com.cloudconvert.validation;
+
+import com.cloudconvert.catalog.OperationCatalog;
+import com.cloudconvert.dto.Operation;
+import com.cloudconvert.dto.request.TaskRequest;
+import com.cloudconvert.dto.response.OperationResponse;
+import com.cloudconvert.exception.CloudConvertException;
+import com.cloudconvert.exception.TaskRequestValidationException;
+import com.google.common.collect.ImmutableSet;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validates task requests against an {@link OperationCatalog}: the conversion must be supported, a requested engine and engine version must
+ * support it, and properties set on the request must be options of the conversion, of the right type and, for enums, one of the possible values.
+ * <p>
+ * Operations not listed by the catalog, e.g. imports and exports, are not validated. Neither are tasks without an input format, which is then
+ * derived from the input file by the API. If the catalog can not be loaded, requests are let through.
+ */
+@Slf4j
+public class OperationCatalogTaskRequestValidator implements TaskRequestValidator {
+
+    public static final String FIELD_INPUT_FORMAT = "input_format";
+    public static final String FIELD_OUTPUT_FORMAT = "output_format";
+    public static final String FIELD_ENGINE = "engine";
+    public static final String FIELD_ENGINE_VERSION = "engine_version";
+
+    /**
+     * Task parameters which are not part of the typed requests and may be set as properties, they are not engine options
+     */
+    public static final Set<String> TASK_PARAMETERS = ImmutableSet.of("timeout", "ignore_error");
+
+    private final OperationCatalog operationCatalog;
+
+    public OperationCatalogTaskRequestValidator(
+        @NotNull final OperationCatalog operationCatalog
+    ) {
+        this.operationCatalog = operationCatalog;
+    }
+
+    @Override
+    public void validate(
+        @NotNull final String name, @NotNull final TaskRequest taskRequest, @NotNull final Map<String, Object> fields
+    ) throws TaskRequestValidationException {
+        final Operation operation = taskRequest.getOperation();
+        final String inputFormat = Objects.toString(fields.get(FIELD_INPUT_FORMAT), null);
+        final String outputFormat = Objects.toString(fields.get(FIELD_OUTPUT_FORMAT), null);
+
+        final List<OperationResponse> operationResponses;
+        try {
+            if (!operationCatalog.contains(operation)) {
+                return;
+            }
+            operationResponses = operationCatalog.find(operation, inputFormat, outputFormat);
+        } catch (IOException | URISyntaxException | CloudConvertException e) {
+            log.warn("Could not load operation catalog, task {} is not validated", name, e);
+            return;
+        }
+
+        if (operationResponses.isEmpty()) {
+            if (inputFormat != null) {
+                throw new TaskRequestValidationException(Collections.singletonList(String.format("Task %s: %s from %s to %s is not supported",
+                    name, operation.getLabel(), inputFormat, outputFormat)));
+            }
+            return;
+        }
+
+        final List<String> violations = new ArrayList<>();
+        final List<OperationResponse> engineOperationResponses = getEngineOperationResponses(name, operationResponses, fields, violations);
+
+        if (violations.isEmpty()) {
+            taskRequest.getProperties().entrySet().stream().filter(property -> !TASK_PARAMETERS.contains(property.getKey()))
+                .forEach(property -> validateOption(name, engineOperationResponses, property.getKey(), property.getValue(), violations));
+        }
+
+        if (!violations.isEmpty()) {
+            throw new TaskRequestValidationException(violations);
+        }
+    }
+
+    private List<OperationResponse> getEngineOperationResponses(
+        final String name, final List<OperationResponse> operationResponses, final Map<String, Object> fields, final List<String> violations
+    ) {
+        final String engine = Objects.toString(fields.get(FIELD_ENGINE), null);
+        if (engine == null) {
+            return operationResponses;
+        }
+
+        final List<OperationResponse> engineOperationResponses = operationResponses.stream()
+            .filter(operationResponse -> engine.equals(operationResponse.getEngine())).collect(Collectors.toList());
+        if (engineOperationResponses.isEmpty()) {
+            violations.add(String.format("Task %s: engine %s is not supported, supported engines are %s", name, engine,
+                operationResponses.stream().map(OperationResponse::getEngine).collect(Collectors.toList())));
+            return engineOperationResponses;
+        }
+
+        final String engineVersion = Objects.toString(fields.get(FIELD_ENGINE_VERSION), null);
+        if (engineVersion != null && engineOperationResponses.stream().allMatch(operationResponse -> operationResponse.getEngineVersions() != null
+            && operationResponse.getEngineVersions().stream().noneMatch(version -> engineVersion.equals(version.getVersion())))) {
+            violations.add(String.format("Task %s: engine version %s of %s is not supported", name, engineVersion, engine));
+        }
+
+        return engineOperationResponses;
+    }
+
+    private void validateOption(
+        final String name, final List<OperationResponse> operationResponses, final String option, final Object value, final List<String> violations
+    ) {
+        // Options have not been fetched, nothing to validate against
+        if (operationResponses.stream().anyMatch(operationResponse -> operationResponse.getOptions() == null)) {
+            return;
+        }
+
+        final Optional<OperationResponse.Option> operationOption = operationResponses.stream().flatMap(operationResponse -> operationResponse.getOptions().stream())
+            .filter(candidate -> option.equals(candidate.getName())).findFirst();
+
+        if (!operationOption.isPresent()) {
+            violations.add(String.format("Task %s: unknown option %s", name, option));
+        } else if (!isValid(operationOption.get(), value)) {
+            violations.add(String.format("Task %s: option %s must be of type %s%s, but was %s", name, option, operationOption.get().getType(),
+                operationOption.get().getPossibleValues() == null ? "" : " " + operationOption.get().getPossibleValues(), value));
+        }
+    }
+
+    private boolean isValid(
+        final OperationResponse.Option option, final Object value
+    ) {
+        if (option.getType() == null) {
+            return true;
+        }
+
+        switch (option.getType()) {
+            case "string":
+                return value instanceof CharSequence || value instanceof Number || value instanceof Boolean;
+            case "boolean":
+                return value instanceof Boolean;
+            case "integer":
+                return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger;
+            case "float":
+                return value instanceof Number;
+            case "enum":
+                return option.getPossibleValues() == null || option.getPossibleValues().contains(String.valueOf(value));
+            case "dictionary":
+                return value instanceof Map;
+            default:
+                return true;
+        }
+    }
+}
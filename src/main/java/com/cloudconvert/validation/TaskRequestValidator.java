@@ -0,0 +1,29 @@
+package com.cloudconvert.validation;
+
+import com.cloudconvert.dto.request.TaskRequest;
+import com.cloudconvert.exception.TaskRequestValidationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Checks task requests before they are sent, so malformed tasks fail without a round trip to the API
+ */
+@FunctionalInterface
+public interface TaskRequestValidator {
+
+    /**
+     * Accepts every task request
+     */
+    TaskRequestValidator NONE = (name, taskRequest, fields) -> {};
+
+    /**
+     * @param name        task name within its job, or operation of a task created on its own
+     * @param taskRequest {@link TaskRequest}
+     * @param fields      task request as it is sent, including its properties
+     * @throws TaskRequestValidationException if the task request would be rejected by the API
+     */
+    void validate(
+        @NotNull String name, @NotNull TaskRequest taskRequest, @NotNull Map<String, Object> fields
+    ) throws TaskRequestValidationException;
+}
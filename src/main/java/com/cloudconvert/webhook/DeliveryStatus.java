@@ -0,0 +1,41 @@
+package com.cloudconvert.webhook;
+
+import lombok.Getter;
+
+/**
+ * Outcome of a webhook delivery, together with HTTP status code to respond with
+ */
+public enum DeliveryStatus {
+
+    /**
+     * Event has been accepted and will be passed to listeners.
+     */
+    ACCEPTED(200),
+
+    /**
+     * Event has been delivered before and is dropped.
+     */
+    DUPLICATE(200),
+
+    /**
+     * Payload could not be parsed.
+     */
+    MALFORMED(400),
+
+    /**
+     * Signature is missing or does not match the payload.
+     */
+    INVALID_SIGNATURE(401),
+
+    /**
+     * Too many events are pending, delivery should be retried later.
+     */
+    REJECTED(503);
+
+    @Getter
+    private final int statusCode;
+
+    DeliveryStatus(final int statusCode) {
+        this.statusCode = statusCode;
+    }
+}
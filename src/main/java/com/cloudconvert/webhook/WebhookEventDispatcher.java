@@ -0,0 +1,252 @@
+package com.cloudconvert.webhook;
+
+import com.cloudconvert.dto.Event;
+import com.cloudconvert.dto.response.WebhookEventResponse;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.resource.AbstractWebhooksResource;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies, parses and dispatches webhook events to listeners registered per {@link Event}.
+ * <p>
+ * Listeners run on a bounded worker pool. Events of the same job are passed to listeners one at a time, in order of delivery,
+ * while events of different jobs are processed in parallel. Repeated deliveries of the same event for the same job are dropped.
+ * <p>
+ * The dispatcher does not depend on any HTTP server, use {@link WebhookReceiver} or call {@link #dispatch(byte[], String)} from own endpoint.
+ */
+@Slf4j
+public class WebhookEventDispatcher implements Closeable {
+
+    public static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_MAX_PENDING_EVENTS = 10_000;
+    public static final int DEFAULT_DEDUPLICATION_SIZE = 100_000;
+    public static final Duration DEFAULT_DEDUPLICATION_TIME_TO_LIVE = Duration.ofHours(24);
+
+    private final AbstractWebhooksResource<?, ?, ?> webhooksResource;
+    private final ObjectReader objectReader;
+    private final int maxPendingEvents;
+
+    private final Map<Event, List<WebhookEventListener>> webhookEventListeners;
+    private final ConcurrentMap<String, Boolean> deliveryKeys;
+    private final ConcurrentMap<String, Queue<WebhookEventResponse>> jobWebhookEventResponses;
+    private final AtomicInteger pendingEvents;
+    private final ExecutorService executorService;
+
+    public WebhookEventDispatcher(
+        @NotNull final AbstractWebhooksResource<?, ?, ?> webhooksResource
+    ) {
+        this(webhooksResource, DEFAULT_THREADS, DEFAULT_MAX_PENDING_EVENTS, DEFAULT_DEDUPLICATION_SIZE, DEFAULT_DEDUPLICATION_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param webhooksResource            webhooks resource of the client, used to verify signatures and to obtain object mapper
+     * @param threads                     number of threads running listeners
+     * @param maxPendingEvents            max number of accepted events waiting for listeners, further deliveries are rejected
+     * @param deduplicationSize           max number of remembered deliveries
+     * @param deduplicationTimeToLive     how long deliveries are remembered
+     */
+    public WebhookEventDispatcher(
+        @NotNull final AbstractWebhooksResource<?, ?, ?> webhooksResource, final int threads, final int maxPendingEvents,
+        final int deduplicationSize, @NotNull final Duration deduplicationTimeToLive
+    ) {
+        this.webhooksResource = webhooksResource;
+        this.objectReader = webhooksResource.getObjectMapperProvider().provideReader(AbstractResource.WEBHOOK_EVENT_RESPONSE_TYPE_REFERENCE);
+        this.maxPendingEvents = maxPendingEvents;
+
+        this.webhookEventListeners = new EnumMap<>(Event.class);
+        for (final Event event : Event.values()) {
+            webhookEventListeners.put(event, new CopyOnWriteArrayList<>());
+        }
+        this.deliveryKeys = CacheBuilder.newBuilder().maximumSize(deduplicationSize)
+            .expireAfterWrite(deduplicationTimeToLive.toMillis(), TimeUnit.MILLISECONDS).<String, Boolean>build().asMap();
+        this.jobWebhookEventResponses = new ConcurrentHashMap<>();
+        this.pendingEvents = new AtomicInteger();
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "cloudconvert-webhook-dispatcher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Register listener for given event
+     *
+     * @param event                {@link Event}
+     * @param webhookEventListener {@link WebhookEventListener}
+     * @return this dispatcher
+     */
+    public WebhookEventDispatcher addListener(
+        @NotNull final Event event, @NotNull final WebhookEventListener webhookEventListener
+    ) {
+        webhookEventListeners.get(event).add(webhookEventListener);
+
+        return this;
+    }
+
+    /**
+     * Register listener for all events
+     *
+     * @param webhookEventListener {@link WebhookEventListener}
+     * @return this dispatcher
+     */
+    public WebhookEventDispatcher addListener(
+        @NotNull final WebhookEventListener webhookEventListener
+    ) {
+        webhookEventListeners.values().forEach(listeners -> listeners.add(webhookEventListener));
+
+        return this;
+    }
+
+    /**
+     * Verify, parse and dispatch raw webhook request body
+     *
+     * @param payload   raw request body
+     * @param signature value of "CloudConvert-Signature" header
+     * @return {@link DeliveryStatus}
+     */
+    public DeliveryStatus dispatch(
+        @NotNull final byte[] payload, @Nullable final String signature
+    ) {
+        try {
+            if (signature == null || !webhooksResource.verify(payload, signature)) {
+                return DeliveryStatus.INVALID_SIGNATURE;
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            log.error("Could not verify webhook signature, is webhook signing secret set?", e);
+            return DeliveryStatus.INVALID_SIGNATURE;
+        }
+
+        final WebhookEventResponse webhookEventResponse;
+        try {
+            webhookEventResponse = objectReader.readValue(payload);
+        } catch (IOException e) {
+            log.warn("Could not parse webhook payload", e);
+            return DeliveryStatus.MALFORMED;
+        }
+
+        if (webhookEventResponse == null || webhookEventResponse.getEvent() == null) {
+            return DeliveryStatus.MALFORMED;
+        }
+
+        return dispatch(webhookEventResponse);
+    }
+
+    /**
+     * Dispatch already verified and parsed webhook event
+     *
+     * @param webhookEventResponse {@link WebhookEventResponse}
+     * @return {@link DeliveryStatus}
+     */
+    public DeliveryStatus dispatch(
+        @NotNull final WebhookEventResponse webhookEventResponse
+    ) {
+        final String jobId = webhookEventResponse.getJob() == null ? null : webhookEventResponse.getJob().getId();
+
+        // A job emits each event once, so event and job identify a delivery, events without a job are never considered duplicates
+        final String deliveryKey = jobId == null ? null : webhookEventResponse.getEvent().getLabel() + ":" + jobId;
+        if (deliveryKey != null && deliveryKeys.putIfAbsent(deliveryKey, Boolean.TRUE) != null) {
+            return DeliveryStatus.DUPLICATE;
+        }
+
+        if (pendingEvents.incrementAndGet() > maxPendingEvents || executorService.isShutdown()) {
+            pendingEvents.decrementAndGet();
+            if (deliveryKey != null) {
+                deliveryKeys.remove(deliveryKey);
+            }
+            return DeliveryStatus.REJECTED;
+        }
+
+        final String orderingKey = jobId == null ? UUID.randomUUID().toString() : jobId;
+        final AtomicBoolean first = new AtomicBoolean();
+        jobWebhookEventResponses.compute(orderingKey, (key, webhookEventResponses) -> {
+            if (webhookEventResponses == null) {
+                webhookEventResponses = new ConcurrentLinkedQueue<>();
+                first.set(true);
+            }
+            webhookEventResponses.add(webhookEventResponse);
+            return webhookEventResponses;
+        });
+
+        // Otherwise, the event is picked up after the ones of the same job before it
+        if (first.get()) {
+            schedule(orderingKey);
+        }
+
+        return DeliveryStatus.ACCEPTED;
+    }
+
+    /**
+     * @return number of accepted events, which have not been passed to listeners yet
+     */
+    public int getPendingEvents() {
+        return pendingEvents.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        executorService.shutdown();
+    }
+
+    private void schedule(
+        final String orderingKey
+    ) {
+        try {
+            executorService.execute(() -> process(orderingKey));
+        } catch (RejectedExecutionException e) {
+            log.warn("Dispatcher has been closed, dropping events of {}", orderingKey);
+        }
+    }
+
+    private void process(
+        final String orderingKey
+    ) {
+        final WebhookEventResponse webhookEventResponse = jobWebhookEventResponses.get(orderingKey).peek();
+
+        try {
+            for (final WebhookEventListener webhookEventListener : webhookEventListeners.get(webhookEventResponse.getEvent())) {
+                try {
+                    webhookEventListener.onWebhookEvent(webhookEventResponse);
+                } catch (Exception e) {
+                    log.warn("Webhook event listener failed on {}", webhookEventResponse.getEvent().getLabel(), e);
+                }
+            }
+        } finally {
+            pendingEvents.decrementAndGet();
+        }
+
+        // Take the next event of the same job, if any, as a new task, so jobs with many events do not starve others
+        final Queue<WebhookEventResponse> remainingWebhookEventResponses = jobWebhookEventResponses.computeIfPresent(orderingKey, (key, webhookEventResponses) -> {
+            webhookEventResponses.poll();
+            return webhookEventResponses.isEmpty() ? null : webhookEventResponses;
+        });
+        if (remainingWebhookEventResponses != null) {
+            schedule(orderingKey);
+        }
+    }
+}
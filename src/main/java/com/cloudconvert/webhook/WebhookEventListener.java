@@ -0,0 +1,21 @@
+package com.cloudconvert.webhook;
+
+import com.cloudconvert.dto.response.WebhookEventResponse;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener of webhook events, see {@link WebhookEventDispatcher#addListener(com.cloudconvert.dto.Event, WebhookEventListener)}
+ */
+@FunctionalInterface
+public interface WebhookEventListener {
+
+    /**
+     * Called once per delivered event. Events of the same job are passed in order of delivery, never concurrently.
+     *
+     * @param webhookEventResponse {@link WebhookEventResponse}
+     * @throws Exception exceptions are logged and do not affect other listeners
+     */
+    void onWebhookEvent(
+        @NotNull WebhookEventResponse webhookEventResponse
+    ) throws Exception;
+}
@@ -0,0 +1,136 @@
+package com.cloudconvert.webhook;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded webhook endpoint based on JDK {@link HttpServer}, passing requests to {@link WebhookEventDispatcher}.
+ * <p>
+ * Requests are only read, verified and queued on the receiver threads, listeners run on the dispatcher pool. When the dispatcher
+ * is saturated, deliveries are answered with 503, so CloudConvert retries them later.
+ */
+@Slf4j
+public class WebhookReceiver implements Closeable {
+
+    public static final String HEADER_SIGNATURE = "CloudConvert-Signature";
+    public static final String DEFAULT_PATH = "/";
+    public static final int DEFAULT_THREADS = 2;
+    public static final int DEFAULT_MAX_PAYLOAD_SIZE = 4 * 1024 * 1024;
+    public static final int BUFFER_SIZE = 8 * 1024;
+
+    private final WebhookEventDispatcher webhookEventDispatcher;
+    private final int maxPayloadSize;
+
+    private final ExecutorService executorService;
+    private final HttpServer httpServer;
+
+    public WebhookReceiver(
+        @NotNull final InetSocketAddress inetSocketAddress, @NotNull final WebhookEventDispatcher webhookEventDispatcher
+    ) throws IOException {
+        this(inetSocketAddress, DEFAULT_PATH, webhookEventDispatcher, DEFAULT_THREADS, DEFAULT_MAX_PAYLOAD_SIZE);
+    }
+
+    /**
+     * @param inetSocketAddress      address to bind to, port 0 picks a free port
+     * @param path                   path to receive webhooks on
+     * @param webhookEventDispatcher {@link WebhookEventDispatcher}
+     * @param threads                number of threads reading requests
+     * @param maxPayloadSize         max size of request body, larger requests are refused
+     */
+    public WebhookReceiver(
+        @NotNull final InetSocketAddress inetSocketAddress, @NotNull final String path, @NotNull final WebhookEventDispatcher webhookEventDispatcher,
+        final int threads, final int maxPayloadSize
+    ) throws IOException {
+        this.webhookEventDispatcher = webhookEventDispatcher;
+        this.maxPayloadSize = maxPayloadSize;
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "cloudconvert-webhook-receiver-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.httpServer = HttpServer.create(inetSocketAddress, 0);
+        this.httpServer.setExecutor(executorService);
+        this.httpServer.createContext(path, this::handle);
+    }
+
+    /**
+     * Start accepting webhook requests
+     *
+     * @return this receiver
+     */
+    public WebhookReceiver start() {
+        httpServer.start();
+
+        return this;
+    }
+
+    /**
+     * @return address the receiver is bound to
+     */
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpServer.stop(0);
+        executorService.shutdown();
+    }
+
+    private void handle(
+        final HttpExchange httpExchange
+    ) throws IOException {
+        try {
+            if (!"POST".equalsIgnoreCase(httpExchange.getRequestMethod())) {
+                httpExchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            final byte[] payload = readPayload(httpExchange.getRequestBody());
+            if (payload == null) {
+                httpExchange.sendResponseHeaders(413, -1);
+                return;
+            }
+
+            final DeliveryStatus deliveryStatus = webhookEventDispatcher.dispatch(payload, httpExchange.getRequestHeaders().getFirst(HEADER_SIGNATURE));
+            if (DeliveryStatus.INVALID_SIGNATURE == deliveryStatus) {
+                log.warn("Refused webhook with invalid signature from {}", httpExchange.getRemoteAddress());
+            }
+
+            httpExchange.sendResponseHeaders(deliveryStatus.getStatusCode(), -1);
+        } catch (RuntimeException e) {
+            log.error("Could not handle webhook request", e);
+            httpExchange.sendResponseHeaders(500, -1);
+        } finally {
+            httpExchange.close();
+        }
+    }
+
+    private byte[] readPayload(
+        final InputStream inputStream
+    ) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        for (int read = inputStream.read(buffer); read != -1; read = inputStream.read(buffer)) {
+            if (byteArrayOutputStream.size() + read > maxPayloadSize) {
+                return null;
+            }
+            byteArrayOutputStream.write(buffer, 0, read);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+}
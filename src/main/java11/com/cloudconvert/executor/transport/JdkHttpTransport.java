@@ -0,0 +1,237 @@
+package com.cloudconvert.executor.transport;
+
+import com.cloudconvert.client.http.ConnectionPoolSettings;
+import org.apache.http.ContentTooLongException;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.message.BasicHttpResponse;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link HttpTransport} and {@link AsyncHttpTransport} backed by the JDK {@link HttpClient} (Java 11+).
+ * <p>
+ * The client negotiates HTTP/2 where the server supports it, so concurrent requests to the same host are multiplexed over a single connection
+ * instead of each leasing its own connection from a pool. Responses are streamed, the response entity reads from the connection.
+ */
+public class JdkHttpTransport implements HttpTransport, AsyncHttpTransport {
+
+    /**
+     * Entities up to this length are buffered, larger ones are streamed
+     */
+    public static final int MAX_BUFFERED_ENTITY_LENGTH = 1024 * 1024;
+
+    /**
+     * Headers managed by {@link HttpClient} itself, which may not be set on requests
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private static final ProtocolVersion HTTP_2 = new ProtocolVersion("HTTP", 2, 0);
+
+    private final HttpClient httpClient;
+    private final ConnectionPoolSettings connectionPoolSettings;
+
+    public JdkHttpTransport() {
+        this(ConnectionPoolSettings.builder().build());
+    }
+
+    /**
+     * @param connectionPoolSettings connect timeout and socket timeout, used as timeout for receiving response headers unless zero or the request
+     *                               is sent to one of the long poll URLs, pool limits do not apply
+     */
+    public JdkHttpTransport(
+        @NotNull final ConnectionPoolSettings connectionPoolSettings
+    ) {
+        this(HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(connectionPoolSettings.getConnectTimeout()).build(), connectionPoolSettings);
+    }
+
+    /**
+     * @param requestTimeout timeout for receiving response headers, zero for none
+     */
+    public JdkHttpTransport(
+        @NotNull final HttpClient httpClient, @NotNull final Duration requestTimeout
+    ) {
+        this(httpClient, ConnectionPoolSettings.builder().socketTimeout(requestTimeout).build());
+    }
+
+    public JdkHttpTransport(
+        @NotNull final HttpClient httpClient, @NotNull final ConnectionPoolSettings connectionPoolSettings
+    ) {
+        this.httpClient = httpClient;
+        this.connectionPoolSettings = connectionPoolSettings;
+    }
+
+    @Override
+    public CloseableHttpResponse execute(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) throws IOException {
+        try {
+            return toHttpResponse(httpClient.send(toHttpRequest(httpUriRequest), java.net.http.HttpResponse.BodyHandlers.ofInputStream()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for response");
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(
+        @NotNull final HttpUriRequest httpUriRequest
+    ) {
+        final HttpRequest httpRequest;
+        try {
+            httpRequest = toHttpRequest(httpUriRequest);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return httpClient.sendAsync(httpRequest, java.net.http.HttpResponse.BodyHandlers.ofInputStream()).thenApply(this::toHttpResponse);
+    }
+
+    /**
+     * {@link HttpClient} can not be closed before Java 21, its connections are released once it is no longer referenced
+     */
+    @Override
+    public void close() {
+    }
+
+    private HttpRequest toHttpRequest(
+        final HttpUriRequest httpUriRequest
+    ) throws IOException {
+        final HttpRequest.Builder httpRequestBuilder = HttpRequest.newBuilder(httpUriRequest.getURI());
+        final Duration requestTimeout = connectionPoolSettings.getSocketTimeout(httpUriRequest.getURI());
+        if (!requestTimeout.isZero() && !requestTimeout.isNegative()) {
+            httpRequestBuilder.timeout(requestTimeout);
+        }
+
+        for (final Header header : httpUriRequest.getAllHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                httpRequestBuilder.header(header.getName(), header.getValue());
+            }
+        }
+
+        final HttpEntity httpEntity = httpUriRequest instanceof HttpEntityEnclosingRequest ? ((HttpEntityEnclosingRequest) httpUriRequest).getEntity() : null;
+        if (httpEntity == null) {
+            return httpRequestBuilder.method(httpUriRequest.getMethod(), HttpRequest.BodyPublishers.noBody()).build();
+        }
+
+        if (httpEntity.getContentType() != null && !httpUriRequest.containsHeader(HttpHeaders.CONTENT_TYPE)) {
+            httpRequestBuilder.header(HttpHeaders.CONTENT_TYPE, httpEntity.getContentType().getValue());
+        }
+        if (httpEntity.getContentEncoding() != null && !httpUriRequest.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+            httpRequestBuilder.header(HttpHeaders.CONTENT_ENCODING, httpEntity.getContentEncoding().getValue());
+        }
+
+        return httpRequestBuilder.method(httpUriRequest.getMethod(), toBodyPublisher(httpEntity)).build();
+    }
+
+    private HttpRequest.BodyPublisher toBodyPublisher(
+        final HttpEntity httpEntity
+    ) throws IOException {
+        final long contentLength = httpEntity.getContentLength();
+
+        if (contentLength >= 0 && contentLength <= MAX_BUFFERED_ENTITY_LENGTH) {
+            final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream((int) contentLength);
+            httpEntity.writeTo(byteArrayOutputStream);
+            return HttpRequest.BodyPublishers.ofByteArray(byteArrayOutputStream.toByteArray());
+        }
+
+        final HttpRequest.BodyPublisher bodyPublisher = HttpRequest.BodyPublishers.ofInputStream(() -> getContent(httpEntity));
+        return contentLength >= 0 ? HttpRequest.BodyPublishers.fromPublisher(bodyPublisher, contentLength) : bodyPublisher;
+    }
+
+    /**
+     * Entities which can only be written, e.g. large multipart forms, are written to a pipe by a separate thread
+     */
+    private InputStream getContent(
+        final HttpEntity httpEntity
+    ) {
+        try {
+            return httpEntity.getContent();
+        } catch (UnsupportedOperationException | ContentTooLongException e) {
+            return getPipedContent(httpEntity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private InputStream getPipedContent(
+        final HttpEntity httpEntity
+    ) {
+        try {
+            final PipedInputStream pipedInputStream = new PipedInputStream(MAX_BUFFERED_ENTITY_LENGTH / 16);
+            final PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
+
+            final Thread thread = new Thread(() -> {
+                try (PipedOutputStream outputStream = pipedOutputStream) {
+                    httpEntity.writeTo(outputStream);
+                } catch (IOException ignored) {
+                    // Body ends short of its content length, which fails the request
+                }
+            }, "cloudconvert-request-body");
+            thread.setDaemon(true);
+            thread.start();
+
+            return pipedInputStream;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CloseableHttpResponse toHttpResponse(
+        final java.net.http.HttpResponse<InputStream> httpResponse
+    ) {
+        final ProtocolVersion protocolVersion = httpResponse.version() == HttpClient.Version.HTTP_2 ? HTTP_2 : HttpVersion.HTTP_1_1;
+        final JdkCloseableHttpResponse jdkCloseableHttpResponse = new JdkCloseableHttpResponse(protocolVersion, httpResponse.statusCode());
+
+        httpResponse.headers().map().forEach((name, values) -> values.forEach(value -> jdkCloseableHttpResponse.addHeader(name, value)));
+
+        final BasicHttpEntity basicHttpEntity = new BasicHttpEntity();
+        basicHttpEntity.setContent(httpResponse.body());
+        basicHttpEntity.setContentLength(httpResponse.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH).orElse(-1));
+        httpResponse.headers().firstValue(HttpHeaders.CONTENT_TYPE).ifPresent(basicHttpEntity::setContentType);
+        httpResponse.headers().firstValue(HttpHeaders.CONTENT_ENCODING).ifPresent(basicHttpEntity::setContentEncoding);
+        jdkCloseableHttpResponse.setEntity(basicHttpEntity);
+
+        return jdkCloseableHttpResponse;
+    }
+
+    private static class JdkCloseableHttpResponse extends BasicHttpResponse implements CloseableHttpResponse {
+
+        JdkCloseableHttpResponse(final ProtocolVersion protocolVersion, final int statusCode) {
+            super(protocolVersion, statusCode, EnglishReasonPhraseCatalog.INSTANCE.getReason(statusCode, Locale.ENGLISH));
+        }
+
+        @Override
+        public void close() throws IOException {
+            final HttpEntity httpEntity = getEntity();
+            if (httpEntity != null) {
+                httpEntity.getContent().close();
+            }
+        }
+    }
+}
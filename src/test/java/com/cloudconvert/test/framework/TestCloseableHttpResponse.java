@@ -0,0 +1,23 @@
+package com.cloudconvert.test.framework;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+
+public class TestCloseableHttpResponse extends BasicHttpResponse implements CloseableHttpResponse {
+
+    public TestCloseableHttpResponse(final int statusCode) {
+        super(HttpVersion.HTTP_1_1, statusCode, "reason");
+    }
+
+    public static CloseableHttpResponse getHttpResponse(final int statusCode, final String body) {
+        final TestCloseableHttpResponse testCloseableHttpResponse = new TestCloseableHttpResponse(statusCode);
+        testCloseableHttpResponse.setEntity(new StringEntity(body, "UTF-8"));
+        return testCloseableHttpResponse;
+    }
+
+    @Override
+    public void close() {
+    }
+}
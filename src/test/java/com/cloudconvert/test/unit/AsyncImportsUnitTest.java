@@ -14,6 +14,7 @@ import com.cloudconvert.dto.request.UploadImportRequest;
 import com.cloudconvert.dto.request.UrlImportRequest;
 import com.cloudconvert.dto.response.TaskResponse;
 import com.cloudconvert.dto.result.AsyncResult;
+import com.cloudconvert.dto.result.CompletableFutureAsyncResult;
 import com.cloudconvert.dto.result.CompletedAsyncResult;
 import com.cloudconvert.dto.result.FutureAsyncResult;
 import com.cloudconvert.dto.result.Result;
@@ -22,6 +23,8 @@ import com.cloudconvert.executor.AsyncRequestExecutor;
 import com.cloudconvert.resource.AbstractResource;
 import com.cloudconvert.test.framework.AbstractTest;
 import com.cloudconvert.test.framework.UnitTest;
+import com.cloudconvert.tracing.Tracer;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.ImmutableMap;
 import com.pivovarit.function.ThrowingSupplier;
 import org.apache.http.HttpStatus;
@@ -40,12 +43,15 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -138,15 +144,16 @@ public class AsyncImportsUnitTest extends AbstractTest {
             "max-file-size", "max-file-size", "redirect", "redirect", "signature", "signature");
         final TaskResponse taskResponse = new TaskResponse().setId("import-upload-task-id").setResult(
             new TaskResponse.Result().setForm(new TaskResponse.Result.Form().setUrl("import-upload-task-result-form-url").setParameters(parameters)));
-        final AsyncResult<TaskResponse> showTaskResponseAsyncResult = FutureAsyncResult.<TaskResponse>builder().build();
+        final Result<TaskResponse> showTaskResponseResult = Result.<TaskResponse>builder().status(Status.builder().code(HttpStatus.SC_OK).build()).build();
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)))
             .thenReturn(CompletedAsyncResult.<TaskResponse>builder().result(
                 Result.<TaskResponse>builder().status(Status.builder().code(HttpStatus.SC_CREATED).build()).body(taskResponse).build()).build())
-            .thenReturn(showTaskResponseAsyncResult);
+            .thenReturn(CompletedAsyncResult.<TaskResponse>builder().result(showTaskResponseResult).build());
+        when(asyncRequestExecutor.getTracer()).thenReturn(Tracer.NONE);
         when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE))).thenReturn(
             CompletedAsyncResult.<Void>builder().result(Result.<Void>builder().status(Status.builder().code(HttpStatus.SC_CREATED).build()).build()).build());
 
-        assertThat(asyncCloudConvertClient.importUsing().upload(expectedUploadImportRequest, inputStream)).isEqualTo(showTaskResponseAsyncResult);
+        assertThat(asyncCloudConvertClient.importUsing().upload(expectedUploadImportRequest, inputStream).get()).isEqualTo(showTaskResponseResult);
         verify(asyncRequestExecutor, times(2)).execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE));
         verify(asyncRequestExecutor, times(1)).execute(httpUriRequestArgumentCaptor.capture(), eq(AbstractResource.VOID_TYPE_REFERENCE));
 
@@ -162,6 +169,36 @@ public class AsyncImportsUnitTest extends AbstractTest {
             assertThat(AbstractResource.VALUE_USER_AGENT).isEqualTo(header.getValue()));
     }
 
+    @Test
+    public void import_upload_immediateUpload_nonBlocking() throws Exception {
+        final Map<String, String> parameters = ImmutableMap.of("expires", "expires", "signature", "signature");
+        final TaskResponse taskResponse = new TaskResponse().setId("import-upload-task-id").setResult(
+            new TaskResponse.Result().setForm(new TaskResponse.Result.Form().setUrl("import-upload-task-result-form-url").setParameters(parameters)));
+        final CompletableFuture<Result<TaskResponse>> taskResponseCompletableFuture = new CompletableFuture<>();
+        final Result<TaskResponse> showTaskResponseResult = Result.<TaskResponse>builder().status(Status.builder().code(HttpStatus.SC_OK).build()).build();
+        when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)))
+            .thenReturn(CompletedAsyncResult.<TaskResponse>builder().result(showTaskResponseResult).build());
+        when(asyncRequestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE))).thenReturn(
+            CompletedAsyncResult.<Void>builder().result(Result.<Void>builder().status(Status.builder().code(HttpStatus.SC_CREATED).build()).build()).build());
+
+        final ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(new byte[]{1, 2, 3});
+
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = asyncCloudConvertClient.importUsing().upload(
+            CompletableFutureAsyncResult.<TaskResponse>builder().completableFuture(taskResponseCompletableFuture).build(), byteArrayInputStream, "file.jpg");
+
+        // Stream is read by the calling thread, not by the thread completing the task creation
+        assertThat(byteArrayInputStream.available()).isZero();
+        assertThat(taskResponseAsyncResult.toCompletableFuture()).isNotDone();
+        verify(asyncRequestExecutor, never()).execute(any(HttpUriRequest.class), any(TypeReference.class));
+
+        taskResponseCompletableFuture.complete(
+            Result.<TaskResponse>builder().status(Status.builder().code(HttpStatus.SC_CREATED).build()).body(taskResponse).build());
+
+        assertThat(taskResponseAsyncResult.get()).isEqualTo(showTaskResponseResult);
+        verify(asyncRequestExecutor, times(1)).execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE));
+        verify(asyncRequestExecutor, times(1)).execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE));
+    }
+
     @Test
     public void import_s3() throws Exception {
         final S3ImportRequest expectedS3ImportRequest = new S3ImportRequest().setBucket("import-s3-bucket");
@@ -0,0 +1,117 @@
+package com.cloudconvert.test.unit;
+
+import com.cloudconvert.client.CloudConvertClient;
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.client.setttings.SettingsProvider;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.dto.result.Status;
+import com.cloudconvert.executor.RequestExecutor;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.AbstractTest;
+import com.cloudconvert.test.framework.UnitTest;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class FilesUnitTest extends AbstractTest {
+
+    private static final String DOWNLOAD_URL = "https://storage.cloudconvert.com/tasks/file.pdf";
+
+    @Mock
+    private SettingsProvider settingsProvider;
+
+    @Mock
+    private RequestExecutor requestExecutor;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ObjectMapperProvider objectMapperProvider;
+
+    @Captor
+    private ArgumentCaptor<HttpUriRequest> httpUriRequestArgumentCaptor;
+
+    private CloudConvertClient cloudConvertClient;
+
+    private byte[] content;
+
+    @Before
+    public void before() throws Exception {
+        cloudConvertClient = new CloudConvertClient(settingsProvider, objectMapperProvider, requestExecutor);
+
+        // Larger than transfer buffers, so content is copied in several chunks
+        content = new byte[300 * 1024];
+        new Random(42).nextBytes(content);
+
+        when(requestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.INPUT_STREAM_TYPE_REFERENCE))).thenReturn(
+            Result.<InputStream>builder().status(Status.builder().code(HttpStatus.SC_OK).build()).body(new ByteArrayInputStream(content)).build());
+    }
+
+    @Test
+    public void files_download() throws Exception {
+        final Result<InputStream> inputStreamResult = cloudConvertClient.files().download(DOWNLOAD_URL);
+
+        verify(requestExecutor, times(1)).execute(httpUriRequestArgumentCaptor.capture(), eq(AbstractResource.INPUT_STREAM_TYPE_REFERENCE));
+
+        final HttpUriRequest httpUriRequest = httpUriRequestArgumentCaptor.getValue();
+
+        assertThat(httpUriRequest.getMethod()).isEqualTo(HttpGet.METHOD_NAME);
+        assertThat(httpUriRequest.getURI().toString()).isEqualTo(DOWNLOAD_URL);
+        assertThat(httpUriRequest.getHeaders(AbstractResource.HEADER_AUTHORIZATION)).isEmpty();
+        assertThat(inputStreamResult.getBody()).hasBinaryContent(content);
+    }
+
+    @Test
+    public void files_download_path() throws Exception {
+        final Path target = Files.createTempFile("files-download", ".pdf");
+
+        try {
+            final Result<Void> voidResult = cloudConvertClient.files().download(DOWNLOAD_URL, target);
+
+            assertThat(voidResult.getStatus().getCode()).isEqualTo(HttpStatus.SC_OK);
+            assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    @Test
+    public void files_download_writableByteChannel() throws Exception {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        final Result<Void> voidResult = cloudConvertClient.files().download(DOWNLOAD_URL, Channels.newChannel(byteArrayOutputStream));
+
+        assertThat(voidResult.getStatus().getCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(byteArrayOutputStream.toByteArray()).isEqualTo(content);
+    }
+
+    @After
+    public void after() throws Exception {
+        cloudConvertClient.close();
+    }
+}
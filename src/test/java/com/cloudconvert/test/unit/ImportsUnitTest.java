@@ -19,6 +19,7 @@ import com.cloudconvert.executor.RequestExecutor;
 import com.cloudconvert.resource.AbstractResource;
 import com.cloudconvert.test.framework.AbstractTest;
 import com.cloudconvert.test.framework.UnitTest;
+import com.cloudconvert.tracing.Tracer;
 import com.google.common.collect.ImmutableMap;
 import com.pivovarit.function.ThrowingSupplier;
 import org.apache.http.HttpStatus;
@@ -38,6 +39,10 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -139,6 +144,7 @@ public class ImportsUnitTest extends AbstractTest {
         when(requestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)))
             .thenReturn(Result.<TaskResponse>builder().status(Status.builder().code(HttpStatus.SC_CREATED).build()).body(taskResponse).build())
             .thenReturn(showTaskResponseResult);
+        when(requestExecutor.getTracer()).thenReturn(Tracer.NONE);
         when(requestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.VOID_TYPE_REFERENCE)))
             .thenReturn(Result.<Void>builder().status(Status.builder().code(HttpStatus.SC_CREATED).build()).build());
 
@@ -314,6 +320,32 @@ public class ImportsUnitTest extends AbstractTest {
             assertThat(AbstractResource.VALUE_USER_AGENT).isEqualTo(header.getValue()));
     }
 
+    @Test
+    public void import_base64_path() throws Exception {
+        final Path path = Files.createTempFile("import-base64", ".txt");
+        Files.write(path, "content".getBytes(StandardCharsets.UTF_8));
+        final Result<TaskResponse> taskResponseResult = Result.<TaskResponse>builder().build();
+
+        try {
+            when(requestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))).thenReturn(taskResponseResult);
+            assertThat(cloudConvertClient.importUsing().base64(new Base64ImportRequest(), path)).isEqualTo(taskResponseResult);
+            verify(requestExecutor, times(1)).execute(httpUriRequestArgumentCaptor.capture(), eq(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE));
+
+            final HttpUriRequest httpUriRequest = httpUriRequestArgumentCaptor.getValue();
+
+            assertThat(httpUriRequest.getURI().toString()).isEqualTo(API_URL + "/" + AbstractResource.V2 + "/import/base64");
+            assertThat(httpUriRequest).isInstanceOfSatisfying(HttpEntityEnclosingRequestBase.class, httpEntityEnclosingRequestBase -> {
+                final Base64ImportRequest actualBase64ImportRequest = ThrowingSupplier.unchecked(() -> objectMapperProvider.provide()
+                    .readValue(httpEntityEnclosingRequestBase.getEntity().getContent(), Base64ImportRequest.class)).get();
+
+                assertThat(actualBase64ImportRequest.getFilename()).isEqualTo(path.getFileName().toString());
+                assertThat(actualBase64ImportRequest.getFile()).isEqualTo(Base64.getEncoder().encodeToString("content".getBytes(StandardCharsets.UTF_8)));
+            });
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
     @Test
     public void import_raw() throws Exception {
         final RawImportRequest expectedRawImportRequest = new RawImportRequest().setFile("content").setFilename("test.txt");
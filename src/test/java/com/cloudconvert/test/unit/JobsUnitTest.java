@@ -118,6 +118,23 @@ public class JobsUnitTest extends AbstractTest {
             assertThat(VALUE_AUTHORIZATION).isEqualTo(header.getValue()));
         assertThat(httpUriRequest.getHeaders(AbstractResource.HEADER_USER_AGENT)).hasSize(1).allSatisfy(header ->
             assertThat(AbstractResource.VALUE_USER_AGENT).isEqualTo(header.getValue()));
+        assertThat(httpUriRequest.containsHeader(AbstractResource.HEADER_IDEMPOTENCY_KEY)).isFalse();
+        assertThat(httpUriRequest.getFirstHeader(AbstractResource.HEADER_ACCEPT_ENCODING).getValue()).isEqualTo(AbstractResource.VALUE_ACCEPT_ENCODING);
+    }
+
+    @Test
+    public void jobs_create_idempotencyKey() throws Exception {
+        final Map<String, TaskRequest> tasks = ImmutableMap.of("merge-files", new MergeFilesTaskRequest().setInput("merge-files-task-input"));
+        when(requestExecutor.execute(any(HttpUriRequest.class), eq(AbstractResource.JOB_RESPONSE_TYPE_REFERENCE))).thenReturn(Result.<JobResponse>builder().build());
+
+        cloudConvertClient.jobs().create(tasks, "thumbnails");
+        cloudConvertClient.jobs().create(tasks, "thumbnails", "job-idempotency-key");
+        verify(requestExecutor, times(2)).execute(httpUriRequestArgumentCaptor.capture(), eq(AbstractResource.JOB_RESPONSE_TYPE_REFERENCE));
+
+        // Tag is a label shared by many jobs, only the explicit key makes creating the job retryable
+        assertThat(httpUriRequestArgumentCaptor.getAllValues().get(0).containsHeader(AbstractResource.HEADER_IDEMPOTENCY_KEY)).isFalse();
+        assertThat(httpUriRequestArgumentCaptor.getAllValues().get(1).getFirstHeader(AbstractResource.HEADER_IDEMPOTENCY_KEY).getValue())
+            .isEqualTo("job-idempotency-key");
     }
 
     @Test
@@ -0,0 +1,108 @@
+package com.cloudconvert.test.unit.catalog;
+
+import com.cloudconvert.catalog.OperationCatalog;
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.Operation;
+import com.cloudconvert.dto.response.OperationResponse;
+import com.cloudconvert.dto.response.Pageable;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.resource.params.Include;
+import com.cloudconvert.resource.sync.TasksResource;
+import com.cloudconvert.test.framework.UnitTest;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class OperationCatalogTest {
+
+    private static final OperationResponse DOCX_TO_PDF_OFFICE = new OperationResponse().setOperation(Operation.CONVERT)
+        .setInputFormat("docx").setOutputFormat("pdf").setEngine("office").setDeprecated(true);
+    private static final OperationResponse DOCX_TO_PDF_LIBREOFFICE = new OperationResponse().setOperation(Operation.CONVERT)
+        .setInputFormat("docx").setOutputFormat("pdf").setEngine("libreoffice");
+    private static final OperationResponse PDF_OPTIMIZE = new OperationResponse().setOperation(Operation.OPTIMIZE)
+        .setInputFormat("pdf").setEngine("3heights");
+
+    @Mock
+    private TasksResource tasksResource;
+
+    private Path snapshotPath;
+
+    private OperationCatalog operationCatalog;
+
+    @Before
+    public void before() throws Exception {
+        snapshotPath = Files.createTempDirectory("operation-catalog").resolve("operations.json");
+
+        // Background refresh never kicks in, the catalog is loaded by tests
+        operationCatalog = new OperationCatalog(tasksResource, new ObjectMapperProvider(), snapshotPath, Duration.ofHours(1));
+    }
+
+    @Test
+    public void find_loadsOnceAndIndexesByOperationAndFormats() throws Exception {
+        mockOperations();
+
+        assertThat(operationCatalog.find(Operation.CONVERT, "DOCX", "pdf")).containsExactly(DOCX_TO_PDF_OFFICE, DOCX_TO_PDF_LIBREOFFICE);
+        assertThat(operationCatalog.find(Operation.CONVERT, "docx", "pdf", "libreoffice")).contains(DOCX_TO_PDF_LIBREOFFICE);
+        assertThat(operationCatalog.findEngine(Operation.CONVERT, "docx", "pdf")).contains("libreoffice");
+        assertThat(operationCatalog.isSupported(Operation.OPTIMIZE, "pdf", null)).isTrue();
+        assertThat(operationCatalog.isSupported(Operation.CONVERT, "pdf", "docx")).isFalse();
+        assertThat(operationCatalog.findEngine(Operation.CONVERT, "pdf", "docx")).isEmpty();
+
+        verify(tasksResource, times(1)).operations(ImmutableMap.of(), ImmutableList.of(Include.OPTIONS, Include.ENGINE_VERSIONS));
+    }
+
+    @Test
+    public void find_warmStartsFromSnapshot() throws Exception {
+        mockOperations();
+        operationCatalog.refresh();
+        assertThat(snapshotPath).exists();
+
+        try (final OperationCatalog warmOperationCatalog = new OperationCatalog(tasksResource, new ObjectMapperProvider(), snapshotPath, Duration.ofHours(1))) {
+            // Responses are equal by identity only, compare the deserialized ones field by field
+            assertThat(warmOperationCatalog.getOperationResponses()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(DOCX_TO_PDF_OFFICE, DOCX_TO_PDF_LIBREOFFICE, PDF_OPTIMIZE);
+            assertThat(warmOperationCatalog.findEngine(Operation.CONVERT, "docx", "pdf")).contains("libreoffice");
+        }
+
+        verify(tasksResource, times(1)).operations(ImmutableMap.of(), ImmutableList.of(Include.OPTIONS, Include.ENGINE_VERSIONS));
+    }
+
+    @Test
+    public void close_beforeUse_doesNotFetch() throws Exception {
+        operationCatalog.close();
+
+        verifyNoInteractions(tasksResource);
+    }
+
+    private void mockOperations() throws Exception {
+        when(tasksResource.operations(ImmutableMap.of(), ImmutableList.of(Include.OPTIONS, Include.ENGINE_VERSIONS))).thenReturn(
+            Result.<Pageable<OperationResponse>>builder().body(new Pageable<OperationResponse>()
+                .setData(ImmutableList.of(DOCX_TO_PDF_OFFICE, DOCX_TO_PDF_LIBREOFFICE, PDF_OPTIMIZE))).build());
+    }
+
+    @After
+    public void after() throws Exception {
+        operationCatalog.close();
+
+        Files.deleteIfExists(snapshotPath);
+        Files.deleteIfExists(snapshotPath.getParent());
+    }
+}
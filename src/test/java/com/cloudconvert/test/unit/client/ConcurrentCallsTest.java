@@ -0,0 +1,104 @@
+package com.cloudconvert.test.unit.client;
+
+import com.cloudconvert.client.CloudConvertCall;
+import com.cloudconvert.client.CloudConvertClient;
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.client.setttings.SettingsProvider;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.dto.result.FutureAsyncResult;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.executor.RequestExecutor;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import org.apache.http.HttpResponse;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ConcurrentCallsTest {
+
+    @Mock
+    private SettingsProvider settingsProvider;
+
+    @Mock
+    private RequestExecutor requestExecutor;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ObjectMapperProvider objectMapperProvider;
+
+    @Mock
+    private ResultExtractor resultExtractor;
+
+    @Mock
+    private HttpResponse httpResponse;
+
+    @Test
+    public void invokeAll_resultsInOrderOfCalls() throws Exception {
+        final CloudConvertClient cloudConvertClient = new CloudConvertClient(settingsProvider, objectMapperProvider, requestExecutor);
+        final ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+        try {
+            final List<CloudConvertCall<String>> calls = IntStream.range(0, 100).<CloudConvertCall<String>>mapToObj(i -> client -> {
+                assertThat(client).isSameAs(cloudConvertClient);
+                if (i == 42) {
+                    throw new IllegalStateException("call-42");
+                }
+                return "result-" + i;
+            }).collect(Collectors.toList());
+
+            final List<Future<String>> futures = cloudConvertClient.invokeAll(executorService, calls);
+
+            assertThat(futures).hasSize(100).allMatch(Future::isDone);
+            assertThat(futures.get(0).get()).isEqualTo("result-0");
+            assertThat(futures.get(99).get()).isEqualTo("result-99");
+            assertThatThrownBy(() -> futures.get(42).get()).isInstanceOf(ExecutionException.class).hasRootCauseMessage("call-42");
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void futureAsyncResult_concurrentGet_extractedOnce() throws Exception {
+        final Result<TaskResponse> taskResponseResult = Result.<TaskResponse>builder().build();
+        when(resultExtractor.extract(httpResponse, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)).thenReturn(taskResponseResult);
+
+        final FutureAsyncResult<TaskResponse> futureAsyncResult = FutureAsyncResult.<TaskResponse>builder().resultExtractor(resultExtractor)
+            .future(CompletableFuture.completedFuture(httpResponse)).typeReference(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE).build();
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        try {
+            final List<Future<Result<TaskResponse>>> futures = executorService.invokeAll(
+                IntStream.range(0, 64).<Callable<Result<TaskResponse>>>mapToObj(i -> futureAsyncResult::get).collect(Collectors.toList()), 10, TimeUnit.SECONDS);
+
+            for (final Future<Result<TaskResponse>> future : futures) {
+                assertThat(future.get()).isSameAs(taskResponseResult);
+            }
+            verify(resultExtractor, times(1)).extract(httpResponse, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
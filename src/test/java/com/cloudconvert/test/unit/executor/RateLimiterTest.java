@@ -0,0 +1,227 @@
+package com.cloudconvert.test.unit.executor;
+
+import com.cloudconvert.client.http.AsyncCloseableHttpClientProvider;
+import com.cloudconvert.client.http.CloseableHttpClientProvider;
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.exception.CloudConvertClientException;
+import com.cloudconvert.executor.AsyncRequestExecutor;
+import com.cloudconvert.executor.ExecutorSettings;
+import com.cloudconvert.executor.RequestExecutor;
+import com.cloudconvert.executor.ratelimit.EndpointClass;
+import com.cloudconvert.executor.ratelimit.RateLimitSettings;
+import com.cloudconvert.executor.ratelimit.RateLimiter;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.cloudconvert.test.framework.TestCloseableHttpResponse.getHttpResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class RateLimiterTest {
+
+    private static final String API_URL = "https://api.cloudconvert.com/" + AbstractResource.V2;
+
+    @Mock
+    private CloseableHttpClientProvider closeableHttpClientProvider;
+
+    @Mock
+    private CloseableHttpClient closeableHttpClient;
+
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+
+    @Test
+    public void classify() {
+        final RateLimiter rateLimiter = new RateLimiter();
+
+        assertThat(rateLimiter.classify(new HttpPost(API_URL + "/jobs"))).isEqualTo(EndpointClass.CREATE);
+        assertThat(rateLimiter.classify(new HttpPost(API_URL + "/convert"))).isEqualTo(EndpointClass.CREATE);
+        assertThat(rateLimiter.classify(new HttpGet(API_URL + "/jobs/job-id"))).isEqualTo(EndpointClass.READ);
+        assertThat(rateLimiter.classify(new HttpDelete(API_URL + "/tasks/task-id"))).isEqualTo(EndpointClass.READ);
+        assertThat(rateLimiter.classify(new HttpGet("https://storage.cloudconvert.com/tasks/file.pdf"))).isEqualTo(EndpointClass.STORAGE);
+        assertThat(rateLimiter.classify(new HttpPost("https://upload.cloudconvert.com/storage/upload"))).isEqualTo(EndpointClass.STORAGE);
+    }
+
+    @Test
+    public void reserve_burstThenPaced() {
+        final RateLimiter rateLimiter = new RateLimiter(RateLimitSettings.builder().createRate(10).burst(3).build(), nanoTime::get);
+
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isZero();
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isZero();
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isZero();
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+
+        // Buckets are independent
+        assertThat(rateLimiter.reserve(EndpointClass.READ)).isZero();
+
+        // Idle bucket refills
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isZero();
+    }
+
+    @Test
+    public void onResponse_tooManyRequests_pausedAndSlowedDown() {
+        final RateLimiter rateLimiter = new RateLimiter(RateLimitSettings.builder().createRate(10).burst(3).build(), nanoTime::get);
+
+        final HttpResponse tooManyRequestsHttpResponse = getHttpResponse(RateLimiter.SC_TOO_MANY_REQUESTS, "{}");
+        tooManyRequestsHttpResponse.setHeader(RateLimiter.HEADER_RETRY_AFTER, "2");
+
+        assertThat(rateLimiter.onResponse(EndpointClass.CREATE, tooManyRequestsHttpResponse)).isTrue();
+        assertThat(rateLimiter.getRate(EndpointClass.CREATE)).isEqualTo(5);
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(2200));
+        assertThat(rateLimiter.reserve(EndpointClass.READ)).isZero();
+
+        // Successful responses restore the rate step by step
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.onResponse(EndpointClass.CREATE, getHttpResponse(200, "{}"))).isFalse();
+        }
+        assertThat(rateLimiter.getRate(EndpointClass.CREATE)).isEqualTo(7.5);
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.onResponse(EndpointClass.CREATE, getHttpResponse(200, "{}"));
+        }
+        assertThat(rateLimiter.getRate(EndpointClass.CREATE)).isEqualTo(10);
+    }
+
+    @Test
+    public void reserve_unlimitedByDefault_onlyPausedOnTooManyRequests() {
+        final RateLimiter rateLimiter = new RateLimiter(RateLimitSettings.builder().build(), nanoTime::get);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isZero();
+        }
+
+        final HttpResponse tooManyRequestsHttpResponse = getHttpResponse(RateLimiter.SC_TOO_MANY_REQUESTS, "{}");
+        tooManyRequestsHttpResponse.setHeader(RateLimiter.HEADER_RETRY_AFTER, "2");
+
+        assertThat(rateLimiter.onResponse(EndpointClass.CREATE, tooManyRequestsHttpResponse)).isTrue();
+        assertThat(rateLimiter.getRate(EndpointClass.CREATE)).isEqualTo(RateLimitSettings.UNLIMITED);
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rateLimiter.reserve(EndpointClass.READ)).isZero();
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rateLimiter.reserve(EndpointClass.CREATE)).isZero();
+    }
+
+    @Test
+    public void onResponse_remainingExhausted_pausedUntilReset() {
+        final RateLimiter rateLimiter = new RateLimiter(RateLimitSettings.builder().readRate(10).build(), nanoTime::get);
+
+        final HttpResponse httpResponse = getHttpResponse(200, "{}");
+        httpResponse.setHeader(RateLimiter.HEADER_RATE_LIMIT_REMAINING, "0");
+        httpResponse.setHeader(RateLimiter.HEADER_RATE_LIMIT_RESET, "3");
+
+        assertThat(rateLimiter.onResponse(EndpointClass.READ, httpResponse)).isFalse();
+        assertThat(rateLimiter.getRate(EndpointClass.READ)).isEqualTo(10);
+        assertThat(rateLimiter.reserve(EndpointClass.READ)).isEqualTo(TimeUnit.SECONDS.toNanos(3));
+    }
+
+    @Test
+    public void requestExecutor_tooManyRequests_sentAgain() throws Exception {
+        when(closeableHttpClientProvider.provide()).thenReturn(closeableHttpClient);
+
+        final CloseableHttpResponse tooManyRequestsHttpResponse = getHttpResponse(RateLimiter.SC_TOO_MANY_REQUESTS, "{\"message\":\"Too many requests\"}");
+        tooManyRequestsHttpResponse.setHeader(RateLimiter.HEADER_RETRY_AFTER, "0");
+        when(closeableHttpClient.execute(any(HttpPost.class))).thenReturn(tooManyRequestsHttpResponse, getHttpResponse(201, "{\"data\":{\"id\":\"task-id\"}}"));
+
+        final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), closeableHttpClientProvider,
+            ExecutorSettings.builder().rateLimiter(new RateLimiter(RateLimitSettings.builder().maxRetries(1).build())).build());
+
+        final HttpPost httpPost = new HttpPost(API_URL + "/import/url");
+        httpPost.setEntity(new StringEntity("{}"));
+
+        final Result<TaskResponse> taskResponseResult = requestExecutor.execute(httpPost, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+        verify(closeableHttpClient, times(2)).execute(httpPost);
+    }
+
+    @Test
+    public void requestExecutor_tooManyRequests_retriesExhausted() throws Exception {
+        when(closeableHttpClientProvider.provide()).thenReturn(closeableHttpClient);
+        when(closeableHttpClient.execute(any(HttpGet.class))).thenAnswer(invocation -> {
+            final CloseableHttpResponse tooManyRequestsHttpResponse = getHttpResponse(RateLimiter.SC_TOO_MANY_REQUESTS, "{\"message\":\"Too many requests\"}");
+            tooManyRequestsHttpResponse.setHeader(RateLimiter.HEADER_RETRY_AFTER, "0");
+            return tooManyRequestsHttpResponse;
+        });
+
+        final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), closeableHttpClientProvider,
+            ExecutorSettings.builder().rateLimiter(new RateLimiter(RateLimitSettings.builder().maxRetries(2).defaultRetryAfter(Duration.ZERO).build())).build());
+
+        final HttpGet httpGet = new HttpGet(API_URL + "/tasks/task-id");
+        assertThatThrownBy(() -> requestExecutor.execute(httpGet, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)).isInstanceOf(CloudConvertClientException.class);
+        verify(closeableHttpClient, times(3)).execute(httpGet);
+    }
+
+    @Test
+    public void asyncRequestExecutor_tooManyRequests_sentAgain() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        final HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext("/" + AbstractResource.V2 + "/tasks/task-id", httpExchange -> {
+            final boolean refused = requests.incrementAndGet() == 1;
+            final byte[] body = (refused ? "{\"message\":\"Too many requests\"}" : "{\"data\":{\"id\":\"task-id\"}}").getBytes(StandardCharsets.UTF_8);
+            httpExchange.getResponseHeaders().set(RateLimiter.HEADER_RETRY_AFTER, "0");
+            httpExchange.sendResponseHeaders(refused ? RateLimiter.SC_TOO_MANY_REQUESTS : 200, body.length);
+            httpExchange.getResponseBody().write(body);
+            httpExchange.close();
+        });
+        httpServer.start();
+
+        try (final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()),
+            new AsyncCloseableHttpClientProvider())) {
+            final HttpGet httpGet = new HttpGet("http://" + httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort()
+                + "/" + AbstractResource.V2 + "/tasks/task-id");
+
+            final Result<TaskResponse> taskResponseResult = asyncRequestExecutor.execute(httpGet, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE).get();
+
+            assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+            assertThat(requests.get()).isEqualTo(2);
+        } finally {
+            httpServer.stop(0);
+        }
+    }
+
+    @Test
+    public void isRetryable_nonRepeatableEntity() {
+        final RateLimiter rateLimiter = new RateLimiter();
+        final HttpPost httpPost = new HttpPost(API_URL + "/import/raw");
+        httpPost.setEntity(new InputStreamEntity(new ByteArrayInputStream(new byte[0])));
+
+        assertThat(rateLimiter.isRetryable(httpPost, 1)).isFalse();
+        assertThat(rateLimiter.isRetryable(new HttpGet(API_URL + "/jobs"), 1)).isTrue();
+        assertThat(rateLimiter.isRetryable(new HttpGet(API_URL + "/jobs"), RateLimitSettings.DEFAULT_MAX_RETRIES + 1)).isFalse();
+    }
+}
@@ -0,0 +1,81 @@
+package com.cloudconvert.test.unit.executor;
+
+import com.cloudconvert.executor.transport.CompressingHttpTransport;
+import com.cloudconvert.executor.transport.HttpTransport;
+import com.cloudconvert.executor.transport.RequestCompressor;
+import com.cloudconvert.test.framework.UnitTest;
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class RequestCompressorTest {
+
+    private static final String JSON = "{\"tasks\":{" + Strings.repeat("\"convert\":{\"operation\":\"convert\",\"input_format\":\"docx\"},", 200) + "}}";
+
+    @Mock
+    private HttpTransport httpTransport;
+
+    @Test
+    public void compress_largeJson_gzipped() throws Exception {
+        final HttpPost httpPost = getHttpPost(new StringEntity(JSON, ContentType.APPLICATION_JSON));
+
+        new RequestCompressor(1024).compress(httpPost);
+
+        final HttpEntity httpEntity = httpPost.getEntity();
+        assertThat(httpEntity.getContentEncoding().getValue()).isEqualTo(RequestCompressor.GZIP);
+        assertThat(httpEntity.getContentType().getValue()).startsWith(ContentType.APPLICATION_JSON.getMimeType());
+        assertThat(httpEntity.getContentLength()).isLessThan(JSON.length() / 5);
+        assertThat(new String(ByteStreams.toByteArray(new GZIPInputStream(httpEntity.getContent())), StandardCharsets.UTF_8)).isEqualTo(JSON);
+
+        // Compressed once, even if the request is sent again
+        new RequestCompressor(1024).compress(httpPost);
+        assertThat(httpPost.getEntity()).isSameAs(httpEntity);
+    }
+
+    @Test
+    public void compress_smallOrBinary_unchanged() throws Exception {
+        final StringEntity smallStringEntity = new StringEntity("{\"operation\":\"convert\"}", ContentType.APPLICATION_JSON);
+        final HttpPost smallHttpPost = getHttpPost(smallStringEntity);
+        final ByteArrayEntity binaryByteArrayEntity = new ByteArrayEntity(JSON.getBytes(StandardCharsets.UTF_8), ContentType.DEFAULT_BINARY);
+        final HttpPost binaryHttpPost = getHttpPost(binaryByteArrayEntity);
+
+        new RequestCompressor(1024).compress(smallHttpPost);
+        new RequestCompressor(1024).compress(binaryHttpPost);
+
+        assertThat(smallHttpPost.getEntity()).isSameAs(smallStringEntity);
+        assertThat(binaryHttpPost.getEntity()).isSameAs(binaryByteArrayEntity);
+    }
+
+    @Test
+    public void compressingHttpTransport_sendsCompressedRequest() throws Exception {
+        final HttpPost httpPost = getHttpPost(new StringEntity(JSON, ContentType.APPLICATION_JSON));
+
+        new CompressingHttpTransport(httpTransport).execute(httpPost);
+
+        assertThat(httpPost.getEntity().getContentEncoding().getValue()).isEqualTo(RequestCompressor.GZIP);
+        verify(httpTransport).execute(httpPost);
+    }
+
+    private static HttpPost getHttpPost(final HttpEntity httpEntity) {
+        final HttpPost httpPost = new HttpPost("https://api.cloudconvert.com/v2/jobs");
+        httpPost.setEntity(httpEntity);
+        return httpPost;
+    }
+}
@@ -0,0 +1,147 @@
+package com.cloudconvert.test.unit.executor;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.response.JobResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.exception.CloudConvertClientException;
+import com.cloudconvert.executor.AsyncRequestExecutor;
+import com.cloudconvert.executor.ExecutorSettings;
+import com.cloudconvert.executor.RequestExecutor;
+import com.cloudconvert.executor.interceptor.RequestInterceptor;
+import com.cloudconvert.executor.transport.AsyncHttpTransport;
+import com.cloudconvert.executor.transport.HttpTransport;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import com.google.common.collect.ImmutableMap;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.cloudconvert.test.framework.TestCloseableHttpResponse.getHttpResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class RequestInterceptorTest {
+
+    private static final String API_URL = "https://api.cloudconvert.com/" + AbstractResource.V2;
+    private static final String JOB = "{\"data\":{\"id\":\"job-id\"}}";
+
+    @Mock
+    private HttpTransport httpTransport;
+
+    @Mock
+    private AsyncHttpTransport asyncHttpTransport;
+
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void execute_callsInterceptorsInOrderAndResultsInReverseOrder() throws Exception {
+        when(httpTransport.execute(any())).thenReturn(getHttpResponse(200, JOB));
+
+        final Result<JobResponse> result = getRequestExecutor(new RecordingRequestInterceptor("first"), new RecordingRequestInterceptor("second"))
+            .execute(new HttpGet(API_URL + "/jobs/job-id"), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE);
+
+        assertThat(result.getHeaders()).containsEntry("X-Intercepted", "second, first");
+        assertThat(calls).containsExactly("first before", "second before", "second after", "first after");
+        verify(httpTransport).execute(any(HttpUriRequest.class));
+    }
+
+    @Test
+    public void execute_failingInterceptor_requestNotSent() {
+        final RequestInterceptor faultInjectingRequestInterceptor = new RequestInterceptor() {
+
+            @Override
+            public void beforeExecution(final HttpUriRequest httpUriRequest) throws IOException {
+                throw new IOException("Injected fault");
+            }
+        };
+
+        assertThatThrownBy(() -> getRequestExecutor(new RecordingRequestInterceptor("first"), faultInjectingRequestInterceptor)
+            .execute(new HttpGet(API_URL + "/jobs/job-id"), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE)).hasMessage("Injected fault");
+
+        assertThat(calls).containsExactly("first before", "first failure IOException");
+        verifyNoInteractions(httpTransport);
+    }
+
+    @Test
+    public void executeAsync_waitsForAsyncHooks() throws Exception {
+        final CompletableFuture<Void> tokenCompletableFuture = new CompletableFuture<>();
+        final RequestInterceptor tokenRequestInterceptor = new RequestInterceptor() {
+
+            @Override
+            public CompletableFuture<Void> beforeExecutionAsync(final HttpUriRequest httpUriRequest) {
+                return tokenCompletableFuture.thenRun(() -> httpUriRequest.setHeader(AbstractResource.HEADER_AUTHORIZATION, "Bearer refreshed"));
+            }
+        };
+        when(asyncHttpTransport.executeAsync(any())).thenAnswer(invocation -> {
+            calls.add("sent with " + invocation.<HttpUriRequest>getArgument(0).getFirstHeader(AbstractResource.HEADER_AUTHORIZATION).getValue());
+            return CompletableFuture.completedFuture(getHttpResponse(422, "{\"message\":\"invalid\"}"));
+        });
+
+        final CompletableFuture<Result<JobResponse>> resultCompletableFuture = getAsyncRequestExecutor(new RecordingRequestInterceptor("first"),
+            tokenRequestInterceptor).execute(new HttpGet(API_URL + "/jobs/job-id"), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE).toCompletableFuture();
+
+        assertThat(resultCompletableFuture).isNotDone();
+        assertThat(calls).containsExactly("first before");
+
+        tokenCompletableFuture.complete(null);
+
+        assertThatThrownBy(resultCompletableFuture::get).hasCauseInstanceOf(CloudConvertClientException.class);
+        assertThat(calls).containsExactly("first before", "sent with Bearer refreshed", "first failure CloudConvertClientException");
+    }
+
+    private RequestExecutor getRequestExecutor(final RequestInterceptor... requestInterceptors) {
+        return new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), httpTransport,
+            ExecutorSettings.builder().requestInterceptors(Arrays.asList(requestInterceptors)).build());
+    }
+
+    private AsyncRequestExecutor getAsyncRequestExecutor(final RequestInterceptor... requestInterceptors) {
+        return new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()), asyncHttpTransport, null,
+            ExecutorSettings.builder().requestInterceptors(Arrays.asList(requestInterceptors)).build());
+    }
+
+    private class RecordingRequestInterceptor implements RequestInterceptor {
+
+        private final String name;
+
+        private RecordingRequestInterceptor(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void beforeExecution(final HttpUriRequest httpUriRequest) {
+            calls.add(name + " before");
+        }
+
+        @Override
+        public <T> Result<T> afterExtraction(final HttpUriRequest httpUriRequest, final Result<T> result) {
+            calls.add(name + " after");
+
+            final String intercepted = result.getHeaders().get("X-Intercepted");
+            return Result.<T>builder().status(result.getStatus()).body(result.getBody()).headers(ImmutableMap.<String, String>builder()
+                .putAll(result.getHeaders()).put("X-Intercepted", intercepted == null ? name : intercepted + ", " + name).buildKeepingLast()).build();
+        }
+
+        @Override
+        public void onFailure(final HttpUriRequest httpUriRequest, final Throwable throwable) {
+            calls.add(name + " failure " + throwable.getClass().getSimpleName());
+        }
+    }
+}
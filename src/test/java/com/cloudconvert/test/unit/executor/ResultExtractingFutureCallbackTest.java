@@ -0,0 +1,116 @@
+package com.cloudconvert.test.unit.executor;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.dto.result.AsyncResult;
+import com.cloudconvert.dto.result.CompletableFutureAsyncResult;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.exception.CloudConvertClientException;
+import com.cloudconvert.executor.ResultExtractingFutureCallback;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ResultExtractingFutureCallbackTest {
+
+    private final ResultExtractor resultExtractor = new ResultExtractor(new ObjectMapperProvider());
+
+    @Test
+    public void completed_extractsResult() throws Exception {
+        final CompletableFuture<Result<TaskResponse>> completableFuture = new CompletableFuture<>();
+        final AsyncResult<String> idAsyncResult = CompletableFutureAsyncResult.<TaskResponse>builder().completableFuture(completableFuture).build()
+            .thenApply(result -> Result.<String>builder().status(result.getStatus()).body(result.getBody().getId()).build());
+
+        assertThat(idAsyncResult.toCompletableFuture()).isNotDone();
+
+        new ResultExtractingFutureCallback<>(resultExtractor, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE, completableFuture, null)
+            .completed(getHttpResponse(HttpStatus.SC_OK, "{\"data\":{\"id\":\"task-id\"}}"));
+
+        assertThat(idAsyncResult.get().getStatus().getCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(idAsyncResult.get().getBody()).isEqualTo("task-id");
+    }
+
+    @Test
+    public void completed_clientError_rethrownFromGet() {
+        final CompletableFuture<Result<TaskResponse>> completableFuture = new CompletableFuture<>();
+        final AsyncResult<TaskResponse> taskResponseAsyncResult = CompletableFutureAsyncResult.<TaskResponse>builder().completableFuture(completableFuture).build();
+
+        new ResultExtractingFutureCallback<>(resultExtractor, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE, completableFuture, null)
+            .completed(getHttpResponse(HttpStatus.SC_UNPROCESSABLE_ENTITY, "{\"message\":\"invalid\",\"code\":\"INVALID_DATA\"}"));
+
+        assertThatThrownBy(taskResponseAsyncResult::get).isInstanceOf(CloudConvertClientException.class);
+    }
+
+    @Test
+    public void completed_failingCallback_resultStillCompleted() throws Exception {
+        final CompletableFuture<Result<TaskResponse>> completableFuture = new CompletableFuture<>();
+
+        new ResultExtractingFutureCallback<>(resultExtractor, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE, completableFuture, new FailingFutureCallback())
+            .completed(getHttpResponse(HttpStatus.SC_OK, "{\"data\":{\"id\":\"task-id\"}}"));
+
+        assertThat(completableFuture).isDone();
+        assertThat(completableFuture.get().getBody().getId()).isEqualTo("task-id");
+    }
+
+    @Test
+    public void failed_failingCallback_resultStillFailed() {
+        final CompletableFuture<Result<TaskResponse>> completableFuture = new CompletableFuture<>();
+
+        new ResultExtractingFutureCallback<>(resultExtractor, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE, completableFuture, new FailingFutureCallback())
+            .failed(new ConnectTimeoutException());
+
+        assertThat(completableFuture).isCompletedExceptionally();
+        assertThatThrownBy(completableFuture::get).hasCauseInstanceOf(ConnectTimeoutException.class);
+    }
+
+    @Test
+    public void cancelled_cancelsResult() {
+        final CompletableFuture<Result<TaskResponse>> completableFuture = new CompletableFuture<>();
+
+        new ResultExtractingFutureCallback<>(resultExtractor, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE, completableFuture, null).cancelled();
+
+        assertThat(completableFuture).isCancelled();
+    }
+
+    private HttpResponse getHttpResponse(final int statusCode, final String body) {
+        final HttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, "reason");
+        httpResponse.setEntity(new StringEntity(body, "UTF-8"));
+        return httpResponse;
+    }
+
+    private static class FailingFutureCallback implements FutureCallback<HttpResponse> {
+
+        @Override
+        public void completed(final HttpResponse httpResponse) {
+            throw new IllegalStateException("completed");
+        }
+
+        @Override
+        public void failed(final Exception exception) {
+            throw new IllegalStateException("failed");
+        }
+
+        @Override
+        public void cancelled() {
+            throw new IllegalStateException("cancelled");
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.cloudconvert.test.unit.executor;
+
+import com.cloudconvert.client.http.AsyncCloseableHttpClientProvider;
+import com.cloudconvert.client.http.CloseableHttpClientProvider;
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.exception.CloudConvertServerException;
+import com.cloudconvert.executor.AsyncRequestExecutor;
+import com.cloudconvert.executor.ExecutorSettings;
+import com.cloudconvert.executor.RequestExecutor;
+import com.cloudconvert.executor.retry.DefaultRetryPolicy;
+import com.cloudconvert.executor.retry.RetryBudget;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.net.ssl.SSLException;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.cloudconvert.test.framework.TestCloseableHttpResponse.getHttpResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class RetryPolicyTest {
+
+    private static final String API_URL = "https://api.cloudconvert.com/" + AbstractResource.V2;
+
+    @Mock
+    private CloseableHttpClientProvider closeableHttpClientProvider;
+
+    @Mock
+    private CloseableHttpClient closeableHttpClient;
+
+    @Test
+    public void isIdempotent() {
+        final DefaultRetryPolicy defaultRetryPolicy = DefaultRetryPolicy.builder().build();
+
+        final HttpPost untaggedHttpPost = new HttpPost(API_URL + "/jobs");
+        untaggedHttpPost.setEntity(new StringEntity("{}", "UTF-8"));
+        final HttpPost taggedHttpPost = new HttpPost(API_URL + "/jobs");
+        taggedHttpPost.setEntity(new StringEntity("{}", "UTF-8"));
+        taggedHttpPost.setHeader(AbstractResource.HEADER_IDEMPOTENCY_KEY, "tag");
+        final HttpPost streamedHttpPost = new HttpPost(API_URL + "/jobs");
+        streamedHttpPost.setEntity(new InputStreamEntity(new ByteArrayInputStream(new byte[0])));
+        streamedHttpPost.setHeader(AbstractResource.HEADER_IDEMPOTENCY_KEY, "tag");
+
+        assertThat(defaultRetryPolicy.isIdempotent(new HttpGet(API_URL + "/jobs/job-id"))).isTrue();
+        assertThat(defaultRetryPolicy.isIdempotent(new HttpDelete(API_URL + "/jobs/job-id"))).isTrue();
+        assertThat(defaultRetryPolicy.isIdempotent(untaggedHttpPost)).isFalse();
+        assertThat(defaultRetryPolicy.isIdempotent(taggedHttpPost)).isTrue();
+        assertThat(defaultRetryPolicy.isIdempotent(streamedHttpPost)).isFalse();
+    }
+
+    @Test
+    public void getRetryDelay_transientFailures() {
+        final DefaultRetryPolicy defaultRetryPolicy = DefaultRetryPolicy.builder().build();
+        final HttpGet httpGet = new HttpGet(API_URL + "/jobs/job-id");
+
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, getHttpResponse(503, "{}"), null)).isPresent();
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, null, new ConnectTimeoutException())).isPresent();
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, getHttpResponse(200, "{}"), null)).isEmpty();
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, getHttpResponse(422, "{}"), null)).isEmpty();
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, null, new InterruptedIOException())).isEmpty();
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, null, new UnknownHostException())).isEmpty();
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, null, new SSLException("handshake"))).isEmpty();
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, DefaultRetryPolicy.DEFAULT_MAX_ATTEMPTS, Duration.ZERO, getHttpResponse(503, "{}"), null)).isEmpty();
+
+        assertThat(defaultRetryPolicy.getAttempts().get()).isEqualTo(8);
+        assertThat(defaultRetryPolicy.getRetries().get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getRetryDelay_decorrelatedJitter() {
+        final DefaultRetryPolicy defaultRetryPolicy = DefaultRetryPolicy.builder()
+            .baseDelay(Duration.ofMillis(100)).maxDelay(Duration.ofSeconds(1)).maxAttempts(Integer.MAX_VALUE).retryBudget(new RetryBudget(1000, 0)).build();
+        final HttpGet httpGet = new HttpGet(API_URL + "/jobs/job-id");
+
+        Duration delay = Duration.ZERO;
+        for (int attempt = 1; attempt < 100; attempt++) {
+            final Duration previousDelay = delay;
+            delay = defaultRetryPolicy.getRetryDelay(httpGet, attempt, previousDelay, getHttpResponse(502, "{}"), null).get();
+
+            assertThat(delay).isBetween(Duration.ofMillis(100), Duration.ofSeconds(1));
+            assertThat(delay.toMillis()).isLessThanOrEqualTo(Math.max(100, previousDelay.toMillis() * 3));
+        }
+    }
+
+    @Test
+    public void retryBudget_exhaustedAndRefilled() {
+        final RetryBudget retryBudget = new RetryBudget(2, 0.5);
+        final DefaultRetryPolicy defaultRetryPolicy = DefaultRetryPolicy.builder().retryBudget(retryBudget).build();
+        final HttpGet httpGet = new HttpGet(API_URL + "/jobs/job-id");
+
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, getHttpResponse(503, "{}"), null)).isPresent();
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, getHttpResponse(503, "{}"), null)).isPresent();
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, getHttpResponse(503, "{}"), null)).isEmpty();
+        assertThat(defaultRetryPolicy.getBudgetExhaustions().get()).isEqualTo(1);
+
+        defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, getHttpResponse(200, "{}"), null);
+        defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, getHttpResponse(200, "{}"), null);
+        assertThat(retryBudget.getTokens()).isEqualTo(1);
+        assertThat(defaultRetryPolicy.getRetryDelay(httpGet, 1, Duration.ZERO, getHttpResponse(503, "{}"), null)).isPresent();
+    }
+
+    @Test
+    public void requestExecutor_serviceUnavailable_getSentAgain() throws Exception {
+        when(closeableHttpClientProvider.provide()).thenReturn(closeableHttpClient);
+        when(closeableHttpClient.execute(any(HttpGet.class))).thenThrow(new ConnectTimeoutException())
+            .thenReturn(getHttpResponse(503, "{\"message\":\"Service unavailable\"}"), getHttpResponse(200, "{\"data\":{\"id\":\"task-id\"}}"));
+
+        final RequestExecutor requestExecutor = getRequestExecutor();
+
+        final HttpGet httpGet = new HttpGet(API_URL + "/tasks/task-id");
+        final Result<TaskResponse> taskResponseResult = requestExecutor.execute(httpGet, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+        verify(closeableHttpClient, times(3)).execute(httpGet);
+    }
+
+    @Test
+    public void requestExecutor_serviceUnavailable_untaggedPostNotSentAgain() throws Exception {
+        when(closeableHttpClientProvider.provide()).thenReturn(closeableHttpClient);
+        when(closeableHttpClient.execute(any(HttpPost.class))).thenReturn(getHttpResponse(503, "{\"message\":\"Service unavailable\"}"));
+
+        final RequestExecutor requestExecutor = getRequestExecutor();
+
+        final HttpPost httpPost = new HttpPost(API_URL + "/jobs");
+        httpPost.setEntity(new StringEntity("{}", "UTF-8"));
+
+        assertThatThrownBy(() -> requestExecutor.execute(httpPost, AbstractResource.JOB_RESPONSE_TYPE_REFERENCE)).isInstanceOf(CloudConvertServerException.class);
+        verify(closeableHttpClient, times(1)).execute(httpPost);
+    }
+
+    @Test
+    public void asyncRequestExecutor_serviceUnavailable_sentAgain() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        final HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext("/" + AbstractResource.V2 + "/tasks/task-id", httpExchange -> {
+            final boolean failed = requests.incrementAndGet() == 1;
+            final byte[] body = (failed ? "{\"message\":\"Service unavailable\"}" : "{\"data\":{\"id\":\"task-id\"}}").getBytes(StandardCharsets.UTF_8);
+            httpExchange.sendResponseHeaders(failed ? 503 : 200, body.length);
+            httpExchange.getResponseBody().write(body);
+            httpExchange.close();
+        });
+        httpServer.start();
+
+        try (final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()),
+            new AsyncCloseableHttpClientProvider(), null, ExecutorSettings.builder().retryPolicy(DefaultRetryPolicy.builder().baseDelay(Duration.ofMillis(1)).build()).build())) {
+            final HttpGet httpGet = new HttpGet("http://" + httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort()
+                + "/" + AbstractResource.V2 + "/tasks/task-id");
+
+            final Result<TaskResponse> taskResponseResult = asyncRequestExecutor.execute(httpGet, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE).get();
+
+            assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+            assertThat(requests.get()).isEqualTo(2);
+            assertThat(asyncRequestExecutor.getRetryPolicy()).isInstanceOfSatisfying(DefaultRetryPolicy.class, defaultRetryPolicy ->
+                assertThat(defaultRetryPolicy.getRetries().get()).isEqualTo(1));
+        } finally {
+            httpServer.stop(0);
+        }
+    }
+
+    @Test
+    public void requestExecutor_connectionClosed_sentOncePerAttempt() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        final ServerSocket serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        final Thread thread = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                // Read the request head and close the connection without a response
+                try (final Socket socket = serverSocket.accept()) {
+                    requests.incrementAndGet();
+                    final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    String line;
+                    do {
+                        line = bufferedReader.readLine();
+                    } while (line != null && !line.isEmpty());
+                } catch (IOException ignored) {
+                }
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+
+        try (final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), new CloseableHttpClientProvider(),
+            ExecutorSettings.builder().retryPolicy(DefaultRetryPolicy.builder().maxAttempts(2).baseDelay(Duration.ofMillis(1)).build()).build())) {
+            final HttpGet httpGet = new HttpGet("http://" + serverSocket.getInetAddress().getHostAddress() + ":" + serverSocket.getLocalPort()
+                + "/" + AbstractResource.V2 + "/tasks/task-id");
+
+            assertThatThrownBy(() -> requestExecutor.execute(httpGet, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)).isInstanceOf(NoHttpResponseException.class);
+            assertThat(requests.get()).isEqualTo(2);
+            assertThat(requestExecutor.getRetryPolicy()).isInstanceOfSatisfying(DefaultRetryPolicy.class, defaultRetryPolicy ->
+                assertThat(defaultRetryPolicy.getAttempts().get()).isEqualTo(2));
+        } finally {
+            serverSocket.close();
+        }
+    }
+
+    private RequestExecutor getRequestExecutor() throws Exception {
+        return new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), closeableHttpClientProvider,
+            ExecutorSettings.builder().retryPolicy(DefaultRetryPolicy.builder().baseDelay(Duration.ofMillis(1)).build()).build());
+    }
+}
@@ -0,0 +1,119 @@
+package com.cloudconvert.test.unit.extractor;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ResultExtractorTest {
+
+    private final ResultExtractor resultExtractor = new ResultExtractor(new ObjectMapperProvider());
+
+    @Test
+    public void extract_inputStream_notClosed() throws Exception {
+        final CloseTrackingInputStream closeTrackingInputStream = new CloseTrackingInputStream("file-content");
+
+        final Result<InputStream> inputStreamResult = resultExtractor.extract(
+            getHttpResponse(HttpStatus.SC_OK, closeTrackingInputStream), AbstractResource.INPUT_STREAM_TYPE_REFERENCE);
+
+        assertThat(closeTrackingInputStream.closed).isFalse();
+        assertThat(inputStreamResult.getBody()).hasContent("file-content");
+
+        inputStreamResult.getBody().close();
+        assertThat(closeTrackingInputStream.closed).isTrue();
+    }
+
+    @Test
+    public void extract_content_closed() throws Exception {
+        final CloseTrackingInputStream closeTrackingInputStream = new CloseTrackingInputStream("{\"data\":{\"id\":\"task-id\"}}");
+
+        final Result<TaskResponse> taskResponseResult = resultExtractor.extract(
+            getHttpResponse(HttpStatus.SC_OK, closeTrackingInputStream), AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+
+        assertThat(closeTrackingInputStream.closed).isTrue();
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+    }
+
+    @Test
+    public void extract_gzipContent_decoded() throws Exception {
+        final HttpResponse httpResponse = getHttpResponse(HttpStatus.SC_OK, new ByteArrayInputStream(gzip("{\"data\":{\"id\":\"task-id\"}}")));
+        httpResponse.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        httpResponse.setHeader(HttpHeaders.CONTENT_LENGTH, "42");
+        httpResponse.setHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+
+        final Result<TaskResponse> taskResponseResult = resultExtractor.extract(httpResponse, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+        assertThat(taskResponseResult.getHeaders()).containsOnlyKeys(HttpHeaders.CONTENT_TYPE);
+    }
+
+    @Test
+    public void extract_deflateInputStream_decoded() throws Exception {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(byteArrayOutputStream)) {
+            deflaterOutputStream.write("file-content".getBytes(StandardCharsets.UTF_8));
+        }
+        final InputStreamEntity inputStreamEntity = new InputStreamEntity(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+        inputStreamEntity.setContentEncoding("deflate");
+        final HttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "reason");
+        httpResponse.setEntity(inputStreamEntity);
+
+        final Result<InputStream> inputStreamResult = resultExtractor.extract(httpResponse, AbstractResource.INPUT_STREAM_TYPE_REFERENCE);
+
+        assertThat(inputStreamResult.getBody()).hasContent("file-content");
+    }
+
+    private static byte[] gzip(final String content) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private HttpResponse getHttpResponse(final int statusCode, final InputStream inputStream) {
+        final HttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, "reason");
+        httpResponse.setEntity(new InputStreamEntity(inputStream));
+        return httpResponse;
+    }
+
+    private static class CloseTrackingInputStream extends FilterInputStream {
+
+        private boolean closed;
+
+        CloseTrackingInputStream(final String content) {
+            super(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.cloudconvert.test.unit.http;
+
+import com.cloudconvert.client.http.CloseableHttpClientProvider;
+import com.cloudconvert.client.http.ConnectionPoolSettings;
+import com.cloudconvert.client.http.LongPollRequestInterceptor;
+import com.cloudconvert.client.setttings.SettingsProvider;
+import com.cloudconvert.client.setttings.StringSettingsProvider;
+import com.cloudconvert.test.framework.UnitTest;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.routing.HttpRoute;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ConnectionPoolSettingsTest {
+
+    @Test
+    public void defaults_apiRoutesHaveHigherLimit() {
+        final SettingsProvider settingsProvider = new StringSettingsProvider("api-key", "webhook-signing-secret", false);
+
+        final ConnectionPoolSettings connectionPoolSettings = ConnectionPoolSettings.defaults(settingsProvider).build();
+        final Map<HttpRoute, Integer> maxPerHttpRoutes = connectionPoolSettings.getMaxPerHttpRoutes();
+
+        assertThat(connectionPoolSettings.getMaxTotal()).isEqualTo(ConnectionPoolSettings.DEFAULT_MAX_TOTAL);
+        assertThat(connectionPoolSettings.getDefaultMaxPerRoute()).isEqualTo(ConnectionPoolSettings.DEFAULT_MAX_PER_ROUTE);
+        assertThat(maxPerHttpRoutes).containsOnly(
+            entry(new HttpRoute(new HttpHost("api.cloudconvert.com", 443, "https"), null, true), ConnectionPoolSettings.DEFAULT_MAX_PER_API_ROUTE),
+            entry(new HttpRoute(new HttpHost("sync.api.cloudconvert.com", 443, "https"), null, true), ConnectionPoolSettings.DEFAULT_MAX_PER_API_ROUTE));
+    }
+
+    @Test
+    public void concurrent_everyRouteAllowsMaxConcurrency() {
+        final SettingsProvider settingsProvider = new StringSettingsProvider("api-key", "webhook-signing-secret", false);
+
+        final ConnectionPoolSettings connectionPoolSettings = ConnectionPoolSettings.concurrent(settingsProvider, 5000).build();
+
+        assertThat(connectionPoolSettings.getMaxTotal()).isEqualTo(5000);
+        assertThat(connectionPoolSettings.getDefaultMaxPerRoute()).isEqualTo(5000);
+        assertThat(connectionPoolSettings.getMaxPerHttpRoutes()).containsOnly(
+            entry(new HttpRoute(new HttpHost("api.cloudconvert.com", 443, "https"), null, true), 5000),
+            entry(new HttpRoute(new HttpHost("sync.api.cloudconvert.com", 443, "https"), null, true), 5000));
+    }
+
+    @Test
+    public void builder_customSettings() {
+        final ConnectionPoolSettings connectionPoolSettings = ConnectionPoolSettings.builder()
+            .maxPerRoute("http://localhost:8080/v2", 7).connectTimeout(Duration.ofSeconds(1)).socketTimeout(Duration.ofSeconds(2))
+            .connectionRequestTimeout(Duration.ofSeconds(3)).build();
+        final RequestConfig requestConfig = connectionPoolSettings.getRequestConfig();
+
+        assertThat(connectionPoolSettings.getMaxPerHttpRoutes()).containsOnly(
+            entry(new HttpRoute(new HttpHost("localhost", 8080, "http"), null, false), 7));
+        assertThat(requestConfig.getConnectTimeout()).isEqualTo(1000);
+        assertThat(requestConfig.getSocketTimeout()).isEqualTo(2000);
+        assertThat(requestConfig.getConnectionRequestTimeout()).isEqualTo(3000);
+    }
+
+    @Test
+    public void defaults_noSocketTimeout() {
+        final SettingsProvider settingsProvider = new StringSettingsProvider("api-key", "webhook-signing-secret", false);
+
+        final ConnectionPoolSettings connectionPoolSettings = ConnectionPoolSettings.defaults(settingsProvider).build();
+
+        assertThat(connectionPoolSettings.getSocketTimeout()).isEqualTo(Duration.ZERO);
+        assertThat(connectionPoolSettings.getRequestConfig().getSocketTimeout()).isZero();
+        assertThat(connectionPoolSettings.getLongPollUrls()).containsOnly(settingsProvider.getSyncApiUrl());
+    }
+
+    @Test
+    public void getSocketTimeout_syncApiNotCapped() {
+        final SettingsProvider settingsProvider = new StringSettingsProvider("api-key", "webhook-signing-secret", false);
+
+        final ConnectionPoolSettings connectionPoolSettings = ConnectionPoolSettings.defaults(settingsProvider).socketTimeout(Duration.ofSeconds(60)).build();
+
+        assertThat(connectionPoolSettings.getSocketTimeout(URI.create("https://sync.api.cloudconvert.com/v2/jobs/job-id"))).isEqualTo(Duration.ZERO);
+        assertThat(connectionPoolSettings.getSocketTimeout(URI.create("https://sync.api.cloudconvert.com:443/v2/tasks/task-id"))).isEqualTo(Duration.ZERO);
+        assertThat(connectionPoolSettings.getSocketTimeout(URI.create("https://api.cloudconvert.com/v2/jobs/job-id"))).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    public void longPollRequestInterceptor_liftsSocketTimeoutForSyncApiOnly() throws Exception {
+        final SettingsProvider settingsProvider = new StringSettingsProvider("api-key", "webhook-signing-secret", false);
+        final ConnectionPoolSettings connectionPoolSettings = ConnectionPoolSettings.defaults(settingsProvider).socketTimeout(Duration.ofSeconds(60)).build();
+        final LongPollRequestInterceptor longPollRequestInterceptor = new LongPollRequestInterceptor(connectionPoolSettings);
+
+        final HttpClientContext syncHttpClientContext = HttpClientContext.create();
+        syncHttpClientContext.setRequestConfig(connectionPoolSettings.getRequestConfig());
+        syncHttpClientContext.setAttribute(HttpClientContext.HTTP_TARGET_HOST, new HttpHost("sync.api.cloudconvert.com", 443, "https"));
+        longPollRequestInterceptor.process(new HttpGet("https://sync.api.cloudconvert.com/v2/jobs/job-id"), syncHttpClientContext);
+
+        final HttpClientContext apiHttpClientContext = HttpClientContext.create();
+        apiHttpClientContext.setRequestConfig(connectionPoolSettings.getRequestConfig());
+        apiHttpClientContext.setAttribute(HttpClientContext.HTTP_TARGET_HOST, new HttpHost("api.cloudconvert.com", 443, "https"));
+        longPollRequestInterceptor.process(new HttpGet("https://api.cloudconvert.com/v2/jobs/job-id"), apiHttpClientContext);
+
+        assertThat(syncHttpClientContext.getRequestConfig().getSocketTimeout()).isZero();
+        assertThat(syncHttpClientContext.getRequestConfig().getConnectTimeout()).isEqualTo(connectionPoolSettings.getRequestConfig().getConnectTimeout());
+        assertThat(apiHttpClientContext.getRequestConfig().getSocketTimeout()).isEqualTo(60000);
+    }
+
+    @Test
+    public void closeableHttpClientProvider_legacyLimits() {
+        final CloseableHttpClientProvider closeableHttpClientProvider = new CloseableHttpClientProvider(5, 10);
+
+        assertThat(closeableHttpClientProvider.getDefaultMaxPerRoute()).isEqualTo(5);
+        assertThat(closeableHttpClientProvider.getMaxTotal()).isEqualTo(10);
+        assertThat(closeableHttpClientProvider.getConnectionPoolSettings().getTimeToLive()).isEqualTo(ConnectionPoolSettings.DEFAULT_TIME_TO_LIVE);
+    }
+}
@@ -0,0 +1,104 @@
+package com.cloudconvert.test.unit.http;
+
+import com.cloudconvert.client.http.entity.FileJsonHttpEntity;
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.test.framework.UnitTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class FileJsonHttpEntityTest {
+
+    private static final Map<String, Object> FIELDS = ImmutableMap.of("operation", "import/base64", "filename", "file.bin", "file", "ignored");
+
+    private final ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider();
+
+    private Path path;
+
+    private byte[] content;
+
+    @Before
+    public void before() throws Exception {
+        // Not a multiple of 3 and longer than a buffer, so the last chunk is padded
+        content = new byte[3 * FileJsonHttpEntity.BUFFER_SIZE + 1];
+        new Random(7).nextBytes(content);
+
+        path = Files.createTempFile("file-json", ".bin");
+        Files.write(path, content);
+    }
+
+    @Test
+    public void base64_path_streamsFileWithKnownContentLength() throws Exception {
+        final FileJsonHttpEntity fileJsonHttpEntity = new FileJsonHttpEntity(objectMapperProvider.provide(), FIELDS, "file",
+            FileJsonHttpEntity.Encoding.BASE64, path);
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        fileJsonHttpEntity.writeTo(byteArrayOutputStream);
+        final byte[] written = byteArrayOutputStream.toByteArray();
+        final JsonNode jsonNode = objectMapperProvider.provide().readTree(written);
+
+        assertThat(fileJsonHttpEntity.isRepeatable()).isTrue();
+        assertThat(fileJsonHttpEntity.isChunked()).isFalse();
+        assertThat(fileJsonHttpEntity.getContentType().getValue()).startsWith("application/json");
+        assertThat(written).hasSize((int) fileJsonHttpEntity.getContentLength());
+        assertThat(jsonNode.get("operation").asText()).isEqualTo("import/base64");
+        assertThat(jsonNode.get("filename").asText()).isEqualTo("file.bin");
+        assertThat(Base64.getDecoder().decode(jsonNode.get("file").asText())).isEqualTo(content);
+        assertThat(ByteStreams.toByteArray(fileJsonHttpEntity.getContent())).isEqualTo(written);
+    }
+
+    @Test
+    public void raw_inputStream_escapesTextChunked() throws Exception {
+        // Surrogate pair split at the buffer boundary and characters which need escaping
+        final String text = Strings.repeat("a", FileJsonHttpEntity.BUFFER_SIZE - 1) + "😀 \"quoted\"\n\\ é\u0001";
+
+        final FileJsonHttpEntity fileJsonHttpEntity = new FileJsonHttpEntity(objectMapperProvider.provide(), FIELDS, "file",
+            FileJsonHttpEntity.Encoding.RAW, new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        fileJsonHttpEntity.writeTo(byteArrayOutputStream);
+        final JsonNode jsonNode = objectMapperProvider.provide().readTree(byteArrayOutputStream.toByteArray());
+
+        assertThat(fileJsonHttpEntity.isRepeatable()).isFalse();
+        assertThat(fileJsonHttpEntity.isChunked()).isTrue();
+        assertThat(fileJsonHttpEntity.getContentLength()).isEqualTo(-1);
+        assertThat(jsonNode.get("file").asText()).isEqualTo(text);
+        assertThat(jsonNode.get("filename").asText()).isEqualTo("file.bin");
+    }
+
+    @Test
+    public void base64_emptyFile() throws Exception {
+        Files.write(path, new byte[0]);
+
+        final FileJsonHttpEntity fileJsonHttpEntity = new FileJsonHttpEntity(objectMapperProvider.provide(), ImmutableMap.of(), "file",
+            FileJsonHttpEntity.Encoding.BASE64, path);
+
+        assertThat(new String(ByteStreams.toByteArray(fileJsonHttpEntity.getContent()), StandardCharsets.UTF_8)).isEqualTo("{\"file\":\"\"}");
+        assertThat(fileJsonHttpEntity.getContentLength()).isEqualTo(11);
+    }
+
+    @After
+    public void after() throws Exception {
+        Files.deleteIfExists(path);
+    }
+}
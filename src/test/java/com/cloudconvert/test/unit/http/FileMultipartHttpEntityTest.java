@@ -0,0 +1,110 @@
+package com.cloudconvert.test.unit.http;
+
+import com.cloudconvert.client.http.entity.FileMultipartHttpEntity;
+import com.cloudconvert.test.framework.UnitTest;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import org.apache.http.nio.ContentEncoder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class FileMultipartHttpEntityTest {
+
+    private Path path;
+
+    private byte[] content;
+
+    @Before
+    public void before() throws Exception {
+        content = new byte[200 * 1024];
+        new Random(7).nextBytes(content);
+
+        path = Files.createTempFile("file-multipart", ".jpg");
+        Files.write(path, content);
+    }
+
+    @Test
+    public void writeTo_streamsFileWithKnownContentLength() throws Exception {
+        final FileMultipartHttpEntity fileMultipartHttpEntity = getFileMultipartHttpEntity();
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        fileMultipartHttpEntity.writeTo(byteArrayOutputStream);
+        final byte[] written = byteArrayOutputStream.toByteArray();
+        final String writtenAsString = new String(written, StandardCharsets.ISO_8859_1);
+
+        assertThat(fileMultipartHttpEntity.isRepeatable()).isTrue();
+        assertThat(fileMultipartHttpEntity.getContentType().getValue()).startsWith("multipart/form-data; boundary=");
+        assertThat(written).hasSize((int) fileMultipartHttpEntity.getContentLength());
+        assertThat(writtenAsString).contains("name=\"signature\"").contains("signature-value")
+            .contains("name=\"file\"; filename=\"file.jpg\"").contains(new String(content, StandardCharsets.ISO_8859_1));
+        assertThat(ByteStreams.toByteArray(fileMultipartHttpEntity.getContent())).isEqualTo(written);
+    }
+
+    @Test
+    public void produceContent_matchesWriteTo() throws Exception {
+        final FileMultipartHttpEntity fileMultipartHttpEntity = getFileMultipartHttpEntity();
+
+        final ByteArrayOutputStream expectedOutputStream = new ByteArrayOutputStream();
+        fileMultipartHttpEntity.writeTo(expectedOutputStream);
+
+        final ThrottledContentEncoder throttledContentEncoder = new ThrottledContentEncoder();
+        while (!throttledContentEncoder.isCompleted()) {
+            fileMultipartHttpEntity.produceContent(throttledContentEncoder, null);
+        }
+
+        assertThat(throttledContentEncoder.byteArrayOutputStream.toByteArray()).isEqualTo(expectedOutputStream.toByteArray());
+    }
+
+    private FileMultipartHttpEntity getFileMultipartHttpEntity() throws Exception {
+        return new FileMultipartHttpEntity(ImmutableMap.of("expires", "expires-value", "signature", "signature-value"), "file", "file.jpg", path);
+    }
+
+    @After
+    public void after() throws Exception {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Accepts only a part of given bytes at once, as a congested channel would do
+     */
+    private static class ThrottledContentEncoder implements ContentEncoder {
+
+        private final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        private boolean completed;
+
+        @Override
+        public int write(final ByteBuffer byteBuffer) {
+            final int length = Math.min(byteBuffer.remaining(), 1000);
+            for (int i = 0; i < length; i++) {
+                byteArrayOutputStream.write(byteBuffer.get());
+            }
+            return length;
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return completed;
+        }
+    }
+}
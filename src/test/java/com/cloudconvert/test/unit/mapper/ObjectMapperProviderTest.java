@@ -0,0 +1,56 @@
+package com.cloudconvert.test.unit.mapper;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ObjectMapperProviderTest {
+
+    @Test
+    public void provide_sharedAcrossInstances() {
+        assertThat(new ObjectMapperProvider().provide()).isSameAs(new ObjectMapperProvider().provide());
+    }
+
+    @Test
+    public void provideReaderAndWriter_cachedPerTypeReference() {
+        final ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider();
+
+        assertThat(objectMapperProvider.provideReader(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))
+            .isSameAs(new ObjectMapperProvider().provideReader(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE));
+        assertThat(objectMapperProvider.provideWriter(AbstractResource.MAP_STRING_TO_OBJECT_TYPE_REFERENCE))
+            .isSameAs(new ObjectMapperProvider().provideWriter(AbstractResource.MAP_STRING_TO_OBJECT_TYPE_REFERENCE));
+    }
+
+    @Test
+    public void provideReader_snakeCaseAndUnknownPropertiesIgnored() throws Exception {
+        final TaskResponse taskResponse = new ObjectMapperProvider().provideReader(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)
+            .readValue("{\"id\":\"task-id\",\"job_id\":\"job-id\",\"unknown\":true}");
+
+        assertThat(taskResponse.getId()).isEqualTo("task-id");
+        assertThat(taskResponse.getJobId()).isEqualTo("job-id");
+    }
+
+    @Test
+    public void provideReader_customMapperNotCached() {
+        final ObjectMapper customObjectMapper = new ObjectMapper();
+        final ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider() {
+            @Override
+            public ObjectMapper provide() {
+                return customObjectMapper;
+            }
+        };
+
+        assertThat(objectMapperProvider.provideReader(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE))
+            .isNotSameAs(new ObjectMapperProvider().provideReader(AbstractResource.TASK_RESPONSE_TYPE_REFERENCE));
+    }
+}
@@ -0,0 +1,165 @@
+package com.cloudconvert.test.unit.metrics;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.response.JobResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.exception.CloudConvertClientException;
+import com.cloudconvert.executor.AsyncRequestExecutor;
+import com.cloudconvert.executor.ExecutorSettings;
+import com.cloudconvert.executor.RequestExecutor;
+import com.cloudconvert.executor.retry.DefaultRetryPolicy;
+import com.cloudconvert.executor.transport.AsyncHttpTransport;
+import com.cloudconvert.executor.transport.HttpTransport;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.metrics.ClientMetrics;
+import com.cloudconvert.metrics.EndpointNames;
+import com.cloudconvert.metrics.RequestMetrics;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.entity.InputStreamEntity;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.cloudconvert.test.framework.TestCloseableHttpResponse.getHttpResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ClientMetricsTest {
+
+    private static final String API_URL = "https://api.cloudconvert.com/" + AbstractResource.V2;
+    private static final String SYNC_API_URL = "https://sync.api.cloudconvert.com/" + AbstractResource.V2;
+    private static final String JOB = "{\"data\":{\"id\":\"job-id\"}}";
+
+    @Mock
+    private HttpTransport httpTransport;
+
+    @Mock
+    private AsyncHttpTransport asyncHttpTransport;
+
+    private final RecordingClientMetrics recordingClientMetrics = new RecordingClientMetrics();
+
+    @Test
+    public void endpointNames() {
+        assertThat(EndpointNames.of(new HttpPost(API_URL + "/jobs"))).isEqualTo("jobs.create");
+        assertThat(EndpointNames.of(new HttpGet(API_URL + "/jobs?filter[status]=finished"))).isEqualTo("jobs.list");
+        assertThat(EndpointNames.of(new HttpGet(API_URL + "/jobs/job-id"))).isEqualTo("jobs.show");
+        assertThat(EndpointNames.of(new HttpGet(SYNC_API_URL + "/jobs/job-id"))).isEqualTo("jobs.wait");
+        assertThat(EndpointNames.of(new HttpDelete(API_URL + "/tasks/task-id"))).isEqualTo("tasks.delete");
+        assertThat(EndpointNames.of(new HttpPost(API_URL + "/tasks/task-id/retry"))).isEqualTo("tasks.retry");
+        assertThat(EndpointNames.of(new HttpGet(API_URL + "/operations"))).isEqualTo("operations");
+        assertThat(EndpointNames.of(new HttpGet(API_URL + "/users/me"))).isEqualTo("users.me");
+        assertThat(EndpointNames.of(new HttpPost(API_URL + "/import/upload"))).isEqualTo("import.upload");
+        assertThat(EndpointNames.of(new HttpPost(API_URL + "/export/azure/blob"))).isEqualTo("export.azure.blob");
+        assertThat(EndpointNames.of(new HttpPost("https://storage.cloudconvert.com/tasks/task-id"))).isEqualTo(EndpointNames.FILES_UPLOAD);
+        assertThat(EndpointNames.of(new HttpPut("https://bucket.s3.amazonaws.com/file.pdf"))).isEqualTo(EndpointNames.FILES_UPLOAD);
+        assertThat(EndpointNames.of(new HttpGet("https://storage.cloudconvert.com/tasks/task-id/file.pdf"))).isEqualTo(EndpointNames.FILES_DOWNLOAD);
+    }
+
+    @Test
+    public void requestExecutor_recordsLatencyRetriesAndBytes() throws Exception {
+        when(httpTransport.execute(any())).thenReturn(getHttpResponse(503, "{}"), getHttpResponse(200, JOB));
+
+        final Result<JobResponse> result = getRequestExecutor().execute(new HttpGet(API_URL + "/jobs/job-id"), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE);
+
+        assertThat(result.getBody().getId()).isEqualTo("job-id");
+        assertThat(recordingClientMetrics.requestMetrics).singleElement().satisfies(requestMetrics -> {
+            assertThat(requestMetrics.getName()).isEqualTo("jobs.show");
+            assertThat(requestMetrics.getMethod()).isEqualTo(HttpGet.METHOD_NAME);
+            assertThat(requestMetrics.getStatusClass()).isEqualTo("2xx");
+            assertThat(requestMetrics.getRetries()).isEqualTo(1);
+            assertThat(requestMetrics.getTimeToFirstByte()).isNotNull().isLessThanOrEqualTo(requestMetrics.getLatency());
+            assertThat(requestMetrics.getException()).isNull();
+        });
+        assertThat(recordingClientMetrics.bytesReceived).containsEntry("jobs.show", (long) JOB.length());
+    }
+
+    @Test
+    public void requestExecutor_countsStreamedBodyAndRecordsFailure() throws Exception {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        when(httpTransport.execute(any())).thenAnswer(invocation -> {
+            invocation.<HttpEntityEnclosingRequest>getArgument(0).getEntity().writeTo(byteArrayOutputStream);
+            throw new IOException("Connection reset");
+        });
+
+        final HttpPost httpPost = new HttpPost(API_URL + "/import/raw");
+        httpPost.setEntity(new InputStreamEntity(new ByteArrayInputStream(new byte[1000])));
+
+        assertThatThrownBy(() -> getRequestExecutor().execute(httpPost, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE)).isInstanceOf(IOException.class);
+
+        assertThat(byteArrayOutputStream.size()).isEqualTo(1000);
+        assertThat(recordingClientMetrics.bytesSent).containsEntry("import.raw", 1000L);
+        assertThat(recordingClientMetrics.requestMetrics).singleElement().satisfies(requestMetrics -> {
+            assertThat(requestMetrics.getStatusClass()).isEqualTo(RequestMetrics.STATUS_CLASS_NONE);
+            assertThat(requestMetrics.getAttempts()).isEqualTo(1);
+            assertThat(requestMetrics.getTimeToFirstByte()).isNull();
+            assertThat(requestMetrics.getException()).isInstanceOf(IOException.class);
+        });
+    }
+
+    @Test
+    public void asyncRequestExecutor_recordsClientError() throws Exception {
+        when(asyncHttpTransport.executeAsync(any())).thenReturn(CompletableFuture.completedFuture(getHttpResponse(422, "{\"message\":\"invalid\"}")));
+
+        final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()), asyncHttpTransport, null,
+            ExecutorSettings.builder().clientMetrics(recordingClientMetrics).build());
+
+        assertThatThrownBy(() -> asyncRequestExecutor.execute(new HttpPost(API_URL + "/jobs"), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE).get())
+            .isInstanceOf(CloudConvertClientException.class);
+
+        assertThat(recordingClientMetrics.requestMetrics).singleElement().satisfies(requestMetrics -> {
+            assertThat(requestMetrics.getName()).isEqualTo("jobs.create");
+            assertThat(requestMetrics.getStatusClass()).isEqualTo("4xx");
+            assertThat(requestMetrics.getRetries()).isZero();
+            assertThat(requestMetrics.getException()).isInstanceOf(CloudConvertClientException.class);
+        });
+    }
+
+    private RequestExecutor getRequestExecutor() {
+        return new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), httpTransport, ExecutorSettings.builder()
+            .retryPolicy(DefaultRetryPolicy.builder().baseDelay(Duration.ofMillis(1)).build()).clientMetrics(recordingClientMetrics).build());
+    }
+
+    private static class RecordingClientMetrics implements ClientMetrics {
+
+        private final List<RequestMetrics> requestMetrics = new CopyOnWriteArrayList<>();
+        private final Map<String, Long> bytesSent = new ConcurrentHashMap<>();
+        private final Map<String, Long> bytesReceived = new ConcurrentHashMap<>();
+
+        @Override
+        public void onRequest(final RequestMetrics requestMetrics) {
+            this.requestMetrics.add(requestMetrics);
+        }
+
+        @Override
+        public void onBytesSent(final String name, final long bytes) {
+            bytesSent.merge(name, bytes, Long::sum);
+        }
+
+        @Override
+        public void onBytesReceived(final String name, final long bytes) {
+            bytesReceived.merge(name, bytes, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.cloudconvert.test.unit.metrics;
+
+import com.cloudconvert.metrics.ConnectionPool;
+import com.cloudconvert.metrics.RequestMetrics;
+import com.cloudconvert.metrics.micrometer.MicrometerClientMetrics;
+import com.cloudconvert.test.framework.UnitTest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class MicrometerClientMetricsTest {
+
+    private final SimpleMeterRegistry simpleMeterRegistry = new SimpleMeterRegistry();
+    private final MicrometerClientMetrics micrometerClientMetrics = new MicrometerClientMetrics(simpleMeterRegistry, Tags.of("client", "test"));
+
+    private final PoolingHttpClientConnectionManager poolingHttpClientConnectionManager = new PoolingHttpClientConnectionManager();
+
+    @Test
+    public void onRequest_recordsTimersAndRetries() {
+        micrometerClientMetrics.onRequest(RequestMetrics.builder().name("jobs.create").method("POST").statusCode(201).attempts(3)
+            .latency(Duration.ofMillis(300)).timeToFirstByte(Duration.ofMillis(100)).build());
+        micrometerClientMetrics.onRequest(RequestMetrics.builder().name("jobs.create").method("POST").attempts(1)
+            .latency(Duration.ofMillis(50)).build());
+
+        final Timer requestsTimer = simpleMeterRegistry.get("cloudconvert.client.requests")
+            .tags("client", "test", MicrometerClientMetrics.TAG_NAME, "jobs.create", MicrometerClientMetrics.TAG_METHOD, "POST", MicrometerClientMetrics.TAG_STATUS, "2xx")
+            .timer();
+        assertThat(requestsTimer.count()).isEqualTo(1);
+        assertThat(requestsTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(300);
+        assertThat(simpleMeterRegistry.get("cloudconvert.client.requests").tags(MicrometerClientMetrics.TAG_STATUS, RequestMetrics.STATUS_CLASS_NONE)
+            .timer().count()).isEqualTo(1);
+
+        final Timer timeToFirstByteTimer = simpleMeterRegistry.get("cloudconvert.client.time.to.first.byte")
+            .tags("client", "test", MicrometerClientMetrics.TAG_NAME, "jobs.create").timer();
+        assertThat(timeToFirstByteTimer.count()).isEqualTo(1);
+        assertThat(timeToFirstByteTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(100);
+
+        final DistributionSummary retriesSummary = simpleMeterRegistry.get("cloudconvert.client.retries")
+            .tags("client", "test", MicrometerClientMetrics.TAG_NAME, "jobs.create").summary();
+        assertThat(retriesSummary.count()).isEqualTo(2);
+        assertThat(retriesSummary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    public void onBytes_recordsSummaries() {
+        micrometerClientMetrics.onBytesSent("import.upload", 1024);
+        micrometerClientMetrics.onBytesSent("import.upload", 1024);
+        micrometerClientMetrics.onBytesReceived("files.download", 512);
+
+        final DistributionSummary bytesSentSummary = simpleMeterRegistry.get("cloudconvert.client.bytes.sent")
+            .tags("client", "test", MicrometerClientMetrics.TAG_NAME, "import.upload").summary();
+        assertThat(bytesSentSummary.getId().getBaseUnit()).isEqualTo("bytes");
+        assertThat(bytesSentSummary.totalAmount()).isEqualTo(2048);
+        assertThat(simpleMeterRegistry.get("cloudconvert.client.bytes.received")
+            .tags("client", "test", MicrometerClientMetrics.TAG_NAME, "files.download").summary().totalAmount()).isEqualTo(512);
+    }
+
+    @Test
+    public void bindConnectionPool_registersTotalAndRouteGauges() throws Exception {
+        poolingHttpClientConnectionManager.setMaxTotal(10);
+        poolingHttpClientConnectionManager.setDefaultMaxPerRoute(4);
+        micrometerClientMetrics.bindConnectionPool(new ConnectionPool(poolingHttpClientConnectionManager));
+
+        assertThat(simpleMeterRegistry.get("cloudconvert.client.connections.max")
+            .tags("client", "test", MicrometerClientMetrics.TAG_ROUTE, MicrometerClientMetrics.ROUTE_TOTAL).gauge().value()).isEqualTo(10);
+        assertThat(simpleMeterRegistry.find("cloudconvert.client.connections.leased").tag(MicrometerClientMetrics.TAG_ROUTE, "https://api.cloudconvert.com:443")
+            .gauge()).isNull();
+
+        // Leasing a connection adds its route to the pool, its gauges are registered with the next request
+        final HttpClientConnection httpClientConnection = poolingHttpClientConnectionManager
+            .requestConnection(new HttpRoute(new HttpHost("api.cloudconvert.com", 443, "https")), null).get(1, TimeUnit.SECONDS);
+        micrometerClientMetrics.onRequest(RequestMetrics.builder().name("jobs.show").method("GET").statusCode(200).attempts(1)
+            .latency(Duration.ofMillis(10)).build());
+
+        assertThat(simpleMeterRegistry.get("cloudconvert.client.connections.leased")
+            .tags("client", "test", MicrometerClientMetrics.TAG_ROUTE, "https://api.cloudconvert.com:443").gauge().value()).isEqualTo(1);
+        assertThat(simpleMeterRegistry.get("cloudconvert.client.connections.max")
+            .tags(MicrometerClientMetrics.TAG_ROUTE, "https://api.cloudconvert.com:443").gauge().value()).isEqualTo(4);
+        assertThat(simpleMeterRegistry.get("cloudconvert.client.connections.leased")
+            .tags(MicrometerClientMetrics.TAG_ROUTE, MicrometerClientMetrics.ROUTE_TOTAL).gauge().value()).isEqualTo(1);
+
+        poolingHttpClientConnectionManager.releaseConnection(httpClientConnection, null, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(simpleMeterRegistry.get("cloudconvert.client.connections.leased")
+            .tags(MicrometerClientMetrics.TAG_ROUTE, "https://api.cloudconvert.com:443").gauge().value()).isZero();
+    }
+
+    @After
+    public void after() {
+        poolingHttpClientConnectionManager.shutdown();
+    }
+}
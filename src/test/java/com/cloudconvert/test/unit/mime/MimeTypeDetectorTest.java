@@ -0,0 +1,70 @@
+package com.cloudconvert.test.unit.mime;
+
+import com.cloudconvert.mime.MimeTypeDetector;
+import com.cloudconvert.test.framework.UnitTest;
+import com.google.common.io.ByteStreams;
+import org.apache.tika.mime.MimeType;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class MimeTypeDetectorTest {
+
+    @Test
+    public void detect_filename() {
+        final MimeTypeDetector mimeTypeDetector = MimeTypeDetector.getDefault();
+
+        assertThat(mimeTypeDetector.detect("image.jpg").map(MimeType::getName)).contains("image/jpeg");
+        assertThat(mimeTypeDetector.detect("document.PDF").map(MimeType::getName)).contains("application/pdf");
+        assertThat(mimeTypeDetector.detect("archive.tar.gz").map(MimeType::getExtension)).contains(".gz");
+        assertThat(mimeTypeDetector.detect("file.unknown-extension")).isEmpty();
+        assertThat(mimeTypeDetector.detect("file")).isEmpty();
+        assertThat(mimeTypeDetector.detect("file.")).isEmpty();
+        assertThat(mimeTypeDetector.detect((String) null)).isEmpty();
+    }
+
+    @Test
+    public void detect_content_streamReset() throws Exception {
+        final byte[] content = ByteStreams.toByteArray(getClass().getClassLoader().getResourceAsStream("image-test-file-1.jpg"));
+
+        // Stream without mark support, wrapped as the import resource does
+        final InputStream inputStream = new BufferedInputStream(new FilterInputStream(new ByteArrayInputStream(content)) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        }, 16);
+
+        final MimeType mimeType = new MimeTypeDetector(1024).detect(inputStream);
+
+        assertThat(mimeType.getName()).isEqualTo("image/jpeg");
+        assertThat(mimeType.getExtension()).isEqualTo(".jpg");
+        assertThat(ByteStreams.toByteArray(inputStream)).isEqualTo(content);
+    }
+
+    @Test
+    public void detect_content_shortAndUnknown() throws Exception {
+        final MimeTypeDetector mimeTypeDetector = MimeTypeDetector.getDefault();
+
+        assertThat(mimeTypeDetector.detect(new ByteArrayInputStream(new byte[0])).getName()).isEqualTo("application/octet-stream");
+        assertThat(mimeTypeDetector.detect(new ByteArrayInputStream(new byte[]{0, 1, 2, (byte) 0xff})).getExtension()).isEqualTo(".bin");
+        assertThat(mimeTypeDetector.detect("file.pdf", new ByteArrayInputStream(new byte[]{0, 1})).getName()).isEqualTo("application/pdf");
+        assertThatThrownBy(() -> mimeTypeDetector.detect(new FilterInputStream(new ByteArrayInputStream(new byte[0])) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
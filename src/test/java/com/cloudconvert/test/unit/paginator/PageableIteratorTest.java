@@ -0,0 +1,84 @@
+package com.cloudconvert.test.unit.paginator;
+
+import com.cloudconvert.dto.response.Pageable;
+import com.cloudconvert.paginator.PageableIterator;
+import com.cloudconvert.resource.params.Pagination;
+import com.cloudconvert.test.framework.UnitTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class PageableIteratorTest {
+
+    private final List<Integer> fetchedPages = new ArrayList<>();
+
+    @Test
+    public void stream_fetchesPagesOnDemand() {
+        final PageableIterator<Integer> pageableIterator = new PageableIterator<>(this::fetch, 10, null);
+
+        assertThat(fetchedPages).isEmpty();
+        assertThat(pageableIterator.stream().limit(15).collect(Collectors.toList())).containsExactlyElementsOf(
+            IntStream.range(0, 15).boxed().collect(Collectors.toList()));
+        assertThat(fetchedPages).containsExactly(1, 2);
+    }
+
+    @Test
+    public void stream_allPages() {
+        try (final Stream<Integer> stream = new PageableIterator<>(this::fetch, 10, null).stream()) {
+            assertThat(stream.count()).isEqualTo(25);
+        }
+        assertThat(fetchedPages).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void iterator_prefetchesNextPage() {
+        final List<Runnable> prefetches = new ArrayList<>();
+        final Executor executor = prefetches::add;
+        final PageableIterator<Integer> pageableIterator = new PageableIterator<>(this::fetch, 10, executor);
+
+        assertThat(pageableIterator.next()).isEqualTo(0);
+        assertThat(fetchedPages).containsExactly(1);
+        assertThat(prefetches).hasSize(1);
+
+        prefetches.get(0).run();
+        assertThat(fetchedPages).containsExactly(1, 2);
+    }
+
+    @Test
+    public void iterator_failedPage() {
+        final PageableIterator<Integer> pageableIterator = new PageableIterator<>(pagination -> {
+            throw new IOException("failed");
+        }, 10, null);
+
+        assertThatThrownBy(pageableIterator::hasNext).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IOException.class);
+    }
+
+    /**
+     * 25 items, split into pages
+     */
+    private CompletableFuture<Pageable<Integer>> fetch(final Pagination pagination) {
+        fetchedPages.add(pagination.getPage());
+
+        final int from = (pagination.getPage() - 1) * pagination.getPerPage();
+        final List<Integer> data = IntStream.range(from, Math.min(from + pagination.getPerPage(), 25)).boxed().collect(Collectors.toList());
+        final Pageable.Links links = new Pageable.Links().setNext(from + pagination.getPerPage() < 25 ? "next" : null);
+
+        return CompletableFuture.completedFuture(new Pageable<Integer>().setData(data).setLinks(links));
+    }
+}
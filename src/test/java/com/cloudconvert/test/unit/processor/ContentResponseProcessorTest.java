@@ -0,0 +1,65 @@
+package com.cloudconvert.test.unit.processor;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.Operation;
+import com.cloudconvert.dto.response.JobResponse;
+import com.cloudconvert.dto.response.Pageable;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.dto.result.Status;
+import com.cloudconvert.processor.response.successful.ContentResponseProcessor;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.google.common.collect.ImmutableMap;
+import org.apache.http.HttpStatus;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ContentResponseProcessorTest {
+
+    private static final Status STATUS = Status.builder().code(HttpStatus.SC_OK).build();
+
+    private final ContentResponseProcessor contentResponseProcessor = new ContentResponseProcessor(new ObjectMapperProvider());
+
+    @Test
+    public void process_dataEnvelope_whitespaceAndOtherFields() throws Exception {
+        final Result<TaskResponse> taskResponseResult = contentResponseProcessor.process(STATUS, ImmutableMap.of(),
+            getInputStream("{\n  \"links\": {\"self\": \"self\", \"nested\": [1, {\"data\": 2}]},\n  \"data\" : {\"id\": \"task-id\", \"operation\": \"convert\"}\n}"),
+            AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+        assertThat(taskResponseResult.getBody().getOperation()).isEqualTo(Operation.CONVERT);
+    }
+
+    @Test
+    public void process_pageable_wholeContent() throws Exception {
+        final Result<Pageable<JobResponse>> jobResponsePageableResult = contentResponseProcessor.process(STATUS, ImmutableMap.of(),
+            getInputStream("{\"data\":[{\"id\":\"job-id-1\"},{\"id\":\"job-id-2\"}],\"meta\":{\"current_page\":1,\"per_page\":100}}"),
+            AbstractResource.JOB_RESPONSE_PAGEABLE_TYPE_REFERENCE);
+
+        assertThat(jobResponsePageableResult.getBody().getData()).extracting(JobResponse::getId).containsExactly("job-id-1", "job-id-2");
+        assertThat(jobResponsePageableResult.getBody().getMeta().getPerPage()).isEqualTo(100);
+    }
+
+    @Test
+    public void process_dataEnvelope_missingData() {
+        assertThatThrownBy(() -> contentResponseProcessor.process(STATUS, ImmutableMap.of(),
+            getInputStream("{\"message\":\"no data\"}"), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE)).isInstanceOf(JsonParseException.class);
+    }
+
+    private InputStream getInputStream(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,92 @@
+package com.cloudconvert.test.unit.signature;
+
+import com.cloudconvert.signature.HmacSha256Signer;
+import com.cloudconvert.test.framework.UnitTest;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class HmacSha256SignerTest {
+
+    private static final String SECRET = "webhook-signing-secret";
+    private static final byte[] PAYLOAD = "{\"event\":\"job.finished\",\"job\":{\"id\":\"job-id\"}}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void verify_allPayloadTypes() throws Exception {
+        final HmacSha256Signer hmacSha256Signer = new HmacSha256Signer(SECRET);
+        final String signature = getSignature(PAYLOAD);
+
+        assertThat(hmacSha256Signer.signHex(PAYLOAD)).isEqualTo(signature);
+        assertThat(hmacSha256Signer.verify(PAYLOAD, signature)).isTrue();
+        assertThat(hmacSha256Signer.verify(PAYLOAD, signature.toUpperCase())).isTrue();
+        assertThat(hmacSha256Signer.verify(ByteBuffer.wrap(PAYLOAD), signature)).isTrue();
+        final ByteBuffer directByteBuffer = ByteBuffer.allocateDirect(PAYLOAD.length);
+        directByteBuffer.put(PAYLOAD);
+        directByteBuffer.flip();
+        assertThat(hmacSha256Signer.verify(directByteBuffer, signature)).isTrue();
+        assertThat(hmacSha256Signer.verify(new ByteArrayInputStream(PAYLOAD), signature)).isTrue();
+    }
+
+    @Test
+    public void verify_invalidSignature() throws Exception {
+        final HmacSha256Signer hmacSha256Signer = new HmacSha256Signer(SECRET);
+        final String signature = getSignature(PAYLOAD);
+
+        assertThat(hmacSha256Signer.verify("other".getBytes(StandardCharsets.UTF_8), signature)).isFalse();
+        assertThat(hmacSha256Signer.verify(PAYLOAD, signature.substring(2))).isFalse();
+        assertThat(hmacSha256Signer.verify(PAYLOAD, "not-hex")).isFalse();
+        assertThat(hmacSha256Signer.verify(PAYLOAD, "")).isFalse();
+
+        // A failed verification leaves no state behind
+        assertThat(hmacSha256Signer.verify(new ByteArrayInputStream(PAYLOAD), signature)).isTrue();
+    }
+
+    @Test
+    public void verify_concurrently() throws Exception {
+        final HmacSha256Signer hmacSha256Signer = new HmacSha256Signer(SECRET);
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        try {
+            final List<Callable<Boolean>> callables = IntStream.range(0, 1000).mapToObj(i -> {
+                final byte[] payload = ("payload-" + i).getBytes(StandardCharsets.UTF_8);
+                final String signature = getSignature(payload);
+                return (Callable<Boolean>) () -> hmacSha256Signer.verify(payload, signature);
+            }).collect(Collectors.toList());
+
+            for (final Future<Boolean> future : executorService.invokeAll(callables)) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static String getSignature(final byte[] payload) {
+        try {
+            final Mac mac = Mac.getInstance(HmacSha256Signer.HMAC_SHA256);
+            mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), HmacSha256Signer.HMAC_SHA256));
+            return Hex.encodeHexString(mac.doFinal(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.cloudconvert.test.unit.signature;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.client.setttings.StringSettingsProvider;
+import com.cloudconvert.dto.request.ConvertFilesTaskRequest;
+import com.cloudconvert.dto.request.TaskRequest;
+import com.cloudconvert.dto.request.UrlExportRequest;
+import com.cloudconvert.dto.request.UrlImportRequest;
+import com.cloudconvert.resource.sync.SignedUrlResource;
+import com.cloudconvert.signature.SignedUrlTemplate;
+import com.cloudconvert.test.framework.UnitTest;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class SignedUrlTemplateTest {
+
+    private static final String BASE = "https://s.cloudconvert.com/b3d85428-584e-4639-bc11-76b7dee9c109";
+    private static final String SIGNING_SECRET = "NT8dpJkttEyfSk3qlRgUJtvTkx64vhyX";
+
+    private static final List<String> URLS = ImmutableList.of("https://example.com/a.jpg", "https://example.com/ab.jpg",
+        "https://example.com/abc.jpg", "https://example.com/\"quoted\"\\path\u00e4\u20ac.jpg", "");
+
+    private SignedUrlResource signedUrlResource;
+
+    @Before
+    public void before() {
+        signedUrlResource = new SignedUrlResource(new StringSettingsProvider("api-key", "webhook-signing-secret", false), new ObjectMapperProvider(), null);
+    }
+
+    @Test
+    public void sign_identicalToResource() throws Exception {
+        // Task names of different length shift the variable across base64 groups
+        for (final String importTaskName : ImmutableList.of("i", "im", "imp")) {
+            final SignedUrlTemplate signedUrlTemplate = signedUrlResource.template(BASE, SIGNING_SECRET, getTasks(importTaskName, SignedUrlTemplate.variable("url")));
+
+            assertThat(signedUrlTemplate.getVariableNames()).containsExactly("url");
+            for (final String url : URLS) {
+                final Map<String, TaskRequest> tasks = getTasks(importTaskName, url);
+
+                assertThat(signedUrlTemplate.sign(url)).isEqualTo(signedUrlResource.sign(BASE, SIGNING_SECRET, tasks));
+                assertThat(signedUrlTemplate.sign(ImmutableMap.of("url", url), "cache-key")).isEqualTo(signedUrlResource.sign(BASE, SIGNING_SECRET, tasks, "cache-key"));
+            }
+        }
+    }
+
+    @Test
+    public void sign_manyVariables() throws Exception {
+        final SignedUrlTemplate signedUrlTemplate = signedUrlResource.template(BASE, SIGNING_SECRET, ImmutableMap.of(
+            "import-my-file", new UrlImportRequest().setUrl(SignedUrlTemplate.variable("url")).setFilename(SignedUrlTemplate.variable("filename")),
+            "convert-my-file", new ConvertFilesTaskRequest().setInput("import-my-file").setOutputFormat(SignedUrlTemplate.variable("format"))));
+
+        final String url = signedUrlTemplate.sign(ImmutableMap.of("url", "https://example.com/a.jpg", "filename", "a.jpg", "format", "pdf"), null);
+
+        assertThat(url).isEqualTo(signedUrlResource.sign(BASE, SIGNING_SECRET, ImmutableMap.of(
+            "import-my-file", new UrlImportRequest().setUrl("https://example.com/a.jpg").setFilename("a.jpg"),
+            "convert-my-file", new ConvertFilesTaskRequest().setInput("import-my-file").setOutputFormat("pdf"))));
+        assertThatThrownBy(() -> signedUrlTemplate.sign(ImmutableMap.of("url", "https://example.com/a.jpg"), null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> signedUrlTemplate.sign("https://example.com/a.jpg")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void signAll_parallel_inOrder() throws Exception {
+        final SignedUrlTemplate signedUrlTemplate = signedUrlResource.template(BASE, SIGNING_SECRET, getTasks("import-my-file", SignedUrlTemplate.variable("url")));
+        final List<String> urls = IntStream.range(0, 1000).mapToObj(i -> "https://example.com/" + i + ".jpg").collect(Collectors.toList());
+
+        final List<String> signedUrls = signedUrlTemplate.signAllValues(urls);
+        final List<String> cachedSignedUrls = signedUrlTemplate.signAll(urls.stream().map(url -> ImmutableMap.of("url", url)).collect(Collectors.toList()),
+            variables -> variables.get("url").hashCode() + "");
+
+        assertThat(signedUrls).hasSize(urls.size());
+        for (int i = 0; i < urls.size(); i += 97) {
+            assertThat(signedUrls.get(i)).isEqualTo(signedUrlResource.sign(BASE, SIGNING_SECRET, getTasks("import-my-file", urls.get(i))));
+            assertThat(cachedSignedUrls.get(i)).isEqualTo(signedUrlResource.sign(BASE, SIGNING_SECRET, getTasks("import-my-file", urls.get(i)), urls.get(i).hashCode() + ""));
+        }
+    }
+
+    private static Map<String, TaskRequest> getTasks(final String importTaskName, final String url) {
+        final ConvertFilesTaskRequest convertFilesTaskRequest = new ConvertFilesTaskRequest().setInput(importTaskName).setOutputFormat("png");
+        convertFilesTaskRequest.set("width", 100);
+
+        return ImmutableMap.of(
+            importTaskName, new UrlImportRequest().setUrl(url),
+            "convert-my-file", convertFilesTaskRequest,
+            "export-my-file", new UrlExportRequest().setInput("convert-my-file"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.cloudconvert.test.unit.tracing;
+
+import com.cloudconvert.test.framework.UnitTest;
+import com.cloudconvert.tracing.Span;
+import com.cloudconvert.tracing.TraceContext;
+import com.cloudconvert.tracing.TracingRequestInterceptor;
+import com.cloudconvert.tracing.opentelemetry.OpenTelemetryTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.apache.http.client.methods.HttpGet;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class OpenTelemetryTracerTest {
+
+    private final InMemorySpanExporter inMemorySpanExporter = InMemorySpanExporter.create();
+    private final SdkTracerProvider sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(inMemorySpanExporter)).build();
+
+    private final OpenTelemetryTracer openTelemetryTracer = new OpenTelemetryTracer(sdkTracerProvider.get(OpenTelemetryTracer.INSTRUMENTATION_SCOPE));
+
+    @Test
+    public void startSpan_childOfParentSpan() {
+        final Span parentSpan = openTelemetryTracer.startSpan("convert-report", null);
+        final Span childSpan = openTelemetryTracer.startSpan("POST jobs.create", parentSpan);
+        childSpan.end();
+        parentSpan.end();
+
+        assertThat(inMemorySpanExporter.getFinishedSpanItems()).hasSize(2);
+        final SpanData parentSpanData = getFinishedSpan("convert-report");
+        final SpanData childSpanData = getFinishedSpan("POST jobs.create");
+
+        assertThat(parentSpanData.getParentSpanContext().isValid()).isFalse();
+        assertThat(childSpanData.getTraceId()).isEqualTo(parentSpanData.getTraceId());
+        assertThat(childSpanData.getParentSpanId()).isEqualTo(parentSpanData.getSpanId());
+        assertThat(childSpan.getSpanContext().getTraceId()).isEqualTo(childSpanData.getTraceId());
+        assertThat(childSpan.getSpanContext().getSpanId()).isEqualTo(childSpanData.getSpanId());
+    }
+
+    @Test
+    public void startSpan_noParent_childOfCurrentOpenTelemetrySpan() {
+        final io.opentelemetry.api.trace.Span applicationSpan = sdkTracerProvider.get("application").spanBuilder("handle-request").startSpan();
+
+        try (final Scope scope = applicationSpan.makeCurrent()) {
+            openTelemetryTracer.startSpan("GET jobs.show", null).end();
+        } finally {
+            applicationSpan.end();
+        }
+
+        final SpanData spanData = getFinishedSpan("GET jobs.show");
+        assertThat(spanData.getTraceId()).isEqualTo(applicationSpan.getSpanContext().getTraceId());
+        assertThat(spanData.getParentSpanId()).isEqualTo(applicationSpan.getSpanContext().getSpanId());
+    }
+
+    @Test
+    public void tracingRequestInterceptor_traceparentOfRequestSpan() {
+        final TracingRequestInterceptor tracingRequestInterceptor = new TracingRequestInterceptor(openTelemetryTracer);
+        final Span parentSpan = openTelemetryTracer.startSpan("convert-report", null);
+        final HttpGet httpGet = new HttpGet("https://api.cloudconvert.com/v2/jobs/job-id");
+
+        try (final TraceContext.Scope scope = TraceContext.makeCurrent(parentSpan)) {
+            tracingRequestInterceptor.beforeExecution(httpGet);
+        }
+        tracingRequestInterceptor.onFailure(httpGet, new IllegalStateException("failed"));
+        parentSpan.end();
+
+        final SpanData requestSpanData = getFinishedSpan("GET jobs.show");
+        assertThat(requestSpanData.getParentSpanId()).isEqualTo(parentSpan.getSpanContext().getSpanId());
+        assertThat(httpGet.getFirstHeader(TracingRequestInterceptor.HEADER_TRACEPARENT).getValue())
+            .isEqualTo("00-" + requestSpanData.getTraceId() + "-" + requestSpanData.getSpanId() + "-01");
+        assertThat(requestSpanData.getAttributes().get(AttributeKey.stringKey(TracingRequestInterceptor.ATTRIBUTE_ENDPOINT))).isEqualTo("jobs.show");
+        assertThat(requestSpanData.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(requestSpanData.getEvents()).anySatisfy(eventData -> assertThat(eventData.getName()).isEqualTo("exception"));
+    }
+
+    @After
+    public void after() {
+        sdkTracerProvider.close();
+    }
+
+    private SpanData getFinishedSpan(final String name) {
+        return inMemorySpanExporter.getFinishedSpanItems().stream().filter(spanData -> name.equals(spanData.getName())).findFirst()
+            .orElseThrow(() -> new AssertionError("No finished span " + name));
+    }
+}
@@ -0,0 +1,190 @@
+package com.cloudconvert.test.unit.tracing;
+
+import com.cloudconvert.client.AsyncCloudConvertClient;
+import com.cloudconvert.client.CloudConvertCall;
+import com.cloudconvert.client.CloudConvertClient;
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.client.setttings.SettingsProvider;
+import com.cloudconvert.dto.request.UploadImportRequest;
+import com.cloudconvert.dto.request.UrlImportRequest;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.executor.AsyncRequestExecutor;
+import com.cloudconvert.executor.ExecutorSettings;
+import com.cloudconvert.executor.RequestExecutor;
+import com.cloudconvert.executor.transport.AsyncHttpTransport;
+import com.cloudconvert.executor.transport.HttpTransport;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.resource.AbstractImportFilesResource;
+import com.cloudconvert.test.framework.AbstractTest;
+import com.cloudconvert.test.framework.UnitTest;
+import com.cloudconvert.tracing.SimpleTracer;
+import com.cloudconvert.tracing.Span;
+import com.cloudconvert.tracing.SpanData;
+import com.cloudconvert.tracing.TraceContext;
+import com.cloudconvert.tracing.Tracer;
+import com.cloudconvert.tracing.TracingRequestInterceptor;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static com.cloudconvert.test.framework.TestCloseableHttpResponse.getHttpResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class TracingTest extends AbstractTest {
+
+    private static final String UPLOAD_URL = "https://upload.cloudconvert.com/form";
+    private static final String REDIRECT_URL = "https://storage.cloudconvert.com/redirect";
+    private static final String UPLOAD_TASK = "{\"data\":{\"id\":\"task-id\",\"result\":{\"form\":{\"url\":\"" + UPLOAD_URL
+        + "\",\"parameters\":{\"signature\":\"signature\"}}}}}";
+    private static final String TASK = "{\"data\":{\"id\":\"task-id\"}}";
+
+    @Mock
+    private SettingsProvider settingsProvider;
+
+    @Mock
+    private HttpTransport httpTransport;
+
+    @Mock
+    private AsyncHttpTransport asyncHttpTransport;
+
+    /**
+     * In-memory span exporter
+     */
+    private final List<SpanData> spans = new CopyOnWriteArrayList<>();
+
+    private final List<HttpUriRequest> httpUriRequests = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    private final ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider();
+
+    private final TracingRequestInterceptor tracingRequestInterceptor = new TracingRequestInterceptor(new SimpleTracer(spans::add));
+
+    @Before
+    public void before() {
+        when(settingsProvider.getApiKey()).thenReturn(API_KEY);
+        when(settingsProvider.getApiUrl()).thenReturn(API_URL);
+    }
+
+    @After
+    public void after() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void upload_tracesRequestsAsChildrenOfUpload() throws Exception {
+        when(httpTransport.execute(any())).thenAnswer(this::respond);
+        final CloudConvertClient cloudConvertClient = new CloudConvertClient(settingsProvider, objectMapperProvider, new RequestExecutor(
+            new ResultExtractor(objectMapperProvider), httpTransport, ExecutorSettings.builder().requestInterceptor(tracingRequestInterceptor).build()));
+
+        final Result<TaskResponse> taskResponseResult = cloudConvertClient.importUsing().upload(new UploadImportRequest(),
+            new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)), "file.txt");
+
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+        assertThat(TraceContext.current()).isNull();
+        assertUploadTrace();
+    }
+
+    @Test
+    public void uploadAsync_propagatesUploadAcrossCallbacks() throws Exception {
+        // Responses complete on other threads, so later steps of the upload are chained from there
+        when(asyncHttpTransport.executeAsync(any())).thenAnswer(invocation -> CompletableFuture.supplyAsync(() -> respond(invocation), executorService));
+        final AsyncCloudConvertClient asyncCloudConvertClient = new AsyncCloudConvertClient(settingsProvider, objectMapperProvider, new AsyncRequestExecutor(
+            new ResultExtractor(objectMapperProvider), asyncHttpTransport, null, ExecutorSettings.builder().requestInterceptor(tracingRequestInterceptor).build()));
+
+        final Result<TaskResponse> taskResponseResult = asyncCloudConvertClient.importUsing().upload(new UploadImportRequest(),
+            new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)), "file.txt").get();
+
+        assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+        assertUploadTrace();
+    }
+
+    @Test
+    public void invokeAll_tracesCallsAsChildrenOfCallerSpan() throws Exception {
+        when(httpTransport.execute(any())).thenAnswer(this::respond);
+        final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(objectMapperProvider), httpTransport,
+            ExecutorSettings.builder().requestInterceptor(tracingRequestInterceptor).build());
+        final CloudConvertClient cloudConvertClient = new CloudConvertClient(settingsProvider, objectMapperProvider, requestExecutor);
+        final Tracer tracer = requestExecutor.getTracer();
+
+        final Span span = tracer.startSpan("convert-all", null);
+        final List<Future<Result<TaskResponse>>> futures;
+        try (TraceContext.Scope ignored = TraceContext.makeCurrent(span)) {
+            final CloudConvertCall<Result<TaskResponse>> call = client -> client.importUsing().url(new UrlImportRequest().setUrl("url"));
+            futures = cloudConvertClient.invokeAll(executorService, ImmutableList.of(call, call));
+        } finally {
+            span.end();
+        }
+
+        assertThat(futures).allSatisfy(future -> assertThat(future.get().getBody().getId()).isEqualTo("task-id"));
+        assertThat(spans).hasSize(3).allSatisfy(spanData -> assertThat(spanData.getSpanContext().getTraceId()).isEqualTo(span.getSpanContext().getTraceId()));
+        assertThat(spans.stream().filter(spanData -> "POST import.url".equals(spanData.getName())))
+            .hasSize(2).allSatisfy(spanData -> assertThat(spanData.getParentSpanId()).isEqualTo(span.getSpanContext().getSpanId()));
+    }
+
+    private void assertUploadTrace() {
+        final Map<String, SpanData> spansByName = spans.stream().collect(Collectors.toMap(SpanData::getName, spanData -> spanData));
+        assertThat(spansByName).containsOnlyKeys(AbstractImportFilesResource.SPAN_UPLOAD, "POST import.upload", "POST files.upload",
+            "GET files.download", "GET tasks.show");
+
+        final SpanData upload = spansByName.get(AbstractImportFilesResource.SPAN_UPLOAD);
+        assertThat(upload.getParentSpanId()).isNull();
+        assertThat(upload.getAttributes()).containsEntry(TracingRequestInterceptor.ATTRIBUTE_HTTP_RESPONSE_STATUS_CODE, 200L);
+        assertThat(spans).filteredOn(spanData -> spanData != upload).hasSize(4).allSatisfy(spanData -> {
+            assertThat(spanData.getSpanContext().getTraceId()).isEqualTo(upload.getSpanContext().getTraceId());
+            assertThat(spanData.getParentSpanId()).isEqualTo(upload.getSpanContext().getSpanId());
+            assertThat(spanData.getEndTime()).isBeforeOrEqualTo(upload.getEndTime());
+        });
+
+        // Each request carries the context of its own span
+        assertThat(httpUriRequests).extracting(httpUriRequest -> httpUriRequest.getFirstHeader(TracingRequestInterceptor.HEADER_TRACEPARENT).getValue())
+            .containsExactlyInAnyOrderElementsOf(spans.stream().filter(spanData -> spanData != upload)
+                .map(spanData -> spanData.getSpanContext().getTraceparent()).collect(Collectors.toList()));
+        assertThat(spansByName.get("GET files.download").getAttributes()).containsAllEntriesOf(ImmutableMap.of(
+            TracingRequestInterceptor.ATTRIBUTE_HTTP_REQUEST_METHOD, "GET", TracingRequestInterceptor.ATTRIBUTE_SERVER_ADDRESS, "storage.cloudconvert.com",
+            TracingRequestInterceptor.ATTRIBUTE_HTTP_RESPONSE_STATUS_CODE, 201L));
+    }
+
+    private CloseableHttpResponse respond(final InvocationOnMock invocation) {
+        final HttpUriRequest httpUriRequest = invocation.getArgument(0);
+        httpUriRequests.add(httpUriRequest);
+
+        final String uri = httpUriRequest.getURI().toString();
+        if (uri.endsWith("/import/upload")) {
+            return getHttpResponse(201, UPLOAD_TASK);
+        } else if (uri.equals(UPLOAD_URL)) {
+            final CloseableHttpResponse httpResponse = getHttpResponse(303, "");
+            httpResponse.setHeader("Location", REDIRECT_URL);
+            return httpResponse;
+        } else if (uri.equals(REDIRECT_URL)) {
+            return getHttpResponse(201, "");
+        } else {
+            return getHttpResponse(uri.endsWith("/import/url") ? 201 : 200, TASK);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.cloudconvert.test.unit.tracker;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.Status;
+import com.cloudconvert.dto.response.JobResponse;
+import com.cloudconvert.dto.response.Pageable;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.resource.params.Filter;
+import com.cloudconvert.resource.params.Pagination;
+import com.cloudconvert.resource.sync.JobsResource;
+import com.cloudconvert.test.framework.UnitTest;
+import com.cloudconvert.tracker.JobCompletionTracker;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class JobCompletionTrackerTest {
+
+    @Mock
+    private JobsResource jobsResource;
+
+    private JobCompletionTracker jobCompletionTracker;
+
+    @Before
+    public void before() {
+        // Background polling never kicks in, rounds are triggered by tests
+        jobCompletionTracker = new JobCompletionTracker(jobsResource, new ObjectMapperProvider(), Duration.ofHours(1), Duration.ofHours(2), false);
+    }
+
+    @Test
+    public void poll_completesEndedJobsOnly() throws Exception {
+        final CompletableFuture<JobResponse> processingJobResponseCompletableFuture = jobCompletionTracker.track("processing-job-id");
+        final CompletableFuture<JobResponse> finishedJobResponseCompletableFuture = jobCompletionTracker.track("finished-job-id");
+        final JobResponse finishedJobResponse = new JobResponse().setId("finished-job-id").setStatus(Status.FINISHED);
+
+        when(jobsResource.list(eq(ImmutableMap.of(Filter.STATUS, Status.PROCESSING.getLabel())), anyList(), any(Pagination.class))).thenReturn(
+            Result.<Pageable<JobResponse>>builder().body(new Pageable<JobResponse>().setData(ImmutableList.of(
+                new JobResponse().setId("processing-job-id").setStatus(Status.PROCESSING), new JobResponse().setId("other-job-id")))).build());
+        when(jobsResource.list(eq(ImmutableMap.of(Filter.STATUS, Status.WAITING.getLabel())), anyList(), any(Pagination.class))).thenReturn(
+            Result.<Pageable<JobResponse>>builder().body(new Pageable<JobResponse>().setData(ImmutableList.of())).build());
+        when(jobsResource.show("finished-job-id")).thenReturn(Result.<JobResponse>builder().body(finishedJobResponse).build());
+
+        jobCompletionTracker.poll();
+
+        verify(jobsResource, times(2)).list(any(), anyList(), any(Pagination.class));
+        verify(jobsResource, never()).show("processing-job-id");
+        assertThat(finishedJobResponseCompletableFuture).isCompletedWithValue(finishedJobResponse);
+        assertThat(processingJobResponseCompletableFuture).isNotDone();
+        assertThat(jobCompletionTracker.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void poll_waitingJobsNotFetched() throws Exception {
+        final CompletableFuture<JobResponse> waitingJobResponseCompletableFuture = jobCompletionTracker.track("waiting-job-id");
+
+        when(jobsResource.list(eq(ImmutableMap.of(Filter.STATUS, Status.PROCESSING.getLabel())), anyList(), any(Pagination.class))).thenReturn(
+            Result.<Pageable<JobResponse>>builder().body(new Pageable<JobResponse>().setData(ImmutableList.of())).build());
+        when(jobsResource.list(eq(ImmutableMap.of(Filter.STATUS, Status.WAITING.getLabel())), anyList(), any(Pagination.class))).thenReturn(
+            Result.<Pageable<JobResponse>>builder().body(new Pageable<JobResponse>().setData(ImmutableList.of(
+                new JobResponse().setId("waiting-job-id").setStatus(Status.WAITING)))).build());
+
+        jobCompletionTracker.poll();
+
+        verify(jobsResource, never()).show(any());
+        assertThat(waitingJobResponseCompletableFuture).isNotDone();
+        assertThat(jobCompletionTracker.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void onWebhookEvent_completesJob() throws Exception {
+        final CompletableFuture<JobResponse> jobResponseCompletableFuture = jobCompletionTracker.track("job-id");
+
+        jobCompletionTracker.onWebhookEvent("{\"event\":\"job.failed\",\"job\":{\"id\":\"job-id\",\"status\":\"error\"}}");
+
+        assertThat(jobResponseCompletableFuture).isCompleted();
+        assertThat(jobResponseCompletableFuture.get().getStatus()).isEqualTo(Status.ERROR);
+        assertThat(jobCompletionTracker.size()).isZero();
+    }
+
+    @Test
+    public void track_reschedulesGrownPoll() throws Exception {
+        when(jobsResource.list(eq(ImmutableMap.of(Filter.STATUS, Status.PROCESSING.getLabel())), anyList(), any(Pagination.class))).thenReturn(
+            Result.<Pageable<JobResponse>>builder().body(new Pageable<JobResponse>().setData(ImmutableList.of(
+                new JobResponse().setId("processing-job-id").setStatus(Status.PROCESSING), new JobResponse().setId("job-id").setStatus(Status.PROCESSING)))).build());
+
+        try (final JobCompletionTracker jobCompletionTracker = new JobCompletionTracker(jobsResource, new ObjectMapperProvider(), Duration.ofMillis(50),
+            Duration.ofHours(1), false)) {
+            jobCompletionTracker.track("processing-job-id");
+
+            // Grow the poll interval to the max, the background poll then schedules the next one an hour later
+            for (int i = 0; i < 30; i++) {
+                jobCompletionTracker.poll();
+            }
+            verify(jobsResource, timeout(1000).times(31)).list(any(), anyList(), any(Pagination.class));
+            Thread.sleep(100);
+
+            jobCompletionTracker.track("job-id");
+
+            verify(jobsResource, timeout(1000).times(32)).list(any(), anyList(), any(Pagination.class));
+        }
+    }
+
+    @Test
+    public void poll_noTrackedJobs_noRequests() {
+        jobCompletionTracker.poll();
+
+        verifyNoInteractions(jobsResource);
+    }
+
+    @After
+    public void after() throws Exception {
+        jobCompletionTracker.close();
+    }
+}
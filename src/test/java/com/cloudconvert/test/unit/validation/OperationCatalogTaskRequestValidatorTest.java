@@ -0,0 +1,145 @@
+package com.cloudconvert.test.unit.validation;
+
+import com.cloudconvert.catalog.OperationCatalog;
+import com.cloudconvert.client.CloudConvertClient;
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.client.setttings.SettingsProvider;
+import com.cloudconvert.dto.Operation;
+import com.cloudconvert.dto.request.ConvertFilesTaskRequest;
+import com.cloudconvert.dto.request.TaskRequest;
+import com.cloudconvert.dto.request.UrlImportRequest;
+import com.cloudconvert.dto.response.OperationResponse;
+import com.cloudconvert.exception.TaskRequestValidationException;
+import com.cloudconvert.executor.RequestExecutor;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import com.cloudconvert.validation.OperationCatalogTaskRequestValidator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class OperationCatalogTaskRequestValidatorTest {
+
+    private static final OperationResponse DOCX_TO_PDF = new OperationResponse().setOperation(Operation.CONVERT)
+        .setInputFormat("docx").setOutputFormat("pdf").setEngine("office")
+        .setEngineVersions(ImmutableList.of(new OperationResponse.EngineVersion().setVersion("2.1")))
+        .setOptions(ImmutableList.of(
+            new OperationResponse.Option().setName("pages").setType("string"),
+            new OperationResponse.Option().setName("embed_images").setType("boolean"),
+            new OperationResponse.Option().setName("pdf_a").setType("enum").setPossibleValues(ImmutableList.of("1b", "2b"))));
+
+    private final ObjectMapperProvider objectMapperProvider = new ObjectMapperProvider();
+
+    @Mock
+    private OperationCatalog operationCatalog;
+
+    @Mock
+    private SettingsProvider settingsProvider;
+
+    @Mock
+    private RequestExecutor requestExecutor;
+
+    private OperationCatalogTaskRequestValidator operationCatalogTaskRequestValidator;
+
+    @Before
+    public void before() {
+        operationCatalogTaskRequestValidator = new OperationCatalogTaskRequestValidator(operationCatalog);
+    }
+
+    @Test
+    public void validate_validTask() throws Exception {
+        mockConvert("docx", "pdf");
+
+        validate(new ConvertFilesTaskRequest().setInputFormat("docx").setOutputFormat("pdf").setEngine("office").setEngineVersion("2.1")
+            .set("pages", "1-3").set("embed_images", true).set("pdf_a", "2b").set("timeout", 60));
+    }
+
+    @Test
+    public void validate_unsupportedConversion() throws Exception {
+        mockConvert("pdf", "docx");
+
+        assertThatThrownBy(() -> validate(new ConvertFilesTaskRequest().setInputFormat("pdf").setOutputFormat("docx")))
+            .isInstanceOf(TaskRequestValidationException.class).hasMessage("Task task: convert from pdf to docx is not supported");
+    }
+
+    @Test
+    public void validate_unknownEngineVersion() throws Exception {
+        mockConvert("docx", "pdf");
+
+        assertThatThrownBy(() -> validate(new ConvertFilesTaskRequest().setInputFormat("docx").setOutputFormat("pdf").setEngine("office").setEngineVersion("1.0")))
+            .isInstanceOf(TaskRequestValidationException.class).hasMessage("Task task: engine version 1.0 of office is not supported");
+    }
+
+    @Test
+    public void validate_invalidOptions_collectsAllViolations() throws Exception {
+        mockConvert("docx", "pdf");
+
+        assertThatThrownBy(() -> validate(new ConvertFilesTaskRequest().setInputFormat("docx").setOutputFormat("pdf")
+            .set("embed_images", "yes").set("pdf_a", "3u").set("colour", "red")))
+            .isInstanceOfSatisfying(TaskRequestValidationException.class, e -> assertThat(e.getViolations()).containsExactlyInAnyOrder(
+                "Task task: option embed_images must be of type boolean, but was yes",
+                "Task task: option pdf_a must be of type enum [1b, 2b], but was 3u",
+                "Task task: unknown option colour"));
+    }
+
+    @Test
+    public void validate_operationNotInCatalog_isSkipped() throws Exception {
+        when(operationCatalog.contains(Operation.IMPORT_URL)).thenReturn(false);
+
+        validate(new UrlImportRequest().setUrl("url").set("anything", 1));
+    }
+
+    @Test
+    public void validate_catalogNotLoaded_isSkipped() throws Exception {
+        when(operationCatalog.contains(Operation.CONVERT)).thenThrow(new IOException("Connection refused"));
+
+        validate(new ConvertFilesTaskRequest().setInputFormat("pdf").setOutputFormat("docx"));
+    }
+
+    @Test
+    public void jobsCreate_failsWithoutRequest() throws Exception {
+        mockConvert("pdf", "docx");
+
+        final CloudConvertClient cloudConvertClient = new CloudConvertClient(settingsProvider, objectMapperProvider, requestExecutor,
+            operationCatalogTaskRequestValidator);
+
+        assertThatThrownBy(() -> cloudConvertClient.jobs().create(ImmutableMap.of("convert-my-file",
+            new ConvertFilesTaskRequest().setInput("import-my-file").setInputFormat("pdf").setOutputFormat("docx"))))
+            .isInstanceOf(TaskRequestValidationException.class).hasMessage("Task convert-my-file: convert from pdf to docx is not supported");
+        assertThatThrownBy(() -> cloudConvertClient.tasks().convert(new ConvertFilesTaskRequest().setInputFormat("pdf").setOutputFormat("docx")))
+            .isInstanceOf(TaskRequestValidationException.class).hasMessage("Task convert: convert from pdf to docx is not supported");
+        verifyNoInteractions(requestExecutor);
+    }
+
+    private void mockConvert(
+        final String inputFormat, final String outputFormat
+    ) throws Exception {
+        when(operationCatalog.contains(Operation.CONVERT)).thenReturn(true);
+        when(operationCatalog.find(Operation.CONVERT, inputFormat, outputFormat)).thenReturn(
+            "docx".equals(inputFormat) && "pdf".equals(outputFormat) ? ImmutableList.of(DOCX_TO_PDF) : ImmutableList.of());
+    }
+
+    private void validate(
+        final TaskRequest taskRequest
+    ) {
+        final Map<String, Object> fields = objectMapperProvider.provide().convertValue(taskRequest, AbstractResource.MAP_STRING_TO_OBJECT_TYPE_REFERENCE);
+        taskRequest.getProperties().forEach(fields::putIfAbsent);
+
+        operationCatalogTaskRequestValidator.validate("task", taskRequest, fields);
+    }
+}
@@ -0,0 +1,186 @@
+package com.cloudconvert.test.unit.webhook;
+
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.client.setttings.StringSettingsProvider;
+import com.cloudconvert.dto.Event;
+import com.cloudconvert.dto.response.JobResponse;
+import com.cloudconvert.dto.response.WebhookEventResponse;
+import com.cloudconvert.resource.sync.WebhookResource;
+import com.cloudconvert.signature.HmacSha256Signer;
+import com.cloudconvert.test.framework.UnitTest;
+import com.cloudconvert.webhook.DeliveryStatus;
+import com.cloudconvert.webhook.WebhookEventDispatcher;
+import com.cloudconvert.webhook.WebhookReceiver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class WebhookEventDispatcherTest {
+
+    private static final String WEBHOOK_SIGNING_SECRET = "webhook-signing-secret";
+
+    private WebhookResource webhookResource;
+
+    private HmacSha256Signer hmacSha256Signer;
+
+    private WebhookEventDispatcher webhookEventDispatcher;
+
+    @Before
+    public void before() throws Exception {
+        webhookResource = new WebhookResource(new StringSettingsProvider("api-key", WEBHOOK_SIGNING_SECRET, false), new ObjectMapperProvider(), null);
+        hmacSha256Signer = new HmacSha256Signer(WEBHOOK_SIGNING_SECRET);
+        webhookEventDispatcher = new WebhookEventDispatcher(webhookResource, 4, 100, 1000, Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void dispatch_typedListeners() throws Exception {
+        final CountDownLatch countDownLatch = new CountDownLatch(2);
+        final List<String> finishedJobIds = new CopyOnWriteArrayList<>();
+        final List<Event> allEvents = new CopyOnWriteArrayList<>();
+
+        webhookEventDispatcher
+            .addListener(Event.JOB_FINISHED, webhookEventResponse -> finishedJobIds.add(webhookEventResponse.getJob().getId()))
+            .addListener(webhookEventResponse -> {
+                allEvents.add(webhookEventResponse.getEvent());
+                countDownLatch.countDown();
+            });
+
+        assertThat(dispatch("job.created", "job-1")).isEqualTo(DeliveryStatus.ACCEPTED);
+        assertThat(dispatch("job.finished", "job-1")).isEqualTo(DeliveryStatus.ACCEPTED);
+
+        assertThat(countDownLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(allEvents).containsExactly(Event.JOB_CREATED, Event.JOB_FINISHED);
+        assertThat(finishedJobIds).containsExactly("job-1");
+    }
+
+    @Test
+    public void dispatch_duplicateDropped() throws Exception {
+        final CountDownLatch countDownLatch = new CountDownLatch(1);
+        webhookEventDispatcher.addListener(Event.JOB_FINISHED, webhookEventResponse -> countDownLatch.countDown());
+
+        assertThat(dispatch("job.finished", "job-1")).isEqualTo(DeliveryStatus.ACCEPTED);
+        assertThat(dispatch("job.finished", "job-1")).isEqualTo(DeliveryStatus.DUPLICATE);
+
+        assertThat(countDownLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void dispatch_invalid() throws Exception {
+        final byte[] payload = getPayload("job.finished", "job-1");
+
+        assertThat(webhookEventDispatcher.dispatch(payload, null)).isEqualTo(DeliveryStatus.INVALID_SIGNATURE);
+        assertThat(webhookEventDispatcher.dispatch(payload, hmacSha256Signer.signHex("other".getBytes(StandardCharsets.UTF_8)))).isEqualTo(DeliveryStatus.INVALID_SIGNATURE);
+
+        final byte[] malformedPayload = "{\"event\":".getBytes(StandardCharsets.UTF_8);
+        assertThat(webhookEventDispatcher.dispatch(malformedPayload, hmacSha256Signer.signHex(malformedPayload))).isEqualTo(DeliveryStatus.MALFORMED);
+
+        // Invalid deliveries are not remembered
+        assertThat(webhookEventDispatcher.dispatch(payload, hmacSha256Signer.signHex(payload))).isEqualTo(DeliveryStatus.ACCEPTED);
+    }
+
+    @Test
+    public void dispatch_orderedPerJob_rejectedWhenSaturated() throws Exception {
+        final CountDownLatch blockingCountDownLatch = new CountDownLatch(1);
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final WebhookEventDispatcher saturatedWebhookEventDispatcher = new WebhookEventDispatcher(webhookResource, 4, 3, 1000, Duration.ofMinutes(1));
+
+        try {
+            saturatedWebhookEventDispatcher.addListener(webhookEventResponse -> {
+                blockingCountDownLatch.await();
+                events.add(webhookEventResponse.getJob().getId() + " " + webhookEventResponse.getEvent().getLabel());
+            });
+
+            assertThat(saturatedWebhookEventDispatcher.dispatch(getWebhookEventResponse(Event.JOB_CREATED, "job-1"))).isEqualTo(DeliveryStatus.ACCEPTED);
+            assertThat(saturatedWebhookEventDispatcher.dispatch(getWebhookEventResponse(Event.JOB_FAILED, "job-1"))).isEqualTo(DeliveryStatus.ACCEPTED);
+            assertThat(saturatedWebhookEventDispatcher.dispatch(getWebhookEventResponse(Event.JOB_FINISHED, "job-1"))).isEqualTo(DeliveryStatus.ACCEPTED);
+            assertThat(saturatedWebhookEventDispatcher.dispatch(getWebhookEventResponse(Event.JOB_CREATED, "job-2"))).isEqualTo(DeliveryStatus.REJECTED);
+
+            blockingCountDownLatch.countDown();
+            for (int i = 0; i < 500 && saturatedWebhookEventDispatcher.getPendingEvents() > 0; i++) {
+                Thread.sleep(10);
+            }
+
+            assertThat(events).containsExactly("job-1 job.created", "job-1 job.failed", "job-1 job.finished");
+
+            // Rejected delivery can be retried
+            assertThat(saturatedWebhookEventDispatcher.dispatch(getWebhookEventResponse(Event.JOB_CREATED, "job-2"))).isEqualTo(DeliveryStatus.ACCEPTED);
+        } finally {
+            saturatedWebhookEventDispatcher.close();
+        }
+    }
+
+    @Test
+    public void receiver() throws Exception {
+        final CountDownLatch countDownLatch = new CountDownLatch(1);
+        webhookEventDispatcher.addListener(Event.JOB_FAILED, webhookEventResponse -> countDownLatch.countDown());
+
+        try (final WebhookReceiver webhookReceiver = new WebhookReceiver(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+            "/webhooks", webhookEventDispatcher, 1, 1024).start()) {
+            final URL url = new URL("http", webhookReceiver.getAddress().getHostString(), webhookReceiver.getAddress().getPort(), "/webhooks");
+            final byte[] payload = getPayload("job.failed", "job-1");
+
+            assertThat(post(url, payload, hmacSha256Signer.signHex(payload))).isEqualTo(200);
+            assertThat(post(url, payload, hmacSha256Signer.signHex(payload))).isEqualTo(200);
+            assertThat(post(url, payload, "invalid")).isEqualTo(401);
+            assertThat(post(url, new byte[2048], "invalid")).isEqualTo(413);
+
+            assertThat(countDownLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @After
+    public void after() throws Exception {
+        webhookEventDispatcher.close();
+    }
+
+    private DeliveryStatus dispatch(final String event, final String jobId) {
+        final byte[] payload = getPayload(event, jobId);
+        return webhookEventDispatcher.dispatch(payload, hmacSha256Signer.signHex(payload));
+    }
+
+    private static byte[] getPayload(final String event, final String jobId) {
+        return ("{\"event\":\"" + event + "\",\"job\":{\"id\":\"" + jobId + "\",\"status\":\"finished\",\"tasks\":[]}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static WebhookEventResponse getWebhookEventResponse(final Event event, final String jobId) {
+        return new WebhookEventResponse().setEvent(event).setJob(new JobResponse().setId(jobId));
+    }
+
+    private static int post(final URL url, final byte[] payload, final String signature) throws Exception {
+        final HttpURLConnection httpURLConnection = (HttpURLConnection) url.openConnection();
+        try {
+            httpURLConnection.setRequestMethod("POST");
+            httpURLConnection.setDoOutput(true);
+            httpURLConnection.setRequestProperty(WebhookReceiver.HEADER_SIGNATURE, signature);
+            try (final OutputStream outputStream = httpURLConnection.getOutputStream()) {
+                outputStream.write(payload);
+            }
+            return httpURLConnection.getResponseCode();
+        } catch (IOException e) {
+            // Server may close the connection before the whole body of a refused request has been written
+            return httpURLConnection.getResponseCode();
+        } finally {
+            httpURLConnection.disconnect();
+        }
+    }
+}
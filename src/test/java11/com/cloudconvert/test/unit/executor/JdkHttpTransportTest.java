@@ -0,0 +1,220 @@
+package com.cloudconvert.test.unit.executor;
+
+import com.cloudconvert.client.http.ConnectionPoolSettings;
+import com.cloudconvert.client.mapper.ObjectMapperProvider;
+import com.cloudconvert.dto.response.JobResponse;
+import com.cloudconvert.dto.response.TaskResponse;
+import com.cloudconvert.dto.result.Result;
+import com.cloudconvert.exception.CloudConvertClientException;
+import com.cloudconvert.executor.AsyncRequestExecutor;
+import com.cloudconvert.executor.RequestExecutor;
+import com.cloudconvert.executor.WritableByteChannelAsyncResponseConsumer;
+import com.cloudconvert.executor.transport.JdkHttpTransport;
+import com.cloudconvert.extractor.ResultExtractor;
+import com.cloudconvert.resource.AbstractResource;
+import com.cloudconvert.test.framework.UnitTest;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTest.class)
+@RunWith(MockitoJUnitRunner.class)
+public class JdkHttpTransportTest {
+
+    private final Map<String, String> requestHeaders = new ConcurrentHashMap<>();
+
+    private volatile byte[] requestBody;
+
+    private HttpServer httpServer;
+
+    private String baseUrl;
+
+    @Before
+    public void before() throws Exception {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext("/" + AbstractResource.V2 + "/tasks", httpExchange -> {
+            try {
+                httpExchange.getRequestHeaders().forEach((name, values) -> requestHeaders.put(name.toLowerCase(), values.get(0)));
+                requestBody = ByteStreams.toByteArray(httpExchange.getRequestBody());
+
+                final byte[] body = "{\"data\":{\"id\":\"task-id\"}}".getBytes(StandardCharsets.UTF_8);
+                httpExchange.getResponseHeaders().set("Content-Type", "application/json");
+                httpExchange.sendResponseHeaders(200, body.length);
+                httpExchange.getResponseBody().write(body);
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.createContext("/" + AbstractResource.V2 + "/jobs", httpExchange -> {
+            try {
+                Thread.sleep(500);
+
+                final byte[] body = "{\"data\":{\"id\":\"job-id\"}}".getBytes(StandardCharsets.UTF_8);
+                httpExchange.getResponseHeaders().set("Content-Type", "application/json");
+                httpExchange.sendResponseHeaders(200, body.length);
+                httpExchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.createContext("/" + AbstractResource.V2 + "/missing", httpExchange -> {
+            try {
+                final byte[] body = "{\"message\":\"Not found\",\"code\":\"NOT_FOUND\"}".getBytes(StandardCharsets.UTF_8);
+                httpExchange.getResponseHeaders().set("Content-Type", "application/json");
+                httpExchange.sendResponseHeaders(404, body.length);
+                httpExchange.getResponseBody().write(body);
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.start();
+
+        baseUrl = "http://" + httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort() + "/" + AbstractResource.V2;
+    }
+
+    @Test
+    public void requestExecutor_get() throws Exception {
+        try (final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), new JdkHttpTransport())) {
+            final HttpGet httpGet = new HttpGet(baseUrl + "/tasks/task-id");
+            httpGet.setHeader(AbstractResource.HEADER_AUTHORIZATION, "Bearer api-key");
+
+            final Result<TaskResponse> taskResponseResult = requestExecutor.execute(httpGet, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+
+            assertThat(taskResponseResult.getStatus().getCode()).isEqualTo(200);
+            assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+            assertThat(requestHeaders).containsEntry("authorization", "Bearer api-key");
+        }
+    }
+
+    @Test
+    public void requestExecutor_postJson() throws Exception {
+        try (final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), new JdkHttpTransport())) {
+            final HttpPost httpPost = new HttpPost(baseUrl + "/tasks");
+            httpPost.setEntity(new StringEntity("{\"operation\":\"convert\"}", ContentType.APPLICATION_JSON));
+
+            requestExecutor.execute(httpPost, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+
+            assertThat(new String(requestBody, StandardCharsets.UTF_8)).isEqualTo("{\"operation\":\"convert\"}");
+            assertThat(requestHeaders.get("content-type")).startsWith("application/json");
+        }
+    }
+
+    @Test
+    public void requestExecutor_postLargeMultipart_streamed() throws Exception {
+        final byte[] content = new byte[3 * JdkHttpTransport.MAX_BUFFERED_ENTITY_LENGTH];
+        new Random(7).nextBytes(content);
+
+        try (final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), new JdkHttpTransport())) {
+            final HttpPost httpPost = new HttpPost(baseUrl + "/tasks");
+            httpPost.setEntity(MultipartEntityBuilder.create().addTextBody("signature", "signature-value")
+                .addBinaryBody("file", content, ContentType.DEFAULT_BINARY, "file.bin").build());
+
+            requestExecutor.execute(httpPost, AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+
+            assertThat(requestBody).hasSize((int) httpPost.getEntity().getContentLength());
+            assertThat(requestHeaders.get("content-type")).startsWith("multipart/form-data; boundary=");
+        }
+    }
+
+    @Test
+    public void requestExecutor_get_noTimeout() throws Exception {
+        final JdkHttpTransport jdkHttpTransport = new JdkHttpTransport(HttpClient.newHttpClient(), Duration.ZERO);
+
+        try (final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), jdkHttpTransport)) {
+            final Result<TaskResponse> taskResponseResult = requestExecutor.execute(new HttpGet(baseUrl + "/tasks/task-id"),
+                AbstractResource.TASK_RESPONSE_TYPE_REFERENCE);
+
+            assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+        }
+    }
+
+    @Test
+    public void requestExecutor_longPoll_noTimeout() throws Exception {
+        final JdkHttpTransport jdkHttpTransport = new JdkHttpTransport(HttpClient.newHttpClient(), ConnectionPoolSettings.builder()
+            .socketTimeout(Duration.ofMillis(100)).longPollUrl(baseUrl).build());
+
+        try (final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), jdkHttpTransport)) {
+            final Result<JobResponse> jobResponseResult = requestExecutor.execute(new HttpGet(baseUrl + "/jobs/job-id/wait"),
+                AbstractResource.JOB_RESPONSE_TYPE_REFERENCE);
+
+            assertThat(jobResponseResult.getBody().getId()).isEqualTo("job-id");
+        }
+    }
+
+    @Test
+    public void requestExecutor_timeout() throws Exception {
+        final JdkHttpTransport jdkHttpTransport = new JdkHttpTransport(HttpClient.newHttpClient(), Duration.ofMillis(100));
+
+        try (final RequestExecutor requestExecutor = new RequestExecutor(new ResultExtractor(new ObjectMapperProvider()), jdkHttpTransport)) {
+            assertThatThrownBy(() -> requestExecutor.execute(new HttpGet(baseUrl + "/jobs/job-id/wait"), AbstractResource.JOB_RESPONSE_TYPE_REFERENCE))
+                .isInstanceOf(HttpTimeoutException.class);
+        }
+    }
+
+    @Test
+    public void asyncRequestExecutor_get() throws Exception {
+        try (final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()), new JdkHttpTransport())) {
+            final Result<TaskResponse> taskResponseResult = asyncRequestExecutor.execute(new HttpGet(baseUrl + "/tasks/task-id"),
+                AbstractResource.TASK_RESPONSE_TYPE_REFERENCE).get();
+
+            assertThat(taskResponseResult.getBody().getId()).isEqualTo("task-id");
+        }
+    }
+
+    @Test
+    public void asyncRequestExecutor_responseConsumer() throws Exception {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        try (final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()), new JdkHttpTransport())) {
+            final Result<Void> voidResult = asyncRequestExecutor.execute(new HttpGet(baseUrl + "/tasks/task-id"),
+                new WritableByteChannelAsyncResponseConsumer(Channels.newChannel(byteArrayOutputStream)), AbstractResource.VOID_TYPE_REFERENCE).get();
+
+            assertThat(voidResult.getStatus().getCode()).isEqualTo(200);
+            assertThat(new String(byteArrayOutputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("{\"data\":{\"id\":\"task-id\"}}");
+        }
+    }
+
+    @Test
+    public void asyncRequestExecutor_responseConsumer_error() throws Exception {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        try (final AsyncRequestExecutor asyncRequestExecutor = new AsyncRequestExecutor(new ResultExtractor(new ObjectMapperProvider()), new JdkHttpTransport())) {
+            assertThatThrownBy(() -> asyncRequestExecutor.execute(new HttpGet(baseUrl + "/missing"),
+                new WritableByteChannelAsyncResponseConsumer(Channels.newChannel(byteArrayOutputStream)), AbstractResource.VOID_TYPE_REFERENCE).get())
+                .isInstanceOf(CloudConvertClientException.class);
+            assertThat(byteArrayOutputStream.size()).isZero();
+        }
+    }
+
+    @After
+    public void after() {
+        httpServer.stop(0);
+    }
+}